@@ -0,0 +1,17 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_kernel
+-- Release Version 	: 1.0.8
+-- Purpose    		: Database Alter scripts for the release for Kernel DB.       
+-- Create By   		: Sadanandegowda DM
+-- Created Date		: 18-Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- -------------------------------------------------------------------------------------------------
+
+\c mosip_kernel sysadmin
+
+---------------- VID POOL EXPIRY INDEX DEPLOYMENT  ------------------
+
+CREATE INDEX IF NOT EXISTS idx_vid_status_expiry ON kernel.vid USING btree (vid_status, expiry_dtimes, vid);
+
+--------------------------------------------------------------------------------------------------------
@@ -0,0 +1,17 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_kernel
+-- Release Version 	: 1.0.8
+-- Purpose    		: Revoking Database Alter deployement done for release in Kernel DB.       
+-- Create By   		: Sadanandegowda DM
+-- Created Date		: 18-Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- -------------------------------------------------------------------------------------------------
+
+\c mosip_kernel sysadmin
+
+--------- VID POOL EXPIRY INDEX REVOKE -----------
+
+DROP INDEX IF EXISTS kernel.idx_vid_status_expiry;
+
+-----------------------------------------------------------------------------------------------------
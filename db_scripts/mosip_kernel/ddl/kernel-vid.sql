@@ -8,7 +8,7 @@
 -- 
 -- Modified Date        Modified By         Comments / Remarks
 -- ------------------------------------------------------------------------------------------
--- 
+-- 18-Oct-2026                              Added index on vid_status and expiry_dtimes for expiry job
 -- ------------------------------------------------------------------------------------------
 -- object: kernel.vid | type: TABLE --
 -- DROP TABLE IF EXISTS kernel.vid CASCADE;
@@ -26,6 +26,10 @@ CREATE TABLE kernel.vid(
 
 );
 -- ddl-end --
+-- object: idx_vid_status_expiry | type: INDEX --
+-- DROP INDEX IF EXISTS kernel.idx_vid_status_expiry CASCADE;
+CREATE INDEX IF NOT EXISTS idx_vid_status_expiry ON kernel.vid USING btree (vid_status, expiry_dtimes, vid);
+-- ddl-end --
 COMMENT ON TABLE kernel.vid IS 'VID: Stores pre-generated VIDs that are assigned to an individual as part of mosip process.';
 -- ddl-end --
 COMMENT ON COLUMN kernel.vid.vid IS 'VID: Pre-generated VIDs (Vertual Identification Number), which will be used to assign to an individual';
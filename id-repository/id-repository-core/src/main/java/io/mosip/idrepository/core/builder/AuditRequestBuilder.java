@@ -5,6 +5,7 @@ import static io.mosip.idrepository.core.constant.IdRepoConstants.APPLICATION_NA
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.List;
 import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -92,4 +93,19 @@ public class AuditRequestBuilder {
 
 		return request;
 	}
+
+	/**
+	 * Builds the request for audit service to store a batch of audits.
+	 *
+	 * @param auditRequests the audit requests
+	 * @return the batch audit request
+	 */
+	public RequestWrapper<List<AuditRequestDTO>> buildBatchRequest(List<AuditRequestDTO> auditRequests) {
+		RequestWrapper<List<AuditRequestDTO>> request = new RequestWrapper<>();
+		request.setId("audit");
+		request.setRequest(auditRequests);
+		request.setVersion("1.0");
+		request.setRequesttime(DateUtils.getUTCCurrentDateTime());
+		return request;
+	}
 }
@@ -73,6 +73,9 @@ public enum IdRepoErrorConstants {
 	
 	/** The masterdata retrieve error. */
 	MASTERDATA_RETRIEVE_ERROR("IDR-IDS-007", "Failed to retrieve data from kernel Masterdata"),
+
+	/** The invalid shard configuration. */
+	INVALID_SHARD_CONFIGURATION("IDR-IDS-008", "Invalid shard configuration - %s"),
 	
 	// VID Service
 	
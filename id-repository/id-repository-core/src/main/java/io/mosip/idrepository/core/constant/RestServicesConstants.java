@@ -10,6 +10,8 @@ package io.mosip.idrepository.core.constant;
 public enum RestServicesConstants {
 
 	AUDIT_MANAGER_SERVICE("mosip.idrepo.audit"),
+
+	AUDIT_MANAGER_BATCH_SERVICE("mosip.idrepo.audit-batch"),
 	
 	IDREPO_IDENTITY_SERVICE("mosip.idrepo.retrieve-by-uin"),
 	
@@ -0,0 +1,374 @@
+package io.mosip.idrepository.core.helper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import io.mosip.idrepository.core.builder.AuditRequestBuilder;
+import io.mosip.idrepository.core.builder.RestRequestBuilder;
+import io.mosip.idrepository.core.constant.RestServicesConstants;
+import io.mosip.idrepository.core.dto.AuditRequestDTO;
+import io.mosip.idrepository.core.dto.AuditResponseDTO;
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.exception.IdRepoDataValidationException;
+import io.mosip.idrepository.core.exception.RestServiceException;
+import io.mosip.idrepository.core.logger.IdRepoLogger;
+import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.kernel.auth.adapter.model.AuthUserDetails;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class AuditBuffer - holds the audits in a bounded buffer and sends them
+ * to audit service in batches, once a batch is full or once the flush interval
+ * has passed since its first audit. A single thread sends the batches one at a
+ * time, so the audits never hold more than one connection to audit service.
+ * Once the buffer is full, an audit is dropped as per the overflow policy and
+ * counted. As the sender has no caller of its own, each audit is held with the
+ * security context of the authenticated user which added it, and a batch is
+ * sent as one request per token, with the context of that token. A request
+ * that fails is retried a number of times before its audits are counted as
+ * failed.
+ *
+ * @author Manoj SP
+ */
+@Component
+public class AuditBuffer {
+
+	/**
+	 * The Enum OverflowPolicy - the audit to drop when the buffer is full.
+	 */
+	public enum OverflowPolicy {
+
+		/** Drops the oldest audit in the buffer to hold the new one. */
+		DROP_OLDEST,
+
+		/** Drops the new audit. */
+		DROP_NEWEST
+	}
+
+	/** The mosipLogger. */
+	private static Logger mosipLogger = IdRepoLogger.getLogger(AuditBuffer.class);
+
+	/** The Constant AUDIT_BUFFER. */
+	private static final String AUDIT_BUFFER = "AuditBuffer";
+
+	/** The rest helper. */
+	@Autowired
+	private RestHelper restHelper;
+
+	/** The audit builder. */
+	@Autowired
+	private AuditRequestBuilder auditBuilder;
+
+	/** The rest builder. */
+	@Autowired
+	private RestRequestBuilder restBuilder;
+
+	/** The maximum number of audits held. */
+	@Value("${mosip.idrepo.audit.buffer-size:10000}")
+	private int bufferSize;
+
+	/** The maximum number of audits in a batch. */
+	@Value("${mosip.idrepo.audit.batch-size:100}")
+	private int batchSize;
+
+	/** The maximum time in milliseconds an audit waits for its batch to fill. */
+	@Value("${mosip.idrepo.audit.flush-interval-millis:1000}")
+	private long flushIntervalMillis;
+
+	/** The overflow policy. */
+	@Value("${mosip.idrepo.audit.overflow-policy:DROP_OLDEST}")
+	private OverflowPolicy overflowPolicy;
+
+	/** The maximum number of times a request is sent before it is failed. */
+	@Value("${mosip.idrepo.audit.max-attempts:3}")
+	private int maxAttempts;
+
+	/** The time in milliseconds waited before retrying, times the attempts. */
+	@Value("${mosip.idrepo.audit.retry-interval-millis:1000}")
+	private long retryIntervalMillis;
+
+	/** The buffer. */
+	private BlockingQueue<BufferedAudit> buffer;
+
+	/** The thread sending the batches. */
+	private Thread sender;
+
+	/** The running. */
+	private volatile boolean running;
+
+	/** The audits dropped as the buffer was full. */
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/** The audits of the batches failed to be sent. */
+	private final AtomicLong failedCount = new AtomicLong();
+
+	/** The audits sent. */
+	private final AtomicLong sentCount = new AtomicLong();
+
+	/** The dropped count last logged. */
+	private long loggedDroppedCount;
+
+	/**
+	 * Starts the thread sending the batches.
+	 */
+	@PostConstruct
+	public void start() {
+		buffer = new ArrayBlockingQueue<>(bufferSize);
+		running = true;
+		sender = new Thread(this::sendBatches, "idrepo-audit");
+		sender.setDaemon(true);
+		sender.start();
+	}
+
+	/**
+	 * Stops the thread sending the batches and sends the audits left in the
+	 * buffer.
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (Objects.nonNull(sender)) {
+			sender.interrupt();
+			try {
+				sender.join(flushIntervalMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		List<BufferedAudit> batch = new ArrayList<>(batchSize);
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			send(batch);
+			batch = new ArrayList<>(batchSize);
+		}
+	}
+
+	/**
+	 * Adds an audit to the buffer, dropping an audit as per the overflow policy
+	 * if the buffer is full. The audit is held with the security context of the
+	 * caller, if authenticated, to be sent with.
+	 *
+	 * @param auditRequest the audit request
+	 */
+	public void add(AuditRequestDTO auditRequest) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		BufferedAudit audit;
+		if (Objects.nonNull(authentication) && authentication.getPrincipal() instanceof AuthUserDetails) {
+			SecurityContext context = SecurityContextHolder.createEmptyContext();
+			context.setAuthentication(authentication);
+			audit = new BufferedAudit(auditRequest, context,
+					((AuthUserDetails) authentication.getPrincipal()).getToken());
+		} else {
+			audit = new BufferedAudit(auditRequest, null, null);
+		}
+		while (!buffer.offer(audit)) {
+			droppedCount.incrementAndGet();
+			if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+				return;
+			}
+			buffer.poll();
+		}
+	}
+
+	/**
+	 * Sends the batches until stopped.
+	 */
+	private void sendBatches() {
+		while (running) {
+			try {
+				List<BufferedAudit> batch = nextBatch();
+				if (!batch.isEmpty()) {
+					send(batch);
+				}
+				logDropped();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Waits for the next batch, which is full or has waited for the flush
+	 * interval since its first audit.
+	 *
+	 * @return the batch, empty if no audit was added in the flush interval
+	 * @throws InterruptedException the interrupted exception
+	 */
+	private List<BufferedAudit> nextBatch() throws InterruptedException {
+		List<BufferedAudit> batch = new ArrayList<>(batchSize);
+		BufferedAudit first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+		if (Objects.isNull(first)) {
+			return batch;
+		}
+		batch.add(first);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+		while (batch.size() < batchSize) {
+			buffer.drainTo(batch, batchSize - batch.size());
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() >= batchSize || remaining <= 0) {
+				break;
+			}
+			BufferedAudit next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+			if (Objects.isNull(next)) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	/**
+	 * Sends a batch to audit service, one request per token of the callers which
+	 * added its audits. The audits added without an authenticated caller cannot
+	 * be sent and are counted as failed.
+	 *
+	 * @param batch the batch
+	 */
+	private void send(List<BufferedAudit> batch) {
+		Map<String, List<BufferedAudit>> batchByToken = new LinkedHashMap<>();
+		int unauthenticated = 0;
+		for (BufferedAudit audit : batch) {
+			if (Objects.isNull(audit.token)) {
+				unauthenticated++;
+			} else {
+				batchByToken.computeIfAbsent(audit.token, token -> new ArrayList<>()).add(audit);
+			}
+		}
+		if (unauthenticated > 0) {
+			failedCount.addAndGet(unauthenticated);
+			mosipLogger.error(IdRepoSecurityManager.getUser(), AUDIT_BUFFER, "send",
+					"failed to send " + unauthenticated + " audits - no authenticated caller");
+		}
+		batchByToken.values().forEach(this::sendWithRetry);
+	}
+
+	/**
+	 * Sends the audits of a token with its security context, retrying up to the
+	 * maximum attempts while running. The audits are counted as failed once the
+	 * last attempt fails.
+	 *
+	 * @param audits the audits of a token
+	 */
+	private void sendWithRetry(List<BufferedAudit> audits) {
+		List<AuditRequestDTO> auditRequests = new ArrayList<>(audits.size());
+		audits.forEach(audit -> auditRequests.add(audit.auditRequest));
+		SecurityContext previousContext = SecurityContextHolder.getContext();
+		SecurityContextHolder.setContext(audits.get(0).context);
+		try {
+			for (int attempt = 1;; attempt++) {
+				try {
+					RestRequestDTO restRequest = restBuilder.buildRequest(
+							RestServicesConstants.AUDIT_MANAGER_BATCH_SERVICE,
+							auditBuilder.buildBatchRequest(auditRequests), AuditResponseDTO.class);
+					restHelper.requestSync(restRequest);
+					sentCount.addAndGet(auditRequests.size());
+					return;
+				} catch (IdRepoDataValidationException | RestServiceException | RuntimeException e) {
+					if (attempt >= maxAttempts || !running) {
+						failedCount.addAndGet(auditRequests.size());
+						mosipLogger.error(IdRepoSecurityManager.getUser(), AUDIT_BUFFER, "send", "failed to send "
+								+ auditRequests.size() + " audits \n" + ExceptionUtils.getStackTrace(e));
+						return;
+					}
+					mosipLogger.warn(IdRepoSecurityManager.getUser(), AUDIT_BUFFER, "send", "failed to send "
+							+ auditRequests.size() + " audits, attempt " + attempt + " - " + e.getMessage());
+				}
+				try {
+					Thread.sleep(retryIntervalMillis * attempt);
+				} catch (InterruptedException e) {
+					// stopping, the next attempt is the last one
+					Thread.currentThread().interrupt();
+				}
+			}
+		} finally {
+			SecurityContextHolder.setContext(previousContext);
+		}
+	}
+
+	/**
+	 * Logs the audits dropped since last logged.
+	 */
+	private void logDropped() {
+		long dropped = droppedCount.get();
+		if (dropped > loggedDroppedCount) {
+			mosipLogger.warn(IdRepoSecurityManager.getUser(), AUDIT_BUFFER, "add",
+					"buffer full - dropped " + (dropped - loggedDroppedCount) + " audits (" + overflowPolicy + ")");
+			loggedDroppedCount = dropped;
+		}
+	}
+
+	/**
+	 * Gets the number of audits dropped as the buffer was full.
+	 *
+	 * @return the dropped count
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * Gets the number of audits of the batches failed to be sent.
+	 *
+	 * @return the failed count
+	 */
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	/**
+	 * Gets the number of audits sent.
+	 *
+	 * @return the sent count
+	 */
+	public long getSentCount() {
+		return sentCount.get();
+	}
+
+	/**
+	 * Gets the number of audits waiting in the buffer.
+	 *
+	 * @return the pending count
+	 */
+	public int getPendingCount() {
+		return buffer.size();
+	}
+
+	/**
+	 * An audit with the security context and token of the caller which added it.
+	 */
+	private static final class BufferedAudit {
+
+		/** The audit request. */
+		private final AuditRequestDTO auditRequest;
+
+		/** The security context of the caller, null if not authenticated. */
+		private final SecurityContext context;
+
+		/** The token of the caller, null if not authenticated. */
+		private final String token;
+
+		private BufferedAudit(AuditRequestDTO auditRequest, SecurityContext context, String token) {
+			this.auditRequest = auditRequest;
+			this.context = context;
+			this.token = token;
+		}
+	}
+}
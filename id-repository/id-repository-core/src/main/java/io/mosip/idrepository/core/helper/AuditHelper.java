@@ -7,25 +7,18 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.idrepository.core.builder.AuditRequestBuilder;
-import io.mosip.idrepository.core.builder.RestRequestBuilder;
 import io.mosip.idrepository.core.constant.AuditEvents;
 import io.mosip.idrepository.core.constant.AuditModules;
 import io.mosip.idrepository.core.constant.IdType;
-import io.mosip.idrepository.core.constant.RestServicesConstants;
-import io.mosip.idrepository.core.dto.AuditRequestDTO;
-import io.mosip.idrepository.core.dto.AuditResponseDTO;
-import io.mosip.idrepository.core.dto.RestRequestDTO;
-import io.mosip.idrepository.core.exception.IdRepoDataValidationException;
 import io.mosip.idrepository.core.exception.IdRepoExceptionHandler;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
 import io.mosip.kernel.core.exception.ExceptionUtils;
-import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.logger.spi.Logger;
 
 /**
- * The Class AuditHelper - helper class that makes async rest call to audit
- * service with provided audit details .
+ * The Class AuditHelper - helper class that adds the provided audit details to
+ * the {@link AuditBuffer}, which sends them to audit service in batches.
  *
  * @author Manoj SP
  */
@@ -35,17 +28,13 @@ public class AuditHelper {
 	/** The mosipLogger. */
 	private static Logger mosipLogger = IdRepoLogger.getLogger(AuditHelper.class);
 
-	/** The rest helper. */
+	/** The audit buffer. */
 	@Autowired
-	private RestHelper restHelper;
+	private AuditBuffer auditBuffer;
 
 	/** The audit factory. */
 	@Autowired
 	private AuditRequestBuilder auditBuilder;
-
-	/** The rest factory. */
-	@Autowired
-	private RestRequestBuilder restBuilder;
 	
 	/** The security manager. */
 	@Autowired
@@ -65,17 +54,8 @@ public class AuditHelper {
 	 * @param desc   the desc
 	 */
 	public void audit(AuditModules module, AuditEvents event, String id, IdType idType, String desc) {
-		RequestWrapper<AuditRequestDTO> auditRequest = auditBuilder.buildRequest(module, event,
-				securityManager.hash(id.getBytes()), idType, desc);
-		RestRequestDTO restRequest;
-		try {
-			restRequest = restBuilder.buildRequest(RestServicesConstants.AUDIT_MANAGER_SERVICE, auditRequest,
-					AuditResponseDTO.class);
-			restHelper.requestAsync(restRequest);
-		} catch (IdRepoDataValidationException e) {
-			mosipLogger.error(IdRepoSecurityManager.getUser(), "AuditRequestBuilder", "audit",
-					"Exception : " + ExceptionUtils.getStackTrace(e));
-		}
+		auditBuffer.add(auditBuilder.buildRequest(module, event, securityManager.hash(id.getBytes()), idType, desc)
+				.getRequest());
 	}
 	
 	/**
@@ -28,7 +28,7 @@ import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
-import io.mosip.kernel.core.util.HMACUtils;
+import io.mosip.kernel.core.util.HashingUtils;
 
 /**
  * The Class IdRepoSecurityManager - provides security related functionalities
@@ -72,7 +72,7 @@ public class IdRepoSecurityManager {
 	 * @return the string
 	 */
 	public String hash(final byte[] data) {
-		return HMACUtils.digestAsPlainText(HMACUtils.generateHash(data));
+		return HashingUtils.hashAsHex(data);
 	}
 
 	
@@ -85,7 +85,7 @@ public class IdRepoSecurityManager {
 	 * @return the string
 	 */
 	public String hashwithSalt(final byte[] data, final byte[] salt) {
-		return HMACUtils.digestAsPlainTextWithSalt(data, salt);
+		return HashingUtils.hashWithSaltAsHex(data, salt);
 	}
 	
 	/**
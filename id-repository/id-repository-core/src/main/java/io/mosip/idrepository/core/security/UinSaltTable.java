@@ -0,0 +1,151 @@
+package io.mosip.idrepository.core.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.mosip.idrepository.core.logger.IdRepoLogger;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * The Class UinSaltTable - holds the salts of a uin salt table in an array
+ * indexed by the salt id, which is the uin modulo value, so that hashing and
+ * encrypting a uin does not need a DB call. The salts are write-once, they are
+ * loaded at startup and on an explicit reload, and are verified against the DB
+ * on every load. A salt missing from the table is read from the DB.
+ *
+ * @author Manoj SP
+ * @since 1.0.8
+ */
+public class UinSaltTable {
+
+	/** The mosip logger. */
+	private static Logger mosipLogger = IdRepoLogger.getLogger(UinSaltTable.class);
+
+	/** The Constant UIN_SALT_TABLE. */
+	private static final String UIN_SALT_TABLE = "UinSaltTable";
+
+	/** The table name. */
+	private final String name;
+
+	/** The number of salts, which is the uin modulo value. */
+	private final int size;
+
+	/** Reads all the salts of the table from the DB by id. */
+	private final Supplier<Map<Integer, String>> loader;
+
+	/** Reads a salt from the DB. */
+	private final IntFunction<String> lookup;
+
+	/** The salts by id, replaced as a whole on reload. */
+	private volatile String[] salts = new String[0];
+
+	/**
+	 * Instantiates a new uin salt table.
+	 *
+	 * @param name   the table name
+	 * @param size   the number of salts, which is the uin modulo value
+	 * @param loader reads all the salts of the table from the DB by id
+	 * @param lookup reads a salt from the DB
+	 */
+	public UinSaltTable(String name, int size, Supplier<Map<Integer, String>> loader, IntFunction<String> lookup) {
+		this.name = name;
+		this.size = size;
+		this.loader = loader;
+		this.lookup = lookup;
+	}
+
+	/**
+	 * Gets the salt of an id, read from the DB if not loaded.
+	 *
+	 * @param id the salt id
+	 * @return the salt
+	 */
+	public String getSalt(int id) {
+		String[] current = salts;
+		if (id >= 0 && id < current.length && Objects.nonNull(current[id])) {
+			return current[id];
+		}
+		return lookup.apply(id);
+	}
+
+	/**
+	 * Loads the salts at startup. A failure is logged and the salts are then read
+	 * from the DB until the table is reloaded.
+	 */
+	public void init() {
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			mosipLogger.error(IdRepoSecurityManager.getUser(), UIN_SALT_TABLE, "init",
+					"failed to load " + name + " \n" + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	/**
+	 * Reloads the salts from the DB and verifies them: every id below the modulo
+	 * value has a salt, and no loaded salt has changed since it was last loaded.
+	 * The reloaded salts replace the loaded ones in any case, as the DB is the
+	 * source of the salts.
+	 *
+	 * @return the ids failing the verification
+	 */
+	public synchronized List<Integer> reload() {
+		Map<Integer, String> rows = loader.get();
+		String[] previous = salts;
+		String[] loaded = new String[size];
+		rows.forEach((id, salt) -> {
+			if (Objects.nonNull(id) && id >= 0 && id < size && StringUtils.isNotEmpty(salt)) {
+				loaded[id] = salt;
+			}
+		});
+		List<Integer> missing = new ArrayList<>();
+		List<Integer> changed = new ArrayList<>();
+		for (int id = 0; id < size; id++) {
+			if (Objects.isNull(loaded[id])) {
+				missing.add(id);
+			} else if (id < previous.length && Objects.nonNull(previous[id]) && !previous[id].equals(loaded[id])) {
+				changed.add(id);
+			}
+		}
+		salts = loaded;
+		if (!missing.isEmpty()) {
+			mosipLogger.error(IdRepoSecurityManager.getUser(), UIN_SALT_TABLE, "reload",
+					name + " has no salt for ids " + missing);
+		}
+		if (!changed.isEmpty()) {
+			mosipLogger.error(IdRepoSecurityManager.getUser(), UIN_SALT_TABLE, "reload",
+					name + " salts have changed for ids " + changed);
+		}
+		mosipLogger.info(IdRepoSecurityManager.getUser(), UIN_SALT_TABLE, "reload",
+				"loaded " + (size - missing.size()) + " of " + size + " salts of " + name);
+		List<Integer> failed = new ArrayList<>(missing);
+		failed.addAll(changed);
+		return failed;
+	}
+
+	/**
+	 * Gets the table name.
+	 *
+	 * @return the table name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the number of salts loaded.
+	 *
+	 * @return the number of salts loaded
+	 */
+	public int getLoadedCount() {
+		return (int) Arrays.stream(salts).filter(Objects::nonNull).count();
+	}
+}
@@ -1,5 +1,7 @@
 package io.mosip.idrepository.core.spi;
 
+import java.util.List;
+
 import io.mosip.idrepository.core.exception.IdRepoAppException;
 
 /**
@@ -18,4 +20,12 @@ public interface ShardResolver {
 	 * @throws IdRepoAppException IdRepoApp Exception
 	 */
 	String getShard(String id) throws IdRepoAppException;
+
+	/**
+	 * Gets all the shards, to look up an id which does not resolve a shard in
+	 * each of them.
+	 *
+	 * @return the shards
+	 */
+	List<String> getShards();
 }
@@ -0,0 +1,138 @@
+package io.mosip.idrepository.core.util;
+
+import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.UNKNOWN_ERROR;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
+
+/**
+ * The Class ParallelTaskUtil - utility to apply a task to each item of a
+ * request, such as a document, with up to a concurrency limit of items
+ * processed at a time.
+ *
+ * @author Manoj SP
+ */
+public final class ParallelTaskUtil {
+
+	/**
+	 * Instantiates a new parallel task util.
+	 */
+	private ParallelTaskUtil() {
+	}
+
+	/**
+	 * Apply the task to each item. The calling thread processes items too, the
+	 * others are processed on the executor with the security context of the
+	 * calling thread. Once an item fails, the items after it are not processed
+	 * and the exception of the first failed item is thrown once the items being
+	 * processed are done, as when the items are processed in order. Without an
+	 * executor or with a concurrency of one, the items are processed in order by
+	 * the calling thread.
+	 *
+	 * @param <T>         the item type
+	 * @param <R>         the result type
+	 * @param items       the items
+	 * @param task        the task
+	 * @param executor    the executor, may be null
+	 * @param concurrency the maximum number of items processed at a time
+	 * @return the results in the order of the items
+	 */
+	public static <T, R> List<R> apply(List<T> items, Function<T, R> task, Executor executor, int concurrency) {
+		int helpers = executor == null ? 0 : Math.min(concurrency, items.size()) - 1;
+		if (helpers <= 0) {
+			List<R> results = new ArrayList<>(items.size());
+			for (T item : items) {
+				results.add(task.apply(item));
+			}
+			return results;
+		}
+		Run<T, R> run = new Run<>(items, task);
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		for (int i = 0; i < helpers; i++) {
+			try {
+				executor.execute(new DelegatingSecurityContextRunnable(run::process, securityContext));
+			} catch (RejectedExecutionException e) {
+				break;
+			}
+		}
+		run.process();
+		return run.await();
+	}
+
+	/**
+	 * The items of one call, claimed in order by the threads processing them.
+	 *
+	 * @param <T> the item type
+	 * @param <R> the result type
+	 */
+	private static final class Run<T, R> {
+
+		private final List<T> items;
+
+		private final Function<T, R> task;
+
+		private final Object[] results;
+
+		private final Throwable[] failures;
+
+		private final AtomicInteger next = new AtomicInteger();
+
+		private final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+
+		private final CountDownLatch done;
+
+		private Run(List<T> items, Function<T, R> task) {
+			this.items = items;
+			this.task = task;
+			this.results = new Object[items.size()];
+			this.failures = new Throwable[items.size()];
+			this.done = new CountDownLatch(items.size());
+		}
+
+		private void process() {
+			int index;
+			while ((index = next.getAndIncrement()) < items.size()) {
+				try {
+					if (index < firstFailure.get()) {
+						results[index] = task.apply(items.get(index));
+					}
+				} catch (RuntimeException | Error e) {
+					failures[index] = e;
+					firstFailure.accumulateAndGet(index, Math::min);
+				} finally {
+					done.countDown();
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<R> await() {
+			try {
+				done.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IdRepoAppUncheckedException(UNKNOWN_ERROR, e);
+			}
+			int failed = firstFailure.get();
+			if (failed != Integer.MAX_VALUE) {
+				if (failures[failed] instanceof Error) {
+					throw (Error) failures[failed];
+				}
+				throw (RuntimeException) failures[failed];
+			}
+			return (List<R>) Arrays.asList(results);
+		}
+	}
+}
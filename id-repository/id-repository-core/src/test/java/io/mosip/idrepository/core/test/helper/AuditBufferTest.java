@@ -0,0 +1,315 @@
+package io.mosip.idrepository.core.test.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.idrepository.core.builder.AuditRequestBuilder;
+import io.mosip.idrepository.core.builder.RestRequestBuilder;
+import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
+import io.mosip.idrepository.core.constant.RestServicesConstants;
+import io.mosip.idrepository.core.dto.AuditRequestDTO;
+import io.mosip.idrepository.core.dto.AuditResponseDTO;
+import io.mosip.idrepository.core.dto.RestRequestDTO;
+import io.mosip.idrepository.core.exception.IdRepoAppException;
+import io.mosip.idrepository.core.exception.RestServiceException;
+import io.mosip.idrepository.core.helper.AuditBuffer;
+import io.mosip.idrepository.core.helper.AuditBuffer.OverflowPolicy;
+import io.mosip.idrepository.core.helper.RestHelper;
+import io.mosip.kernel.auth.adapter.model.AuthUserDetails;
+import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+import io.mosip.kernel.core.http.RequestWrapper;
+
+/**
+ * The Class AuditBufferTest.
+ *
+ * @author Manoj SP
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditBufferTest {
+
+	/** The rest helper. */
+	@Mock
+	private RestHelper restHelper;
+
+	/** The rest builder. */
+	@Mock
+	private RestRequestBuilder restBuilder;
+
+	/** The audit builder. */
+	@Spy
+	private AuditRequestBuilder auditBuilder;
+
+	/** The audit buffer. */
+	@InjectMocks
+	private AuditBuffer auditBuffer;
+
+	/**
+	 * Before.
+	 */
+	@Before
+	public void before() {
+		ReflectionTestUtils.setField(auditBuffer, "bufferSize", 2);
+		ReflectionTestUtils.setField(auditBuffer, "batchSize", 2);
+		ReflectionTestUtils.setField(auditBuffer, "flushIntervalMillis", 50L);
+		ReflectionTestUtils.setField(auditBuffer, "overflowPolicy", OverflowPolicy.DROP_OLDEST);
+		ReflectionTestUtils.setField(auditBuffer, "maxAttempts", 3);
+		ReflectionTestUtils.setField(auditBuffer, "retryIntervalMillis", 10L);
+		ReflectionTestUtils.setField(auditBuffer, "buffer", new ArrayBlockingQueue<>(2));
+		authenticate("token");
+	}
+
+	/**
+	 * After.
+	 */
+	@After
+	public void after() {
+		auditBuffer.stop();
+		SecurityContextHolder.clearContext();
+	}
+
+	/**
+	 * Test the audits are sent in batches.
+	 *
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSendBatches() throws IdRepoAppException {
+		when(restBuilder.buildRequest(eq(RestServicesConstants.AUDIT_MANAGER_BATCH_SERVICE), any(),
+				eq(AuditResponseDTO.class))).thenReturn(new RestRequestDTO());
+		ReflectionTestUtils.setField(auditBuffer, "bufferSize", 10);
+		auditBuffer.start();
+		auditBuffer.add(audit("1"));
+		auditBuffer.add(audit("2"));
+		auditBuffer.add(audit("3"));
+		ArgumentCaptor<Object> requests = ArgumentCaptor.forClass(Object.class);
+		verify(restBuilder, timeout(1000).times(2)).buildRequest(any(), requests.capture(), any());
+		verify(restHelper, timeout(1000).times(2)).requestSync(any());
+		auditBuffer.stop();
+		assertEquals(2, ((RequestWrapper<List<AuditRequestDTO>>) requests.getAllValues().get(0)).getRequest().size());
+		assertEquals(1, ((RequestWrapper<List<AuditRequestDTO>>) requests.getAllValues().get(1)).getRequest().size());
+		assertEquals(3, auditBuffer.getSentCount());
+	}
+
+	/**
+	 * Test the oldest audit is dropped when the buffer is full.
+	 */
+	@Test
+	public void testDropOldest() {
+		auditBuffer.add(audit("1"));
+		auditBuffer.add(audit("2"));
+		auditBuffer.add(audit("3"));
+		assertEquals(1, auditBuffer.getDroppedCount());
+		assertEquals("2", nextPendingEventId());
+		pending().clear();
+	}
+
+	/**
+	 * Test the new audit is dropped when the buffer is full.
+	 */
+	@Test
+	public void testDropNewest() {
+		ReflectionTestUtils.setField(auditBuffer, "overflowPolicy", OverflowPolicy.DROP_NEWEST);
+		auditBuffer.add(audit("1"));
+		auditBuffer.add(audit("2"));
+		auditBuffer.add(audit("3"));
+		assertEquals(1, auditBuffer.getDroppedCount());
+		assertEquals("1", nextPendingEventId());
+		pending().clear();
+	}
+
+	/**
+	 * Test the audits of a failed batch are counted.
+	 *
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	@Test
+	public void testSendFailure() throws IdRepoAppException {
+		when(restBuilder.buildRequest(any(), any(), any())).thenReturn(new RestRequestDTO());
+		when(restHelper.requestSync(any())).thenThrow(new RestServiceException(IdRepoErrorConstants.CLIENT_ERROR));
+		auditBuffer.add(audit("1"));
+		auditBuffer.add(audit("2"));
+		auditBuffer.stop();
+		assertEquals(2, auditBuffer.getFailedCount());
+		assertEquals(0, auditBuffer.getSentCount());
+		assertEquals(0, auditBuffer.getPendingCount());
+	}
+
+	/**
+	 * Test the sender thread, which has no security context of its own, sends
+	 * the batches with the token of the caller.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testSendWithCallerContext() throws Exception {
+		when(restBuilder.buildRequest(any(), any(), any())).thenReturn(new RestRequestDTO());
+		CompletableFuture<Authentication> senderAuthentication = new CompletableFuture<>();
+		when(restHelper.requestSync(any())).thenAnswer(invocation -> {
+			senderAuthentication.complete(SecurityContextHolder.getContext().getAuthentication());
+			return null;
+		});
+		auditBuffer.start();
+		auditBuffer.add(audit("1"));
+		SecurityContextHolder.clearContext();
+		assertEquals("token",
+				((AuthUserDetails) senderAuthentication.get(1, TimeUnit.SECONDS).getPrincipal()).getToken());
+		auditBuffer.stop();
+		assertEquals(1, auditBuffer.getSentCount());
+		assertEquals(0, auditBuffer.getFailedCount());
+	}
+
+	/**
+	 * Test a failed request is retried.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testRetryFailedSend() throws Exception {
+		when(restBuilder.buildRequest(any(), any(), any())).thenReturn(new RestRequestDTO());
+		when(restHelper.requestSync(any())).thenThrow(new RestServiceException(IdRepoErrorConstants.CLIENT_ERROR))
+				.thenReturn(null);
+		auditBuffer.start();
+		auditBuffer.add(audit("1"));
+		verify(restHelper, timeout(1000).times(2)).requestSync(any());
+		auditBuffer.stop();
+		assertEquals(1, auditBuffer.getSentCount());
+		assertEquals(0, auditBuffer.getFailedCount());
+	}
+
+	/**
+	 * Test the audits are counted as failed once the last attempt fails.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testSendFailureAfterMaxAttempts() throws Exception {
+		when(restBuilder.buildRequest(any(), any(), any())).thenReturn(new RestRequestDTO());
+		when(restHelper.requestSync(any())).thenThrow(new RestServiceException(IdRepoErrorConstants.CLIENT_ERROR));
+		auditBuffer.start();
+		auditBuffer.add(audit("1"));
+		verify(restHelper, timeout(1000).times(3)).requestSync(any());
+		auditBuffer.stop();
+		assertEquals(0, auditBuffer.getSentCount());
+		assertEquals(1, auditBuffer.getFailedCount());
+	}
+
+	/**
+	 * Test the audits of a batch are sent with the token of the caller which
+	 * added each of them.
+	 *
+	 * @throws Exception the exception
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSendPerCallerToken() throws Exception {
+		when(restBuilder.buildRequest(any(), any(), any())).thenReturn(new RestRequestDTO());
+		List<String> tokens = new ArrayList<>();
+		when(restHelper.requestSync(any())).thenAnswer(invocation -> {
+			tokens.add(((AuthUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+					.getToken());
+			return null;
+		});
+		auditBuffer.add(audit("1"));
+		authenticate("token2");
+		auditBuffer.add(audit("2"));
+		auditBuffer.stop();
+		assertEquals(Arrays.asList("token", "token2"), tokens);
+		ArgumentCaptor<Object> requests = ArgumentCaptor.forClass(Object.class);
+		verify(restBuilder, times(2)).buildRequest(any(), requests.capture(), any());
+		assertEquals("1", ((RequestWrapper<List<AuditRequestDTO>>) requests.getAllValues().get(0)).getRequest()
+				.get(0).getEventId());
+		assertEquals("2", ((RequestWrapper<List<AuditRequestDTO>>) requests.getAllValues().get(1)).getRequest()
+				.get(0).getEventId());
+		assertEquals(2, auditBuffer.getSentCount());
+		assertEquals("token2",
+				((AuthUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getToken());
+	}
+
+	/**
+	 * Test the audits are not sent without an authenticated caller.
+	 *
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	@Test
+	public void testSendWithoutCallerContext() throws IdRepoAppException {
+		SecurityContextHolder.clearContext();
+		auditBuffer.add(audit("1"));
+		auditBuffer.stop();
+		verify(restHelper, never()).requestSync(any());
+		assertEquals(1, auditBuffer.getFailedCount());
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	/**
+	 * Authenticates the caller with a token.
+	 *
+	 * @param token the token
+	 */
+	private void authenticate(String token) {
+		MosipUserDto user = new MosipUserDto();
+		user.setUserId("user");
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(new AuthUserDetails(user, token), null));
+	}
+
+	/**
+	 * Gets the audits pending in the buffer.
+	 *
+	 * @return the pending audits
+	 */
+	@SuppressWarnings("unchecked")
+	private BlockingQueue<?> pending() {
+		return (BlockingQueue<?>) ReflectionTestUtils.getField(auditBuffer, "buffer");
+	}
+
+	/**
+	 * Gets the event id of the next audit pending in the buffer.
+	 *
+	 * @return the event id
+	 */
+	private String nextPendingEventId() {
+		return ((AuditRequestDTO) ReflectionTestUtils.getField(pending().peek(), "auditRequest")).getEventId();
+	}
+
+	/**
+	 * Builds an audit.
+	 *
+	 * @param eventId the event id
+	 * @return the audit request
+	 */
+	private AuditRequestDTO audit(String eventId) {
+		AuditRequestDTO audit = new AuditRequestDTO();
+		audit.setEventId(eventId);
+		return audit;
+	}
+}
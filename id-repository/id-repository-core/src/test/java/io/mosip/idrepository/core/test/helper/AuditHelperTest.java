@@ -1,6 +1,7 @@
 package io.mosip.idrepository.core.test.helper;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.Before;
@@ -28,11 +29,14 @@ import io.mosip.idrepository.core.constant.AuditEvents;
 import io.mosip.idrepository.core.constant.AuditModules;
 import io.mosip.idrepository.core.constant.IdRepoErrorConstants;
 import io.mosip.idrepository.core.constant.IdType;
+import io.mosip.idrepository.core.dto.AuditRequestDTO;
 import io.mosip.idrepository.core.exception.IdRepoAppException;
 import io.mosip.idrepository.core.exception.IdRepoDataValidationException;
+import io.mosip.idrepository.core.helper.AuditBuffer;
 import io.mosip.idrepository.core.helper.AuditHelper;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.kernel.core.http.RequestWrapper;
 
 /**
  * @author Manoj SP
@@ -46,6 +50,9 @@ public class AuditHelperTest {
 	@Mock
 	RestHelper restHelper;
 
+	@Mock
+	AuditBuffer auditBuffer;
+
 	@InjectMocks
 	AuditHelper auditHelper;
 
@@ -70,12 +77,17 @@ public class AuditHelperTest {
 		ReflectionTestUtils.setField(restBuilder, "env", env);
 		ReflectionTestUtils.setField(auditHelper, "mapper", new ObjectMapper());
 		when(securityManager.hash(Mockito.any())).thenReturn("mock");
+		RequestWrapper<AuditRequestDTO> auditRequest = new RequestWrapper<>();
+		auditRequest.setRequest(new AuditRequestDTO());
+		when(auditBuilder.buildRequest(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(auditRequest);
 	}
 
 	@Test
 	public void testAudit() throws IdRepoDataValidationException {
 		auditHelper.audit(AuditModules.ID_REPO_CORE_SERVICE, AuditEvents.CREATE_IDENTITY_REQUEST_RESPONSE, "id",
 				IdType.REG_ID, "desc");
+		verify(auditBuffer).add(Mockito.any(AuditRequestDTO.class));
 	}
 
 	@Test
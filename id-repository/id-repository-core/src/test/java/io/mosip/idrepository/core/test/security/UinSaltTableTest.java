@@ -0,0 +1,82 @@
+package io.mosip.idrepository.core.test.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.idrepository.core.security.UinSaltTable;
+
+/**
+ * The Class UinSaltTableTest.
+ *
+ * @author Manoj SP
+ */
+public class UinSaltTableTest {
+
+	/** The salts in DB. */
+	private Map<Integer, String> salts;
+
+	/** The DB lookups. */
+	private AtomicInteger lookups;
+
+	/** The table. */
+	private UinSaltTable table;
+
+	/**
+	 * Before.
+	 */
+	@Before
+	public void before() {
+		salts = new HashMap<>();
+		for (int id = 0; id < 10; id++) {
+			salts.put(id, "salt" + id);
+		}
+		lookups = new AtomicInteger();
+		table = new UinSaltTable("uin_hash_salt", 10, () -> new HashMap<>(salts), id -> {
+			lookups.incrementAndGet();
+			return salts.get(id);
+		});
+	}
+
+	/**
+	 * Test the loaded salts are read without a DB lookup.
+	 */
+	@Test
+	public void testGetSaltLoaded() {
+		assertTrue(table.reload().isEmpty());
+		assertEquals(10, table.getLoadedCount());
+		assertEquals("salt3", table.getSalt(3));
+		assertEquals(0, lookups.get());
+	}
+
+	/**
+	 * Test the salts not loaded are read from DB.
+	 */
+	@Test
+	public void testGetSaltNotLoaded() {
+		assertEquals("salt3", table.getSalt(3));
+		salts.remove(5);
+		assertEquals(Arrays.asList(5), table.reload());
+		salts.put(5, "salt5");
+		assertEquals("salt5", table.getSalt(5));
+		assertEquals(2, lookups.get());
+	}
+
+	/**
+	 * Test the changed salts fail the verification and are replaced.
+	 */
+	@Test
+	public void testReloadChanged() {
+		table.reload();
+		salts.put(2, "changed");
+		assertEquals(Arrays.asList(2), table.reload());
+		assertEquals("changed", table.getSalt(2));
+	}
+}
@@ -0,0 +1,87 @@
+package io.mosip.idrepository.core.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.idrepository.core.util.ParallelTaskUtil;
+
+/**
+ * The Class ParallelTaskUtilTest.
+ *
+ * @author Manoj SP
+ */
+public class ParallelTaskUtilTest {
+
+	/** The executor. */
+	private ExecutorService executor;
+
+	/** The items. */
+	private List<Integer> items;
+
+	/**
+	 * Before.
+	 */
+	@Before
+	public void before() {
+		executor = Executors.newFixedThreadPool(4);
+		items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+	}
+
+	/**
+	 * After.
+	 */
+	@After
+	public void after() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Test the results are in the order of the items.
+	 */
+	@Test
+	public void testApplyInOrder() {
+		List<Integer> results = ParallelTaskUtil.apply(items, item -> item * 2, executor, 4);
+		assertEquals(items.stream().map(item -> item * 2).collect(Collectors.toList()), results);
+	}
+
+	/**
+	 * Test the items are processed on the caller thread without an executor.
+	 */
+	@Test
+	public void testApplySequential() {
+		List<String> threads = new ArrayList<>();
+		ParallelTaskUtil.apply(items, item -> threads.add(Thread.currentThread().getName()), null, 4);
+		assertEquals(items.size(), threads.size());
+		assertTrue(threads.stream().allMatch(Thread.currentThread().getName()::equals));
+	}
+
+	/**
+	 * Test the failure of the first failed item is thrown.
+	 */
+	@Test
+	public void testApplyFailure() {
+		try {
+			ParallelTaskUtil.apply(items, item -> {
+				if (item == 3 || item == 7) {
+					throw new IllegalStateException(String.valueOf(item));
+				}
+				return item;
+			}, executor, 4);
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("3", e.getMessage());
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package io.mosip.idrepository.identity.config;
 
+import static io.mosip.idrepository.core.constant.IdRepoConstants.MODULO_VALUE;
 import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.CLIENT_ERROR;
 import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.MASTERDATA_RETRIEVE_ERROR;
 
@@ -8,20 +9,29 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 
 import org.hibernate.Interceptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
 import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -30,10 +40,21 @@ import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.mosip.idrepository.core.exception.AuthenticationException;
 import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
+import io.mosip.idrepository.core.spi.ShardDataSourceResolver;
+import io.mosip.idrepository.core.spi.ShardResolver;
+import io.mosip.idrepository.identity.repository.UinEncryptSaltRepo;
+import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
+import io.mosip.idrepository.identity.service.impl.DefaultShardResolver;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -48,6 +69,9 @@ import io.mosip.kernel.core.logger.spi.Logger;
 @EnableTransactionManagement
 public class IdRepoConfig implements WebMvcConfigurer {
 
+	/** The Constant SHARD_TABLES. */
+	private static final String[] SHARD_TABLES = { "uin", "uin_h", "uin_document", "uin_biometric" };
+
 	/** The mosip logger. */
 	Logger mosipLogger = IdRepoLogger.getLogger(IdRepoConfig.class);
 
@@ -59,9 +83,19 @@ public class IdRepoConfig implements WebMvcConfigurer {
 	@Autowired
 	private Interceptor interceptor;
 
+	/** The meter registry. */
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
 	/** The db. */
 	private Map<String, Map<String, String>> db;
 
+	/** The bucket ranges of each shard. */
+	private Map<String, String> shardRanges;
+
+	/** The connection pools of the shards. */
+	private final Map<String, HikariDataSource> shardDataSources = new TreeMap<>();
+
 	/** The uin Status. */
 	private List<String> uinStatus;
 
@@ -77,6 +111,9 @@ public class IdRepoConfig implements WebMvcConfigurer {
 	/** The id. */
 	private Map<String, String> id;
 
+	/** The number of threads storing and retrieving documents. */
+	private int documentThreads = 16;
+
 	@PostConstruct
 	public void init() {
 		restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
@@ -132,6 +169,16 @@ public class IdRepoConfig implements WebMvcConfigurer {
 		this.db = db;
 	}
 
+	/**
+	 * Sets the bucket ranges of each shard.
+	 *
+	 * @param shardRanges
+	 *            the bucket ranges of each shard
+	 */
+	public void setShardRanges(Map<String, String> shardRanges) {
+		this.shardRanges = shardRanges;
+	}
+
 	/**
 	 * Sets the status.
 	 *
@@ -179,21 +226,25 @@ public class IdRepoConfig implements WebMvcConfigurer {
 		this.allowedTypes = allowedTypes;
 	}
 
-	// FIXME Need to check for UIN-Reg ID scenario
-	// /**
-	// * Gets the shard data source resolver.
-	// *
-	// * @return the shard data source resolver
-	// */
-	// @Bean
-	// public ShardDataSourceResolver getShardDataSourceResolver() {
-	// ShardDataSourceResolver resolver = new ShardDataSourceResolver();
-	// resolver.setLenientFallback(false);
-	// resolver.setTargetDataSources(db.entrySet().parallelStream()
-	// .collect(Collectors.toMap(Map.Entry::getKey, value ->
-	// buildDataSource(value.getValue()))));
-	// return resolver;
-	// }
+	/**
+	 * Sets the document threads.
+	 *
+	 * @param documentThreads the new document threads
+	 */
+	public void setDocumentThreads(int documentThreads) {
+		this.documentThreads = documentThreads;
+	}
+
+	/**
+	 * Shard resolver.
+	 *
+	 * @param moduloValue the modulo value
+	 * @return the shard resolver
+	 */
+	@Bean
+	public ShardResolver shardResolver(@Value("${" + MODULO_VALUE + "}") int moduloValue) {
+		return new DefaultShardResolver(moduloValue, db.keySet(), shardRanges);
+	}
 
 	/**
 	 * Id.
@@ -245,6 +296,56 @@ public class IdRepoConfig implements WebMvcConfigurer {
 		return Collections.unmodifiableList(uinStatus);
 	}
 
+	/**
+	 * Document executor, shared by the requests to store and retrieve their
+	 * documents in parallel.
+	 *
+	 * @return the executor service
+	 */
+	@Bean(destroyMethod = "shutdownNow")
+	public ExecutorService documentExecutor() {
+		AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newFixedThreadPool(documentThreads, runnable -> {
+			Thread thread = new Thread(runnable, "idrepo-document-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Uin hash salt table.
+	 *
+	 * @param uinHashSaltRepo the uin hash salt repo
+	 * @param moduloValue the modulo value
+	 * @return the uin salt table
+	 */
+	@Bean(initMethod = "init")
+	public UinSaltTable uinHashSaltTable(UinHashSaltRepo uinHashSaltRepo,
+			@Value("${" + MODULO_VALUE + "}") int moduloValue) {
+		return new UinSaltTable("uin_hash_salt", moduloValue, () -> {
+			Map<Integer, String> salts = new HashMap<>();
+			uinHashSaltRepo.findAll().forEach(salt -> salts.put(salt.getId(), salt.getSalt()));
+			return salts;
+		}, uinHashSaltRepo::retrieveSaltById);
+	}
+
+	/**
+	 * Uin encrypt salt table.
+	 *
+	 * @param uinEncryptSaltRepo the uin encrypt salt repo
+	 * @param moduloValue the modulo value
+	 * @return the uin salt table
+	 */
+	@Bean(initMethod = "init")
+	public UinSaltTable uinEncryptSaltTable(UinEncryptSaltRepo uinEncryptSaltRepo,
+			@Value("${" + MODULO_VALUE + "}") int moduloValue) {
+		return new UinSaltTable("uin_encrypt_salt", moduloValue, () -> {
+			Map<Integer, String> salts = new HashMap<>();
+			uinEncryptSaltRepo.findAll().forEach(salt -> salts.put(salt.getId(), salt.getSalt()));
+			return salts;
+		}, uinEncryptSaltRepo::retrieveSaltById);
+	}
+
 	/**
 	 * Entity manager factory.
 	 *
@@ -281,28 +382,89 @@ public class IdRepoConfig implements WebMvcConfigurer {
 	}
 
 	/**
-	 * Builds the data source.
+	 * Builds the connection pool of a shard. Besides url, username, password and
+	 * driverClassName, the shard values can set maximumPoolSize, minimumIdle,
+	 * connectionTimeout and idleTimeout of the pool.
 	 *
+	 * @param shard
+	 *            the shard
 	 * @param dataSourceValues
 	 *            the data source values
 	 * @return the data source
 	 */
-	private DataSource buildDataSource(Map<String, String> dataSourceValues) {
-		DriverManagerDataSource dataSource = new DriverManagerDataSource(dataSourceValues.get("url"));
+	private HikariDataSource buildDataSource(String shard, Map<String, String> dataSourceValues) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("idrepo-" + shard);
+		dataSource.setJdbcUrl(dataSourceValues.get("url"));
 		dataSource.setUsername(dataSourceValues.get("username"));
 		dataSource.setPassword(dataSourceValues.get("password"));
 		dataSource.setDriverClassName(dataSourceValues.get("driverClassName"));
+		if (dataSourceValues.containsKey("maximumPoolSize")) {
+			dataSource.setMaximumPoolSize(Integer.parseInt(dataSourceValues.get("maximumPoolSize")));
+		}
+		if (dataSourceValues.containsKey("minimumIdle")) {
+			dataSource.setMinimumIdle(Integer.parseInt(dataSourceValues.get("minimumIdle")));
+		}
+		if (dataSourceValues.containsKey("connectionTimeout")) {
+			dataSource.setConnectionTimeout(Long.parseLong(dataSourceValues.get("connectionTimeout")));
+		}
+		if (dataSourceValues.containsKey("idleTimeout")) {
+			dataSource.setIdleTimeout(Long.parseLong(dataSourceValues.get("idleTimeout")));
+		}
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (Objects.nonNull(registry)) {
+			dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+			for (String table : SHARD_TABLES) {
+				Gauge.builder("idrepo.shard.rows", dataSource, pool -> estimateRows(pool, table))
+						.description("estimated rows of the table in the shard").tag("shard", shard)
+						.tag("table", table).register(registry);
+			}
+		}
 		return dataSource;
 	}
 
 	/**
-	 * Data source.
+	 * Estimates the rows of a table from the DB statistics, which does not scan
+	 * the table.
+	 *
+	 * @param dataSource
+	 *            the data source
+	 * @param table
+	 *            the table
+	 * @return the estimated rows, NaN if not available
+	 */
+	private double estimateRows(DataSource dataSource, String table) {
+		try {
+			Double rows = new JdbcTemplate(dataSource).queryForObject(
+					"select reltuples from pg_class where oid = ?::regclass", Double.class, "idrepo." + table);
+			return Objects.isNull(rows) ? Double.NaN : rows;
+		} catch (DataAccessException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Data source, routing to the shard set for the current thread. The shard
+	 * first by name is used when none is set.
 	 *
 	 * @return the data source
 	 */
 	@Bean
 	public DataSource dataSource() {
-		return buildDataSource(db.get("shard"));
+		db.forEach((shard, values) -> shardDataSources.put(shard, buildDataSource(shard, values)));
+		ShardDataSourceResolver resolver = new ShardDataSourceResolver();
+		resolver.setTargetDataSources(new HashMap<>(shardDataSources));
+		resolver.setDefaultTargetDataSource(shardDataSources.values().iterator().next());
+		resolver.setLenientFallback(false);
+		return resolver;
+	}
+
+	/**
+	 * Closes the connection pools of the shards.
+	 */
+	@PreDestroy
+	public void closeDataSources() {
+		shardDataSources.values().forEach(HikariDataSource::close);
 	}
 
 }
@@ -7,6 +7,7 @@ import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.INVALID_R
 import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.MISSING_INPUT_PARAMETER;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +48,7 @@ import io.mosip.idrepository.core.exception.IdRepoDataValidationException;
 import io.mosip.idrepository.core.helper.AuditHelper;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.core.spi.IdRepoService;
 import io.mosip.idrepository.core.util.DataValidationUtil;
 import io.mosip.idrepository.identity.validator.IdRequestValidator;
@@ -128,6 +130,14 @@ public class IdRepoController {
 	@Autowired
 	private AuditHelper auditHelper;
 
+	/** The uin hash salt table. */
+	@Resource
+	private UinSaltTable uinHashSaltTable;
+
+	/** The uin encrypt salt table. */
+	@Resource
+	private UinSaltTable uinEncryptSaltTable;
+
 	/** The env. */
 	@Autowired
 	Environment env;
@@ -327,4 +337,20 @@ public class IdRepoController {
 					MISSING_INPUT_PARAMETER.getErrorMessage(), "/" + pathOfUin.replace(".", "/")));
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * This operation will reload the uin hash and encrypt salts from the DB and
+	 * verify them, returning the salt ids failing the verification by table.
+	 *
+	 * @return the response entity
+	 */
+	@PreAuthorize("hasAnyRole('GLOBAL_ADMIN')")
+	@PostMapping(path = "/salts/reload", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<Map<String, List<Integer>>> reloadSalts() {
+		Map<String, List<Integer>> failedIds = new LinkedHashMap<>();
+		failedIds.put(uinHashSaltTable.getName(), uinHashSaltTable.reload());
+		failedIds.put(uinEncryptSaltTable.getName(), uinEncryptSaltTable.reload());
+		mosipLogger.info(IdRepoSecurityManager.getUser(), ID_REPO_CONTROLLER, "reloadSalts", "salts reloaded " + failedIds);
+		return new ResponseEntity<>(failedIds, HttpStatus.OK);
+	}
+}
@@ -1,37 +1,141 @@
 package io.mosip.idrepository.identity.service.impl;
 
-import java.util.regex.Pattern;
+import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.INVALID_INPUT_PARAMETER;
+import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.INVALID_SHARD_CONFIGURATION;
 
-import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
 
 import io.mosip.idrepository.core.exception.IdRepoAppException;
+import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
 import io.mosip.idrepository.core.spi.ShardResolver;
 
 /**
  * The Class DefaultShardResolver - to resolve which shard to use to store data.
  *
+ * <p>
+ * A uin belongs to the bucket of its modulo value, which also prefixes its
+ * hash, and each bucket belongs to one shard as per a range table such as
+ * {@code shard1=0-499} and {@code shard2=500-999}. Without a range table, the
+ * buckets are split in contiguous ranges of equal size over the shards in the
+ * order of their names. Moving a range of buckets to another shard only moves
+ * the identities of those buckets.
+ * </p>
+ *
  * @author Manoj SP
  */
-@Component
 public class DefaultShardResolver implements ShardResolver {
 
-	private static final String SHARD1 = "shard1";
+	/** The Constant RANGE_SEPARATOR. */
+	private static final String RANGE_SEPARATOR = ",";
+
+	/** The Constant BUCKET_SEPARATOR. */
+	private static final String BUCKET_SEPARATOR = "-";
+
+	/** The Constant UIN. */
+	private static final String UIN = "uin";
+
+	/** The shards in the order of their names. */
+	private final List<String> shards;
+
+	/** The shard of each bucket. */
+	private final String[] shardByBucket;
 
-	private static final String SHARD2 = "shard2";
+	/**
+	 * Instantiates a new default shard resolver.
+	 *
+	 * @param bucketCount the number of buckets, which is the uin modulo value
+	 * @param shards the shards
+	 * @param shardRanges the bucket ranges of each shard, null or empty to split
+	 *        the buckets evenly
+	 */
+	public DefaultShardResolver(int bucketCount, Collection<String> shards, Map<String, String> shardRanges) {
+		if (bucketCount <= 0 || Objects.isNull(shards) || shards.isEmpty()) {
+			throw new IdRepoAppUncheckedException(INVALID_SHARD_CONFIGURATION.getErrorCode(),
+					String.format(INVALID_SHARD_CONFIGURATION.getErrorMessage(), "no shards"));
+		}
+		List<String> sortedShards = new ArrayList<>(shards);
+		Collections.sort(sortedShards);
+		this.shards = Collections.unmodifiableList(sortedShards);
+		this.shardByBucket = new String[bucketCount];
+		if (Objects.isNull(shardRanges) || shardRanges.isEmpty()) {
+			for (int bucket = 0; bucket < bucketCount; bucket++) {
+				shardByBucket[bucket] = sortedShards.get((int) ((long) bucket * sortedShards.size() / bucketCount));
+			}
+		} else {
+			shardRanges.forEach(this::assignRanges);
+			for (int bucket = 0; bucket < bucketCount; bucket++) {
+				if (Objects.isNull(shardByBucket[bucket])) {
+					throw new IdRepoAppUncheckedException(INVALID_SHARD_CONFIGURATION.getErrorCode(),
+							String.format(INVALID_SHARD_CONFIGURATION.getErrorMessage(),
+									"no shard for bucket " + bucket));
+				}
+			}
+		}
+	}
 
-	private static final Pattern PATTERN = Pattern.compile("[0-4].*");
+	/**
+	 * Assigns the bucket ranges of a shard, such as {@code 0-99,200-299}.
+	 *
+	 * @param shard the shard
+	 * @param ranges the ranges
+	 */
+	private void assignRanges(String shard, String ranges) {
+		if (!shards.contains(shard)) {
+			throw new IdRepoAppUncheckedException(INVALID_SHARD_CONFIGURATION.getErrorCode(),
+					String.format(INVALID_SHARD_CONFIGURATION.getErrorMessage(), "unknown shard " + shard));
+		}
+		for (String range : StringUtils.split(ranges, RANGE_SEPARATOR)) {
+			String[] bounds = StringUtils.split(range.trim(), BUCKET_SEPARATOR);
+			try {
+				int from = Integer.parseInt(bounds[0].trim());
+				int to = Integer.parseInt(bounds[bounds.length - 1].trim());
+				if (bounds.length > 2 || from < 0 || to < from || to >= shardByBucket.length) {
+					throw new NumberFormatException(range);
+				}
+				for (int bucket = from; bucket <= to; bucket++) {
+					if (Objects.nonNull(shardByBucket[bucket])) {
+						throw new IdRepoAppUncheckedException(INVALID_SHARD_CONFIGURATION.getErrorCode(),
+								String.format(INVALID_SHARD_CONFIGURATION.getErrorMessage(),
+										"bucket " + bucket + " in " + shardByBucket[bucket] + " and " + shard));
+					}
+					shardByBucket[bucket] = shard;
+				}
+			} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+				throw new IdRepoAppUncheckedException(INVALID_SHARD_CONFIGURATION.getErrorCode(),
+						String.format(INVALID_SHARD_CONFIGURATION.getErrorMessage(), shard + "=" + ranges), e);
+			}
+		}
+	}
 
 	/*
 	 * (non-Javadoc)
-	 * 
+	 *
 	 * @see io.kernel.core.idrepo.shard.ShardResolver#getShrad(java.lang.String)
 	 */
 	@Override
 	public String getShard(String id) throws IdRepoAppException {
-		if (PATTERN.matcher(id).matches()) {
-			return SHARD1;
-		} else {
-			return SHARD2;
+		try {
+			return shardByBucket[(int) (Long.parseLong(id) % shardByBucket.length)];
+		} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+			throw new IdRepoAppException(INVALID_INPUT_PARAMETER.getErrorCode(),
+					String.format(INVALID_INPUT_PARAMETER.getErrorMessage(), UIN), e);
 		}
 	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see io.mosip.idrepository.core.spi.ShardResolver#getShards()
+	 */
+	@Override
+	public List<String> getShards() {
+		return shards;
+	}
 }
@@ -19,6 +19,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.Resource;
 
@@ -26,6 +29,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.exception.JDBCConnectionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
@@ -41,9 +45,14 @@ import io.mosip.idrepository.core.exception.IdRepoAppException;
 import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.core.spi.IdRepoService;
+import io.mosip.idrepository.core.spi.ShardDataSourceResolver;
+import io.mosip.idrepository.core.spi.ShardResolver;
+import io.mosip.idrepository.core.util.ParallelTaskUtil;
 import io.mosip.idrepository.identity.entity.Uin;
-import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
+import io.mosip.idrepository.identity.entity.UinBiometric;
+import io.mosip.idrepository.identity.entity.UinDocument;
 import io.mosip.idrepository.identity.repository.UinHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinRepo;
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
@@ -145,9 +154,21 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	@Autowired
 	private IdRepoSecurityManager securityManager;
 
-	/** The uin hash salt repo. */
+	/** The uin hash salt table. */
+	@Resource
+	private UinSaltTable uinHashSaltTable;
+
+	/** The shard resolver. */
 	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
+	private ShardResolver shardResolver;
+
+	/** The document executor. */
+	@Resource
+	private ExecutorService documentExecutor;
+
+	/** The maximum number of documents of a request fetched at a time. */
+	@Value("${mosip.idrepo.identity.document-concurrency:4}")
+	private int documentConcurrency;
 
 	/*
 	 * (non-Javadoc)
@@ -158,8 +179,9 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	@Override
 	public IdResponseDTO addIdentity(IdRequestDTO request, String uin) throws IdRepoAppException {
 		try {
-			if (uinRepo.existsByUinHash(retrieveUinHash(uin))
-					|| uinHistoryRepo.existsByRegId(request.getRequest().getRegistrationId())) {
+			ShardDataSourceResolver.setCurrentShard(shardResolver.getShard(uin));
+			if (uinRepo.existsByUinHash(retrieveUinHash(uin)) || existsInAnyShard(
+					() -> uinHistoryRepo.existsByRegId(request.getRequest().getRegistrationId()))) {
 				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, ADD_IDENTITY,
 						RECORD_EXISTS.getErrorMessage());
 				throw new IdRepoAppException(RECORD_EXISTS);
@@ -175,6 +197,8 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 		} catch (IdRepoAppUncheckedException e) {
 			mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, ADD_IDENTITY, "\n" + e.getMessage());
 			throw new IdRepoAppException(e.getErrorCode(), e.getErrorText(), e);
+		} finally {
+			ShardDataSourceResolver.resetShardConfig();
 		}
 	}
 
@@ -188,6 +212,7 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	@Override
 	public IdResponseDTO retrieveIdentityByUin(String uin, String type) throws IdRepoAppException {
 		try {
+			ShardDataSourceResolver.setCurrentShard(shardResolver.getShard(uin));
 			String uinHash = retrieveUinHash(uin);
 			if (uinRepo.existsByUinHash(uinHash)) {
 				return retrieveIdentityByUinHash(type, uinHash);
@@ -205,6 +230,8 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 		} catch (IdRepoAppUncheckedException e) {
 			mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, RETRIEVE_IDENTITY, "\n" + e.getMessage());
 			throw new IdRepoAppException(e.getErrorCode(), e.getErrorText(), e);
+		} finally {
+			ShardDataSourceResolver.resetShardConfig();
 		}
 	}
 
@@ -217,7 +244,7 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	private String retrieveUinHash(String uin) {
 		Integer moduloValue = env.getProperty(MODULO_VALUE, Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String hashSalt = uinHashSaltTable.getSalt(modResult);
 		return modResult + SPLITTER + securityManager.hashwithSalt(uin.getBytes(), hashSalt.getBytes());
 	}
 
@@ -270,9 +297,16 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	@Override
 	public IdResponseDTO retrieveIdentityByRid(String rid, String type) throws IdRepoAppException {
 		try {
-			String uinHash = uinRepo.getUinHashByRid(rid);
-			if (Objects.isNull(uinHash)) {
-				uinHash = uinHistoryRepo.getUinHashByRid(rid);
+			String uinHash = null;
+			for (String shard : shardResolver.getShards()) {
+				ShardDataSourceResolver.setCurrentShard(shard);
+				uinHash = uinRepo.getUinHashByRid(rid);
+				if (Objects.isNull(uinHash)) {
+					uinHash = uinHistoryRepo.getUinHashByRid(rid);
+				}
+				if (Objects.nonNull(uinHash)) {
+					break;
+				}
 			}
 			if (Objects.nonNull(uinHash)) {
 				return retrieveIdentityByUinHash(type, uinHash);
@@ -288,6 +322,8 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 		} catch (IdRepoAppUncheckedException e) {
 			mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, RETRIEVE_IDENTITY, "\n" + e.getMessage());
 			throw new IdRepoAppException(e.getErrorCode(), e.getErrorText(), e);
+		} finally {
+			ShardDataSourceResolver.resetShardConfig();
 		}
 	}
 
@@ -310,14 +346,16 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	}
 
 	/**
-	 * Gets the demographic files.
+	 * Gets the demographic files, up to the document concurrency at a time, in
+	 * the order of the documents.
 	 *
 	 * @param uinObject the uin object
 	 * @param documents the documents
 	 * @return the demographic files
 	 */
 	private void getDemographicFiles(Uin uinObject, List<DocumentsDTO> documents) {
-		uinObject.getDocuments().stream().forEach(demo -> {
+		List<UinDocument> demographics = new ArrayList<>(uinObject.getDocuments());
+		documents.addAll(ParallelTaskUtil.apply(demographics, demo -> {
 			try {
 				String fileName = DEMOGRAPHICS + SLASH + demo.getDocId();
 				LocalDateTime startTime = DateUtils.getUTCCurrentDateTime();
@@ -329,7 +367,7 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 								+ "Start time : " + startTime + "  " + "end time : "
 								+ DateUtils.getUTCCurrentDateTime());
 				if (demo.getDocHash().equals(securityManager.hash(data))) {
-					documents.add(new DocumentsDTO(demo.getDoccatCode(), CryptoUtil.encodeBase64(data)));
+					return new DocumentsDTO(demo.getDoccatCode(), CryptoUtil.encodeBase64(data));
 				} else {
 					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
 							DOCUMENT_HASH_MISMATCH.getErrorMessage());
@@ -349,54 +387,56 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, "\n" + e.getMessage());
 				throw new IdRepoAppUncheckedException(FILE_STORAGE_ACCESS_ERROR, e);
 			}
-		});
+		}, documentExecutor, documentConcurrency));
 	}
 
 	/**
-	 * Gets the biometric files.
+	 * Gets the biometric files, up to the document concurrency at a time, in the
+	 * order of the documents.
 	 *
 	 * @param uinObject the uin object
 	 * @param documents the documents
 	 * @return the biometric files
 	 */
 	private void getBiometricFiles(Uin uinObject, List<DocumentsDTO> documents) {
-		uinObject.getBiometrics().stream().forEach(bio -> {
-			if (allowedBioAttributes.contains(bio.getBiometricFileType())) {
-				try {
-					String fileName = BIOMETRICS + SLASH + bio.getBioFileId();
-					LocalDateTime startTime = DateUtils.getUTCCurrentDateTime();
-					byte[] data = securityManager
-							.decrypt(IOUtils.toByteArray(fsAdapter.getFile(uinObject.getUinHash(), fileName)));
-					mosipLogger.debug(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
-							"time taken to get file in millis: " + fileName + "  - "
-									+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
-									+ "Start time : " + startTime + "  " + "end time : "
-									+ DateUtils.getUTCCurrentDateTime());
-					if (Objects.nonNull(data)) {
-						if (StringUtils.equals(bio.getBiometricFileHash(), securityManager.hash(data))) {
-							documents.add(new DocumentsDTO(bio.getBiometricFileType(), CryptoUtil.encodeBase64(data)));
-						} else {
-							mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
-									DOCUMENT_HASH_MISMATCH.getErrorMessage());
-							throw new IdRepoAppException(DOCUMENT_HASH_MISMATCH);
-						}
+		List<UinBiometric> biometrics = uinObject.getBiometrics().stream()
+				.filter(bio -> allowedBioAttributes.contains(bio.getBiometricFileType())).collect(Collectors.toList());
+		ParallelTaskUtil.apply(biometrics, bio -> {
+			try {
+				String fileName = BIOMETRICS + SLASH + bio.getBioFileId();
+				LocalDateTime startTime = DateUtils.getUTCCurrentDateTime();
+				byte[] data = securityManager
+						.decrypt(IOUtils.toByteArray(fsAdapter.getFile(uinObject.getUinHash(), fileName)));
+				mosipLogger.debug(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
+						"time taken to get file in millis: " + fileName + "  - "
+								+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
+								+ "Start time : " + startTime + "  " + "end time : "
+								+ DateUtils.getUTCCurrentDateTime());
+				if (Objects.nonNull(data)) {
+					if (StringUtils.equals(bio.getBiometricFileHash(), securityManager.hash(data))) {
+						return new DocumentsDTO(bio.getBiometricFileType(), CryptoUtil.encodeBase64(data));
+					} else {
+						mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
+								DOCUMENT_HASH_MISMATCH.getErrorMessage());
+						throw new IdRepoAppException(DOCUMENT_HASH_MISMATCH);
 					}
-				} catch (IdRepoAppException e) {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
-					throw new IdRepoAppUncheckedException(e.getErrorCode(), e.getErrorText(), e);
-				} catch (FSAdapterException e) {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
-					throw new IdRepoAppUncheckedException(
-							e.getErrorCode().equals(HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode())
-									? FILE_NOT_FOUND
-									: FILE_STORAGE_ACCESS_ERROR,
-							e);
-				} catch (IOException e) {
-					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
-					throw new IdRepoAppUncheckedException(FILE_STORAGE_ACCESS_ERROR, e);
 				}
+				return null;
+			} catch (IdRepoAppException e) {
+				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+				throw new IdRepoAppUncheckedException(e.getErrorCode(), e.getErrorText(), e);
+			} catch (FSAdapterException e) {
+				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+				throw new IdRepoAppUncheckedException(
+						e.getErrorCode().equals(HDFSAdapterErrorCode.FILE_NOT_FOUND_EXCEPTION.getErrorCode())
+								? FILE_NOT_FOUND
+								: FILE_STORAGE_ACCESS_ERROR,
+						e);
+			} catch (IOException e) {
+				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES, e.getMessage());
+				throw new IdRepoAppUncheckedException(FILE_STORAGE_ACCESS_ERROR, e);
 			}
-		});
+		}, documentExecutor, documentConcurrency).stream().filter(Objects::nonNull).forEach(documents::add);
 	}
 
 	/*
@@ -409,10 +449,11 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 	public IdResponseDTO updateIdentity(IdRequestDTO request, String uin) throws IdRepoAppException {
 		String regId = request.getRequest().getRegistrationId();
 		try {
+			ShardDataSourceResolver.setCurrentShard(shardResolver.getShard(uin));
 			String uinHash = retrieveUinHash(uin);
 			if (uinRepo.existsByUinHash(uinHash)) {
-				if (uinRepo.existsByRegId(regId)
-						|| uinHistoryRepo.existsByRegId(request.getRequest().getRegistrationId())) {
+				if (existsInAnyShard(() -> uinRepo.existsByRegId(regId)
+						|| uinHistoryRepo.existsByRegId(request.getRequest().getRegistrationId()))) {
 					mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, GET_FILES,
 							RECORD_EXISTS.getErrorMessage());
 					throw new IdRepoAppException(RECORD_EXISTS);
@@ -427,6 +468,34 @@ public class IdRepoProxyServiceImpl implements IdRepoService<IdRequestDTO, IdRes
 		} catch (DataAccessException | TransactionException | JDBCConnectionException e) {
 			mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, UPDATE_IDENTITY, e.getMessage());
 			throw new IdRepoAppException(DATABASE_ACCESS_ERROR, e);
+		} finally {
+			ShardDataSourceResolver.resetShardConfig();
+		}
+	}
+
+	/**
+	 * Checks in each shard until found, as a registration id does not resolve a
+	 * shard. The current shard is set back once checked.
+	 *
+	 * @param check the check
+	 * @return true, if found in any shard
+	 */
+	private boolean existsInAnyShard(BooleanSupplier check) {
+		Object currentShard = ShardDataSourceResolver.getCurrentShard();
+		try {
+			for (String shard : shardResolver.getShards()) {
+				ShardDataSourceResolver.setCurrentShard(shard);
+				if (check.getAsBoolean()) {
+					return true;
+				}
+			}
+			return false;
+		} finally {
+			if (Objects.isNull(currentShard)) {
+				ShardDataSourceResolver.resetShardConfig();
+			} else {
+				ShardDataSourceResolver.setCurrentShard(currentShard.toString());
+			}
 		}
 	}
 
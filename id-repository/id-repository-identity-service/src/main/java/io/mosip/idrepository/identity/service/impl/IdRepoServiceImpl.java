@@ -25,6 +25,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 import javax.annotation.Resource;
 
@@ -38,6 +40,7 @@ import org.skyscreamer.jsonassert.JSONCompare;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import org.skyscreamer.jsonassert.JSONCompareResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -60,8 +63,10 @@ import io.mosip.idrepository.core.exception.IdRepoAppException;
 import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.core.spi.IdRepoService;
 import io.mosip.idrepository.core.spi.MosipFingerprintProvider;
+import io.mosip.idrepository.core.util.ParallelTaskUtil;
 import io.mosip.idrepository.identity.entity.Uin;
 import io.mosip.idrepository.identity.entity.UinBiometric;
 import io.mosip.idrepository.identity.entity.UinBiometricHistory;
@@ -70,8 +75,6 @@ import io.mosip.idrepository.identity.entity.UinDocumentHistory;
 import io.mosip.idrepository.identity.entity.UinHistory;
 import io.mosip.idrepository.identity.repository.UinBiometricHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinDocumentHistoryRepo;
-import io.mosip.idrepository.identity.repository.UinEncryptSaltRepo;
-import io.mosip.idrepository.identity.repository.UinHashSaltRepo;
 import io.mosip.idrepository.identity.repository.UinHistoryRepo;
 import io.mosip.idrepository.identity.repository.UinRepo;
 import io.mosip.kernel.core.cbeffutil.entity.BIR;
@@ -179,13 +182,21 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 	@Resource
 	private List<String> bioAttributes;
 
-	/** The uin hash salt repo. */
-	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
+	/** The uin hash salt table. */
+	@Resource
+	private UinSaltTable uinHashSaltTable;
 
-	/** The uin encrypt salt repo. */
-	@Autowired
-	private UinEncryptSaltRepo uinEncryptSaltRepo;
+	/** The uin encrypt salt table. */
+	@Resource
+	private UinSaltTable uinEncryptSaltTable;
+
+	/** The document executor. */
+	@Resource
+	private ExecutorService documentExecutor;
+
+	/** The maximum number of documents of a request stored at a time. */
+	@Value("${mosip.idrepo.identity.document-concurrency:4}")
+	private int documentConcurrency;
 
 	/**
 	 * Adds the identity to DB.
@@ -202,9 +213,9 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 		byte[] identityInfo = convertToBytes(request.getRequest().getIdentity());
 		Integer moduloValue = env.getProperty(MODULO_VALUE, Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String hashSalt = uinHashSaltTable.getSalt(modResult);
 		String uinHash = modResult + SPLITTER + securityManager.hashwithSalt(uin.getBytes(), hashSalt.getBytes());
-		String encryptSalt = uinEncryptSaltRepo.retrieveSaltById(modResult);
+		String encryptSalt = uinEncryptSaltTable.getSalt(modResult);
 		String uinToEncrypt = modResult + SPLITTER + uin + SPLITTER + encryptSalt;
         
 		List<UinDocument> docList = new ArrayList<>();
@@ -239,7 +250,8 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 	}
 
 	/**
-	 * Stores the documents to FileSystem.
+	 * Stores the documents to FileSystem, up to the document concurrency at a
+	 * time, then adds their details and history in the order of the documents.
 	 *
 	 * @param uinHash the uin hash
 	 * @param identityInfo the identity info
@@ -252,13 +264,15 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 	private void addDocuments(String uinHash, byte[] identityInfo, List<DocumentsDTO> documents, String uinRefId,
 			List<UinDocument> docList, List<UinBiometric> bioList) throws IdRepoAppException {
 		ObjectNode identityObject = (ObjectNode) convertToObject(identityInfo, ObjectNode.class);
-		documents.stream().filter(doc -> identityObject.has(doc.getCategory())).forEach(doc -> {
+		List<DocumentsDTO> identityDocuments = documents.stream().filter(doc -> identityObject.has(doc.getCategory()))
+				.collect(Collectors.toList());
+		List<StoredFile> storedFiles = ParallelTaskUtil.apply(identityDocuments, doc -> {
 			JsonNode docType = identityObject.get(doc.getCategory());
 			try {
 				if (bioAttributes.contains(doc.getCategory())) {
-					addBiometricDocuments(uinHash, uinRefId, bioList, doc, docType);
+					return storeBiometricDocument(uinHash, doc, docType);
 				} else {
-					addDemographicDocuments(uinHash, uinRefId, docList, doc, docType);
+					return storeDemographicDocument(uinHash, doc, docType);
 				}
 			} catch (IdRepoAppException e) {
 				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, ADD_IDENTITY, e.getMessage());
@@ -267,21 +281,34 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, ADD_IDENTITY, e.getMessage());
 				throw new IdRepoAppUncheckedException(FILE_STORAGE_ACCESS_ERROR, e);
 			}
-		});
+		}, documentExecutor, documentConcurrency);
+		for (int i = 0; i < identityDocuments.size(); i++) {
+			DocumentsDTO doc = identityDocuments.get(i);
+			JsonNode docType = identityObject.get(doc.getCategory());
+			try {
+				if (bioAttributes.contains(doc.getCategory())) {
+					addBiometricDocuments(uinRefId, bioList, doc, docType, storedFiles.get(i));
+				} else {
+					addDemographicDocuments(uinRefId, docList, doc, docType, storedFiles.get(i));
+				}
+			} catch (IdRepoAppException e) {
+				mosipLogger.error(IdRepoSecurityManager.getUser(), ID_REPO_SERVICE_IMPL, ADD_IDENTITY, e.getMessage());
+				throw new IdRepoAppUncheckedException(e.getErrorCode(), e.getErrorText(), e);
+			}
+		}
 	}
 
 	/**
-	 * Stores the biometric documents to FileSystem.
+	 * Stores the biometric document to FileSystem.
 	 *
 	 * @param uinHash the uin hash
-	 * @param uinRefId the uin ref id
-	 * @param bioList the bio list
 	 * @param doc the doc
 	 * @param docType the doc type
+	 * @return the stored file
 	 * @throws IdRepoAppException the id repo app exception
 	 */
-	private void addBiometricDocuments(String uinHash, String uinRefId, List<UinBiometric> bioList, DocumentsDTO doc,
-			JsonNode docType) throws IdRepoAppException {
+	private StoredFile storeBiometricDocument(String uinHash, DocumentsDTO doc, JsonNode docType)
+			throws IdRepoAppException {
 		byte[] data = null;
 		String fileRefId = UUIDUtils
 				.getUUID(UUIDUtils.NAMESPACE_OID,
@@ -301,29 +328,43 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 				"time taken to store file in millis: " + fileRefId + "  - "
 						+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
 						+ "Start time : " + startTime + "  " + "end time : " + DateUtils.getUTCCurrentDateTime());
+		return new StoredFile(fileRefId, securityManager.hash(data));
+	}
 
-		bioList.add(new UinBiometric(uinRefId, fileRefId, doc.getCategory(), docType.get(FILE_NAME_ATTRIBUTE).asText(),
-				securityManager.hash(data), env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(),
-				now(), null, null, false, null));
+	/**
+	 * Adds the details and history of a stored biometric document.
+	 *
+	 * @param uinRefId the uin ref id
+	 * @param bioList the bio list
+	 * @param doc the doc
+	 * @param docType the doc type
+	 * @param storedFile the stored file
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private void addBiometricDocuments(String uinRefId, List<UinBiometric> bioList, DocumentsDTO doc,
+			JsonNode docType, StoredFile storedFile) throws IdRepoAppException {
+		bioList.add(new UinBiometric(uinRefId, storedFile.fileRefId, doc.getCategory(),
+				docType.get(FILE_NAME_ATTRIBUTE).asText(), storedFile.dataHash,
+				env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(), now(), null, null, false,
+				null));
 
-		uinBioHRepo.save(new UinBiometricHistory(uinRefId, now(), fileRefId, doc.getCategory(),
+		uinBioHRepo.save(new UinBiometricHistory(uinRefId, now(), storedFile.fileRefId, doc.getCategory(),
 				docType.get(FILE_NAME_ATTRIBUTE).asText(), securityManager.hash(doc.getValue().getBytes()),
 				env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(), now(), null, null, false,
 				null));
 	}
 
 	/**
-	 * Stores the demographic documents to FileSystem.
+	 * Stores the demographic document to FileSystem.
 	 *
 	 * @param uinHash the uin hash
-	 * @param uinRefId the uin ref id
-	 * @param docList the doc list
 	 * @param doc the doc
 	 * @param docType the doc type
+	 * @return the stored file
 	 * @throws IdRepoAppException the id repo app exception
 	 */
-	private void addDemographicDocuments(String uinHash, String uinRefId, List<UinDocument> docList, DocumentsDTO doc,
-			JsonNode docType) throws IdRepoAppException {
+	private StoredFile storeDemographicDocument(String uinHash, DocumentsDTO doc, JsonNode docType)
+			throws IdRepoAppException {
 		String fileRefId = UUIDUtils
 				.getUUID(UUIDUtils.NAMESPACE_OID,
 						docType.get(FILE_NAME_ATTRIBUTE).asText() + SPLITTER + DateUtils.getUTCCurrentDateTime())
@@ -337,16 +378,31 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 				"time taken to store file in millis: " + fileRefId + "  - "
 						+ Duration.between(startTime, DateUtils.getUTCCurrentDateTime()).toMillis() + "  "
 						+ "Start time : " + startTime + "  " + "end time : " + DateUtils.getUTCCurrentDateTime());
+		return new StoredFile(fileRefId, securityManager.hash(data));
+	}
 
-		docList.add(new UinDocument(uinRefId, doc.getCategory(), docType.get(TYPE).asText(), fileRefId,
+	/**
+	 * Adds the details and history of a stored demographic document.
+	 *
+	 * @param uinRefId the uin ref id
+	 * @param docList the doc list
+	 * @param doc the doc
+	 * @param docType the doc type
+	 * @param storedFile the stored file
+	 * @throws IdRepoAppException the id repo app exception
+	 */
+	private void addDemographicDocuments(String uinRefId, List<UinDocument> docList, DocumentsDTO doc,
+			JsonNode docType, StoredFile storedFile) throws IdRepoAppException {
+		docList.add(new UinDocument(uinRefId, doc.getCategory(), docType.get(TYPE).asText(), storedFile.fileRefId,
 				docType.get(FILE_NAME_ATTRIBUTE).asText(), docType.get(FILE_FORMAT_ATTRIBUTE).asText(),
-				securityManager.hash(data), env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(),
+				storedFile.dataHash, env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(),
 				now(), null, null, false, null));
 
 		uinDocHRepo.save(new UinDocumentHistory(uinRefId, now(), doc.getCategory(), docType.get(TYPE).asText(),
-				fileRefId, docType.get(FILE_NAME_ATTRIBUTE).asText(), docType.get(FILE_FORMAT_ATTRIBUTE).asText(),
-				securityManager.hash(data), env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(),
-				now(), null, null, false, null));
+				storedFile.fileRefId, docType.get(FILE_NAME_ATTRIBUTE).asText(),
+				docType.get(FILE_FORMAT_ATTRIBUTE).asText(), storedFile.dataHash,
+				env.getProperty(MOSIP_PRIMARY_LANGUAGE), IdRepoSecurityManager.getUser(), now(), null, null, false,
+				null));
 	}
 
 	/**
@@ -417,7 +473,7 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 	public Uin updateIdentity(IdRequestDTO request, String uin) throws IdRepoAppException {
 		Integer moduloValue = env.getProperty(MODULO_VALUE, Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String hashSalt = uinHashSaltTable.getSalt(modResult);
 		String uinHash = modResult + SPLITTER + securityManager.hashwithSalt(uin.getBytes(), hashSalt.getBytes());
 
 		try {
@@ -755,4 +811,26 @@ public class IdRepoServiceImpl implements IdRepoService<IdRequestDTO, Uin> {
 		}
 	}
 
+	/**
+	 * The file of a document stored to FileSystem.
+	 */
+	private static final class StoredFile {
+
+		/** The file ref id. */
+		private final String fileRefId;
+
+		/** The hash of the document data. */
+		private final String dataHash;
+
+		/**
+		 * Instantiates a new stored file.
+		 *
+		 * @param fileRefId the file ref id
+		 * @param dataHash the data hash
+		 */
+		private StoredFile(String fileRefId, String dataHash) {
+			this.fileRefId = fileRefId;
+			this.dataHash = dataHash;
+		}
+	}
 }
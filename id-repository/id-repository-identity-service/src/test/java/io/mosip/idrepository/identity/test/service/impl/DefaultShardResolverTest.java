@@ -2,9 +2,15 @@ package io.mosip.idrepository.identity.test.service.impl;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Test;
 
 import io.mosip.idrepository.core.exception.IdRepoAppException;
+import io.mosip.idrepository.core.exception.IdRepoAppUncheckedException;
 import io.mosip.idrepository.identity.service.impl.DefaultShardResolver;
 
 /**
@@ -15,16 +21,65 @@ import io.mosip.idrepository.identity.service.impl.DefaultShardResolver;
 public class DefaultShardResolverTest {
 
 	/** The resolver. */
-	DefaultShardResolver resolver = new DefaultShardResolver();
+	DefaultShardResolver resolver = new DefaultShardResolver(10, Arrays.asList("shard2", "shard1"), null);
 
 	/**
 	 * Test get shrad.
-	 * 
+	 *
 	 * @throws IdRepoAppException
 	 */
 	@Test
 	public void testGetShrad() throws IdRepoAppException {
 		assertEquals("shard1", resolver.getShard("1234"));
 		assertEquals("shard2", resolver.getShard("5678"));
+		assertEquals(Arrays.asList("shard1", "shard2"), resolver.getShards());
+	}
+
+	/**
+	 * Test get shard with ranges.
+	 *
+	 * @throws IdRepoAppException
+	 */
+	@Test
+	public void testGetShardWithRanges() throws IdRepoAppException {
+		Map<String, String> ranges = new HashMap<>();
+		ranges.put("shard1", "0-99,200-299");
+		ranges.put("shard2", "100-199");
+		ranges.put("shard3", "300 - 999");
+		DefaultShardResolver rangeResolver = new DefaultShardResolver(1000,
+				Arrays.asList("shard1", "shard2", "shard3"), ranges);
+		assertEquals("shard1", rangeResolver.getShard("1099"));
+		assertEquals("shard2", rangeResolver.getShard("1100"));
+		assertEquals("shard1", rangeResolver.getShard("1250"));
+		assertEquals("shard3", rangeResolver.getShard("1999"));
+	}
+
+	/**
+	 * Test get shard invalid uin.
+	 *
+	 * @throws IdRepoAppException
+	 */
+	@Test(expected = IdRepoAppException.class)
+	public void testGetShardInvalidUin() throws IdRepoAppException {
+		resolver.getShard("uin");
+	}
+
+	/**
+	 * Test ranges not covering all buckets.
+	 */
+	@Test(expected = IdRepoAppUncheckedException.class)
+	public void testMissingRange() {
+		new DefaultShardResolver(10, Arrays.asList("shard1", "shard2"), Collections.singletonMap("shard1", "0-8"));
+	}
+
+	/**
+	 * Test overlapping ranges.
+	 */
+	@Test(expected = IdRepoAppUncheckedException.class)
+	public void testOverlappingRange() {
+		Map<String, String> ranges = new HashMap<>();
+		ranges.put("shard1", "0-5");
+		ranges.put("shard2", "5-9");
+		new DefaultShardResolver(10, Arrays.asList("shard1", "shard2"), ranges);
 	}
 }
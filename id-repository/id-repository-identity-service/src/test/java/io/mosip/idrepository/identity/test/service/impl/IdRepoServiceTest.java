@@ -56,6 +56,7 @@ import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.AuditHelper;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.identity.entity.Uin;
 import io.mosip.idrepository.identity.entity.UinBiometric;
 import io.mosip.idrepository.identity.entity.UinDocument;
@@ -225,6 +226,14 @@ public class IdRepoServiceTest {
 				Collections.singletonList("individualBiometrics"));
 		ReflectionTestUtils.setField(service, "bioAttributes",
 				Lists.newArrayList("individualBiometrics", "parentOrGuardianBiometrics"));
+		UinSaltTable uinHashSaltTable = new UinSaltTable("uin_hash_salt", 1000, Collections::emptyMap,
+				uinHashSaltRepo::retrieveSaltById);
+		UinSaltTable uinEncryptSaltTable = new UinSaltTable("uin_encrypt_salt", 1000, Collections::emptyMap,
+				uinEncryptSaltRepo::retrieveSaltById);
+		ReflectionTestUtils.setField(service, "uinHashSaltTable", uinHashSaltTable);
+		ReflectionTestUtils.setField(service, "uinEncryptSaltTable", uinEncryptSaltTable);
+		ReflectionTestUtils.setField(proxyService, "uinHashSaltTable", uinHashSaltTable);
+		when(shardResolver.getShards()).thenReturn(Collections.singletonList("shard"));
 		RequestDTO req = new RequestDTO();
 		req.setRegistrationId("registrationId");
 		request.setRequest(req);
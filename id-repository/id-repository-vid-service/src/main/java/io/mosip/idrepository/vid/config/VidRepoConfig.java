@@ -1,11 +1,13 @@
 package io.mosip.idrepository.vid.config;
 
+import static io.mosip.idrepository.core.constant.IdRepoConstants.MODULO_VALUE;
 import static io.mosip.idrepository.core.constant.IdRepoConstants.VID_DB_DRIVER_CLASS_NAME;
 import static io.mosip.idrepository.core.constant.IdRepoConstants.VID_DB_PASSWORD;
 import static io.mosip.idrepository.core.constant.IdRepoConstants.VID_DB_URL;
 import static io.mosip.idrepository.core.constant.IdRepoConstants.VID_DB_USERNAME;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +15,7 @@ import javax.sql.DataSource;
 
 import org.hibernate.Interceptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
 import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
@@ -21,6 +24,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import io.mosip.idrepository.core.security.UinSaltTable;
+import io.mosip.idrepository.vid.repository.UinEncryptSaltRepo;
+import io.mosip.idrepository.vid.repository.UinHashSaltRepo;
 import io.mosip.kernel.dataaccess.hibernate.config.HibernateDaoConfig;
 
 /**
@@ -87,6 +93,40 @@ public class VidRepoConfig extends HibernateDaoConfig {
 		return Collections.unmodifiableList(allowedStatus);
 	}
 
+	/**
+	 * Uin hash salt table.
+	 *
+	 * @param uinHashSaltRepo the uin hash salt repo
+	 * @param moduloValue the modulo value
+	 * @return the uin salt table
+	 */
+	@Bean(initMethod = "init")
+	public UinSaltTable uinHashSaltTable(UinHashSaltRepo uinHashSaltRepo,
+			@Value("${" + MODULO_VALUE + "}") int moduloValue) {
+		return new UinSaltTable("uin_hash_salt", moduloValue, () -> {
+			Map<Integer, String> salts = new HashMap<>();
+			uinHashSaltRepo.findAll().forEach(salt -> salts.put(salt.getId(), salt.getSalt()));
+			return salts;
+		}, uinHashSaltRepo::retrieveSaltById);
+	}
+
+	/**
+	 * Uin encrypt salt table.
+	 *
+	 * @param uinEncryptSaltRepo the uin encrypt salt repo
+	 * @param moduloValue the modulo value
+	 * @return the uin salt table
+	 */
+	@Bean(initMethod = "init")
+	public UinSaltTable uinEncryptSaltTable(UinEncryptSaltRepo uinEncryptSaltRepo,
+			@Value("${" + MODULO_VALUE + "}") int moduloValue) {
+		return new UinSaltTable("uin_encrypt_salt", moduloValue, () -> {
+			Map<Integer, String> salts = new HashMap<>();
+			uinEncryptSaltRepo.findAll().forEach(salt -> salts.put(salt.getId(), salt.getSalt()));
+			return salts;
+		}, uinEncryptSaltRepo::retrieveSaltById);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -116,4 +156,4 @@ public class VidRepoConfig extends HibernateDaoConfig {
 		dataSource.setDriverClassName(env.getProperty(VID_DB_DRIVER_CLASS_NAME));
 		return dataSource;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -3,6 +3,12 @@ package io.mosip.idrepository.vid.controller;
 import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.DATA_VALIDATION_FAILED;
 import static io.mosip.idrepository.core.constant.IdRepoErrorConstants.INVALID_INPUT_PARAMETER;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Resource;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -29,6 +35,7 @@ import io.mosip.idrepository.core.exception.IdRepoDataValidationException;
 import io.mosip.idrepository.core.helper.AuditHelper;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.core.spi.VidService;
 import io.mosip.idrepository.core.util.DataValidationUtil;
 import io.mosip.idrepository.vid.validator.VidRequestValidator;
@@ -97,6 +104,14 @@ public class VidController {
 	@Autowired
 	private AuditHelper auditHelper;
 
+	/** The uin hash salt table. */
+	@Resource
+	private UinSaltTable uinHashSaltTable;
+
+	/** The uin encrypt salt table. */
+	@Resource
+	private UinSaltTable uinEncryptSaltTable;
+
 	/** The mosip logger. */
 	Logger mosipLogger = IdRepoLogger.getLogger(VidController.class);
 
@@ -318,4 +333,20 @@ public class VidController {
 		}
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * This operation will reload the uin hash and encrypt salts from the DB and
+	 * verify them, returning the salt ids failing the verification by table.
+	 *
+	 * @return the response entity
+	 */
+	@PreAuthorize("hasAnyRole('GLOBAL_ADMIN')")
+	@PostMapping(path = "/salts/reload", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<Map<String, List<Integer>>> reloadSalts() {
+		Map<String, List<Integer>> failedIds = new LinkedHashMap<>();
+		failedIds.put(uinHashSaltTable.getName(), uinHashSaltTable.reload());
+		failedIds.put(uinEncryptSaltTable.getName(), uinEncryptSaltTable.reload());
+		mosipLogger.info(IdRepoSecurityManager.getUser(), VID_CONTROLLER, "reloadSalts", "salts reloaded " + failedIds);
+		return new ResponseEntity<>(failedIds, HttpStatus.OK);
+	}
+}
@@ -52,11 +52,10 @@ import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.logger.IdRepoLogger;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.core.spi.VidService;
 import io.mosip.idrepository.vid.entity.Vid;
 import io.mosip.idrepository.vid.provider.VidPolicyProvider;
-import io.mosip.idrepository.vid.repository.UinEncryptSaltRepo;
-import io.mosip.idrepository.vid.repository.UinHashSaltRepo;
 import io.mosip.idrepository.vid.repository.VidRepo;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
@@ -130,13 +129,13 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 	@Autowired
 	private IdRepoSecurityManager securityManager;
 
-	/** The Uin Hash Salt Repo. */
-	@Autowired
-	private UinHashSaltRepo uinHashSaltRepo;
+	/** The uin hash salt table. */
+	@Resource
+	private UinSaltTable uinHashSaltTable;
 
-	/** The Uin Encrypt Salt Repo. */
-	@Autowired
-	private UinEncryptSaltRepo uinEncryptSaltRepo;
+	/** The uin encrypt salt table. */
+	@Resource
+	private UinSaltTable uinEncryptSaltTable;
 
 	/** The id. */
 	@Resource
@@ -178,8 +177,8 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 		checkUinStatus(uin);
 		Integer moduloValue = env.getProperty(MODULO_VALUE, Integer.class);
 		int modResult = (int) (Long.parseLong(uin) % moduloValue);
-		String encryptSalt = uinEncryptSaltRepo.retrieveSaltById(modResult);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(modResult);
+		String encryptSalt = uinEncryptSaltTable.getSalt(modResult);
+		String hashSalt = uinHashSaltTable.getSalt(modResult);
 		String uinToEncrypt = modResult + SPLITTER + uin + SPLITTER + encryptSalt;
 		String uinHash = String.valueOf(modResult) + SPLITTER
 				+ securityManager.hashwithSalt(uin.getBytes(), CryptoUtil.decodeBase64(hashSalt));
@@ -447,7 +446,7 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 	private ResponseWrapper<VidResponseDTO> applyVIDStatus(String uin, String status, String idType,
 			String vidStatusToRetrieveVIDList) throws IdRepoAppException {
 		Integer moduloValue = env.getProperty(MODULO_VALUE, Integer.class);
-		String hashSalt = uinHashSaltRepo.retrieveSaltById((int) (Long.parseLong(uin) % moduloValue));
+		String hashSalt = uinHashSaltTable.getSalt((int) (Long.parseLong(uin) % moduloValue));
 		String uinHash = String.valueOf((Long.parseLong(uin) % moduloValue)) + SPLITTER
 				+ securityManager.hashwithSalt(uin.getBytes(), CryptoUtil.decodeBase64(hashSalt));
 		List<Vid> vidList = vidRepo.findByUinHashAndStatusCodeAndExpiryDTimesAfter(uinHash, vidStatusToRetrieveVIDList,
@@ -540,8 +539,8 @@ public class VidServiceImpl implements VidService<VidRequestDTO, ResponseWrapper
 	private String decryptUin(String uin, String uinHash) throws IdRepoAppException {
 		List<String> uinDetails = Arrays.stream(uin.split(SPLITTER))
 				.collect(Collectors.toList());
-		String decryptSalt = uinEncryptSaltRepo.retrieveSaltById(Integer.parseInt(uinDetails.get(0)));
-		String hashSalt = uinHashSaltRepo.retrieveSaltById(Integer.parseInt(uinDetails.get(0)));
+		String decryptSalt = uinEncryptSaltTable.getSalt(Integer.parseInt(uinDetails.get(0)));
+		String hashSalt = uinHashSaltTable.getSalt(Integer.parseInt(uinDetails.get(0)));
 		String encryptedUin = uin.substring(uinDetails.get(0).length() + 1, uin.length());
 		String decryptedUin = new String(securityManager.decryptWithSalt(CryptoUtil.decodeBase64(encryptedUin),
 				CryptoUtil.decodeBase64(decryptSalt)));
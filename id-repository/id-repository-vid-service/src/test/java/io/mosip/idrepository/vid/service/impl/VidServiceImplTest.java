@@ -50,6 +50,7 @@ import io.mosip.idrepository.core.exception.IdRepoDataValidationException;
 import io.mosip.idrepository.core.exception.RestServiceException;
 import io.mosip.idrepository.core.helper.RestHelper;
 import io.mosip.idrepository.core.security.IdRepoSecurityManager;
+import io.mosip.idrepository.core.security.UinSaltTable;
 import io.mosip.idrepository.vid.entity.Vid;
 import io.mosip.idrepository.vid.provider.VidPolicyProvider;
 import io.mosip.idrepository.vid.repository.UinEncryptSaltRepo;
@@ -117,6 +118,12 @@ public class VidServiceImplTest {
 		ReflectionTestUtils.setField(service, "env", environment);
 		ReflectionTestUtils.setField(restHelper, "mapper", mapper);
 		ReflectionTestUtils.setField(service, "id", id);
+		UinSaltTable uinHashSaltTable = new UinSaltTable("uin_hash_salt", 1000, Collections::emptyMap,
+				uinHashSaltRepo::retrieveSaltById);
+		UinSaltTable uinEncryptSaltTable = new UinSaltTable("uin_encrypt_salt", 1000, Collections::emptyMap,
+				uinEncryptSaltRepo::retrieveSaltById);
+		ReflectionTestUtils.setField(service, "uinHashSaltTable", uinHashSaltTable);
+		ReflectionTestUtils.setField(service, "uinEncryptSaltTable", uinEncryptSaltTable);
 	}
 
 	@Test
@@ -1,8 +1,16 @@
 package io.mosip.kernel.auditmanager.impl;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.auditmanager.repository.AuditRepository;
@@ -21,6 +29,15 @@ import io.mosip.kernel.core.auditmanager.spi.AuditHandler;
 @Service
 public class AuditHandlerImpl implements AuditHandler<AuditRequestDto> {
 
+	/**
+	 * Insert statement of {@link Audit}, used to write a batch of audits in one
+	 * JDBC batch
+	 */
+	private static final String INSERT_AUDIT = "insert into audit.app_audit_log (log_id, log_dtimes, event_id, "
+			+ "event_name, event_type, action_dtimes, host_name, host_ip, app_id, app_name, session_user_id, "
+			+ "session_user_name, ref_id, ref_id_type, cr_by, module_name, module_id, log_desc) "
+			+ "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
 	/**
 	 * Field for {@link AuditRepository} having data access operations related to
 	 * audit
@@ -34,6 +51,12 @@ public class AuditHandlerImpl implements AuditHandler<AuditRequestDto> {
 	@Autowired
 	private ModelMapper modelMapper;
 
+	/**
+	 * Field for {@link DataSource} of the audit database
+	 */
+	@Autowired
+	private DataSource dataSource;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -51,4 +74,27 @@ public class AuditHandlerImpl implements AuditHandler<AuditRequestDto> {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.core.auditmanager.spi.AuditHandler#addAudits(java.util.
+	 * List)
+	 */
+	@Override
+	@Transactional
+	public boolean addAudits(List<AuditRequestDto> auditRequests) {
+		auditRequests.forEach(AuditUtils::validateAuditRequest);
+
+		List<Object[]> events = auditRequests.stream().map(auditRequest -> modelMapper.map(auditRequest, Audit.class))
+				.map(event -> new Object[] { event.getUuid(), Timestamp.valueOf(event.getCreatedAt()),
+						event.getEventId(), event.getEventName(), event.getEventType(),
+						Timestamp.valueOf(event.getActionTimeStamp()), event.getHostName(), event.getHostIp(),
+						event.getApplicationId(), event.getApplicationName(), event.getSessionUserId(),
+						event.getSessionUserName(), event.getId(), event.getIdType(), event.getCreatedBy(),
+						event.getModuleName(), event.getModuleId(), event.getDescription() })
+				.collect(Collectors.toList());
+		new JdbcTemplate(dataSource).batchUpdate(INSERT_AUDIT, events);
+		return true;
+	}
+
 }
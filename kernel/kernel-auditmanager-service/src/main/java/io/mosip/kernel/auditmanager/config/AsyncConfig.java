@@ -1,10 +1,12 @@
 package io.mosip.kernel.auditmanager.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import javax.servlet.Filter;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,15 +27,42 @@ import io.mosip.kernel.auditmanager.exception.AuditAsyncExceptionHandler;
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+	/**
+	 * Number of threads writing audits
+	 */
+	@Value("${mosip.kernel.auditmanager.async.core-pool-size:4}")
+	private int corePoolSize;
+
+	/**
+	 * Maximum number of threads writing audits, used once the queue is full
+	 */
+	@Value("${mosip.kernel.auditmanager.async.max-pool-size:8}")
+	private int maxPoolSize;
+
+	/**
+	 * Maximum number of audits waiting to be written
+	 */
+	@Value("${mosip.kernel.auditmanager.async.queue-capacity:10000}")
+	private int queueCapacity;
+
 	/*
 	 * (non-Javadoc)
 	 * 
 	 * @see
 	 * org.springframework.scheduling.annotation.AsyncConfigurer#getAsyncExecutor()
+	 * 
+	 * The queue is bounded, and once the queue and the threads are full the
+	 * request thread writes the audit itself, which slows down the callers
+	 * instead of dropping the audit.
 	 */
 	@Override
 	public Executor getAsyncExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("audit-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
 		executor.initialize();
 		return executor;
 	}
@@ -10,6 +10,7 @@ package io.mosip.kernel.auditmanager.constant;
 public enum AuditErrorCode {
 	HANDLEREXCEPTION("KER-AUD-001", "Invalid Audit Request. Required parameters must be present"),
 	INVALIDFORMAT("KER-AUD-002", "Invalid Audit Request. Format is incorrect."),
+	INVALIDBATCHSIZE("KER-AUD-003", "Invalid Audit Request. Number of audits must be between 1 and %d"),
 	INTERNAL_SERVER_ERROR("KER-AUD-500", "Internal server error");
 
 	private final String errorCode;
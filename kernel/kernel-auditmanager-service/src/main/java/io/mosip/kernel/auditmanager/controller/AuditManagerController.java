@@ -1,5 +1,7 @@
 package io.mosip.kernel.auditmanager.controller;
 
+import java.util.List;
+
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,4 +50,21 @@ public class AuditManagerController {
 		response.setResponse(service.addAudit(requestDto.getRequest()));
 		return response;
 	}
+
+	/**
+	 * Function to add a batch of audits, written at once
+	 * 
+	 * @param requestDto the {@link AuditRequestDto}s having required fields for
+	 *                   auditing
+	 * @return The {@link AuditResponseDto} having the status of audit
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION','TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION','PRE_REGISTRATION_ADMIN','RESIDENT','ZONAL_ADMIN','GLOBAL_ADMIN')")
+	@ResponseFilter
+	@PostMapping(value = "/audits/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseWrapper<AuditResponseDto> addAudits(
+			@RequestBody @Valid RequestWrapper<List<AuditRequestDto>> requestDto) {
+		ResponseWrapper<AuditResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(service.addAudits(requestDto.getRequest()));
+		return response;
+	}
 }
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import io.mosip.kernel.auditmanager.constant.AuditErrorCode;
 import io.mosip.kernel.auditmanager.constant.AuditErrorCodes;
+import io.mosip.kernel.core.auditmanager.exception.AuditManagerException;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -80,6 +81,16 @@ public class ApiExceptionHandler {
 		return new ResponseEntity<>(responseWrapper, HttpStatus.OK);
 	}
 
+	@ExceptionHandler(AuditManagerException.class)
+	public ResponseEntity<ResponseWrapper<ServiceError>> onAuditManagerException(HttpServletRequest httpServletRequest,
+			final AuditManagerException e) throws IOException {
+		ResponseWrapper<ServiceError> responseWrapper = setErrors(httpServletRequest);
+		ServiceError error = new ServiceError(e.getErrorCode(), e.getErrorText());
+		responseWrapper.getErrors().add(error);
+		ExceptionUtils.logRootCause(e);
+		return new ResponseEntity<>(responseWrapper, HttpStatus.OK);
+	}
+
 	@ExceptionHandler(value = { Exception.class, RuntimeException.class })
 	public ResponseEntity<ResponseWrapper<ServiceError>> defaultErrorHandler(HttpServletRequest httpServletRequest,
 			Exception e) throws IOException {
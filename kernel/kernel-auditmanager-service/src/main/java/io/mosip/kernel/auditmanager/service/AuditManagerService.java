@@ -3,6 +3,8 @@
  */
 package io.mosip.kernel.auditmanager.service;
 
+import java.util.List;
+
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
@@ -25,4 +27,13 @@ public interface AuditManagerService {
 	 */
 	AuditResponseDto addAudit(AuditRequestDto auditRequestDto);
 
+	/**
+	 * Function to add a batch of audits
+	 * 
+	 * @param auditRequestDtos The {@link AuditRequestDto}s having required fields
+	 *                         to audit
+	 * @return The {@link AuditResponseDto} having status of audit
+	 */
+	AuditResponseDto addAudits(List<AuditRequestDto> auditRequestDtos);
+
 }
\ No newline at end of file
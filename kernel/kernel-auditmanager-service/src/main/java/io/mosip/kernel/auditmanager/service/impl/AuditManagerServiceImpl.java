@@ -1,13 +1,20 @@
 package io.mosip.kernel.auditmanager.service.impl;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.mosip.kernel.auditmanager.constant.AuditErrorCode;
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 import io.mosip.kernel.auditmanager.service.AuditManagerService;
 import io.mosip.kernel.auditmanager.util.AuditAsyncUtil;
+import io.mosip.kernel.core.auditmanager.exception.AuditManagerException;
+import io.mosip.kernel.core.auditmanager.spi.AuditHandler;
 
 /**
  * AuditManager service implementation with function to add new {@link Audit}
@@ -25,6 +32,18 @@ public class AuditManagerServiceImpl implements AuditManagerService {
 	@Autowired
 	private AuditAsyncUtil auditUtil;
 
+	/**
+	 * Field for audit handler, writing a batch of audits in the request thread
+	 */
+	@Autowired
+	private AuditHandler<AuditRequestDto> auditHandler;
+
+	/**
+	 * Field for the maximum number of audits in a batch
+	 */
+	@Value("${mosip.kernel.auditmanager.batch.max-size:1000}")
+	private int maxBatchSize;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -40,4 +59,23 @@ public class AuditManagerServiceImpl implements AuditManagerService {
 		return auditResponseDto;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.auditmanager.service.AuditManagerService#addAudits(java.util.
+	 * List)
+	 */
+	@Override
+	public AuditResponseDto addAudits(List<AuditRequestDto> auditRequestDtos) {
+		if (Objects.isNull(auditRequestDtos) || auditRequestDtos.isEmpty()
+				|| auditRequestDtos.size() > maxBatchSize) {
+			throw new AuditManagerException(AuditErrorCode.INVALIDBATCHSIZE.getErrorCode(),
+					String.format(AuditErrorCode.INVALIDBATCHSIZE.getErrorMessage(), maxBatchSize));
+		}
+		AuditResponseDto auditResponseDto = new AuditResponseDto();
+		auditResponseDto.setStatus(auditHandler.addAudits(auditRequestDtos));
+		return auditResponseDto;
+	}
+
 }
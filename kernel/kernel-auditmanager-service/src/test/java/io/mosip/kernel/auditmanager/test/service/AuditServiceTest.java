@@ -4,6 +4,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -15,6 +17,7 @@ import io.mosip.auditmanager.test.AuditManagerTestBootApplication;
 import io.mosip.kernel.auditmanager.dto.AuditResponseDto;
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 import io.mosip.kernel.auditmanager.service.impl.AuditManagerServiceImpl;
+import io.mosip.kernel.core.auditmanager.exception.AuditManagerException;
 
 @SpringBootTest(classes = { AuditManagerTestBootApplication.class })
 @RunWith(SpringRunner.class)
@@ -49,4 +52,39 @@ public class AuditServiceTest {
 
 		assertThat(service.addAudit(auditRequestDto), is(auditResponseDto));
 	}
+
+	@Test
+	public void auditServiceBatchTest() {
+		AuditResponseDto auditResponseDto = new AuditResponseDto();
+		auditResponseDto.setStatus(true);
+
+		assertThat(service.addAudits(Arrays.asList(auditRequestDto("eventId1"), auditRequestDto("eventId2"))),
+				is(auditResponseDto));
+	}
+
+	@Test(expected = AuditManagerException.class)
+	public void auditServiceEmptyBatchTest() {
+		service.addAudits(Collections.emptyList());
+	}
+
+	private AuditRequestDto auditRequestDto(String eventId) {
+		AuditRequestDto auditRequestDto = new AuditRequestDto();
+		auditRequestDto.setActionTimeStamp(LocalDateTime.now());
+		auditRequestDto.setApplicationId("applicationId");
+		auditRequestDto.setApplicationName("applicationName");
+		auditRequestDto.setCreatedBy("createdBy");
+		auditRequestDto.setDescription("description");
+		auditRequestDto.setEventId(eventId);
+		auditRequestDto.setEventName("eventName");
+		auditRequestDto.setEventType("eventType");
+		auditRequestDto.setHostIp("hostIp");
+		auditRequestDto.setHostName("hostName");
+		auditRequestDto.setId("id");
+		auditRequestDto.setIdType("idType");
+		auditRequestDto.setModuleId("moduleId");
+		auditRequestDto.setModuleName("moduleName");
+		auditRequestDto.setSessionUserId("sessionUserId");
+		auditRequestDto.setSessionUserName("sessionUserName");
+		return auditRequestDto;
+	}
 }
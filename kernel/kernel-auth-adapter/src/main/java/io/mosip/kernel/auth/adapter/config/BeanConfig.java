@@ -12,7 +12,7 @@ import javax.net.ssl.SSLSession;
 
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustStrategy;
-import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -32,6 +32,18 @@ public class BeanConfig {
 	@Value("${mosip.kernel.auth.adapter.ssl-bypass:true}")
 	private boolean sslBypass;
 
+	/**
+	 * Maximum pooled connections of the rest template
+	 */
+	@Value("${mosip.kernel.auth.adapter.http.max-connections:200}")
+	private int maxConnections;
+
+	/**
+	 * Maximum pooled connections of the rest template to a single host
+	 */
+	@Value("${mosip.kernel.auth.adapter.http.max-connections-per-route:50}")
+	private int maxConnectionsPerRoute;
+
 	@Bean
 	public RestTemplate restTemplate() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
 		// TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String
@@ -48,7 +60,8 @@ public class BeanConfig {
 		// requestFactory.setHttpClient(httpClient);
 		// RestTemplate restTemplate = new RestTemplate(requestFactory);
 
-		RestTemplate restTemplate = null;
+		HttpClientBuilder httpClientBuilder = HttpClients.custom().setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnectionsPerRoute);
 		if (sslBypass) {
 			TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String authType) -> true;
 			SSLContext sslContext = org.apache.http.ssl.SSLContexts.custom()
@@ -58,13 +71,13 @@ public class BeanConfig {
 					return true;
 				}
 			});
-			CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(csf).build();
-			HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
-			requestFactory.setHttpClient(httpClient);
-			restTemplate = new RestTemplate(requestFactory);
+			httpClientBuilder.setSSLSocketFactory(csf);
 		} else {
-			restTemplate = new RestTemplate();
+			httpClientBuilder.useSystemProperties();
 		}
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
+		requestFactory.setHttpClient(httpClientBuilder.build());
+		RestTemplate restTemplate = new RestTemplate(requestFactory);
 		restTemplate.setInterceptors(Collections.singletonList(new RestTemplateInterceptor()));
 		return restTemplate;
 	}
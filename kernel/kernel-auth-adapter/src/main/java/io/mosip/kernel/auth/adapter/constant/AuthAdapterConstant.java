@@ -43,4 +43,16 @@ public class AuthAdapterConstant {
 
 	public static final String ROLES_NOT_EMPTY_NULL = "Roles Cannot Be Empty or Null";
 
+	public static final String PREFERRED_USERNAME = "preferred_username";
+
+	public static final String EMAIL = "email";
+
+	public static final String MOBILE = "mobile";
+
+	public static final String RID = "rid";
+
+	public static final String REALM_ACCESS = "realm_access";
+
+	public static final String ROLES = "roles";
+
 }
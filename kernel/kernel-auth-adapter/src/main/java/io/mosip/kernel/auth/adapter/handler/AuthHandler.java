@@ -6,10 +6,19 @@ import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -17,6 +26,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.AbstractUserDetailsAuthenticationProvider;
 import org.springframework.security.core.Authentication;
@@ -30,6 +40,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Verification;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -47,6 +66,8 @@ import io.mosip.kernel.auth.adapter.exception.AuthManagerException;
 import io.mosip.kernel.auth.adapter.model.AuthToken;
 import io.mosip.kernel.auth.adapter.model.AuthUserDetails;
 import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+import io.mosip.kernel.auth.adapter.util.AuthTokenCache;
+import io.mosip.kernel.auth.adapter.util.JwksKeyProvider;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -91,9 +112,94 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 	@Value("${auth.jwt.secret:authjwtsecret}")
 	private String authJwtSecret;
 
+	/**
+	 * JSON Web Key Set url of the token issuer, tokens are verified by the auth
+	 * server only if empty
+	 */
+	@Value("${mosip.kernel.auth.adapter.jwks.url:}")
+	private String jwksUrl;
+
+	@Value("${mosip.kernel.auth.adapter.jwks.refresh-interval-seconds:300}")
+	private long jwksRefreshIntervalSeconds;
+
+	/**
+	 * Issuer required for the tokens verified locally, not checked if empty
+	 */
+	@Value("${mosip.kernel.auth.adapter.jwt.issuer:}")
+	private String jwtIssuer;
+
+	/**
+	 * Clock skew with the issuer allowed on the expiry, not before and issued at
+	 * times of the tokens verified locally
+	 */
+	@Value("${mosip.kernel.auth.adapter.jwt.leeway-seconds:30}")
+	private long jwtLeewaySeconds;
+
+	@Value("${mosip.kernel.auth.adapter.token-cache.max-size:10000}")
+	private int tokenCacheMaxSize;
+
+	/**
+	 * Maximum time a token is accepted after it was issued or last validated by
+	 * the auth server, which bounds how long a revoked token is accepted
+	 */
+	@Value("${mosip.kernel.auth.adapter.token-cache.max-staleness-seconds:30}")
+	private long tokenMaxStalenessSeconds;
+
+	@Value("${mosip.kernel.auth.adapter.http.max-connections:200}")
+	private int maxConnections;
+
+	@Value("${mosip.kernel.auth.adapter.http.max-connections-per-route:50}")
+	private int maxConnectionsPerRoute;
+
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	private RestTemplate restTemplate;
+
+	private JwksKeyProvider jwksKeyProvider;
+
+	private JWTVerifier jwtVerifier;
+
+	private AuthTokenCache tokenCache;
+
+	@PostConstruct
+	public void init() {
+		restTemplate = createRestTemplate();
+		tokenCache = new AuthTokenCache(tokenCacheMaxSize, tokenMaxStalenessSeconds);
+		if (!EmptyCheckUtils.isNullEmpty(jwksUrl)) {
+			jwksKeyProvider = new JwksKeyProvider(jwksUrl, restTemplate, objectMapper, jwksRefreshIntervalSeconds);
+			jwksKeyProvider.start();
+			Verification verification = JWT.require(Algorithm.RSA256(jwksKeyProvider))
+					.acceptLeeway(jwtLeewaySeconds);
+			if (!EmptyCheckUtils.isNullEmpty(jwtIssuer)) {
+				verification.withIssuer(jwtIssuer);
+			}
+			jwtVerifier = verification.build();
+		}
+	}
+
+	/**
+	 * Function to create the rest template calling the auth server and the
+	 * JSON Web Key Set url, with a pool of connections
+	 * 
+	 * @return the rest template
+	 */
+	protected RestTemplate createRestTemplate() {
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+				HttpClients.custom().setMaxConnTotal(maxConnections).setMaxConnPerRoute(maxConnectionsPerRoute)
+						.useSystemProperties().build());
+		RestTemplate template = new RestTemplate(requestFactory);
+		template.setInterceptors(Collections.singletonList(new RestTemplateInterceptor()));
+		return template;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (jwksKeyProvider != null) {
+			jwksKeyProvider.stop();
+		}
+	}
+
 	@Override
 	protected void additionalAuthenticationChecks(UserDetails userDetails,
 			UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken) throws AuthenticationException {
@@ -102,25 +208,9 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 	@Override
 	protected UserDetails retrieveUser(String userName,
 			UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken) throws AuthenticationException {
-		ResponseEntity<String> response = null;
-		String token = null;
 		AuthToken authToken = (AuthToken) usernamePasswordAuthenticationToken;
-		token = authToken.getToken();
-		MosipUserDto mosipUserDto = null;
-		// added for keycloak impl
-
-		response = getKeycloakValidatedUserResponse(token);
-		List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(response.getBody());
-		if (!validationErrorsList.isEmpty()) {
-			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), validationErrorsList);
-		}
-		try {
-			ResponseWrapper<?> responseObject = objectMapper.readValue(response.getBody(), ResponseWrapper.class);
-			mosipUserDto = objectMapper.readValue(objectMapper.writeValueAsString(responseObject.getResponse()),
-					MosipUserDto.class);
-		} catch (Exception e) {
-			throw new AuthManagerException(String.valueOf(HttpStatus.UNAUTHORIZED.value()), e.getMessage(), e);
-		}
+		String token = authToken.getToken();
+		MosipUserDto mosipUserDto = getUser(token);
 		List<GrantedAuthority> grantedAuthorities = AuthorityUtils
 				.commaSeparatedStringToAuthorityList(mosipUserDto.getRole());
 		AuthUserDetails authUserDetails = new AuthUserDetails(mosipUserDto, token);
@@ -129,6 +219,124 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 
 	}
 
+	/**
+	 * Function to get the user of a token, from the cache if validated recently,
+	 * else from its claims if its signature is verified locally and it was issued
+	 * recently, else from the auth server
+	 * 
+	 * @param token the token
+	 * @return the user
+	 */
+	private MosipUserDto getUser(String token) {
+		MosipUserDto mosipUserDto = tokenCache.get(token);
+		if (mosipUserDto != null) {
+			return mosipUserDto;
+		}
+		long now = System.currentTimeMillis();
+		DecodedJWT decodedJWT = verifyLocally(token);
+		if (decodedJWT != null && decodedJWT.getIssuedAt() != null) {
+			long issuedMillisAgo = now - decodedJWT.getIssuedAt().getTime();
+			if (tokenCache.isFresh(issuedMillisAgo)) {
+				mosipUserDto = buildDto(decodedJWT, token);
+				tokenCache.put(token, mosipUserDto, issuedMillisAgo, expiresInMillis(token, now));
+				return mosipUserDto;
+			}
+		}
+		// keycloak validation, also checks the token is not revoked
+		try {
+			mosipUserDto = getKeycloakValidatedUser(token);
+		} catch (AuthManagerException e) {
+			tokenCache.invalidate(token);
+			throw e;
+		}
+		tokenCache.put(token, mosipUserDto, 0, expiresInMillis(token, now));
+		return mosipUserDto;
+	}
+
+	/**
+	 * Function to verify the signature, expiry and issuer of a token with the keys
+	 * of the issuer. A token failing only on its times beyond the leeway, such as
+	 * one expired or issued by a clock further ahead, is left to the auth server.
+	 * 
+	 * @param token the token
+	 * @return the verified token, null if it cannot be verified locally
+	 * @throws AuthManagerException if the token is not valid
+	 */
+	private DecodedJWT verifyLocally(String token) {
+		if (jwtVerifier == null) {
+			return null;
+		}
+		DecodedJWT decodedJWT;
+		try {
+			decodedJWT = JWT.decode(token);
+		} catch (JWTDecodeException e) {
+			return null;
+		}
+		if (!"RS256".equals(decodedJWT.getAlgorithm()) || !jwksKeyProvider.hasKey(decodedJWT.getKeyId())) {
+			return null;
+		}
+		try {
+			return jwtVerifier.verify(token);
+		} catch (TokenExpiredException e) {
+			return null;
+		} catch (InvalidClaimException e) {
+			if (isNotYetValid(decodedJWT)) {
+				return null;
+			}
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), e.getMessage(), e);
+		} catch (JWTVerificationException e) {
+			throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(), e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @param decodedJWT the token
+	 * @return true if the token is not valid before or issued at a time to come,
+	 *         which the verifier rejects if further than the leeway
+	 */
+	private static boolean isNotYetValid(DecodedJWT decodedJWT) {
+		long now = System.currentTimeMillis();
+		return isAfter(decodedJWT.getNotBefore(), now) || isAfter(decodedJWT.getIssuedAt(), now);
+	}
+
+	private static boolean isAfter(Date date, long now) {
+		return date != null && date.getTime() > now;
+	}
+
+	private static long expiresInMillis(String token, long now) {
+		try {
+			Date expiresAt = JWT.decode(token).getExpiresAt();
+			if (expiresAt != null) {
+				return expiresAt.getTime() - now;
+			}
+		} catch (JWTDecodeException e) {
+			// not a jwt, cached for the maximum staleness
+		}
+		return TimeUnit.DAYS.toMillis(1);
+	}
+
+	private MosipUserDto getKeycloakValidatedUser(String token) {
+		ResponseEntity<String> response = getKeycloakValidatedUserResponse(token);
+		JsonNode responseNode;
+		try {
+			responseNode = objectMapper.readTree(response.getBody());
+		} catch (Exception e) {
+			throw new AuthManagerException(String.valueOf(HttpStatus.UNAUTHORIZED.value()), e.getMessage(), e);
+		}
+		if (responseNode.path("errors").size() > 0) {
+			List<ServiceError> validationErrorsList = ExceptionUtils.getServiceErrorList(response.getBody());
+			if (!validationErrorsList.isEmpty()) {
+				throw new AuthManagerException(AuthAdapterErrorCode.UNAUTHORIZED.getErrorCode(),
+						validationErrorsList);
+			}
+		}
+		try {
+			return objectMapper.treeToValue(responseNode.path("response"), MosipUserDto.class);
+		} catch (Exception e) {
+			throw new AuthManagerException(String.valueOf(HttpStatus.UNAUTHORIZED.value()), e.getMessage(), e);
+		}
+	}
+
 	private Claims getClaims(String token) throws Exception {
 		String token_base = authJwtBase;
 		String secret = authJwtSecret;
@@ -168,6 +376,21 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 		return mosipUserDto;
 	}
 
+	private MosipUserDto buildDto(DecodedJWT decodedJWT, String token) {
+		MosipUserDto mosipUserDto = new MosipUserDto();
+		mosipUserDto.setUserId(decodedJWT.getClaim(AuthAdapterConstant.PREFERRED_USERNAME).asString());
+		mosipUserDto.setName(decodedJWT.getClaim(AuthAdapterConstant.PREFERRED_USERNAME).asString());
+		mosipUserDto.setMail(decodedJWT.getClaim(AuthAdapterConstant.EMAIL).asString());
+		mosipUserDto.setMobile(decodedJWT.getClaim(AuthAdapterConstant.MOBILE).asString());
+		mosipUserDto.setRId(decodedJWT.getClaim(AuthAdapterConstant.RID).asString());
+		Map<String, Object> realmAccess = decodedJWT.getClaim(AuthAdapterConstant.REALM_ACCESS).asMap();
+		Object roles = realmAccess == null ? null : realmAccess.get(AuthAdapterConstant.ROLES);
+		mosipUserDto.setRole(roles instanceof Collection ? ((Collection<?>) roles).stream()
+				.map(String::valueOf).collect(Collectors.joining(",")) : "");
+		mosipUserDto.setToken(token);
+		return mosipUserDto;
+	}
+
 	private ResponseEntity<String> getValidatedUserResponse(String token) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.set(AuthAdapterConstant.AUTH_HEADER_COOKIE, AuthAdapterConstant.AUTH_COOOKIE_HEADER + token);
@@ -191,16 +414,6 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 	}
 
 	public RestTemplate getRestTemplate() throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
-//        TrustStrategy acceptingTrustStrategy = (X509Certificate[] chain, String authType) -> true;
-//        SSLContext sslContext = org.apache.http.ssl.SSLContexts.custom().loadTrustMaterial(null, acceptingTrustStrategy)
-//                     .build();
-//        SSLConnectionSocketFactory csf = new SSLConnectionSocketFactory(sslContext);
-//        CloseableHttpClient httpClient = HttpClients.custom().setSSLSocketFactory(csf).build();
-//        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory();
-//        requestFactory.setHttpClient(httpClient);            
-//        RestTemplate restTemplate = new RestTemplate(requestFactory);
-		RestTemplate restTemplate = new RestTemplate();
-		restTemplate.setInterceptors(Collections.singletonList(new RestTemplateInterceptor()));
 		return restTemplate;
 	}
 
@@ -296,11 +509,7 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 			sendErrors(routingContext, validationErrorsList, AuthAdapterConstant.NOTAUTHENTICATED);
 			return "";
 		}
-		ResponseWrapper<?> responseObject = null;
-		MosipUserDto mosipUserDto = null;
-
-		responseObject = objectMapper.readValue(response.getBody(), ResponseWrapper.class);
-		mosipUserDto = objectMapper.readValue(objectMapper.writeValueAsString(responseObject.getResponse()),
+		MosipUserDto mosipUserDto = objectMapper.treeToValue(objectMapper.readTree(response.getBody()).path("response"),
 				MosipUserDto.class);
 
 		AuthUserDetails authUserDetails = new AuthUserDetails(mosipUserDto, token);
@@ -350,4 +559,4 @@ public class AuthHandler extends AbstractUserDetailsAuthenticationProvider {
 			LOGGER.error("", "", "", exception.getMessage());
 		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package io.mosip.kernel.auth.adapter.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+
+/**
+ * Bounded cache of the users of the validated tokens.
+ *
+ * <p>
+ * A token is served from the cache until it expires or until the maximum
+ * staleness has passed since it was last validated by the auth server, after
+ * which it has to be validated again, so that a revoked token is accepted for
+ * at most the maximum staleness. When the cache is full, the entries no longer
+ * usable are removed, and a token is not cached if it is still full. A maximum
+ * size or staleness of zero disables the cache.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+public class AuthTokenCache {
+
+	private final int maxSize;
+
+	private final long maxStalenessNanos;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param maxSize             maximum number of tokens cached
+	 * @param maxStalenessSeconds maximum time a token is accepted after it was
+	 *                            last validated
+	 */
+	public AuthTokenCache(int maxSize, long maxStalenessSeconds) {
+		this.maxSize = maxSize;
+		this.maxStalenessNanos = TimeUnit.SECONDS.toNanos(Math.max(maxStalenessSeconds, 0));
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0 && maxStalenessNanos > 0;
+	}
+
+	/**
+	 * @param token the token
+	 * @return the user of the token, null if not cached, expired or stale
+	 */
+	public MosipUserDto get(String token) {
+		if (!isEnabled()) {
+			return null;
+		}
+		Entry entry = entries.get(token);
+		if (entry != null && !entry.isUsable(System.nanoTime())) {
+			entries.remove(token, entry);
+			entry = null;
+		}
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return entry.user;
+	}
+
+	/**
+	 * Function to cache the user of a validated token
+	 *
+	 * @param token              the token
+	 * @param user               the user of the token
+	 * @param validatedMillisAgo time since the token was validated by the auth
+	 *                           server, or issued for a token verified locally
+	 * @param expiresInMillis    time until the token expires
+	 */
+	public void put(String token, MosipUserDto user, long validatedMillisAgo, long expiresInMillis) {
+		if (!isEnabled()) {
+			return;
+		}
+		long now = System.nanoTime();
+		Entry entry = new Entry(user, now - TimeUnit.MILLISECONDS.toNanos(Math.max(validatedMillisAgo, 0)),
+				now + TimeUnit.MILLISECONDS.toNanos(expiresInMillis));
+		if (!entry.isUsable(now)) {
+			return;
+		}
+		if (entries.size() >= maxSize) {
+			entries.values().removeIf(cached -> !cached.isUsable(now));
+			if (entries.size() >= maxSize) {
+				return;
+			}
+		}
+		entries.put(token, entry);
+	}
+
+	/**
+	 * @param validatedMillisAgo time since a token was validated or issued
+	 * @return true if a token validated that long ago can still be accepted
+	 */
+	public boolean isFresh(long validatedMillisAgo) {
+		return isEnabled() && TimeUnit.MILLISECONDS.toNanos(validatedMillisAgo) < maxStalenessNanos;
+	}
+
+	/**
+	 * Function to remove a token, such as one rejected by the auth server
+	 *
+	 * @param token the token
+	 */
+	public void invalidate(String token) {
+		entries.remove(token);
+	}
+
+	public int getSize() {
+		return entries.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "AuthTokenCache [maxSize=" + maxSize + ", maxStalenessSeconds="
+				+ TimeUnit.NANOSECONDS.toSeconds(maxStalenessNanos) + ", size=" + getSize() + ", hits=" + getHits()
+				+ ", misses=" + getMisses() + "]";
+	}
+
+	private final class Entry {
+
+		private final MosipUserDto user;
+
+		private final long validatedAt;
+
+		private final long expiresAt;
+
+		private Entry(MosipUserDto user, long validatedAt, long expiresAt) {
+			this.user = user;
+			this.validatedAt = validatedAt;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isUsable(long now) {
+			return now - expiresAt < 0 && now - validatedAt < maxStalenessNanos;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package io.mosip.kernel.auth.adapter.util;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.client.RestTemplate;
+
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.auth.adapter.config.LoggerConfiguration;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Public keys of the token issuer, read from its JSON Web Key Set endpoint.
+ *
+ * <p>
+ * The keys are refreshed in the background at a fixed interval. A key id not
+ * found is refreshed on demand, at most once per minimum refresh interval, so
+ * that a rotated key is picked up without letting unknown key ids trigger a
+ * request each.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+public class JwksKeyProvider implements RSAKeyProvider {
+
+	private static final Logger LOGGER = LoggerConfiguration.logConfig(JwksKeyProvider.class);
+
+	private static final long MIN_REFRESH_INTERVAL_MILLIS = 10_000L;
+
+	private final String jwksUrl;
+
+	private final RestTemplate restTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	private final long refreshIntervalSeconds;
+
+	private volatile Map<String, RSAPublicKey> keys = Collections.emptyMap();
+
+	private volatile long refreshedAt;
+
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * @param jwksUrl                the JSON Web Key Set url
+	 * @param restTemplate           the rest template to fetch the keys
+	 * @param objectMapper           the object mapper to read the keys
+	 * @param refreshIntervalSeconds interval of the background refresh, zero for
+	 *                               refreshing on demand only
+	 */
+	public JwksKeyProvider(String jwksUrl, RestTemplate restTemplate, ObjectMapper objectMapper,
+			long refreshIntervalSeconds) {
+		this.jwksUrl = jwksUrl;
+		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+		this.refreshIntervalSeconds = refreshIntervalSeconds;
+	}
+
+	/**
+	 * Function to load the keys and schedule their refresh
+	 */
+	public void start() {
+		refresh();
+		if (refreshIntervalSeconds > 0) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "auth-adapter-jwks-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.scheduleWithFixedDelay(this::refresh, refreshIntervalSeconds, refreshIntervalSeconds,
+					TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Function to stop the background refresh
+	 */
+	public void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Override
+	public RSAPublicKey getPublicKeyById(String keyId) {
+		RSAPublicKey key = keys.get(keyId);
+		if (key == null && keyId != null) {
+			synchronized (this) {
+				key = keys.get(keyId);
+				if (key == null && System.currentTimeMillis() - refreshedAt >= MIN_REFRESH_INTERVAL_MILLIS) {
+					refresh();
+					key = keys.get(keyId);
+				}
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * @param keyId key id
+	 * @return true if the key is known, refreshing the keys if not
+	 */
+	public boolean hasKey(String keyId) {
+		return getPublicKeyById(keyId) != null;
+	}
+
+	@Override
+	public RSAPrivateKey getPrivateKey() {
+		return null;
+	}
+
+	@Override
+	public String getPrivateKeyId() {
+		return null;
+	}
+
+	public int getKeyCount() {
+		return keys.size();
+	}
+
+	/**
+	 * Function to fetch the keys, keeping the previous ones on failure
+	 */
+	synchronized void refresh() {
+		refreshedAt = System.currentTimeMillis();
+		try {
+			keys = parse(restTemplate.getForObject(jwksUrl, String.class));
+		} catch (Exception e) {
+			LOGGER.error("", "", "", "Failed to refresh the token signing keys from " + jwksUrl + " : "
+					+ e.getMessage());
+		}
+	}
+
+	/**
+	 * Function to read the RSA keys of a JSON Web Key Set
+	 *
+	 * @param jwks the key set
+	 * @return the keys by key id
+	 */
+	Map<String, RSAPublicKey> parse(String jwks) throws Exception {
+		Map<String, RSAPublicKey> parsed = new HashMap<>();
+		KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+		for (JsonNode key : objectMapper.readTree(jwks).path("keys")) {
+			if (!"RSA".equals(key.path("kty").asText()) || "enc".equals(key.path("use").asText())) {
+				continue;
+			}
+			BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(key.path("n").asText()));
+			BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(key.path("e").asText()));
+			parsed.put(key.path("kid").asText(),
+					(RSAPublicKey) keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+		}
+		return Collections.unmodifiableMap(parsed);
+	}
+}
@@ -0,0 +1,216 @@
+package io.mosip.kernel.auth.adapter.test.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.verification.VerificationMode;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.kernel.auth.adapter.exception.AuthManagerException;
+import io.mosip.kernel.auth.adapter.handler.AuthHandler;
+import io.mosip.kernel.auth.adapter.model.AuthToken;
+import io.mosip.kernel.auth.adapter.model.AuthUserDetails;
+
+public class AuthHandlerTest {
+
+	private static final String JWKS_URL = "http://localhost/auth/realms/mosip/protocol/openid-connect/certs";
+
+	private static final String ADMIN_VALIDATE_URL = "http://localhost/v1/authmanager/authorize/admin/validateToken";
+
+	private static KeyPair keyPair;
+
+	private static KeyPair otherKeyPair;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+	private TestAuthHandler authHandler;
+
+	@BeforeClass
+	public static void generateKeys() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		keyPair = generator.generateKeyPair();
+		otherKeyPair = generator.generateKeyPair();
+	}
+
+	@Before
+	public void setup() throws Exception {
+		authHandler = new TestAuthHandler(restTemplate);
+		ReflectionTestUtils.setField(authHandler, "adminValidateUrl", ADMIN_VALIDATE_URL);
+		ReflectionTestUtils.setField(authHandler, "jwksUrl", JWKS_URL);
+		ReflectionTestUtils.setField(authHandler, "jwksRefreshIntervalSeconds", 0L);
+		ReflectionTestUtils.setField(authHandler, "jwtIssuer", "");
+		ReflectionTestUtils.setField(authHandler, "jwtLeewaySeconds", 30L);
+		ReflectionTestUtils.setField(authHandler, "tokenCacheMaxSize", 10);
+		ReflectionTestUtils.setField(authHandler, "tokenMaxStalenessSeconds", 30L);
+		ReflectionTestUtils.setField(authHandler, "objectMapper", objectMapper);
+		ObjectNode jwks = objectMapper.createObjectNode();
+		ObjectNode key = jwks.putArray("keys").addObject();
+		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+		key.put("kid", "key1");
+		key.put("kty", "RSA");
+		key.put("use", "sig");
+		key.put("n", Base64.getUrlEncoder().withoutPadding().encodeToString(publicKey.getModulus().toByteArray()));
+		key.put("e", Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(publicKey.getPublicExponent().toByteArray()));
+		when(restTemplate.getForObject(JWKS_URL, String.class)).thenReturn(objectMapper.writeValueAsString(jwks));
+		authHandler.init();
+	}
+
+	@After
+	public void destroy() {
+		authHandler.destroy();
+	}
+
+	@Test
+	public void validTokenVerifiedLocallyTest() {
+		String token = token("key1", keyPair, -1, 300);
+		assertEquals("user1", authHandler.user(token).getUserId());
+		// served from the cache the second time
+		assertEquals("user1", authHandler.user(token).getUserId());
+		verifyRemoteValidations(never());
+	}
+
+	@Test
+	public void issuedAheadWithinLeewayTest() {
+		String token = token("key1", keyPair, 10, 300);
+		assertEquals("user1", authHandler.user(token).getUserId());
+		verifyRemoteValidations(never());
+	}
+
+	@Test
+	public void issuedAheadBeyondLeewayValidatedRemotelyTest() throws Exception {
+		remoteUser("user1");
+		String token = token("key1", keyPair, 120, 300);
+		assertEquals("user1", authHandler.user(token).getUserId());
+		verifyRemoteValidations(times(1));
+	}
+
+	@Test
+	public void expiredTokenValidatedRemotelyTest() throws Exception {
+		remoteError();
+		String token = token("key1", keyPair, -600, -120);
+		try {
+			authHandler.user(token);
+			fail();
+		} catch (AuthManagerException e) {
+			assertEquals("KER-ATH-401", e.getList().get(0).getErrorCode());
+		}
+		verifyRemoteValidations(times(1));
+	}
+
+	@Test
+	public void unknownKeyIdValidatedRemotelyTest() throws Exception {
+		remoteUser("user1");
+		String token = token("key2", otherKeyPair, -1, 300);
+		assertEquals("user1", authHandler.user(token).getUserId());
+		verifyRemoteValidations(times(1));
+	}
+
+	@Test
+	public void invalidSignatureRejectedTest() {
+		String token = token("key1", otherKeyPair, -1, 300);
+		try {
+			authHandler.user(token);
+			fail();
+		} catch (AuthManagerException e) {
+			assertTrue(e.getCause() instanceof SignatureVerificationException);
+		}
+		verifyRemoteValidations(never());
+	}
+
+	@Test
+	public void issuedBeforeMaxStalenessValidatedRemotelyTest() throws Exception {
+		remoteUser("user1");
+		String token = token("key1", keyPair, -60, 300);
+		assertEquals("user1", authHandler.user(token).getUserId());
+		verifyRemoteValidations(times(1));
+	}
+
+	private static String token(String keyId, KeyPair signingKeyPair, int issuedInSeconds, int expiresInSeconds) {
+		long now = System.currentTimeMillis();
+		Date issuedAt = new Date(now + issuedInSeconds * 1000L);
+		return JWT.create().withKeyId(keyId).withIssuedAt(issuedAt).withNotBefore(issuedAt)
+				.withExpiresAt(new Date(now + expiresInSeconds * 1000L)).withClaim("preferred_username", "user1")
+				.sign(Algorithm.RSA256((RSAPublicKey) signingKeyPair.getPublic(),
+						(RSAPrivateKey) signingKeyPair.getPrivate()));
+	}
+
+	private void remoteUser(String userId) throws Exception {
+		ObjectNode body = objectMapper.createObjectNode();
+		ObjectNode user = body.putObject("response");
+		user.put("userId", userId);
+		user.put("role", "REGISTRATION_OFFICER");
+		body.putArray("errors");
+		remoteResponse(body);
+	}
+
+	private void remoteError() throws Exception {
+		ObjectNode body = objectMapper.createObjectNode();
+		body.putNull("response");
+		ObjectNode error = body.putArray("errors").addObject();
+		error.put("errorCode", "KER-ATH-401");
+		error.put("message", "Token expired");
+		remoteResponse(body);
+	}
+
+	private void remoteResponse(ObjectNode body) throws Exception {
+		when(restTemplate.exchange(eq(ADMIN_VALIDATE_URL), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(String.class))).thenReturn(new ResponseEntity<>(objectMapper.writeValueAsString(body), HttpStatus.OK));
+	}
+
+	private void verifyRemoteValidations(VerificationMode mode) {
+		verify(restTemplate, mode).exchange(eq(ADMIN_VALIDATE_URL), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(String.class));
+	}
+
+	private static class TestAuthHandler extends AuthHandler {
+
+		private final RestTemplate mockRestTemplate;
+
+		private TestAuthHandler(RestTemplate mockRestTemplate) {
+			this.mockRestTemplate = mockRestTemplate;
+		}
+
+		@Override
+		protected RestTemplate createRestTemplate() {
+			return mockRestTemplate;
+		}
+
+		private AuthUserDetails user(String token) {
+			return (AuthUserDetails) retrieveUser(null, new AuthToken(token));
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package io.mosip.kernel.auth.adapter.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.mosip.kernel.auth.adapter.model.MosipUserDto;
+import io.mosip.kernel.auth.adapter.util.AuthTokenCache;
+
+public class AuthTokenCacheTest {
+
+	private static final long EXPIRES_IN_MILLIS = 60000;
+
+	private final MosipUserDto user = new MosipUserDto();
+
+	@Test
+	public void getTest() {
+		AuthTokenCache cache = new AuthTokenCache(10, 30);
+		cache.put("token", user, 0, EXPIRES_IN_MILLIS);
+		assertSame(user, cache.get("token"));
+		assertNull(cache.get("other"));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		cache.invalidate("token");
+		assertNull(cache.get("token"));
+	}
+
+	@Test
+	public void staleTokenRemovedTest() throws Exception {
+		AuthTokenCache cache = new AuthTokenCache(10, 1);
+		cache.put("token", user, 900, EXPIRES_IN_MILLIS);
+		assertSame(user, cache.get("token"));
+		Thread.sleep(150);
+		assertNull(cache.get("token"));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void staleTokenNotCachedTest() {
+		AuthTokenCache cache = new AuthTokenCache(10, 1);
+		assertTrue(cache.isFresh(999));
+		assertFalse(cache.isFresh(1000));
+		cache.put("token", user, 1000, EXPIRES_IN_MILLIS);
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void expiredTokenRemovedTest() throws Exception {
+		AuthTokenCache cache = new AuthTokenCache(10, 30);
+		cache.put("token", user, 0, 50);
+		Thread.sleep(100);
+		assertNull(cache.get("token"));
+		cache.put("expired", user, 0, -1);
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void fullCacheEvictsUnusableTokensTest() throws Exception {
+		AuthTokenCache cache = new AuthTokenCache(2, 1);
+		cache.put("stale", user, 950, EXPIRES_IN_MILLIS);
+		cache.put("fresh", user, 0, EXPIRES_IN_MILLIS);
+		Thread.sleep(100);
+		cache.put("token", user, 0, EXPIRES_IN_MILLIS);
+		assertEquals(2, cache.getSize());
+		assertSame(user, cache.get("token"));
+		assertSame(user, cache.get("fresh"));
+		assertNull(cache.get("stale"));
+	}
+
+	@Test
+	public void fullCacheSkipsTokenTest() {
+		AuthTokenCache cache = new AuthTokenCache(2, 30);
+		cache.put("token1", user, 0, EXPIRES_IN_MILLIS);
+		cache.put("token2", user, 0, EXPIRES_IN_MILLIS);
+		cache.put("token3", user, 0, EXPIRES_IN_MILLIS);
+		assertEquals(2, cache.getSize());
+		assertNull(cache.get("token3"));
+		assertSame(user, cache.get("token1"));
+	}
+
+	@Test
+	public void disabledTest() {
+		AuthTokenCache cache = new AuthTokenCache(0, 30);
+		cache.put("token", user, 0, EXPIRES_IN_MILLIS);
+		assertNull(cache.get("token"));
+		assertFalse(cache.isFresh(0));
+		cache = new AuthTokenCache(10, 0);
+		cache.put("token", user, 0, EXPIRES_IN_MILLIS);
+		assertNull(cache.get("token"));
+		assertFalse(cache.isEnabled());
+	}
+}
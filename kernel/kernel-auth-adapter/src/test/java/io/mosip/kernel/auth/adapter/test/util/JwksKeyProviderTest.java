@@ -0,0 +1,133 @@
+package io.mosip.kernel.auth.adapter.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.kernel.auth.adapter.util.JwksKeyProvider;
+
+public class JwksKeyProviderTest {
+
+	private static final String JWKS_URL = "http://localhost/auth/realms/mosip/protocol/openid-connect/certs";
+
+	private static RSAPublicKey publicKey;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+	private JwksKeyProvider keyProvider;
+
+	@BeforeClass
+	public static void generateKey() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+	}
+
+	@After
+	public void destroy() {
+		if (keyProvider != null) {
+			keyProvider.stop();
+		}
+	}
+
+	@Test
+	public void startLoadsSigningKeysTest() throws Exception {
+		ObjectNode jwks = jwks("key1");
+		ArrayNode keys = (ArrayNode) jwks.get("keys");
+		keys.add(key("key2").put("use", "enc"));
+		keys.add(key("key3").put("kty", "EC"));
+		when(restTemplate.getForObject(JWKS_URL, String.class)).thenReturn(objectMapper.writeValueAsString(jwks));
+		start(0);
+		assertEquals(1, keyProvider.getKeyCount());
+		assertEquals(publicKey.getModulus(), keyProvider.getPublicKeyById("key1").getModulus());
+		assertNull(keyProvider.getPublicKeyById("key2"));
+	}
+
+	@Test
+	public void unknownKeyIdRefreshedAtMostOncePerIntervalTest() throws Exception {
+		when(restTemplate.getForObject(JWKS_URL, String.class))
+				.thenReturn(objectMapper.writeValueAsString(jwks("key1")))
+				.thenReturn(objectMapper.writeValueAsString(jwks("key1", "key2")));
+		start(0);
+		// refreshed just now by the start
+		assertFalse(keyProvider.hasKey("key2"));
+		verify(restTemplate, times(1)).getForObject(JWKS_URL, String.class);
+		ReflectionTestUtils.setField(keyProvider, "refreshedAt", 0L);
+		assertTrue(keyProvider.hasKey("key2"));
+		assertTrue(keyProvider.hasKey("key1"));
+		verify(restTemplate, times(2)).getForObject(JWKS_URL, String.class);
+	}
+
+	@Test
+	public void failedRefreshKeepsKeysTest() throws Exception {
+		when(restTemplate.getForObject(JWKS_URL, String.class))
+				.thenReturn(objectMapper.writeValueAsString(jwks("key1")))
+				.thenThrow(new RestClientException("connection refused"));
+		start(0);
+		ReflectionTestUtils.setField(keyProvider, "refreshedAt", 0L);
+		assertFalse(keyProvider.hasKey("key2"));
+		assertTrue(keyProvider.hasKey("key1"));
+		verify(restTemplate, times(2)).getForObject(JWKS_URL, String.class);
+	}
+
+	@Test
+	public void backgroundRefreshTest() throws Exception {
+		when(restTemplate.getForObject(JWKS_URL, String.class))
+				.thenReturn(objectMapper.writeValueAsString(jwks("key1")))
+				.thenReturn(objectMapper.writeValueAsString(jwks("key2")));
+		start(1);
+		verify(restTemplate, timeout(5000).atLeast(3)).getForObject(JWKS_URL, String.class);
+		assertNotNull(keyProvider.getPublicKeyById("key2"));
+		assertEquals(1, keyProvider.getKeyCount());
+	}
+
+	private void start(long refreshIntervalSeconds) {
+		keyProvider = new JwksKeyProvider(JWKS_URL, restTemplate, objectMapper, refreshIntervalSeconds);
+		keyProvider.start();
+	}
+
+	private ObjectNode jwks(String... keyIds) {
+		ObjectNode jwks = objectMapper.createObjectNode();
+		ArrayNode keys = jwks.putArray("keys");
+		for (String keyId : keyIds) {
+			keys.add(key(keyId));
+		}
+		return jwks;
+	}
+
+	private ObjectNode key(String keyId) {
+		ObjectNode key = objectMapper.createObjectNode();
+		key.put("kid", keyId);
+		key.put("kty", "RSA");
+		key.put("use", "sig");
+		key.put("n", Base64.getUrlEncoder().withoutPadding().encodeToString(publicKey.getModulus().toByteArray()));
+		key.put("e", Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(publicKey.getPublicExponent().toByteArray()));
+		return key;
+	}
+}
@@ -20,7 +20,11 @@ public enum LDAPErrorCode {
 	/**
 	 * Email not registered
 	 */
-	LDAP_ROLES_REQUEST_ERROR("KER-ATH-103", "Unable to fetch details from LDAP");
+	LDAP_ROLES_REQUEST_ERROR("KER-ATH-103", "Unable to fetch details from LDAP"),
+	/**
+	 * No pooled connection available in time
+	 */
+	LDAP_POOL_EXHAUSTED("KER-ATH-104", "No LDAP connection available, please retry");
 
 	/**
 	 * The error code
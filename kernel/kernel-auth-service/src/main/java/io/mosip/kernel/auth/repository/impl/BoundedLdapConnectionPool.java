@@ -0,0 +1,179 @@
+package io.mosip.kernel.auth.repository.impl;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.directory.ldap.client.api.LdapConnection;
+
+import io.mosip.kernel.auth.constant.LDAPErrorCode;
+import io.mosip.kernel.auth.exception.AuthManagerException;
+
+/**
+ * Bounded pool of anonymous LDAP connections.
+ *
+ * <p>
+ * At most the maximum size of connections are borrowed at a time, a borrower
+ * waits up to the borrow timeout for one to be released. Idle connections are
+ * reused most recently released first, and are closed instead of reused once
+ * disconnected or idle for longer than the idle timeout. Connections bound to a
+ * user must not be released to the pool.
+ * </p>
+ *
+ * @author Ramadurai Pandian
+ * @since 1.0.8
+ *
+ */
+public class BoundedLdapConnectionPool {
+
+	private final Callable<LdapConnection> factory;
+
+	private final long idleTimeoutNanos;
+
+	private final long borrowTimeoutMillis;
+
+	private final Semaphore permits;
+
+	private final Deque<Idle> idle = new ConcurrentLinkedDeque<>();
+
+	private final LongAdder created = new LongAdder();
+
+	private final LongAdder evicted = new LongAdder();
+
+	/**
+	 * @param factory             creates a connection
+	 * @param maxSize             maximum connections borrowed at a time
+	 * @param idleTimeoutMillis   maximum time a connection stays idle
+	 * @param borrowTimeoutMillis maximum time to wait for a connection
+	 */
+	public BoundedLdapConnectionPool(Callable<LdapConnection> factory, int maxSize, long idleTimeoutMillis,
+			long borrowTimeoutMillis) {
+		this.factory = factory;
+		this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+		this.borrowTimeoutMillis = borrowTimeoutMillis;
+		this.permits = new Semaphore(maxSize, true);
+	}
+
+	/**
+	 * Function to borrow a connection, to be released with
+	 * {@link #release(LdapConnection)}
+	 *
+	 * @return a connected connection
+	 * @throws AuthManagerException if none is available within the borrow
+	 *                              timeout
+	 */
+	public LdapConnection borrow() throws Exception {
+		if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+			throw new AuthManagerException(LDAPErrorCode.LDAP_POOL_EXHAUSTED.getErrorCode(),
+					LDAPErrorCode.LDAP_POOL_EXHAUSTED.getErrorMessage());
+		}
+		try {
+			long now = System.nanoTime();
+			Idle candidate;
+			while ((candidate = idle.pollFirst()) != null) {
+				if (now - candidate.releasedAt < idleTimeoutNanos && candidate.connection.isConnected()) {
+					return candidate.connection;
+				}
+				close(candidate.connection);
+			}
+			LdapConnection connection = factory.call();
+			created.increment();
+			return connection;
+		} catch (Exception | Error e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Function to return a borrowed connection, closed if no longer connected
+	 *
+	 * @param connection the connection, ignored if null
+	 */
+	public void release(LdapConnection connection) {
+		if (connection == null) {
+			return;
+		}
+		try {
+			if (connection.isConnected()) {
+				idle.offerFirst(new Idle(connection, System.nanoTime()));
+			} else {
+				close(connection);
+			}
+		} finally {
+			permits.release();
+		}
+		evictIdle();
+	}
+
+	/**
+	 * Function to close the connections idle for longer than the idle timeout,
+	 * which are the last ones in the idle queue
+	 */
+	public void evictIdle() {
+		long now = System.nanoTime();
+		Idle oldest;
+		while ((oldest = idle.peekLast()) != null && now - oldest.releasedAt >= idleTimeoutNanos) {
+			if (idle.removeLastOccurrence(oldest)) {
+				close(oldest.connection);
+			}
+		}
+	}
+
+	/**
+	 * Function to close the idle connections
+	 */
+	public void close() {
+		Idle candidate;
+		while ((candidate = idle.pollFirst()) != null) {
+			close(candidate.connection);
+		}
+	}
+
+	public int getIdle() {
+		return idle.size();
+	}
+
+	public int getAvailable() {
+		return permits.availablePermits();
+	}
+
+	public long getCreated() {
+		return created.sum();
+	}
+
+	public long getEvicted() {
+		return evicted.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedLdapConnectionPool [available=" + getAvailable() + ", idle=" + getIdle() + ", created="
+				+ getCreated() + ", evicted=" + getEvicted() + "]";
+	}
+
+	private void close(LdapConnection connection) {
+		evicted.increment();
+		try {
+			connection.close();
+		} catch (IOException e) {
+			// already unusable
+		}
+	}
+
+	private static final class Idle {
+
+		private final LdapConnection connection;
+
+		private final long releasedAt;
+
+		private Idle(LdapConnection connection, long releasedAt) {
+			this.connection = connection;
+			this.releasedAt = releasedAt;
+		}
+	}
+}
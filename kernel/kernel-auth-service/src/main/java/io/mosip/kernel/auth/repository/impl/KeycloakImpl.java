@@ -5,11 +5,19 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.xml.bind.DatatypeConverter;
 
 import org.apache.directory.api.ldap.model.password.PasswordDetails;
@@ -67,6 +75,7 @@ import io.mosip.kernel.auth.dto.UserRegistrationRequestDto;
 import io.mosip.kernel.auth.dto.ValidationResponseDto;
 import io.mosip.kernel.auth.dto.otp.OtpUser;
 import io.mosip.kernel.auth.repository.DataStore;
+import io.mosip.kernel.auth.util.MemoryCache;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.util.CryptoUtil;
@@ -133,8 +142,18 @@ public class KeycloakImpl implements DataStore {
 	@Value("${hikari.minimumIdle:0}")
 	private int minimumIdle;
 
-	@Value("${mosip.keycloak.max-no-of-users:100}")
-	private String maxUsers;
+	@Value("${mosip.keycloak.user-lookup.parallelism:8}")
+	private int userLookupParallelism;
+
+	@Value("${mosip.keycloak.user-cache.ttl-seconds:30}")
+	private long userCacheTtlSeconds;
+
+	@Value("${mosip.keycloak.user-cache.max-size:10000}")
+	private int userCacheMaxSize;
+
+	private ExecutorService userLookupExecutor;
+
+	private MemoryCache<String, MosipUserDto> userCache;
 
 	private NamedParameterJdbcTemplate jdbcTemplate;
 
@@ -147,6 +166,17 @@ public class KeycloakImpl implements DataStore {
 	@PostConstruct
 	private void setup() {
 		setUpConnection();
+		userLookupExecutor = Executors.newFixedThreadPool(userLookupParallelism, runnable -> {
+			Thread thread = new Thread(runnable, "keycloak-user-lookup");
+			thread.setDaemon(true);
+			return thread;
+		});
+		userCache = new MemoryCache<>(Math.max(userCacheMaxSize, 1));
+	}
+
+	@PreDestroy
+	private void destroy() {
+		userLookupExecutor.shutdownNow();
 	}
 
 	private void setUpConnection() {
@@ -193,26 +223,84 @@ public class KeycloakImpl implements DataStore {
 		return rolesListDto;
 	}
 
+	/*
+	 * Only the requested users are fetched, by a search per user run concurrently
+	 * on the user lookup executor, instead of fetching the users of the realm and
+	 * filtering them. A user found is cached for the user cache ttl.
+	 */
 	@Override
 	public MosipUserListDto getListOfUsersDetails(List<String> userDetails) throws Exception {
-		List<MosipUserDto> mosipUserDtos = null;
+		Map<String, MosipUserDto> mosipUsers = new LinkedHashMap<>();
+		Map<String, Future<MosipUserDto>> lookups = new LinkedHashMap<>();
+		for (String userName : new LinkedHashSet<>(userDetails)) {
+			MosipUserDto mosipUserDto = getCachedUser(userName);
+			if (mosipUserDto != null) {
+				mosipUsers.put(userName, mosipUserDto);
+			} else {
+				mosipUsers.put(userName, null);
+				lookups.put(userName, userLookupExecutor.submit(() -> lookupUserDetails(userName)));
+			}
+		}
+		try {
+			for (Map.Entry<String, Future<MosipUserDto>> lookup : lookups.entrySet()) {
+				mosipUsers.put(lookup.getKey(), lookup.getValue().get());
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new AuthManagerException(AuthErrorCode.SERVER_ERROR.getErrorCode(),
+					AuthErrorCode.SERVER_ERROR.getErrorMessage(), e.getCause());
+		} finally {
+			lookups.values().forEach(lookup -> lookup.cancel(true));
+		}
+		List<MosipUserDto> mosipUserDtos = new ArrayList<>();
+		mosipUsers.values().stream().filter(Objects::nonNull).forEach(mosipUserDtos::add);
+		MosipUserListDto mosipUserListDto = new MosipUserListDto();
+		mosipUserListDto.setMosipUserDtoList(mosipUserDtos);
+		return mosipUserListDto;
+	}
+
+	private MosipUserDto getCachedUser(String userName) {
+		return userCacheTtlSeconds > 0 ? userCache.get(userName, TimeUnit.SECONDS.toMillis(userCacheTtlSeconds))
+				: null;
+	}
+
+	/**
+	 * Function to fetch a user by user name
+	 * 
+	 * @param userName the user name
+	 * @return the user, null if not found
+	 */
+	private MosipUserDto lookupUserDetails(String userName) {
 		Map<String, String> pathParams = new HashMap<>();
 		pathParams.put(AuthConstant.REALM_ID, realmId);
 		HttpEntity<String> httpEntity = new HttpEntity<>(null, new HttpHeaders());
 		UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(keycloakAdminUrl + users);
-		uriComponentsBuilder.queryParam("max", maxUsers);
+		// the search matches user names containing the user name, exact is ignored by
+		// older servers
+		uriComponentsBuilder.queryParam("username", userName);
+		uriComponentsBuilder.queryParam("exact", true);
 		String response = callKeycloakService(uriComponentsBuilder.buildAndExpand(pathParams).toString(),
 				HttpMethod.GET, httpEntity);
+		if (response == null) {
+			return null;
+		}
 		try {
-			JsonNode node = objectMapper.readTree(response);
-			mosipUserDtos = mapUsersToUserDetailDto(node, userDetails);
+			for (JsonNode jsonNode : objectMapper.readTree(response)) {
+				if (userName.equals(jsonNode.get("username").textValue())) {
+					MosipUserDto mosipUserDto = mapUserToUserDetailDto(jsonNode);
+					if (userCacheTtlSeconds > 0) {
+						userCache.put(userName, mosipUserDto);
+					}
+					return mosipUserDto;
+				}
+			}
 		} catch (IOException e) {
 			throw new AuthManagerException(AuthErrorCode.IO_EXCEPTION.getErrorCode(),
 					AuthErrorCode.IO_EXCEPTION.getErrorMessage());
 		}
-		MosipUserListDto mosipUserListDto = new MosipUserListDto();
-		mosipUserListDto.setMosipUserDtoList(mosipUserDtos);
-		return mosipUserListDto;
+		return null;
 	}
 
 	@Override
@@ -306,6 +394,7 @@ public class KeycloakImpl implements DataStore {
 			}
 		}
 
+		userCache.remove(userId.getUserName());
 		MosipUserDto mosipUserDTO = new MosipUserDto();
 		mosipUserDTO.setUserId(userId.getUserName());
 		return mosipUserDTO;
@@ -549,72 +638,49 @@ public class KeycloakImpl implements DataStore {
 	}
 
 	/**
-	 * Map users to user detail dto.
+	 * Map user to user detail dto.
 	 *
-	 * @param node        the node
-	 * @param userDetails
-	 * @return the list
+	 * @param jsonNode the user
+	 * @return the user detail dto
 	 */
-	private List<MosipUserDto> mapUsersToUserDetailDto(JsonNode node, List<String> userDetails) {
-		MosipUserDto mosipUserDto = null;
-		List<MosipUserDto> mosipUserDtos = new ArrayList<>();
+	private MosipUserDto mapUserToUserDetailDto(JsonNode jsonNode) {
+		MosipUserDto mosipUserDto = new MosipUserDto();
 		String roles = null;
-		for (JsonNode jsonNode : node) {
-			mosipUserDto = new MosipUserDto();
-			String userName = jsonNode.get("username").textValue();
-			System.out.println(userName);
-			if (userDetails.stream().anyMatch(user -> user.equals(userName))) {
-				String email = jsonNode.get("email").textValue();
-				JsonNode attributeNodes = jsonNode.get("attributes");
-				String userPassword = attributeNodes.get("userPassword").get(0).asText();
-				// System.out.println("Password : "+userPassword);
-				PasswordDetails password = PasswordUtil.splitCredentials(CryptoUtil.decodeBase64(userPassword));
-				// System.out.println("userPasword userdetails= "+userPassword);
-				// System.out.println("password userdetails=
-				// "+DatatypeConverter.printHexBinary(password.getPassword()));
-				// System.out.println("salt userdetails=
-				// "+CryptoUtil.encodeBase64(password.getSalt()));
-				// userPassword = CryptoUtil.encodeBase64(password.getPassword());
-				// System.out.println("a =
-				// "+HMACUtils.digestAsPlainTextWithSalt(password.getPassword(),
-				// password.getSalt()));
-				// System.out.println("b =
-				// "+HMACUtils.digestAsPlainTextWithSalt("mosip".getBytes(),
-				// password.getSalt()));
-				// System.out.println(Strings.utf8ToString(password.getPassword()));
-				userPassword = DatatypeConverter.printHexBinary(password.getPassword());
-				String mobile = null;
-				String rid = null;
-				String name = jsonNode.get("firstName").asText() + " " + jsonNode.get("lastName").asText();
-				try {
-					roles = getRolesAsString(jsonNode.get("id").textValue());
-				} catch (IOException e) {
-					throw new AuthManagerException(AuthErrorCode.IO_EXCEPTION.getErrorCode(),
-							AuthErrorCode.IO_EXCEPTION.getErrorMessage());
-				}
-				// userPassword = getPasswordFromDatabase(userName);
-				if (attributeNodes.get("mobile") != null) {
-					mobile = attributeNodes.get("mobile").get(0).textValue();
-				}
-				if (attributeNodes.get("name") != null) {
-					name = jsonNode.get("firstName").asText() + " " + jsonNode.get("lastName").asText();
-				}
-				if (attributeNodes.get("rid") != null) {
-					rid = attributeNodes.get("rid").get(0).textValue();
-				}
-
-				mosipUserDto.setMail(email);
-				mosipUserDto.setMobile(mobile);
-				mosipUserDto.setRId(rid);
-				mosipUserDto.setUserId(userName);
-				mosipUserDto.setName(name);
-				mosipUserDto.setUserPassword(userPassword);
-				mosipUserDto.setRole(roles);
-				mosipUserDtos.add(mosipUserDto);
-			}
+		String userName = jsonNode.get("username").textValue();
+		String email = jsonNode.get("email").textValue();
+		JsonNode attributeNodes = jsonNode.get("attributes");
+		String userPassword = attributeNodes.get("userPassword").get(0).asText();
+		PasswordDetails password = PasswordUtil.splitCredentials(CryptoUtil.decodeBase64(userPassword));
+		userPassword = DatatypeConverter.printHexBinary(password.getPassword());
+		String mobile = null;
+		String rid = null;
+		String name = jsonNode.get("firstName").asText() + " " + jsonNode.get("lastName").asText();
+		try {
+			roles = getRolesAsString(jsonNode.get("id").textValue());
+		} catch (IOException e) {
+			throw new AuthManagerException(AuthErrorCode.IO_EXCEPTION.getErrorCode(),
+					AuthErrorCode.IO_EXCEPTION.getErrorMessage());
+		}
+		// userPassword = getPasswordFromDatabase(userName);
+		if (attributeNodes.get("mobile") != null) {
+			mobile = attributeNodes.get("mobile").get(0).textValue();
 		}
+		if (attributeNodes.get("name") != null) {
+			name = jsonNode.get("firstName").asText() + " " + jsonNode.get("lastName").asText();
+		}
+		if (attributeNodes.get("rid") != null) {
+			rid = attributeNodes.get("rid").get(0).textValue();
+		}
+
+		mosipUserDto.setMail(email);
+		mosipUserDto.setMobile(mobile);
+		mosipUserDto.setRId(rid);
+		mosipUserDto.setUserId(userName);
+		mosipUserDto.setName(name);
+		mosipUserDto.setUserPassword(userPassword);
+		mosipUserDto.setRole(roles);
 
-		return mosipUserDtos;
+		return mosipUserDto;
 
 	}
 
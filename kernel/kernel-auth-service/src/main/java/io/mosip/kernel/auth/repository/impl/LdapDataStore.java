@@ -7,8 +7,10 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,7 +38,9 @@ import javax.naming.ldap.LdapContext;
 import org.apache.directory.api.ldap.model.constants.LdapSecurityConstants;
 import org.apache.directory.api.ldap.model.cursor.EntryCursor;
 import org.apache.directory.api.ldap.model.entry.Entry;
+import org.apache.directory.api.ldap.model.entry.Value;
 import org.apache.directory.api.ldap.model.exception.LdapInvalidDnException;
+import org.apache.directory.api.ldap.model.filter.FilterEncoder;
 import org.apache.directory.api.ldap.model.message.SearchScope;
 import org.apache.directory.api.ldap.model.name.Dn;
 import org.apache.directory.api.ldap.model.password.PasswordDetails;
@@ -87,14 +91,40 @@ import io.mosip.kernel.core.util.HMACUtils;
 @Component
 public class LdapDataStore implements DataStore {
 
+	/**
+	 * Users looked up by one search
+	 */
+	private static final int USER_SEARCH_BATCH_SIZE = 100;
+
 	private DataBaseProps dataBaseConfig;
 
+	private BoundedLdapConnectionPool connectionPool;
+
+	private LdapRoleDirectory roleDirectory;
+
 	public LdapDataStore() {
 	}
 
 	public LdapDataStore(DataBaseProps dataBaseConfig) {
+		this(dataBaseConfig, 20, 300000, 5000, 300);
+	}
+
+	/**
+	 * @param dataBaseConfig         the LDAP store
+	 * @param maximumPoolSize        maximum anonymous connections open at a time
+	 * @param idleTimeout            time in milliseconds after which an idle
+	 *                               connection is closed
+	 * @param connectionTimeout      time in milliseconds to wait for a connection
+	 * @param rolesRefreshInterval   time in seconds after which the roles are
+	 *                               reloaded
+	 */
+	public LdapDataStore(DataBaseProps dataBaseConfig, int maximumPoolSize, long idleTimeout,
+			long connectionTimeout, long rolesRefreshInterval) {
 		super();
 		this.dataBaseConfig = dataBaseConfig;
+		this.connectionPool = new BoundedLdapConnectionPool(this::createAnonymousConnection, maximumPoolSize,
+				idleTimeout, connectionTimeout);
+		this.roleDirectory = new LdapRoleDirectory(this::loadRoles, rolesRefreshInterval);
 	}
 
 	@Autowired
@@ -146,7 +176,7 @@ public class LdapDataStore implements DataStore {
 	}
 
 	private MosipUserDto getOtpDetails(OtpUser otpUser) throws Exception {
-		LdapConnection connection = createAnonymousConnection();
+		LdapConnection connection = connectionPool.borrow();
 		MosipUserDto mosipUserDto = null;
 		Dn userdn = null;
 		try {
@@ -161,7 +191,7 @@ public class LdapDataStore implements DataStore {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorMessage(), e);
 		} finally {
-			connection.close();
+			connectionPool.release(connection);
 		}
 		return mosipUserDto;
 	}
@@ -183,14 +213,14 @@ public class LdapDataStore implements DataStore {
 		LdapConnection connection = null;
 		MosipUserDto mosipUserDto = null;
 		try {
-			connection = createAnonymousConnection();
+			connection = connectionPool.borrow();
 			Dn userdn = createUserDn(userId);
 			mosipUserDto = lookupUserDetails(userdn, connection);
 		} catch (Exception e) {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorMessage(), e);
 		} finally {
-			connection.close();
+			connectionPool.release(connection);
 		}
 		return mosipUserDto;
 	}
@@ -261,55 +291,81 @@ public class LdapDataStore implements DataStore {
 			// connection.bind(createAdminDn(),
 			// mosipEnvironment.getLdapAdminPassword());
 
-			Collection<String> roles = getUserRoles(userdn, connection);
-			String rolesString = convertRolesToString(roles);
-			MosipUserDto mosipUserDto = null;
-
 			Entry userLookup = connection.lookup(userdn);
-			if (userLookup != null) {
-				mosipUserDto = new MosipUserDto();
-				mosipUserDto.setUserId(userLookup.get("uid").get().toString());
-				mosipUserDto
-						.setMobile(userLookup.get("mobile") != null ? userLookup.get("mobile").get().toString() : null);
-				mosipUserDto.setMail(userLookup.get("mail") != null ? userLookup.get("mail").get().toString() : null);
-				if (userLookup.get("userPassword") != null) {
-					PasswordDetails password = PasswordUtil
-							.splitCredentials(userLookup.get("userPassword").get().getBytes());
-					mosipUserDto.setUserPassword(
-							userLookup.get("userPassword") != null ? HMACUtils.digestAsPlainText(password.getPassword())
-									: null);
-				}
-				// mosipUserDto.setLangCode(userLookup.get("preferredLanguage").get().toString());
-				mosipUserDto.setName(userLookup.get("cn").get().toString());
-				if (userLookup.get("rid") != null) {
-					mosipUserDto.setRId(userLookup.get("rid").get().toString());
-				}
-				mosipUserDto.setRole(rolesString);
-			}
-			return mosipUserDto;
+			return userLookup != null
+					? toMosipUserDto(userLookup, convertRolesToString(getUserRoles(userdn, connection)))
+					: null;
 		} catch (Exception ex) {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_PARSE_REQUEST_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_PARSE_REQUEST_ERROR.getErrorMessage(), ex);
 		}
 	}
 
+	private MosipUserDto toMosipUserDto(Entry userLookup, String rolesString) throws Exception {
+		MosipUserDto mosipUserDto = new MosipUserDto();
+		mosipUserDto.setUserId(userLookup.get("uid").get().toString());
+		mosipUserDto.setMobile(userLookup.get("mobile") != null ? userLookup.get("mobile").get().toString() : null);
+		mosipUserDto.setMail(userLookup.get("mail") != null ? userLookup.get("mail").get().toString() : null);
+		if (userLookup.get("userPassword") != null) {
+			PasswordDetails password = PasswordUtil.splitCredentials(userLookup.get("userPassword").get().getBytes());
+			mosipUserDto.setUserPassword(
+					userLookup.get("userPassword") != null ? HMACUtils.digestAsPlainText(password.getPassword())
+							: null);
+		}
+		// mosipUserDto.setLangCode(userLookup.get("preferredLanguage").get().toString());
+		mosipUserDto.setName(userLookup.get("cn").get().toString());
+		if (userLookup.get("rid") != null) {
+			mosipUserDto.setRId(userLookup.get("rid").get().toString());
+		}
+		mosipUserDto.setRole(rolesString);
+		return mosipUserDto;
+	}
+
 	private Collection<String> getUserRoles(Dn userdn, LdapConnection connection) {
+		try {
+			return roleDirectory.getRoles(userdn.getName(), connection);
+		} catch (Exception ex) {
+			throw new AuthManagerException(LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorCode(),
+					LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorMessage(), ex);
+		}
+	}
+
+	/**
+	 * Function to load the roles with their occupants, by one search with the
+	 * connection the caller holds
+	 * 
+	 * @param connection the connection to search with
+	 * @return the roles with the distinguished names of their occupants
+	 */
+	private Map<Role, List<String>> loadRoles(LdapConnection connection) throws Exception {
+		Map<Role, List<String>> roles = new LinkedHashMap<>();
+		EntryCursor rolesData = null;
 		try {
 			Dn searchBase = new Dn("ou=roles,c=mycountry");
-			String searchFilter = "(&(objectClass=organizationalRole)(roleOccupant=" + userdn + "))";
+			String searchFilter = "(objectClass=organizationalRole)";
 
-			EntryCursor rolesData = connection.search(searchBase, searchFilter, SearchScope.ONELEVEL);
+			rolesData = connection.search(searchBase, searchFilter, SearchScope.ONELEVEL, "cn", "description",
+					LdapConstants.ROLE_OCCUPANT);
 
-			Set<String> roles = new HashSet<String>();
 			for (Entry entry : rolesData) {
-				roles.add(entry.get("cn").getString());
+				Role roleDto = new Role();
+				roleDto.setRoleId(entry.get("cn").get().toString());
+				roleDto.setRoleName(entry.get("cn").get().toString());
+				roleDto.setRoleDescription(
+						entry.get("description") != null ? entry.get("description").get().toString() : null);
+				List<String> occupants = new ArrayList<>();
+				if (entry.get(LdapConstants.ROLE_OCCUPANT) != null) {
+					for (Value occupant : entry.get(LdapConstants.ROLE_OCCUPANT)) {
+						occupants.add(occupant.getString());
+					}
+				}
+				roles.put(roleDto, occupants);
 			}
-
-			rolesData.close();
 			return roles;
-		} catch (Exception ex) {
-			throw new AuthManagerException(LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorCode(),
-					LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorMessage(), ex);
+		} finally {
+			if (rolesData != null) {
+				rolesData.close();
+			}
 		}
 	}
 
@@ -334,63 +390,64 @@ public class LdapDataStore implements DataStore {
 	@Override
 	public RolesListDto getAllRoles() {
 		RolesListDto rolesListDto = new RolesListDto();
-		EntryCursor rolesData = null;
 		LdapConnection connection = null;
 		try {
-			connection = createAnonymousConnection();
-			List<Role> roleDtos = new ArrayList<>();
-			Dn searchBase = new Dn("ou=roles,c=mycountry");
-			String searchFilter = "(objectClass=organizationalRole)";
-
-			rolesData = connection.search(searchBase, searchFilter, SearchScope.ONELEVEL);
-
-			for (Entry entry : rolesData) {
-				Role roleDto = new Role();
-				roleDto.setRoleId(entry.get("cn").get().toString());
-				roleDto.setRoleName(entry.get("cn").get().toString());
-				roleDto.setRoleDescription(entry.get("description").get().toString());
-				roleDtos.add(roleDto);
-			}
-			rolesListDto.setRoles(roleDtos);
-
+			connection = connectionPool.borrow();
+			rolesListDto.setRoles(new ArrayList<>(roleDirectory.getRoles(connection)));
 			return rolesListDto;
 		} catch (Exception e) {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorMessage(), e);
 		} finally {
-			try {
-				rolesData.close();
-				connection.close();
-			} catch (IOException e) {
-				throw new AuthManagerException(LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorCode(),
-						LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorMessage(), e);
-			}
+			connectionPool.release(connection);
 		}
 	}
 
+	/*
+	 * The users are looked up by a search for a batch of uids at a time, instead of
+	 * a lookup and a roles search per user
+	 */
 	@Override
 	public MosipUserListDto getListOfUsersDetails(List<String> users) throws Exception {
 		LdapConnection connection = null;
 		try {
 			MosipUserListDto userResponseDto = new MosipUserListDto();
-			List<MosipUserDto> mosipUserDtos = new ArrayList<>();
+			Map<String, MosipUserDto> usersById = new HashMap<>();
 
-			connection = createAnonymousConnection();
+			connection = connectionPool.borrow();
+			Dn searchBase = new Dn("ou=people,c=mycountry");
+			for (int from = 0; from < users.size(); from += USER_SEARCH_BATCH_SIZE) {
+				StringBuilder searchFilter = new StringBuilder("(|");
+				for (String user : users.subList(from, Math.min(from + USER_SEARCH_BATCH_SIZE, users.size()))) {
+					searchFilter.append("(uid=").append(FilterEncoder.encodeFilterValue(user)).append(')');
+				}
+				searchFilter.append(')');
+				EntryCursor peoplesData = connection.search(searchBase, searchFilter.toString(),
+						SearchScope.ONELEVEL);
+				try {
+					for (Entry entry : peoplesData) {
+						MosipUserDto data = toMosipUserDto(entry,
+								convertRolesToString(getUserRoles(entry.getDn(), connection)));
+						usersById.put(data.getUserId().toLowerCase(), data);
+					}
+				} finally {
+					peoplesData.close();
+				}
+			}
 
+			List<MosipUserDto> mosipUserDtos = new ArrayList<>();
 			for (String user : users) {
-				Dn userdn = createUserDn(user);
-				MosipUserDto data = lookupUserDetails(userdn, connection);
+				MosipUserDto data = usersById.get(user.toLowerCase());
 				if (data != null)
 					mosipUserDtos.add(data);
 			}
-
 			userResponseDto.setMosipUserDtoList(mosipUserDtos);
 			return userResponseDto;
 		} catch (Exception ex) {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_ROLES_REQUEST_ERROR.getErrorMessage(), ex);
 		} finally {
-			connection.close();
+			connectionPool.release(connection);
 		}
 	}
 
@@ -400,7 +457,7 @@ public class LdapDataStore implements DataStore {
 		List<MosipUserSalt> mosipUserDtos = new ArrayList<>();
 		LdapConnection connection = null;
 		try {
-			connection = createAnonymousConnection();
+			connection = connectionPool.borrow();
 			Dn searchBase = new Dn("ou=people,c=mycountry");
 			String searchFilter = "(&(objectClass=organizationalPerson)(objectClass=inetOrgPerson))";
 			EntryCursor peoplesData = connection.search(searchBase, searchFilter, SearchScope.ONELEVEL);
@@ -420,7 +477,7 @@ public class LdapDataStore implements DataStore {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorMessage(), e);
 		} finally {
-			connection.close();
+			connectionPool.release(connection);
 		}
 		mosipUserSaltList.setMosipUserSaltList(mosipUserDtos);
 		return mosipUserSaltList;
@@ -431,7 +488,7 @@ public class LdapDataStore implements DataStore {
 		RIdDto ridDto = null;
 		LdapConnection ldapConnection = null;
 		try {
-			ldapConnection = createAnonymousConnection();
+			ldapConnection = connectionPool.borrow();
 			Dn userdn = createUserDn(userId);
 			MosipUserDto data = lookupUserDetails(userdn, ldapConnection);
 			if (data == null) {
@@ -443,7 +500,7 @@ public class LdapDataStore implements DataStore {
 				ridDto.setRId(data.getRId());
 			}
 		} finally {
-			ldapConnection.close();
+			connectionPool.release(ldapConnection);
 		}
 		return ridDto;
 	}
@@ -719,6 +776,9 @@ public class LdapDataStore implements DataStore {
 			throw new AuthManagerException(AuthErrorCode.INVALID_DN.getErrorCode(),
 					AuthErrorCode.INVALID_DN.getErrorMessage() + exception.getMessage());
 		}
+		if (roleDirectory != null) {
+			roleDirectory.invalidate();
+		}
 		MosipUserDto dto = new MosipUserDto();
 		dto.setUserId(userCreationRequestDto.getUserName());
 		return dto;
@@ -779,7 +839,7 @@ public class LdapDataStore implements DataStore {
 		LdapConnection ldapConnection = null;
 		MosipUserDto data = null;
 		try {
-			ldapConnection = createAnonymousConnection();
+			ldapConnection = connectionPool.borrow();
 			Dn userdn = createUserDn(username);
 			data = lookupUserDetails(userdn, ldapConnection);
 			if (data == null) {
@@ -790,7 +850,7 @@ public class LdapDataStore implements DataStore {
 			throw new AuthManagerException(LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorCode(),
 					LDAPErrorCode.LDAP_CONNECTION_ERROR.getErrorMessage(), e);
 		} finally {
-			ldapConnection.close();
+			connectionPool.release(ldapConnection);
 		}
 		return data;
 	}
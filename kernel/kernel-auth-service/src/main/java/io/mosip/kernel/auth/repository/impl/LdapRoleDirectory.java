@@ -0,0 +1,135 @@
+package io.mosip.kernel.auth.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.directory.ldap.client.api.LdapConnection;
+
+import io.mosip.kernel.auth.dto.Role;
+
+/**
+ * Roles of a LDAP store with their occupants, loaded by one search and reloaded
+ * by the first lookup after the refresh interval or after it is invalidated,
+ * while concurrent lookups use the previous roles. A refresh interval of zero
+ * loads the roles on every lookup. The roles are loaded with the connection of
+ * the lookup, so that a lookup never needs a second connection.
+ *
+ * @author Ramadurai Pandian
+ * @since 1.0.8
+ *
+ */
+public class LdapRoleDirectory {
+
+	/**
+	 * Loads the roles of the store
+	 */
+	@FunctionalInterface
+	public interface Loader {
+		/**
+		 * @param connection the connection to search with
+		 * @return the roles with the distinguished names of their occupants
+		 */
+		Map<Role, List<String>> load(LdapConnection connection) throws Exception;
+	}
+
+	private final Loader loader;
+
+	private final long refreshIntervalNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private volatile Snapshot snapshot;
+
+	private volatile long expiresAt;
+
+	/**
+	 * @param loader                 loads the roles
+	 * @param refreshIntervalSeconds maximum age of the roles
+	 */
+	public LdapRoleDirectory(Loader loader, long refreshIntervalSeconds) {
+		this.loader = loader;
+		this.refreshIntervalNanos = TimeUnit.SECONDS.toNanos(refreshIntervalSeconds);
+	}
+
+	/**
+	 * @param connection the connection to load the roles with, if needed
+	 * @return all the roles
+	 */
+	public List<Role> getRoles(LdapConnection connection) throws Exception {
+		return get(connection).roles;
+	}
+
+	/**
+	 * @param userDn     distinguished name of a user
+	 * @param connection the connection to load the roles with, if needed
+	 * @return names of the roles occupied by the user
+	 */
+	public Set<String> getRoles(String userDn, LdapConnection connection) throws Exception {
+		return get(connection).rolesByOccupant.getOrDefault(normalize(userDn), Collections.emptySet());
+	}
+
+	/**
+	 * Function to reload the roles on next lookup
+	 */
+	public void invalidate() {
+		snapshot = null;
+	}
+
+	private Snapshot get(LdapConnection connection) throws Exception {
+		if (refreshIntervalNanos <= 0) {
+			return new Snapshot(loader.load(connection));
+		}
+		Snapshot current = snapshot;
+		if (current != null && System.nanoTime() - expiresAt < 0) {
+			return current;
+		}
+		if (current != null) {
+			// past the refresh interval: only the lookup taking the lock searches the
+			// store again on its connection, the others resolve roles from the old
+			// snapshot rather than holding their connection while it waits
+			if (!lock.tryLock()) {
+				return current;
+			}
+		} else {
+			lock.lock();
+		}
+		try {
+			current = snapshot;
+			if (current == null || System.nanoTime() - expiresAt >= 0) {
+				current = new Snapshot(loader.load(connection));
+				expiresAt = System.nanoTime() + refreshIntervalNanos;
+				snapshot = current;
+			}
+			return current;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Distinguished names compared ignoring case and the spaces around separators
+	 */
+	static String normalize(String dn) {
+		return dn.replaceAll("\\s*([,=+])\\s*", "$1").trim().toLowerCase();
+	}
+
+	private static final class Snapshot {
+
+		private final List<Role> roles;
+
+		private final Map<String, Set<String>> rolesByOccupant = new HashMap<>();
+
+		private Snapshot(Map<Role, List<String>> occupantsByRole) {
+			roles = Collections.unmodifiableList(new ArrayList<>(occupantsByRole.keySet()));
+			occupantsByRole.forEach((role, occupants) -> occupants.forEach(occupant -> rolesByOccupant
+					.computeIfAbsent(normalize(occupant), key -> new LinkedHashSet<>()).add(role.getRoleId())));
+		}
+	}
+}
@@ -44,6 +44,14 @@ public class UserStoreFactoryImpl implements UserStoreFactory {
 	private int idleTimeout;
 	@Value("${hikari.minimumIdle:0}")
 	private int minimumIdle;
+	@Value("${ldap.maximumPoolSize:20}")
+	private int ldapMaximumPoolSize;
+	@Value("${ldap.idleTimeout:300000}")
+	private long ldapIdleTimeout;
+	@Value("${ldap.connectionTimeout:5000}")
+	private long ldapConnectionTimeout;
+	@Value("${ldap.rolesRefreshInterval:300}")
+	private long ldapRolesRefreshInterval;
 
 	UserStoreFactoryImpl() {
 
@@ -79,7 +87,8 @@ public class UserStoreFactoryImpl implements UserStoreFactory {
 				dataBaseConfig.setDriverName(mosipEnvironment.getDriverName(ds));
 				dataBaseConfig.setSchemas(ds);
 				if (ds.contains(AuthConstant.LDAP)) {
-					DataStore idatastore = new LdapDataStore(dataBaseConfig);
+					DataStore idatastore = new LdapDataStore(dataBaseConfig, ldapMaximumPoolSize, ldapIdleTimeout,
+							ldapConnectionTimeout, ldapRolesRefreshInterval);
 					dataStoreMap.put(ds, idatastore);
 				} else {
 					DataStore idatastore = new DBDataStore(dataBaseConfig, maximumPoolSize, validationTimeout,
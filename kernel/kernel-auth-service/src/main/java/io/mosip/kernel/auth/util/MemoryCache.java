@@ -20,6 +20,8 @@ public class MemoryCache<K, T> {
 	protected class CacheObject {
 		@Getter
 		private long lastAccessed = System.currentTimeMillis();
+		@Getter
+		private final long created = lastAccessed;
 		private T value;
 
 		protected CacheObject(T value) {
@@ -50,6 +52,30 @@ public class MemoryCache<K, T> {
 		}
 	}
 
+	/**
+	 * Function to get a value put at most the maximum age ago, removing it if
+	 * older
+	 * 
+	 * @param key          the key
+	 * @param maxAgeMillis the maximum age
+	 * @return the value, null if absent or older than the maximum age
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(K key, long maxAgeMillis) {
+		synchronized (cacheMap) {
+			CacheObject c = (CacheObject) cacheMap.get(key);
+			if (c == null)
+				return null;
+			else if (System.currentTimeMillis() - c.created > maxAgeMillis) {
+				cacheMap.remove(key);
+				return null;
+			} else {
+				c.lastAccessed = System.currentTimeMillis();
+				return c.value;
+			}
+		}
+	}
+
 	public void remove(K key) {
 		synchronized (cacheMap) {
 			cacheMap.remove(key);
@@ -0,0 +1,100 @@
+package io.mosip.kernel.auth.test.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.directory.ldap.client.api.LdapConnection;
+import org.junit.Test;
+
+import io.mosip.kernel.auth.constant.LDAPErrorCode;
+import io.mosip.kernel.auth.exception.AuthManagerException;
+import io.mosip.kernel.auth.repository.impl.BoundedLdapConnectionPool;
+
+public class BoundedLdapConnectionPoolTest {
+
+	private final List<LdapConnection> connections = new ArrayList<>();
+
+	private LdapConnection createConnection() {
+		LdapConnection connection = mock(LdapConnection.class);
+		when(connection.isConnected()).thenReturn(true);
+		connections.add(connection);
+		return connection;
+	}
+
+	@Test
+	public void borrowReusesReleasedConnectionTest() throws Exception {
+		BoundedLdapConnectionPool pool = new BoundedLdapConnectionPool(this::createConnection, 2, 60000, 100);
+		LdapConnection connection = pool.borrow();
+		pool.release(connection);
+		assertSame(connection, pool.borrow());
+		assertEquals(1, pool.getCreated());
+		assertEquals(1, pool.getAvailable());
+	}
+
+	@Test
+	public void borrowTimeoutTest() throws Exception {
+		BoundedLdapConnectionPool pool = new BoundedLdapConnectionPool(this::createConnection, 1, 60000, 50);
+		LdapConnection connection = pool.borrow();
+		long start = System.nanoTime();
+		try {
+			pool.borrow();
+			fail();
+		} catch (AuthManagerException e) {
+			assertEquals(LDAPErrorCode.LDAP_POOL_EXHAUSTED.getErrorCode(), e.getErrorCode());
+		}
+		assertEquals(true, System.nanoTime() - start >= 50_000_000L);
+		pool.release(connection);
+		assertSame(connection, pool.borrow());
+	}
+
+	@Test
+	public void factoryFailureReleasesPermitTest() throws Exception {
+		BoundedLdapConnectionPool pool = new BoundedLdapConnectionPool(() -> {
+			throw new IllegalStateException("unreachable");
+		}, 1, 60000, 50);
+		try {
+			pool.borrow();
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals(1, pool.getAvailable());
+		}
+	}
+
+	@Test
+	public void idleEvictionTest() throws Exception {
+		BoundedLdapConnectionPool pool = new BoundedLdapConnectionPool(this::createConnection, 2, 0, 100);
+		LdapConnection connection = pool.borrow();
+		pool.release(connection);
+		// idle for longer than the idle timeout of zero once released
+		verify(connection).close();
+		assertEquals(0, pool.getIdle());
+		assertEquals(1, pool.getEvicted());
+		assertNotSame(connection, pool.borrow());
+		assertEquals(2, pool.getCreated());
+	}
+
+	@Test
+	public void disconnectedConnectionIsClosedTest() throws Exception {
+		BoundedLdapConnectionPool pool = new BoundedLdapConnectionPool(this::createConnection, 2, 60000, 100);
+		LdapConnection connection = pool.borrow();
+		pool.release(connection);
+		when(connection.isConnected()).thenReturn(false);
+		LdapConnection next = pool.borrow();
+		assertNotSame(connection, next);
+		verify(connection).close();
+		verify(next, never()).close();
+		pool.release(next);
+		pool.close();
+		verify(next).close();
+		assertEquals(0, pool.getIdle());
+	}
+}
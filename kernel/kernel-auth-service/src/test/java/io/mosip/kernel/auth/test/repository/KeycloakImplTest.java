@@ -0,0 +1,155 @@
+package io.mosip.kernel.auth.test.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.kernel.auth.dto.MosipUserDto;
+import io.mosip.kernel.auth.repository.impl.KeycloakImpl;
+import io.mosip.kernel.auth.util.MemoryCache;
+import io.mosip.kernel.core.util.CryptoUtil;
+
+public class KeycloakImplTest {
+
+	private static final String USERS_URL = "realms/mosip/users";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+	private ExecutorService executor;
+
+	private KeycloakImpl keycloak;
+
+	@Before
+	public void setup() {
+		executor = Executors.newFixedThreadPool(4);
+		keycloak = new KeycloakImpl();
+		ReflectionTestUtils.setField(keycloak, "keycloakAdminUrl", "http://localhost/auth/admin/");
+		ReflectionTestUtils.setField(keycloak, "realmId", "mosip");
+		ReflectionTestUtils.setField(keycloak, "users", USERS_URL);
+		ReflectionTestUtils.setField(keycloak, "roleUserMappingurl", "/{userId}/role-mappings/realm");
+		ReflectionTestUtils.setField(keycloak, "restTemplate", restTemplate);
+		ReflectionTestUtils.setField(keycloak, "objectMapper", objectMapper);
+		ReflectionTestUtils.setField(keycloak, "userLookupExecutor", executor);
+		ReflectionTestUtils.setField(keycloak, "userCache", new MemoryCache<String, MosipUserDto>(10));
+		ReflectionTestUtils.setField(keycloak, "userCacheTtlSeconds", 30L);
+		when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenAnswer(invocation -> respond(invocation.getArgument(0)));
+	}
+
+	@After
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private ResponseEntity<String> respond(String url) throws Exception {
+		ArrayNode body = objectMapper.createArrayNode();
+		if (url.contains("/role-mappings/realm")) {
+			body.addObject().put("name", "REGISTRATION_OFFICER");
+		} else {
+			String userName = UriComponentsBuilder.fromUriString(url).build().getQueryParams()
+					.getFirst("username");
+			// the search matches user names containing the requested one
+			if (userName.startsWith("user")) {
+				body.add(user(userName + "0"));
+				body.add(user(userName));
+			}
+		}
+		return new ResponseEntity<>(objectMapper.writeValueAsString(body), HttpStatus.OK);
+	}
+
+	private ObjectNode user(String userName) {
+		ObjectNode user = objectMapper.createObjectNode();
+		user.put("id", userName + "-id");
+		user.put("username", userName);
+		user.put("email", userName + "@mosip.io");
+		user.put("firstName", userName);
+		user.put("lastName", "mosip");
+		ObjectNode attributes = user.putObject("attributes");
+		attributes.putArray("userPassword").add(CryptoUtil.encodeBase64("secret".getBytes()));
+		attributes.putArray("mobile").add("9999999999");
+		return user;
+	}
+
+	@Test
+	public void getListOfUsersDetailsTest() throws Exception {
+		List<MosipUserDto> users = keycloak.getListOfUsersDetails(Arrays.asList("user2", "user1"))
+				.getMosipUserDtoList();
+		assertEquals(Arrays.asList("user2", "user1"), userIds(users));
+		MosipUserDto user = users.get(1);
+		assertEquals("user1@mosip.io", user.getMail());
+		assertEquals("9999999999", user.getMobile());
+		assertEquals("REGISTRATION_OFFICER", user.getRole());
+		assertEquals("user1 mosip", user.getName());
+	}
+
+	@Test
+	public void getListOfUsersDetailsDuplicateAndMissingTest() throws Exception {
+		List<MosipUserDto> users = keycloak
+				.getListOfUsersDetails(Arrays.asList("user3", "missing", "user1", "user3")).getMosipUserDtoList();
+		assertEquals(Arrays.asList("user3", "user1"), userIds(users));
+		verify(restTemplate, times(1)).exchange(contains("username=user3"), eq(HttpMethod.GET),
+				any(HttpEntity.class), eq(String.class));
+		verify(restTemplate, times(1)).exchange(contains("username=missing"), eq(HttpMethod.GET),
+				any(HttpEntity.class), eq(String.class));
+	}
+
+	@Test
+	public void getListOfUsersDetailsCachedTest() throws Exception {
+		keycloak.getListOfUsersDetails(Arrays.asList("user1"));
+		List<MosipUserDto> users = keycloak.getListOfUsersDetails(Arrays.asList("user2", "user1"))
+				.getMosipUserDtoList();
+		assertEquals(Arrays.asList("user2", "user1"), userIds(users));
+		verify(restTemplate, times(1)).exchange(contains("username=user1"), eq(HttpMethod.GET),
+				any(HttpEntity.class), eq(String.class));
+	}
+
+	@Test
+	public void getListOfUsersDetailsCacheDisabledTest() throws Exception {
+		ReflectionTestUtils.setField(keycloak, "userCacheTtlSeconds", 0L);
+		keycloak.getListOfUsersDetails(Arrays.asList("user1"));
+		keycloak.getListOfUsersDetails(Arrays.asList("user1"));
+		verify(restTemplate, times(2)).exchange(contains("username=user1"), eq(HttpMethod.GET),
+				any(HttpEntity.class), eq(String.class));
+	}
+
+	@Test
+	public void getListOfUsersDetailsEmptyTest() throws Exception {
+		assertTrue(keycloak.getListOfUsersDetails(new ArrayList<>()).getMosipUserDtoList().isEmpty());
+	}
+
+	private static List<String> userIds(List<MosipUserDto> users) {
+		List<String> userIds = new ArrayList<>();
+		users.forEach(user -> userIds.add(user.getUserId()));
+		return userIds;
+	}
+}
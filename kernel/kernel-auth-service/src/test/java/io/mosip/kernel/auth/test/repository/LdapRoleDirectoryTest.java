@@ -0,0 +1,92 @@
+package io.mosip.kernel.auth.test.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.directory.ldap.client.api.LdapConnection;
+import org.junit.Test;
+
+import io.mosip.kernel.auth.dto.Role;
+import io.mosip.kernel.auth.repository.impl.LdapRoleDirectory;
+
+public class LdapRoleDirectoryTest {
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private final LdapConnection connection = mock(LdapConnection.class);
+
+	private Map<Role, List<String>> loadRoles(LdapConnection loadConnection) {
+		assertSame(connection, loadConnection);
+		loads.incrementAndGet();
+		Map<Role, List<String>> roles = new LinkedHashMap<>();
+		roles.put(role("ADMIN"), Arrays.asList("UID=User1, ou=people,c=mycountry"));
+		roles.put(role("OPERATOR"),
+				Arrays.asList("uid=user1,ou=people,c=mycountry", "uid=user2,ou=people,c=mycountry"));
+		roles.put(role("SUPERVISOR"), Collections.emptyList());
+		return roles;
+	}
+
+	@Test
+	public void getRolesTest() throws Exception {
+		LdapRoleDirectory directory = new LdapRoleDirectory(this::loadRoles, 300);
+		assertEquals(3, directory.getRoles(connection).size());
+		assertEquals(Arrays.asList("ADMIN", "OPERATOR"),
+				Arrays.asList(directory.getRoles("uid=user1,ou=people,c=mycountry", connection).toArray()));
+		assertEquals(Collections.singleton("OPERATOR"),
+				directory.getRoles("uid=user2,ou=people,c=mycountry", connection));
+		assertTrue(directory.getRoles("uid=user3,ou=people,c=mycountry", connection).isEmpty());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void distinguishedNameNormalisationTest() throws Exception {
+		LdapRoleDirectory directory = new LdapRoleDirectory(this::loadRoles, 300);
+		assertEquals(2, directory.getRoles(" Uid = USER1 , OU=People, C=MyCountry ", connection).size());
+		assertTrue(directory.getRoles("uid=user1,ou=other,c=mycountry", connection).isEmpty());
+	}
+
+	@Test
+	public void invalidateTest() throws Exception {
+		LdapRoleDirectory directory = new LdapRoleDirectory(this::loadRoles, 300);
+		directory.getRoles(connection);
+		directory.getRoles(connection);
+		assertEquals(1, loads.get());
+		directory.invalidate();
+		directory.getRoles("uid=user1,ou=people,c=mycountry", connection);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void refreshTest() throws Exception {
+		LdapRoleDirectory directory = new LdapRoleDirectory(this::loadRoles, 1);
+		directory.getRoles(connection);
+		Thread.sleep(1100);
+		directory.getRoles(connection);
+		directory.getRoles(connection);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void noRefreshIntervalTest() throws Exception {
+		LdapRoleDirectory directory = new LdapRoleDirectory(this::loadRoles, 0);
+		directory.getRoles(connection);
+		directory.getRoles("uid=user1,ou=people,c=mycountry", connection);
+		assertEquals(2, loads.get());
+	}
+
+	private static Role role(String roleId) {
+		Role role = new Role();
+		role.setRoleId(roleId);
+		role.setRoleName(roleId);
+		return role;
+	}
+}
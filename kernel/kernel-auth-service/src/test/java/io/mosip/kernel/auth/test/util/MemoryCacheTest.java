@@ -0,0 +1,64 @@
+package io.mosip.kernel.auth.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import io.mosip.kernel.auth.util.MemoryCache;
+
+public class MemoryCacheTest {
+
+	@Test
+	public void getTest() {
+		MemoryCache<String, String> cache = new MemoryCache<>(10);
+		cache.put("key", "value");
+		assertEquals("value", cache.get("key"));
+		assertNull(cache.get("other"));
+		cache.remove("key");
+		assertNull(cache.get("key"));
+	}
+
+	@Test
+	public void getWithinMaxAgeTest() {
+		MemoryCache<String, String> cache = new MemoryCache<>(10);
+		cache.put("key", "value");
+		assertEquals("value", cache.get("key", 60000));
+		assertEquals(1, cache.size());
+		assertNull(cache.get("other", 60000));
+	}
+
+	@Test
+	public void getOlderThanMaxAgeTest() throws Exception {
+		MemoryCache<String, String> cache = new MemoryCache<>(10);
+		cache.put("key", "value");
+		Thread.sleep(50);
+		// access does not extend the age of the value
+		assertEquals("value", cache.get("key"));
+		assertNull(cache.get("key", 10));
+		assertEquals(0, cache.size());
+		assertNull(cache.get("key"));
+	}
+
+	@Test
+	public void putResetsAgeTest() throws Exception {
+		MemoryCache<String, String> cache = new MemoryCache<>(10);
+		cache.put("key", "old");
+		Thread.sleep(50);
+		cache.put("key", "new");
+		assertEquals("new", cache.get("key", 40));
+	}
+
+	@Test
+	public void leastRecentlyUsedEvictionTest() {
+		MemoryCache<String, String> cache = new MemoryCache<>(2);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.get("key1");
+		cache.put("key3", "value3");
+		assertEquals(2, cache.size());
+		assertEquals("value1", cache.get("key1"));
+		assertNull(cache.get("key2"));
+		assertEquals("value3", cache.get("key3"));
+	}
+}
@@ -1,5 +1,7 @@
 package io.mosip.kernel.core.auditmanager.spi;
 
+import java.util.List;
+
 /**
  * Interface with function to write AuditRequest
  * 
@@ -17,4 +19,16 @@ public interface AuditHandler<T> {
 	 */
 	boolean addAudit(T auditRequest);
 
+	/**
+	 * Function to write a batch of AuditRequest. Implementations should write the
+	 * batch at once; by default each AuditRequest is written one by one.
+	 * 
+	 * @param auditRequests The AuditRequests
+	 * @return true - if all the AuditRequests are successfully written
+	 */
+	default boolean addAudits(List<T> auditRequests) {
+		auditRequests.forEach(this::addAudit);
+		return true;
+	}
+
 }
\ No newline at end of file
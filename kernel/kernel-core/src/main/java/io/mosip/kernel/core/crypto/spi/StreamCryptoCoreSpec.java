@@ -0,0 +1,75 @@
+package io.mosip.kernel.core.crypto.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * This interface is specification for <b> Streaming Symmetric Encryption and
+ * Decryption</b>.
+ * 
+ * The data is read from an {@link InputStream} and written to an
+ * {@link OutputStream} in the same format as the byte array operations of
+ * {@link CryptoCoreSpec}, so data encrypted with one can be decrypted with the
+ * other. Streams are neither flushed nor closed.
+ * 
+ * @author Urvil Joshi
+ * 
+ * @since 1.0.8
+ *
+ * @param <S> the type of symmetric key
+ */
+public interface StreamCryptoCoreSpec<S> {
+
+	/**
+	 * Streaming equivalent of {@link CryptoCoreSpec#symmetricEncrypt(Object, Object, Object)}.
+	 * Writes the encrypted data followed by the generated IV.
+	 * 
+	 * @param key    Symmetric Key as key
+	 * @param data   data to encrypt, read to its end
+	 * @param aad    Advance Authentication Data, can be null
+	 * @param output stream the encrypted data is written to
+	 * @throws IOException if a stream could not be read or written
+	 */
+	void symmetricEncrypt(S key, InputStream data, byte[] aad, OutputStream output) throws IOException;
+
+	/**
+	 * Streaming equivalent of
+	 * {@link CryptoCoreSpec#symmetricEncrypt(Object, Object, Object, Object)}.
+	 * Writes the encrypted data only.
+	 * 
+	 * @param key    Symmetric Key as key
+	 * @param data   data to encrypt, read to its end
+	 * @param iv     the IV, if null a random IV is generated and written as by
+	 *               {@link #symmetricEncrypt(Object, InputStream, byte[], OutputStream)}
+	 * @param aad    Advance Authentication Data, can be null
+	 * @param output stream the encrypted data is written to
+	 * @throws IOException if a stream could not be read or written
+	 */
+	void symmetricEncrypt(S key, InputStream data, byte[] iv, byte[] aad, OutputStream output) throws IOException;
+
+	/**
+	 * Streaming equivalent of {@link CryptoCoreSpec#symmetricDecrypt(Object, Object, Object)},
+	 * for data ending with the IV.
+	 * 
+	 * @param key    Symmetric Key as key
+	 * @param data   encrypted data followed by the IV, read to its end
+	 * @param aad    Advance Authentication Data, can be null
+	 * @param output stream the decrypted data is written to
+	 * @throws IOException if a stream could not be read or written
+	 */
+	void symmetricDecrypt(S key, InputStream data, byte[] aad, OutputStream output) throws IOException;
+
+	/**
+	 * Streaming equivalent of
+	 * {@link CryptoCoreSpec#symmetricDecrypt(Object, Object, Object, Object)}.
+	 * 
+	 * @param key    Symmetric Key as key
+	 * @param data   encrypted data, read to its end
+	 * @param iv     the IV, if null it is read from the end of the data
+	 * @param aad    Advance Authentication Data, can be null
+	 * @param output stream the decrypted data is written to
+	 * @throws IOException if a stream could not be read or written
+	 */
+	void symmetricDecrypt(S key, InputStream data, byte[] iv, byte[] aad, OutputStream output) throws IOException;
+}
@@ -0,0 +1,39 @@
+package io.mosip.kernel.core.idgenerator.spi;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface having functions to reserve blocks of ids from an id pool and to
+ * release unused reservations back to it
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ */
+public interface IdBlockSource {
+
+	/**
+	 * Function to reserve available ids, so that no other caller gets them
+	 *
+	 * @param count maximum number of ids to reserve
+	 * @return the reserved ids, empty if no id is available
+	 */
+	List<String> reserve(int count);
+
+	/**
+	 * Function to make reserved ids available again
+	 *
+	 * @param ids the reserved ids which were not handed out
+	 * @return number of ids released
+	 */
+	int release(Collection<String> ids);
+
+	/**
+	 * Function to mark the ids reserved by this caller as still in use, so that
+	 * they are not released as left behind by a stopped caller
+	 *
+	 * @return number of reservations refreshed
+	 */
+	int heartbeat();
+
+}
@@ -1,7 +1,11 @@
 package io.mosip.kernel.core.util;
 
+import static java.util.Arrays.copyOf;
 import static java.util.Arrays.copyOfRange;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.ArrayUtils;
@@ -63,6 +67,45 @@ public class CryptoUtil {
 		return keyDemiliterIndex;
 	}
 
+	/**
+	 * Reads a stream up to the first key splitter, leaving it positioned after the
+	 * key splitter. Same as {@link #getSplitterIndex(byte[], int, String)} for
+	 * data read from a stream.
+	 * 
+	 * @param inputStream stream of key, key splitter and data
+	 * @param keySplitter keysplitter value
+	 * @param maxLength   maximum length of the key
+	 * @return the key, null if no key splitter follows a key of at most maxLength
+	 *         bytes
+	 * @throws IOException if the stream could not be read
+	 */
+	public static byte[] readUntilSplitter(InputStream inputStream, String keySplitter, int maxLength)
+			throws IOException {
+		final byte[] keySplitterBytes = keySplitter.getBytes();
+		final byte[] buffer = new byte[maxLength + keySplitterBytes.length];
+		int length = 0;
+		int read;
+		while (length < buffer.length && (read = inputStream.read()) != -1) {
+			buffer[length++] = (byte) read;
+			if (endsWith(buffer, length, keySplitterBytes)) {
+				return copyOf(buffer, length - keySplitterBytes.length);
+			}
+		}
+		return null;
+	}
+
+	private static boolean endsWith(byte[] buffer, int length, byte[] suffix) {
+		if (length < suffix.length) {
+			return false;
+		}
+		for (int i = 0; i < suffix.length; i++) {
+			if (buffer[length - suffix.length + i] != suffix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Encodes to BASE64 URL Safe
 	 * 
@@ -120,4 +163,4 @@ public class CryptoUtil {
 		}
 		return Hex.encodeHexString(HMACUtils.generateHash(combinedPlainTextBytes)).replaceAll("..(?!$)", "$0:");
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
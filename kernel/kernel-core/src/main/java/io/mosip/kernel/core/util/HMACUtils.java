@@ -10,7 +10,6 @@ import java.security.spec.KeySpec;
 
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
-import javax.xml.bind.DatatypeConverter;
 
 import org.apache.commons.codec.binary.Base64;
 
@@ -20,7 +19,8 @@ import io.mosip.kernel.core.util.constant.HMACUtilConstants;
 /**
  * This class defines the HMAC Util to be used in MOSIP Project. The HMAC Util
  * is implemented using desired methods of MessageDigest class of java security
- * package
+ * package. Hashing is delegated to {@link HashingUtils}, which does not
+ * serialize callers.
  * 
  * @author Omsaieswar Mulaklauri
  * @author Urvil Joshi
@@ -35,9 +35,17 @@ public final class HMACUtils {
 
 	/**
 	 * Message digests are secure one-way hash functions that take arbitrary-sized
-	 * data and output a fixed-length hash value
+	 * data and output a fixed-length hash value. Kept per thread for
+	 * {@link #update(byte[])} and {@link #updatedHash()}.
 	 */
-	private static MessageDigest messageDigest;
+	private static final ThreadLocal<MessageDigest> messageDigest = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(HMAC_ALGORITHM_NAME);
+		} catch (java.security.NoSuchAlgorithmException exception) {
+			throw new NoSuchAlgorithmException(HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorCode(),
+					HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorMessage(), exception.getCause());
+		}
+	});
 
 	/**
 	 * Performs a digest using the specified array of bytes.
@@ -45,26 +53,26 @@ public final class HMACUtils {
 	 * @param bytes bytes to be hash generation
 	 * @return byte[] generated hash bytes
 	 */
-	public static synchronized byte[] generateHash(final byte[] bytes) {
-		return messageDigest.digest(bytes);
+	public static byte[] generateHash(final byte[] bytes) {
+		return HashingUtils.hash(bytes);
 	}
 
 	/**
-	 * Updates the digest using the specified byte
+	 * Updates the digest of the calling thread using the specified byte
 	 * 
 	 * @param bytes updates the digest using the specified byte
 	 */
 	public static void update(final byte[] bytes) {
-		messageDigest.update(bytes);
+		messageDigest.get().update(bytes);
 	}
 
 	/**
-	 * Return the whole update digest
+	 * Return the whole update digest of the calling thread
 	 * 
 	 * @return byte[] updated hash bytes
 	 */
 	public static byte[] updatedHash() {
-		return messageDigest.digest();
+		return messageDigest.get().digest();
 	}
 
 	/**
@@ -74,10 +82,8 @@ public final class HMACUtils {
 	 * @param salt  digest bytes
 	 * @return String converted digest as plain text
 	 */
-	public static synchronized String digestAsPlainTextWithSalt(final byte[] password, final byte[] salt) {
-		messageDigest.update(password);
-		messageDigest.update(salt);
-		return DatatypeConverter.printHexBinary(messageDigest.digest());
+	public static String digestAsPlainTextWithSalt(final byte[] password, final byte[] salt) {
+		return HashingUtils.hashWithSaltAsHex(password, salt);
 //		KeySpec spec = null;
 //        try {
 //        	spec = new PBEKeySpec(new String(password,"UTF-8").toCharArray(), salt, 27500, 512);
@@ -98,25 +104,8 @@ public final class HMACUtils {
 	 * @param bytes digest bytes
 	 * @return String converted digest as plain text
 	 */
-	public static synchronized String digestAsPlainText(final byte[] bytes) {
-		return DatatypeConverter.printHexBinary(bytes).toUpperCase();
-	}
-
-	/**
-	 * Creates a message digest with the specified algorithm name.
-	 *
-	 * @param algorithm the standard name of the digest algorithm.
-	 * 
-	 * @throws NoSuchAlgorithmException if specified algorithm went wrong
-	 * @description loaded messageDigest with specified algorithm
-	 */
-	static {
-		try {
-			messageDigest = messageDigest != null ? messageDigest : MessageDigest.getInstance(HMAC_ALGORITHM_NAME);
-		} catch (java.security.NoSuchAlgorithmException exception) {
-			throw new NoSuchAlgorithmException(HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorCode(),
-					HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorMessage(), exception.getCause());
-		}
+	public static String digestAsPlainText(final byte[] bytes) {
+		return HashingUtils.toHex(bytes);
 	}
 
 	/**
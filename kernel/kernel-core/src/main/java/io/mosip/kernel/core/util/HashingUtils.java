@@ -0,0 +1,186 @@
+package io.mosip.kernel.core.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.mosip.kernel.core.exception.NoSuchAlgorithmException;
+import io.mosip.kernel.core.util.constant.HMACUtilConstants;
+
+/**
+ * Thread safe hashing utility. Every thread hashes with its own
+ * {@link MessageDigest} instance, so concurrent callers never wait for each
+ * other, unlike the single shared digest of {@link HMACUtils}.
+ *
+ * <p>
+ * Hex output is upper case, same as
+ * {@link HMACUtils#digestAsPlainText(byte[])}.
+ * </p>
+ *
+ * @author Urvil Joshi
+ *
+ * @since 1.0.8
+ */
+public final class HashingUtils {
+
+	/**
+	 * SHA-256 Algorithm
+	 */
+	public static final String SHA_256 = "SHA-256";
+
+	/**
+	 * Size of the buffer used to read streams
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * SHA-256 digest of the calling thread
+	 */
+	private static final ThreadLocal<MessageDigest> SHA_256_DIGEST = ThreadLocal
+			.withInitial(() -> newMessageDigest(SHA_256));
+
+	/**
+	 * Digests of other algorithms used by the calling thread
+	 */
+	private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
+	/*
+	 * No object initialization.
+	 */
+	private HashingUtils() {
+	}
+
+	/**
+	 * Generates SHA-256 hash of the bytes
+	 *
+	 * @param bytes bytes to hash
+	 * @return the hash
+	 */
+	public static byte[] hash(final byte[] bytes) {
+		return digest(SHA_256).digest(bytes);
+	}
+
+	/**
+	 * Generates hash of the bytes with the given algorithm
+	 *
+	 * @param algorithm name of the digest algorithm
+	 * @param bytes     bytes to hash
+	 * @return the hash
+	 * @throws NoSuchAlgorithmException if the algorithm is not available
+	 */
+	public static byte[] hash(final String algorithm, final byte[] bytes) {
+		return digest(algorithm).digest(bytes);
+	}
+
+	/**
+	 * Generates SHA-256 hash of the bytes followed by the salt
+	 *
+	 * @param bytes bytes to hash
+	 * @param salt  the salt
+	 * @return the hash
+	 */
+	public static byte[] hashWithSalt(final byte[] bytes, final byte[] salt) {
+		MessageDigest messageDigest = digest(SHA_256);
+		messageDigest.update(bytes);
+		messageDigest.update(salt);
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Generates SHA-256 hash of a stream, reading it to the end without buffering
+	 * it whole. The stream is not closed.
+	 *
+	 * @param inputStream the stream to hash
+	 * @return the hash
+	 * @throws IOException if the stream could not be read
+	 */
+	public static byte[] hash(final InputStream inputStream) throws IOException {
+		return hash(SHA_256, inputStream);
+	}
+
+	/**
+	 * Generates hash of a stream with the given algorithm, reading it to the end
+	 * without buffering it whole. The stream is not closed.
+	 *
+	 * @param algorithm   name of the digest algorithm
+	 * @param inputStream the stream to hash
+	 * @return the hash
+	 * @throws IOException              if the stream could not be read
+	 * @throws NoSuchAlgorithmException if the algorithm is not available
+	 */
+	public static byte[] hash(final String algorithm, final InputStream inputStream) throws IOException {
+		// a private digest, as the stream may itself hash on this thread while read
+		MessageDigest messageDigest = newMessageDigest(algorithm);
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			messageDigest.update(buffer, 0, read);
+		}
+		return messageDigest.digest();
+	}
+
+	/**
+	 * Generates SHA-256 hash of the bytes as upper case hex
+	 *
+	 * @param bytes bytes to hash
+	 * @return the hash as hex
+	 */
+	public static String hashAsHex(final byte[] bytes) {
+		return toHex(hash(bytes));
+	}
+
+	/**
+	 * Generates SHA-256 hash of the bytes followed by the salt as upper case hex
+	 *
+	 * @param bytes bytes to hash
+	 * @param salt  the salt
+	 * @return the hash as hex
+	 */
+	public static String hashWithSaltAsHex(final byte[] bytes, final byte[] salt) {
+		return toHex(hashWithSalt(bytes, salt));
+	}
+
+	/**
+	 * Converts bytes to upper case hex
+	 *
+	 * @param bytes the bytes
+	 * @return the hex
+	 */
+	public static String toHex(final byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int value = bytes[i] & 0xFF;
+			hex[i * 2] = HEX_DIGITS[value >>> 4];
+			hex[i * 2 + 1] = HEX_DIGITS[value & 0x0F];
+		}
+		return new String(hex);
+	}
+
+	/**
+	 * Returns the digest of the calling thread for the algorithm, reset for a new
+	 * hash. It must not be used after the thread hashes anything else.
+	 *
+	 * @param algorithm name of the digest algorithm
+	 * @return the digest
+	 * @throws NoSuchAlgorithmException if the algorithm is not available
+	 */
+	private static MessageDigest digest(final String algorithm) {
+		MessageDigest messageDigest = SHA_256.equals(algorithm) ? SHA_256_DIGEST.get()
+				: DIGESTS.get().computeIfAbsent(algorithm, HashingUtils::newMessageDigest);
+		messageDigest.reset();
+		return messageDigest;
+	}
+
+	private static MessageDigest newMessageDigest(final String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (java.security.NoSuchAlgorithmException exception) {
+			throw new NoSuchAlgorithmException(HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorCode(),
+					HMACUtilConstants.MOSIP_NO_SUCH_ALGORITHM_ERROR_CODE.getErrorMessage(), exception.getCause());
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package io.mosip.kernel.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.mosip.kernel.core.idgenerator.spi.IdBlockSource;
+
+/**
+ * In memory dispenser of ids reserved in blocks from an {@link IdBlockSource}.
+ * Ids are handed out from a lock free queue; when the queue drops to the low
+ * watermark a single background refill reserves the next block. A caller
+ * finding the queue empty refills it synchronously.
+ *
+ * <p>
+ * While running, the dispenser sends a heartbeat to the source at a fixed
+ * interval, so that the source can tell reservations of a live dispenser from
+ * those left behind by a stopped one. Ids still queued on {@link #stop()} are
+ * released back to the source.
+ * </p>
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ */
+public class IdDispenser {
+
+	/**
+	 * The source ids are reserved from
+	 */
+	private final IdBlockSource source;
+
+	/**
+	 * Number of ids reserved in a single refill
+	 */
+	private final int blockSize;
+
+	/**
+	 * Queue size at which a background refill is triggered
+	 */
+	private final int lowWatermark;
+
+	/**
+	 * Milliseconds between heartbeats, zero to send none
+	 */
+	private final long heartbeatIntervalMillis;
+
+	/**
+	 * Reserved ids not yet handed out
+	 */
+	private final ConcurrentLinkedQueue<String> ids = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Size of {@link #ids}, tracked separately as queue size is not constant time
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * Set while a background refill is scheduled or running
+	 */
+	private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+	/**
+	 * Monitor serializing refills and stop
+	 */
+	private final Object refillMonitor = new Object();
+
+	/**
+	 * Executor running background refills and heartbeats
+	 */
+	private final ScheduledExecutorService refillExecutor;
+
+	private final LongAdder dispensed = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder refills = new LongAdder();
+
+	private final LongAdder refillFailures = new LongAdder();
+
+	private final LongAdder heartbeatFailures = new LongAdder();
+
+	private volatile boolean running;
+
+	/**
+	 * Constructor for IdDispenser
+	 *
+	 * @param source       the source ids are reserved from
+	 * @param blockSize    number of ids reserved in a single refill
+	 * @param lowWatermark queue size at which a background refill is triggered
+	 */
+	public IdDispenser(IdBlockSource source, int blockSize, int lowWatermark) {
+		this(source, blockSize, lowWatermark, 0);
+	}
+
+	/**
+	 * Constructor for IdDispenser
+	 *
+	 * @param source                  the source ids are reserved from
+	 * @param blockSize               number of ids reserved in a single refill
+	 * @param lowWatermark            queue size at which a background refill is
+	 *                                triggered
+	 * @param heartbeatIntervalMillis milliseconds between heartbeats to the
+	 *                                source, zero to send none
+	 */
+	public IdDispenser(IdBlockSource source, int blockSize, int lowWatermark, long heartbeatIntervalMillis) {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("blockSize should be positive");
+		}
+		this.source = Objects.requireNonNull(source, "source");
+		this.blockSize = blockSize;
+		this.lowWatermark = Math.min(Math.max(0, lowWatermark), blockSize - 1);
+		this.heartbeatIntervalMillis = Math.max(0, heartbeatIntervalMillis);
+		this.refillExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "id-dispenser-refill");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts handing out ids, schedules the first refill and the heartbeats
+	 */
+	public void start() {
+		running = true;
+		scheduleRefill();
+		if (heartbeatIntervalMillis > 0) {
+			refillExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Stops handing out ids and releases the ids still queued back to the source
+	 */
+	public void stop() {
+		running = false;
+		refillExecutor.shutdown();
+		try {
+			refillExecutor.awaitTermination(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (refillMonitor) {
+			List<String> queued = new ArrayList<>(size.get());
+			String id;
+			while ((id = ids.poll()) != null) {
+				size.decrementAndGet();
+				queued.add(id);
+			}
+			if (!queued.isEmpty()) {
+				source.release(queued);
+			}
+		}
+	}
+
+	/**
+	 * Function to check if the dispenser is handing out ids
+	 *
+	 * @return true if started and not stopped
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Function to get the next reserved id
+	 *
+	 * @return the id, null if the source has no id available
+	 */
+	public String next() {
+		if (!running) {
+			throw new IllegalStateException("id dispenser is not running");
+		}
+		String id = poll();
+		if (id == null) {
+			misses.increment();
+			id = refillAndPoll();
+		}
+		if (size.get() <= lowWatermark) {
+			scheduleRefill();
+		}
+		return id;
+	}
+
+	private String poll() {
+		String id = ids.poll();
+		if (id != null) {
+			size.decrementAndGet();
+			dispensed.increment();
+		}
+		return id;
+	}
+
+	private String refillAndPoll() {
+		synchronized (refillMonitor) {
+			String id = poll();
+			if (id == null && running) {
+				refill();
+				id = poll();
+			}
+			return id;
+		}
+	}
+
+	private void scheduleRefill() {
+		if (running && refillScheduled.compareAndSet(false, true)) {
+			try {
+				refillExecutor.execute(this::backgroundRefill);
+			} catch (RuntimeException e) {
+				refillScheduled.set(false);
+			}
+		}
+	}
+
+	private void backgroundRefill() {
+		try {
+			synchronized (refillMonitor) {
+				if (running && size.get() <= lowWatermark) {
+					refill();
+				}
+			}
+		} catch (RuntimeException e) {
+			// next caller finding the queue empty refills synchronously
+			refillFailures.increment();
+		} finally {
+			refillScheduled.set(false);
+		}
+	}
+
+	private void heartbeat() {
+		try {
+			source.heartbeat();
+		} catch (RuntimeException e) {
+			// reservations are refreshed again by the next heartbeat
+			heartbeatFailures.increment();
+		}
+	}
+
+	/**
+	 * Reserves a block from the source. Must be called holding
+	 * {@link #refillMonitor}.
+	 */
+	private void refill() {
+		List<String> reserved = source.reserve(blockSize);
+		if (!reserved.isEmpty()) {
+			ids.addAll(reserved);
+			size.addAndGet(reserved.size());
+			refills.increment();
+		}
+	}
+
+	/**
+	 * Function to get number of reserved ids not yet handed out
+	 *
+	 * @return queued ids
+	 */
+	public int getQueued() {
+		return size.get();
+	}
+
+	public long getDispensed() {
+		return dispensed.sum();
+	}
+
+	/**
+	 * Function to get number of calls which found the queue empty and had to wait
+	 * for a refill
+	 *
+	 * @return misses
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getRefills() {
+		return refills.sum();
+	}
+
+	public long getRefillFailures() {
+		return refillFailures.sum();
+	}
+
+	public long getHeartbeatFailures() {
+		return heartbeatFailures.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "queued=" + getQueued() + ", dispensed=" + getDispensed() + ", misses=" + getMisses() + ", refills="
+				+ getRefills() + ", refillFailures=" + getRefillFailures() + ", heartbeatFailures="
+				+ getHeartbeatFailures();
+	}
+}
@@ -0,0 +1,422 @@
+package io.mosip.kernel.core.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compiled filter used by the UIN, VID and PRID generators to reject generated
+ * ids matching a restricted pattern. The filter is immutable and thread-safe;
+ * all checks work on the characters of the id in place, without regular
+ * expressions or any allocation per call. A limit of zero or less disables the
+ * corresponding check.
+ *
+ * @author Dharmesh Khandelwal
+ * @author Megha Tanga
+ * @since 1.0.8
+ *
+ */
+public final class IdFilter {
+
+	/**
+	 * List of Cyclic numbers
+	 */
+	private static final String[] CYCLIC_NUMBERS = { "142857", "0588235294117647", "052631578947368421",
+			"0434782608695652173913", "0344827586206896551724137931", "0212765957446808510638297872340425531914893617",
+			"0169491525423728813559322033898305084745762711864406779661",
+			"016393442622950819672131147540983606557377049180327868852459",
+			"010309278350515463917525773195876288659793814432989690721649484536082474226804123711340206185567" };
+
+	/**
+	 * Length of the reference sequence 0123456789
+	 */
+	private static final int SEQUENCE_LENGTH = 10;
+
+	private final int length;
+
+	private final int sequenceLimit;
+
+	private final boolean cyclicSequence;
+
+	private final int repeatingLimit;
+
+	private final int repeatingBlockLimit;
+
+	private final int conjugativeEvenDigitsLimit;
+
+	private final int digitsGroupLimit;
+
+	private final int reverseDigitsGroupLimit;
+
+	private final String[] restrictedNumbers;
+
+	private final String[] notStartWith;
+
+	private final boolean cyclicNumberFilter;
+
+	private IdFilter(Builder builder) {
+		this.length = builder.length;
+		this.sequenceLimit = builder.sequenceLimit;
+		this.cyclicSequence = builder.cyclicSequence;
+		this.repeatingLimit = builder.repeatingLimit;
+		this.repeatingBlockLimit = builder.repeatingBlockLimit;
+		this.conjugativeEvenDigitsLimit = builder.conjugativeEvenDigitsLimit;
+		this.digitsGroupLimit = builder.digitsGroupLimit;
+		this.reverseDigitsGroupLimit = builder.reverseDigitsGroupLimit;
+		this.restrictedNumbers = builder.restrictedNumbers.toArray(new String[0]);
+		this.notStartWith = builder.notStartWith.toArray(new String[0]);
+		this.cyclicNumberFilter = builder.cyclicNumberFilter;
+	}
+
+	/**
+	 * Function to create a builder for {@link IdFilter}
+	 *
+	 * @return new {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Checks if the input id is valid by passing the id through the configured
+	 * filters
+	 *
+	 * @param id The input id to validate
+	 * @return true if the input id is valid
+	 */
+	public boolean isValidId(String id) {
+		if (id == null || (length > 0 && id.length() != length) || startsWithRestricted(id)) {
+			return false;
+		}
+		return !(matchesDigitRuns(id) || matchesDigitsGroup(id) || matchesReverseDigitsGroup(id)
+				|| containsRestrictedNumber(id) || matchesRepeatingBlock(id)
+				|| (cyclicNumberFilter && containsCyclicNumber(id)));
+	}
+
+	/**
+	 * Checks if the input id contains any Cyclic number
+	 *
+	 * @param id The input id
+	 * @return true if the id contains any Cyclic number
+	 */
+	public static boolean containsCyclicNumber(String id) {
+		for (String cyclicNumber : CYCLIC_NUMBERS) {
+			if (id.length() >= cyclicNumber.length() && id.indexOf(cyclicNumber) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Single pass over the digits of the id checking digits in sequence, repeating
+	 * digits and adjacent even digits
+	 *
+	 * @param id The input id
+	 * @return true if any of the filters matches or if id has a non digit
+	 *         character
+	 */
+	private boolean matchesDigitRuns(String id) {
+		int ascendingRun = 0;
+		int descendingRun = 0;
+		int evenRun = 0;
+		int previous = -1;
+		for (int index = 0; index < id.length(); index++) {
+			int digit = id.charAt(index) - '0';
+			if (digit < 0 || digit > 9) {
+				return true;
+			}
+			ascendingRun = previous != -1 && isNextInSequence(previous, digit) ? ascendingRun + 1 : 1;
+			descendingRun = previous != -1 && isNextInSequence(digit, previous) ? descendingRun + 1 : 1;
+			evenRun = digit != 0 && digit % 2 == 0 ? evenRun + 1 : 0;
+			if ((sequenceLimit > 0
+					&& ((ascendingRun >= sequenceLimit && isAscendingWindowAllowed(digit))
+							|| (descendingRun >= sequenceLimit && isDescendingWindowAllowed(digit))))
+					|| (conjugativeEvenDigitsLimit > 0 && evenRun >= conjugativeEvenDigitsLimit)
+					|| isRepeated(id, index, digit)) {
+				return true;
+			}
+			previous = digit;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if digit follows previous digit in the ascending sequence
+	 */
+	private boolean isNextInSequence(int previous, int digit) {
+		return cyclicSequence ? digit == (previous + 1) % SEQUENCE_LENGTH : digit == previous + 1;
+	}
+
+	/**
+	 * Checks if the ascending window ending at digit fits in the reference
+	 * sequence. A cyclic sequence is the reference sequence repeated twice, so a
+	 * window can wrap around 9 at most once.
+	 */
+	private boolean isAscendingWindowAllowed(int digit) {
+		if (!cyclicSequence) {
+			return sequenceLimit <= SEQUENCE_LENGTH;
+		}
+		int firstDigit = Math.floorMod(digit - sequenceLimit + 1, SEQUENCE_LENGTH);
+		return firstDigit + sequenceLimit <= 2 * SEQUENCE_LENGTH;
+	}
+
+	/**
+	 * Checks if the descending window ending at digit fits in the reference
+	 * sequence
+	 */
+	private boolean isDescendingWindowAllowed(int digit) {
+		if (!cyclicSequence) {
+			return sequenceLimit <= SEQUENCE_LENGTH;
+		}
+		int firstDigit = (digit + sequenceLimit - 1) % SEQUENCE_LENGTH;
+		return (SEQUENCE_LENGTH - 1 - firstDigit) + sequenceLimit <= 2 * SEQUENCE_LENGTH;
+	}
+
+	/**
+	 * Checks if digit at index appears again within {@link #repeatingLimit}
+	 * preceding digits, like 11, 1x1
+	 */
+	private boolean isRepeated(String id, int index, int digit) {
+		if (repeatingLimit <= 0) {
+			return false;
+		}
+		int from = Math.max(0, index - repeatingLimit);
+		for (int previousIndex = index - 1; previousIndex >= from; previousIndex--) {
+			if (id.charAt(previousIndex) - '0' == digit) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if a block of {@link #repeatingBlockLimit} or more digits appears
+	 * again later in the id, like 48xxx48
+	 */
+	private boolean matchesRepeatingBlock(String id) {
+		if (repeatingBlockLimit <= 0) {
+			return false;
+		}
+		int lastBlockStart = id.length() - repeatingBlockLimit;
+		for (int first = 0; first + repeatingBlockLimit <= lastBlockStart; first++) {
+			for (int second = first + repeatingBlockLimit; second <= lastBlockStart; second++) {
+				if (id.regionMatches(first, id, second, repeatingBlockLimit)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the first x digits are same as the last x digits
+	 */
+	private boolean matchesDigitsGroup(String id) {
+		return digitsGroupLimit > 0 && digitsGroupLimit <= id.length()
+				&& id.regionMatches(0, id, id.length() - digitsGroupLimit, digitsGroupLimit);
+	}
+
+	/**
+	 * Checks if the first x digits are same as the last x digits reversed
+	 */
+	private boolean matchesReverseDigitsGroup(String id) {
+		if (reverseDigitsGroupLimit <= 0 || reverseDigitsGroupLimit > id.length()) {
+			return false;
+		}
+		int last = id.length() - 1;
+		for (int index = 0; index < reverseDigitsGroupLimit; index++) {
+			if (id.charAt(index) != id.charAt(last - index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean containsRestrictedNumber(String id) {
+		for (String restrictedNumber : restrictedNumbers) {
+			if (id.indexOf(restrictedNumber) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean startsWithRestricted(String id) {
+		for (String prefix : notStartWith) {
+			if (id.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Builder for {@link IdFilter}
+	 *
+	 * @author Dharmesh Khandelwal
+	 * @since 1.0.8
+	 *
+	 */
+	public static final class Builder {
+
+		private int length;
+
+		private int sequenceLimit;
+
+		private boolean cyclicSequence;
+
+		private int repeatingLimit;
+
+		private int repeatingBlockLimit;
+
+		private int conjugativeEvenDigitsLimit;
+
+		private int digitsGroupLimit;
+
+		private int reverseDigitsGroupLimit;
+
+		private List<String> restrictedNumbers = new ArrayList<>();
+
+		private List<String> notStartWith = new ArrayList<>();
+
+		private boolean cyclicNumberFilter;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param length expected length of the id
+		 * @return this builder
+		 */
+		public Builder length(int length) {
+			this.length = length;
+			return this;
+		}
+
+		/**
+		 * Upper bound of number of digits in sequence allowed in id. For example if
+		 * limit is 3, then 12 is allowed but 123 is not allowed in id (in both
+		 * ascending and descending order)
+		 *
+		 * @param sequenceLimit  the sequence limit
+		 * @param cyclicSequence true if the sequence continues after 9 with 0, like
+		 *                       890
+		 * @return this builder
+		 */
+		public Builder sequenceLimit(int sequenceLimit, boolean cyclicSequence) {
+			this.sequenceLimit = sequenceLimit;
+			this.cyclicSequence = cyclicSequence;
+			return this;
+		}
+
+		/**
+		 * Lower bound of number of digits allowed in between two repeating digits in
+		 * id. For example if limit is 2, then 11 and 1x1 is not allowed in id (x is
+		 * any digit)
+		 *
+		 * @param repeatingLimit the repeating limit
+		 * @return this builder
+		 */
+		public Builder repeatingLimit(int repeatingLimit) {
+			this.repeatingLimit = repeatingLimit;
+			return this;
+		}
+
+		/**
+		 * Number of digits in repeating block allowed in id. For example if limit is
+		 * 2, then 4xxx4 is allowed but 48xxx48 is not allowed in id (x is any digit)
+		 *
+		 * @param repeatingBlockLimit the repeating block limit
+		 * @return this builder
+		 */
+		public Builder repeatingBlockLimit(int repeatingBlockLimit) {
+			this.repeatingBlockLimit = repeatingBlockLimit;
+			return this;
+		}
+
+		/**
+		 * Number of even adjacent digits limit, e.g if limit is 3 then any 3 even
+		 * adjacent digits (2, 4, 6, 8) is not allowed
+		 *
+		 * @param conjugativeEvenDigitsLimit the adjacent even digits limit
+		 * @return this builder
+		 */
+		public Builder conjugativeEvenDigitsLimit(int conjugativeEvenDigitsLimit) {
+			this.conjugativeEvenDigitsLimit = conjugativeEvenDigitsLimit;
+			return this;
+		}
+
+		/**
+		 * Number of digits to check for digits group limit, example if limit is 5 and
+		 * id is 4345643456 then 5 digits group will be 43456
+		 *
+		 * @param digitsGroupLimit the digits group limit
+		 * @return this builder
+		 */
+		public Builder digitsGroupLimit(int digitsGroupLimit) {
+			this.digitsGroupLimit = digitsGroupLimit;
+			return this;
+		}
+
+		/**
+		 * Number of digits to check for reverse digits group limit, example if limit
+		 * is 5 and id is 4345665434 then first 5 digits will be 43456, reverse 65434
+		 *
+		 * @param reverseDigitsGroupLimit the reverse digits group limit
+		 * @return this builder
+		 */
+		public Builder reverseDigitsGroupLimit(int reverseDigitsGroupLimit) {
+			this.reverseDigitsGroupLimit = reverseDigitsGroupLimit;
+			return this;
+		}
+
+		/**
+		 * @param restrictedNumbers numbers not allowed anywhere in id, blank entries
+		 *                          are ignored
+		 * @return this builder
+		 */
+		public Builder restrictedNumbers(Collection<String> restrictedNumbers) {
+			this.restrictedNumbers = nonBlank(restrictedNumbers);
+			return this;
+		}
+
+		/**
+		 * @param notStartWith prefixes not allowed at start of id, blank entries are
+		 *                     ignored
+		 * @return this builder
+		 */
+		public Builder notStartWith(Collection<String> notStartWith) {
+			this.notStartWith = nonBlank(notStartWith);
+			return this;
+		}
+
+		/**
+		 * @param cyclicNumberFilter true to reject ids containing a Cyclic number
+		 * @return this builder
+		 */
+		public Builder cyclicNumberFilter(boolean cyclicNumberFilter) {
+			this.cyclicNumberFilter = cyclicNumberFilter;
+			return this;
+		}
+
+		/**
+		 * @return the compiled {@link IdFilter}
+		 */
+		public IdFilter build() {
+			return new IdFilter(this);
+		}
+
+		private static List<String> nonBlank(Collection<String> values) {
+			List<String> nonBlankValues = new ArrayList<>();
+			if (values != null) {
+				for (String value : values) {
+					if (value != null && !value.trim().isEmpty()) {
+						nonBlankValues.add(value.trim());
+					}
+				}
+			}
+			return nonBlankValues;
+		}
+	}
+}
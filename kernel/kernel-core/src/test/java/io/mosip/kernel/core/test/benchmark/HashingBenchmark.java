@@ -0,0 +1,99 @@
+package io.mosip.kernel.core.test.benchmark;
+
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mosip.kernel.core.util.HashingUtils;
+
+/**
+ * Compares {@link HashingUtils} with the single synchronized digest previously
+ * used by HMACUtils, with 1 thread up to one thread per core. Run with the main
+ * method from the test classpath.
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashingBenchmark {
+
+	private static final MessageDigest SHARED_DIGEST;
+
+	static {
+		try {
+			SHARED_DIGEST = MessageDigest.getInstance(HashingUtils.SHA_256);
+		} catch (java.security.NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Size of the hashed data, identity fields are small
+	 */
+	@Param({ "64", "1024" })
+	private int size;
+
+	private byte[] data;
+
+	private byte[] salt;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		data = new byte[size];
+		salt = new byte[16];
+		random.nextBytes(data);
+		random.nextBytes(salt);
+	}
+
+	@Benchmark
+	public String hashingUtils() {
+		return HashingUtils.hashWithSaltAsHex(data, salt);
+	}
+
+	@Benchmark
+	public String sharedSynchronizedDigest() {
+		return legacyDigestAsPlainTextWithSalt(data, salt);
+	}
+
+	private static synchronized String legacyDigestAsPlainTextWithSalt(byte[] bytes, byte[] salt) {
+		SHARED_DIGEST.update(bytes);
+		SHARED_DIGEST.update(salt);
+		return HashingUtils.toHex(SHARED_DIGEST.digest());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads < cores * 2; threads *= 2) {
+			run(Math.min(threads, cores));
+		}
+	}
+
+	private static void run(int threads) throws RunnerException {
+		Options options = new OptionsBuilder().include(HashingBenchmark.class.getSimpleName()).threads(threads)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,167 @@
+package io.mosip.kernel.core.test.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mosip.kernel.core.util.IdFilter;
+
+/**
+ * Compares {@link IdFilter} with the regex and parallel stream based uin filter
+ * it replaced, using the default uin generator configuration. Run with the
+ * main method from the test classpath.
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdFilterBenchmark {
+
+	private static final int ID_COUNT = 1024;
+
+	private String[] ids;
+
+	private IdFilter idFilter;
+
+	private LegacyUinFilter legacyFilter;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		ids = new String[ID_COUNT];
+		for (int i = 0; i < ID_COUNT; i++) {
+			char[] digits = new char[10];
+			for (int j = 0; j < digits.length; j++) {
+				digits[j] = (char) ('0' + random.nextInt(10));
+			}
+			ids[i] = new String(digits);
+		}
+		List<String> restrictedNumbers = Arrays.asList("786", "666");
+		List<String> notStartWith = Arrays.asList("0", "1");
+		idFilter = IdFilter.builder().length(10).sequenceLimit(3, true).repeatingLimit(2).repeatingBlockLimit(2)
+				.conjugativeEvenDigitsLimit(3).digitsGroupLimit(5).reverseDigitsGroupLimit(5)
+				.restrictedNumbers(restrictedNumbers).notStartWith(notStartWith).cyclicNumberFilter(true).build();
+		legacyFilter = new LegacyUinFilter(10, 3, 2, 2, 3, 5, 5, restrictedNumbers, notStartWith);
+	}
+
+	@Benchmark
+	public void compiledFilter(Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(idFilter.isValidId(id));
+		}
+	}
+
+	@Benchmark
+	public void legacyFilter(Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(legacyFilter.isValidId(id));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(IdFilterBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * Copy of the filter previously used by the uin generator, kept as the
+	 * benchmark baseline
+	 */
+	private static final class LegacyUinFilter {
+
+		private static final String SEQ_ASC = "01234567890123456789";
+
+		private static final String SEQ_DEC = "98765432109876543210";
+
+		private static final String[] CYCLIC_NUM = { "142857", "0588235294117647", "052631578947368421",
+				"0434782608695652173913", "0344827586206896551724137931",
+				"0212765957446808510638297872340425531914893617",
+				"0169491525423728813559322033898305084745762711864406779661",
+				"016393442622950819672131147540983606557377049180327868852459",
+				"010309278350515463917525773195876288659793814432989690721649484536082474226804123711340206185567" };
+
+		private final int uinLength;
+
+		private final int sequenceLimit;
+
+		private final int digitsGroupLimit;
+
+		private final int reverseDigitsGroupLimit;
+
+		private final List<String> restrictedAdminDigits;
+
+		private final List<String> notStartWith;
+
+		private final Pattern repeatingPattern;
+
+		private final Pattern repeatingBlockPattern;
+
+		private final Pattern conjugativeEvenDigitsLimitPattern;
+
+		LegacyUinFilter(int uinLength, int sequenceLimit, int repeatingLimit, int repeatingBlockLimit,
+				int conjugativeEvenDigitsLimit, int digitsGroupLimit, int reverseDigitsGroupLimit,
+				List<String> restrictedAdminDigits, List<String> notStartWith) {
+			this.uinLength = uinLength;
+			this.sequenceLimit = sequenceLimit;
+			this.digitsGroupLimit = digitsGroupLimit;
+			this.reverseDigitsGroupLimit = reverseDigitsGroupLimit;
+			this.restrictedAdminDigits = restrictedAdminDigits;
+			this.notStartWith = notStartWith;
+			repeatingPattern = Pattern.compile("(\\d)\\d{0," + (repeatingLimit - 1) + "}\\1");
+			repeatingBlockPattern = Pattern.compile("(\\d{" + repeatingBlockLimit + ",}).*?\\1");
+			conjugativeEvenDigitsLimitPattern = Pattern.compile("[2468]{" + conjugativeEvenDigitsLimit + "}");
+		}
+
+		boolean isValidId(String id) {
+			return !(sequenceFilter(id) || repeatingPattern.matcher(id).find()
+					|| repeatingBlockPattern.matcher(id).find() || conjugativeEvenDigitsLimitPattern.matcher(id).find()
+					|| id.substring(0, digitsGroupLimit).equals(id.substring(id.length() - digitsGroupLimit))
+					|| id.substring(0, reverseDigitsGroupLimit)
+							.equals(new StringBuilder(id.substring(id.length() - reverseDigitsGroupLimit)).reverse()
+									.toString())
+					|| restrictedAdminDigits.parallelStream().anyMatch(id::contains)
+					|| notStartWith.stream().anyMatch(id::startsWith) || id.length() != uinLength
+					|| restrictedCyclicNumFilter(id));
+		}
+
+		private boolean sequenceFilter(String id) {
+			return IntStream.rangeClosed(0, id.length() - sequenceLimit).parallel()
+					.mapToObj(index -> id.subSequence(index, index + sequenceLimit))
+					.anyMatch(idSubSequence -> SEQ_ASC.contains(idSubSequence) || SEQ_DEC.contains(idSubSequence));
+		}
+
+		private boolean restrictedCyclicNumFilter(String id) {
+			for (String cyclicNum : CYCLIC_NUM) {
+				if (id.length() >= cyclicNum.length() && Pattern.compile("(" + cyclicNum + ")").matcher(id).find()) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
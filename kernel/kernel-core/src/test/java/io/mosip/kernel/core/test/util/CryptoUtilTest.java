@@ -1,8 +1,15 @@
 package io.mosip.kernel.core.test.util;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.junit.Test;
 
 import io.mosip.kernel.core.util.CryptoUtil;
@@ -21,6 +28,21 @@ public class CryptoUtilTest {
 				isA(int.class));
 	}
 
+	@Test
+	public void testReadUntilSplitter() throws IOException {
+		InputStream inputStream = new ByteArrayInputStream("key#KEY_SPLITTER#data".getBytes());
+		assertArrayEquals("key".getBytes(), CryptoUtil.readUntilSplitter(inputStream, "#KEY_SPLITTER#", 16));
+		assertThat(inputStream.read(), is((int) 'd'));
+	}
+
+	@Test
+	public void testReadUntilSplitterNotFound() throws IOException {
+		assertThat(CryptoUtil.readUntilSplitter(new ByteArrayInputStream("keydata".getBytes()), "#KEY_SPLITTER#", 16),
+				is(nullValue()));
+		assertThat(CryptoUtil.readUntilSplitter(new ByteArrayInputStream("key#KEY_SPLITTER#".getBytes()),
+				"#KEY_SPLITTER#", 2), is(nullValue()));
+	}
+
 	@Test
 	public void testEncodeBase64() {
 		assertThat(CryptoUtil.encodeBase64("data".getBytes()), isA(String.class));
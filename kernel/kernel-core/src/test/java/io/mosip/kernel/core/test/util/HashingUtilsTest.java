@@ -0,0 +1,95 @@
+package io.mosip.kernel.core.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.mosip.kernel.core.exception.NoSuchAlgorithmException;
+import io.mosip.kernel.core.util.HMACUtils;
+import io.mosip.kernel.core.util.HashingUtils;
+
+/**
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+public class HashingUtilsTest {
+
+	private static final byte[] DATA = "Bal Vikash Sharma".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	public void hashTest() throws Exception {
+		assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(DATA), HashingUtils.hash(DATA));
+	}
+
+	@Test
+	public void hashWithAlgorithmTest() throws Exception {
+		assertArrayEquals(MessageDigest.getInstance("SHA-512").digest(DATA), HashingUtils.hash("SHA-512", DATA));
+	}
+
+	@Test(expected = NoSuchAlgorithmException.class)
+	public void hashWithInvalidAlgorithmTest() {
+		HashingUtils.hash("SHA-0", DATA);
+	}
+
+	@Test
+	public void hashStreamTest() throws IOException {
+		byte[] document = new byte[100_000];
+		for (int i = 0; i < document.length; i++) {
+			document[i] = (byte) i;
+		}
+		assertArrayEquals(HashingUtils.hash(document), HashingUtils.hash(new ByteArrayInputStream(document)));
+	}
+
+	@Test
+	public void hashWithSaltTest() {
+		byte[] salt = "salt".getBytes(StandardCharsets.UTF_8);
+		byte[] saltedData = "Bal Vikash Sharmasalt".getBytes(StandardCharsets.UTF_8);
+		assertThat(HashingUtils.hashWithSaltAsHex(DATA, salt), is(HashingUtils.hashAsHex(saltedData)));
+	}
+
+	@Test
+	public void toHexTest() {
+		assertThat(HashingUtils.toHex(new byte[] { 0, 15, 16, (byte) 0xAB, (byte) 0xFF }), is("000F10ABFF"));
+	}
+
+	@Test
+	public void hmacUtilsCompatibilityTest() {
+		assertThat(HMACUtils.digestAsPlainText(HMACUtils.generateHash(DATA)), is(HashingUtils.hashAsHex(DATA)));
+		assertThat(HashingUtils.hashAsHex(DATA).length(), is(64));
+	}
+
+	@Test
+	public void concurrentHashTest() throws Exception {
+		String expected = HashingUtils.hashAsHex(DATA);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			futures.add(executor.submit(() -> {
+				for (int j = 0; j < 10_000; j++) {
+					if (!expected.equals(HashingUtils.hashAsHex(DATA))) {
+						return false;
+					}
+				}
+				return true;
+			}));
+		}
+		for (Future<Boolean> future : futures) {
+			assertThat(future.get(30, TimeUnit.SECONDS), is(true));
+		}
+		executor.shutdown();
+	}
+}
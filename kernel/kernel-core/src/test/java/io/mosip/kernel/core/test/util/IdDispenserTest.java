@@ -0,0 +1,165 @@
+package io.mosip.kernel.core.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.kernel.core.idgenerator.spi.IdBlockSource;
+import io.mosip.kernel.core.util.IdDispenser;
+
+/**
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+public class IdDispenserTest {
+
+	private InMemoryIdBlockSource source;
+
+	@Before
+	public void setUp() {
+		source = new InMemoryIdBlockSource(100);
+	}
+
+	@Test
+	public void dispenseAllIdsOnceTest() throws Exception {
+		IdDispenser dispenser = new IdDispenser(source, 10, 3);
+		dispenser.start();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<List<String>>> futures = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			futures.add(executor.submit(() -> {
+				List<String> ids = new ArrayList<>();
+				String id;
+				while ((id = dispenser.next()) != null) {
+					ids.add(id);
+				}
+				return ids;
+			}));
+		}
+		Set<String> dispensed = new HashSet<>();
+		int total = 0;
+		for (Future<List<String>> future : futures) {
+			List<String> ids = future.get(10, TimeUnit.SECONDS);
+			dispensed.addAll(ids);
+			total += ids.size();
+		}
+		executor.shutdown();
+		dispenser.stop();
+		assertThat(total, is(100));
+		assertThat(dispensed.size(), is(100));
+		assertThat(dispenser.getDispensed(), is(100L));
+	}
+
+	@Test
+	public void emptySourceTest() {
+		IdDispenser dispenser = new IdDispenser(new InMemoryIdBlockSource(0), 10, 3);
+		dispenser.start();
+		assertThat(dispenser.next(), is(nullValue()));
+		dispenser.stop();
+	}
+
+	@Test
+	public void stopReleasesQueuedIdsTest() {
+		IdDispenser dispenser = new IdDispenser(source, 10, 0);
+		dispenser.start();
+		dispenser.next();
+		dispenser.stop();
+		assertThat(dispenser.getRefills(), is(1L));
+		assertThat(source.released.size(), is(9));
+		assertThat(dispenser.getQueued(), is(0));
+		assertThat(source.heartbeats.get(), is(0));
+	}
+
+	@Test
+	public void heartbeatTest() throws Exception {
+		IdDispenser dispenser = new IdDispenser(source, 10, 3, 10);
+		dispenser.start();
+		long timeout = System.currentTimeMillis() + 5000;
+		while (source.heartbeats.get() < 2 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		dispenser.stop();
+		int heartbeats = source.heartbeats.get();
+		assertThat(heartbeats >= 2, is(true));
+		Thread.sleep(50);
+		assertThat(source.heartbeats.get(), is(heartbeats));
+	}
+
+	@Test
+	public void failedHeartbeatTest() throws Exception {
+		source.heartbeatFails = true;
+		IdDispenser dispenser = new IdDispenser(source, 10, 3, 10);
+		dispenser.start();
+		long timeout = System.currentTimeMillis() + 5000;
+		while (dispenser.getHeartbeatFailures() < 2 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertThat(dispenser.next(), is("1000"));
+		dispenser.stop();
+		assertThat(dispenser.getHeartbeatFailures() >= 2, is(true));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void notStartedTest() {
+		new IdDispenser(source, 10, 3).next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBlockSizeTest() {
+		new IdDispenser(source, 0, 0);
+	}
+
+	private static class InMemoryIdBlockSource implements IdBlockSource {
+
+		private final List<String> available = new ArrayList<>();
+
+		private final List<String> released = new ArrayList<>();
+
+		private final AtomicInteger heartbeats = new AtomicInteger();
+
+		private volatile boolean heartbeatFails;
+
+		InMemoryIdBlockSource(int count) {
+			for (int i = 0; i < count; i++) {
+				available.add(String.valueOf(1000 + i));
+			}
+		}
+
+		@Override
+		public synchronized List<String> reserve(int count) {
+			List<String> block = new ArrayList<>(available.subList(0, Math.min(count, available.size())));
+			available.removeAll(block);
+			return block;
+		}
+
+		@Override
+		public synchronized int release(Collection<String> ids) {
+			released.addAll(ids);
+			return ids.size();
+		}
+
+		@Override
+		public int heartbeat() {
+			if (heartbeatFails) {
+				throw new IllegalStateException("database unavailable");
+			}
+			heartbeats.incrementAndGet();
+			return 0;
+		}
+	}
+}
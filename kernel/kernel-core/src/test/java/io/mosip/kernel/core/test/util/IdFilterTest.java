@@ -0,0 +1,122 @@
+package io.mosip.kernel.core.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.kernel.core.util.IdFilter;
+
+/**
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+public class IdFilterTest {
+
+	private IdFilter uinFilter;
+
+	@Before
+	public void setUp() {
+		uinFilter = IdFilter.builder().length(10).sequenceLimit(3, true).repeatingLimit(2).repeatingBlockLimit(2)
+				.conjugativeEvenDigitsLimit(3).digitsGroupLimit(5).reverseDigitsGroupLimit(5)
+				.restrictedNumbers(Arrays.asList("786", "666")).notStartWith(Arrays.asList("0", "1"))
+				.cyclicNumberFilter(true).build();
+	}
+
+	@Test
+	public void validIdTest() {
+		assertThat(uinFilter.isValidId("3029384756"), is(true));
+	}
+
+	@Test
+	public void lengthFailTest() {
+		assertThat(uinFilter.isValidId("302938475"), is(false));
+	}
+
+	@Test
+	public void nullIdFailTest() {
+		assertThat(uinFilter.isValidId(null), is(false));
+	}
+
+	@Test
+	public void nonDigitFailTest() {
+		assertThat(uinFilter.isValidId("30293 4756"), is(false));
+	}
+
+	@Test
+	public void notStartWithFailTest() {
+		assertThat(uinFilter.isValidId("1029384756"), is(false));
+	}
+
+	@Test
+	public void sequenceAscendingFailTest() {
+		assertThat(IdFilter.builder().sequenceLimit(3, false).build().isValidId("3029384567"), is(false));
+	}
+
+	@Test
+	public void sequenceDescendingFailTest() {
+		assertThat(IdFilter.builder().sequenceLimit(3, false).build().isValidId("3029387654"), is(false));
+	}
+
+	@Test
+	public void cyclicSequenceFailTest() {
+		assertThat(IdFilter.builder().sequenceLimit(3, true).build().isValidId("3029384901"), is(false));
+	}
+
+	@Test
+	public void nonCyclicSequencePassTest() {
+		assertThat(IdFilter.builder().sequenceLimit(3, false).build().isValidId("3029384901"), is(true));
+	}
+
+	@Test
+	public void repeatingFailTest() {
+		assertThat(IdFilter.builder().repeatingLimit(2).build().isValidId("3029384353"), is(false));
+	}
+
+	@Test
+	public void repeatingBlockFailTest() {
+		assertThat(IdFilter.builder().repeatingBlockLimit(2).build().isValidId("3029384729"), is(false));
+	}
+
+	@Test
+	public void adjacentEvenDigitsFailTest() {
+		assertThat(IdFilter.builder().conjugativeEvenDigitsLimit(3).build().isValidId("3029248573"), is(false));
+	}
+
+	@Test
+	public void digitsGroupFailTest() {
+		assertThat(IdFilter.builder().digitsGroupLimit(5).build().isValidId("4345643456"), is(false));
+	}
+
+	@Test
+	public void reverseDigitsGroupFailTest() {
+		assertThat(IdFilter.builder().reverseDigitsGroupLimit(5).build().isValidId("4345665434"), is(false));
+	}
+
+	@Test
+	public void restrictedNumberFailTest() {
+		assertThat(IdFilter.builder().restrictedNumbers(Arrays.asList("786", "666")).build().isValidId("3029786475"),
+				is(false));
+	}
+
+	@Test
+	public void cyclicNumberFailTest() {
+		assertThat(IdFilter.containsCyclicNumber("3029142857"), is(true));
+	}
+
+	@Test
+	public void blankRestrictedNumbersIgnoredTest() {
+		IdFilter filter = IdFilter.builder().restrictedNumbers(Arrays.asList("")).notStartWith(Arrays.asList(""))
+				.build();
+		assertThat(filter.isValidId("3029384756"), is(true));
+	}
+
+	@Test
+	public void disabledLimitsTest() {
+		assertThat(IdFilter.builder().build().isValidId("1111111111"), is(true));
+	}
+}
@@ -0,0 +1,109 @@
+package io.mosip.kernel.crypto.jce.core;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.Key;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.mosip.kernel.core.exception.NoSuchAlgorithmException;
+import io.mosip.kernel.crypto.jce.constant.SecurityExceptionCodeConstant;
+
+/**
+ * Ciphers of the calling thread by transformation. Looking a transformation up
+ * in the providers is costly, so every thread creates its cipher once and
+ * initialises it again for each operation.
+ * 
+ * @author Urvil Joshi
+ * @since 1.0.8
+ */
+final class Ciphers {
+
+	private static final String AES = "AES";
+
+	private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+	/*
+	 * No object initialization.
+	 */
+	private Ciphers() {
+	}
+
+	/**
+	 * Returns the cipher of the calling thread for the transformation. It must be
+	 * initialised before use.
+	 * 
+	 * @param transformation the transformation
+	 * @return the cipher
+	 */
+	static Cipher get(String transformation) {
+		Map<String, Cipher> ciphers = CIPHERS.get();
+		Cipher cipher = ciphers.get(transformation);
+		if (cipher == null) {
+			cipher = newCipher(transformation);
+			ciphers.put(transformation, cipher);
+		}
+		return cipher;
+	}
+
+	/**
+	 * Initialises the cipher of the calling thread. As a cipher keeps the provider
+	 * of the first key it was initialised with, and GCM refuses to encrypt twice
+	 * with the same key and iv, a rejected initialisation is retried once on a new
+	 * cipher which then replaces the cached one.
+	 * 
+	 * @param cipher         the cipher of the calling thread
+	 * @param transformation the transformation of the cipher
+	 * @param mode           operation mode
+	 * @param key            the key
+	 * @param params         algorithm parameters, can be null
+	 * @return the initialised cipher
+	 */
+	static Cipher init(Cipher cipher, String transformation, int mode, Key key, AlgorithmParameterSpec params)
+			throws java.security.InvalidKeyException, InvalidAlgorithmParameterException {
+		try {
+			init(cipher, mode, key, params);
+			return cipher;
+		} catch (java.security.InvalidKeyException | InvalidAlgorithmParameterException e) {
+			Cipher newCipher = newCipher(transformation);
+			init(newCipher, mode, key, params);
+			CIPHERS.get().put(transformation, newCipher);
+			return newCipher;
+		}
+	}
+
+	/**
+	 * Uses the key as is when it is already an AES key, instead of copying its
+	 * encoded form into a new {@link SecretKeySpec}
+	 * 
+	 * @param key the key
+	 * @return AES key
+	 */
+	static SecretKey toAESKey(SecretKey key) {
+		return AES.equalsIgnoreCase(key.getAlgorithm()) ? key : new SecretKeySpec(key.getEncoded(), AES);
+	}
+
+	private static void init(Cipher cipher, int mode, Key key, AlgorithmParameterSpec params)
+			throws java.security.InvalidKeyException, InvalidAlgorithmParameterException {
+		if (params == null) {
+			cipher.init(mode, key);
+		} else {
+			cipher.init(mode, key, params);
+		}
+	}
+
+	private static Cipher newCipher(String transformation) {
+		try {
+			return Cipher.getInstance(transformation);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package io.mosip.kernel.crypto.jce.core;
 
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
@@ -10,7 +11,6 @@ import java.security.cert.X509Certificate;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.MGF1ParameterSpec;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,14 +18,13 @@ import javax.annotation.PostConstruct;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.OAEPParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.PSource.PSpecified;
-import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
 
 import org.jose4j.jws.JsonWebSignature;
@@ -80,7 +79,8 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 
 	private static final String HASH_ALGO = "SHA-256";
 
-	private static final String AES = "AES";
+	private static final OAEPParameterSpec OAEP_PARAMS = new OAEPParameterSpec(HASH_ALGO, MGF1,
+			MGF1ParameterSpec.SHA256, PSpecified.DEFAULT);
 
 	@Value("${mosip.kernel.crypto.gcm-tag-length:128}")
 	private int tagLength;
@@ -114,27 +114,61 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 	public byte[] symmetricEncrypt(SecretKey key, byte[] data, byte[] aad) {
 		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
 		CryptoUtils.verifyData(data);
-		Cipher cipher;
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
+		byte[] randomIV = generateIV(cipher.getBlockSize());
 		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+			cipher = Ciphers.init(cipher, symmetricAlgorithm, Cipher.ENCRYPT_MODE, Ciphers.toAESKey(key),
+					new GCMParameterSpec(tagLength, randomIV));
+			byte[] output = new byte[cipher.getOutputSize(data.length) + randomIV.length];
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+			// cipher text and tag are written in place, followed by the iv
+			int length = doFinal(data, 0, data.length, output, cipher);
+			System.arraycopy(randomIV, 0, output, length, randomIV.length);
+			return output;
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
 		}
-		byte[] output = null;
+	}
+
+	/**
+	 * Symmetric encryption of a buffer into a caller supplied buffer, in the same
+	 * format as {@link #symmetricEncrypt(SecretKey, byte[], byte[])}: cipher text
+	 * and tag followed by the iv. Direct buffers are encrypted without copies to
+	 * the heap.
+	 * 
+	 * @param key    Symmetric Key as key
+	 * @param data   data to encrypt, read from its position to its limit
+	 * @param aad    Advance Authentication Data, can be null
+	 * @param output buffer written from its position, of at least
+	 *               {@link #getSymmetricEncryptedSize(int)} remaining bytes
+	 * @return number of bytes written to output
+	 */
+	public int symmetricEncrypt(SecretKey key, ByteBuffer data, ByteBuffer aad, ByteBuffer output) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
 		byte[] randomIV = generateIV(cipher.getBlockSize());
 		try {
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, randomIV);
-			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
-			output = new byte[cipher.getOutputSize(data.length) + cipher.getBlockSize()];
-			if (aad != null && aad.length != 0) {
+			cipher = Ciphers.init(cipher, symmetricAlgorithm, Cipher.ENCRYPT_MODE, Ciphers.toAESKey(key),
+					new GCMParameterSpec(tagLength, randomIV));
+			if (output.remaining() < cipher.getOutputSize(data.remaining()) + randomIV.length) {
+				throw new InvalidDataException(
+						SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
+						SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage());
+			}
+			if (aad != null && aad.hasRemaining()) {
 				cipher.updateAAD(aad);
 			}
-			byte[] processData = doFinal(data, cipher);
-			System.arraycopy(processData, 0, output, 0, processData.length);
-			System.arraycopy(randomIV, 0, output, processData.length, randomIV.length);
+			int length = doFinal(data, output, cipher);
+			output.put(randomIV);
+			return length + randomIV.length;
 		} catch (java.security.InvalidKeyException e) {
 			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
 					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
@@ -143,7 +177,16 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
 					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
 		}
-		return output;
+	}
+
+	/**
+	 * Size of the output of symmetric encryption of data of the given length
+	 * 
+	 * @param dataLength length of the data to encrypt
+	 * @return length of cipher text, tag and iv
+	 */
+	public int getSymmetricEncryptedSize(int dataLength) {
+		return dataLength + tagLength / Byte.SIZE + Ciphers.get(symmetricAlgorithm).getBlockSize();
 	}
 
 	@Override
@@ -153,18 +196,10 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		if (iv == null) {
 			return symmetricEncrypt(key, data, aad);
 		}
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
 		try {
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
-			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+			cipher = Ciphers.init(cipher, symmetricAlgorithm, Cipher.ENCRYPT_MODE, Ciphers.toAESKey(key),
+					new GCMParameterSpec(tagLength, iv));
 			if (aad != null && aad.length != 0) {
 				cipher.updateAAD(aad);
 			}
@@ -183,24 +218,22 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 	public byte[] symmetricDecrypt(SecretKey key, byte[] data, byte[] aad) {
 		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
 		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
+		int ivLength = cipher.getBlockSize();
+		int length = data.length - ivLength;
+		if (length < 0) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage());
 		}
-		byte[] output = null;
 		try {
-			byte[] randomIV = Arrays.copyOfRange(data, data.length - cipher.getBlockSize(), data.length);
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, randomIV);
-			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+			// iv is read in place from the end of the data
+			cipher = Ciphers.init(cipher, symmetricAlgorithm, Cipher.DECRYPT_MODE, Ciphers.toAESKey(key),
+					new GCMParameterSpec(tagLength, data, length, ivLength));
 			if (aad != null && aad.length != 0) {
 				cipher.updateAAD(aad);
 			}
-			output = doFinal(Arrays.copyOf(data, data.length - cipher.getBlockSize()), cipher);
+			return doFinal(data, 0, length, cipher);
 		} catch (java.security.InvalidKeyException e) {
 			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
 					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
@@ -208,12 +241,55 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 			throw new InvalidKeyException(
 					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
 					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		} catch (ArrayIndexOutOfBoundsException e) {
+		}
+	}
+
+	/**
+	 * Symmetric decryption of a buffer in the format written by
+	 * {@link #symmetricEncrypt(SecretKey, ByteBuffer, ByteBuffer, ByteBuffer)}
+	 * into a caller supplied buffer.
+	 * 
+	 * @param key    Symmetric Key as key
+	 * @param data   cipher text, tag and iv, read from its position to its limit
+	 * @param aad    Advance Authentication Data, can be null
+	 * @param output buffer written from its position, of at least the length of
+	 *               the cipher text remaining bytes
+	 * @return number of bytes written to output
+	 */
+	public int symmetricDecrypt(SecretKey key, ByteBuffer data, ByteBuffer aad, ByteBuffer output) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
+		int ivLength = cipher.getBlockSize();
+		int ivPosition = data.limit() - ivLength;
+		if (ivPosition < data.position()) {
 			throw new InvalidDataException(
 					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage(), e);
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage());
+		}
+		byte[] iv = new byte[ivLength];
+		ByteBuffer ivBuffer = data.duplicate();
+		ivBuffer.position(ivPosition);
+		ivBuffer.get(iv);
+		ByteBuffer encryptedData = data.duplicate();
+		encryptedData.limit(ivPosition);
+		try {
+			cipher = Ciphers.init(cipher, symmetricAlgorithm, Cipher.DECRYPT_MODE, Ciphers.toAESKey(key),
+					new GCMParameterSpec(tagLength, iv));
+			if (aad != null && aad.hasRemaining()) {
+				cipher.updateAAD(aad);
+			}
+			int length = doFinal(encryptedData, output, cipher);
+			data.position(data.limit());
+			return length;
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
 		}
-		return output;
 	}
 
 	@Override
@@ -223,18 +299,10 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		if (iv == null) {
 			return symmetricDecrypt(key, data, aad);
 		}
-		Cipher cipher;
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
 		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		try {
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
-			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+			cipher = Ciphers.init(cipher, symmetricAlgorithm, Cipher.DECRYPT_MODE, Ciphers.toAESKey(key),
+					new GCMParameterSpec(tagLength, iv));
 			if (aad != null) {
 				cipher.updateAAD(aad);
 			}
@@ -253,18 +321,9 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 	public byte[] asymmetricEncrypt(PublicKey key, byte[] data) {
 		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
 		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(asymmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		final OAEPParameterSpec oaepParams = new OAEPParameterSpec(HASH_ALGO, MGF1, MGF1ParameterSpec.SHA256,
-				PSpecified.DEFAULT);
+		Cipher cipher = Ciphers.get(asymmetricAlgorithm);
 		try {
-			cipher.init(Cipher.ENCRYPT_MODE, key, oaepParams);
+			cipher = Ciphers.init(cipher, asymmetricAlgorithm, Cipher.ENCRYPT_MODE, key, OAEP_PARAMS);
 		} catch (java.security.InvalidKeyException e) {
 			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
 					e.getMessage(), e);
@@ -280,19 +339,16 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 	public byte[] asymmetricDecrypt(PrivateKey key, byte[] data) {
 		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
 		CryptoUtils.verifyData(data);
-		Cipher cipher;
+		Cipher cipher = Ciphers.get(RSA_ECB_NO_PADDING);
 		try {
-			cipher = Cipher.getInstance(RSA_ECB_NO_PADDING);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		try {
-			cipher.init(Cipher.DECRYPT_MODE, key);
+			cipher = Ciphers.init(cipher, RSA_ECB_NO_PADDING, Cipher.DECRYPT_MODE, key, null);
 		} catch (java.security.InvalidKeyException e) {
 			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
 					e.getMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
 		}
 		/*
 		 * This is a hack of removing OEAP padding after decryption with NO Padding as
@@ -305,9 +361,7 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 					paddedPlainText.length);
 			paddedPlainText = tempPipe;
 		}
-		final OAEPParameterSpec oaepParams = new OAEPParameterSpec(HASH_ALGO, MGF1, MGF1ParameterSpec.SHA256,
-				PSpecified.DEFAULT);
-		return unpadOEAPPadding(paddedPlainText, oaepParams);
+		return unpadOEAPPadding(paddedPlainText, OAEP_PARAMS);
 
 	}
 
@@ -417,8 +471,12 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 	}
 
 	private byte[] doFinal(byte[] data, Cipher cipher) {
+		return doFinal(data, 0, data.length, cipher);
+	}
+
+	private byte[] doFinal(byte[] data, int offset, int length, Cipher cipher) {
 		try {
-			return cipher.doFinal(data);
+			return cipher.doFinal(data, offset, length);
 		} catch (IllegalBlockSizeException e) {
 			throw new InvalidDataException(
 					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
@@ -429,6 +487,38 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		}
 	}
 
+	private int doFinal(byte[] data, int offset, int length, byte[] output, Cipher cipher) {
+		try {
+			return cipher.doFinal(data, offset, length, output);
+		} catch (IllegalBlockSizeException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (BadPaddingException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (ShortBufferException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		}
+	}
+
+	private int doFinal(ByteBuffer data, ByteBuffer output, Cipher cipher) {
+		try {
+			return cipher.doFinal(data, output);
+		} catch (IllegalBlockSizeException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (BadPaddingException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (ShortBufferException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		}
+	}
+
 	/*
 	 * This two methods here are for temporary, Unit test for this will be written
 	 * in next versions
@@ -479,4 +569,4 @@ public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, Pub
 		}
 
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+package io.mosip.kernel.crypto.jce.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.SecureRandom;
+import java.util.Objects;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
+import io.mosip.kernel.core.crypto.exception.InvalidParamSpecException;
+import io.mosip.kernel.core.crypto.exception.NullDataException;
+import io.mosip.kernel.core.crypto.spi.StreamCryptoCoreSpec;
+import io.mosip.kernel.crypto.jce.constant.SecurityExceptionCodeConstant;
+
+/**
+ * This class provides <b> Streaming Symmetric Encryption and Decryption</b> in
+ * the format of {@link CryptoCore}: cipher text and tag, followed by the IV when
+ * it is generated.
+ * 
+ * Encryption holds a fixed size buffer whatever the size of the data. AES-GCM
+ * releases no plain text before the tag is verified, and the JCE provider holds
+ * the cipher text passed to it until then, so decryption reads the cipher text
+ * once and decrypts it in a single call, with an output buffer sized once.
+ * 
+ * @author Urvil Joshi
+ * @since 1.0.8
+ * 
+ * @see StreamCryptoCoreSpec
+ * @see CryptoCore
+ */
+@Component
+public class StreamCryptoCore implements StreamCryptoCoreSpec<SecretKey> {
+
+	/**
+	 * Size of the buffer used to read streams
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	@Value("${mosip.kernel.crypto.gcm-tag-length:128}")
+	private int tagLength;
+
+	@Value("${mosip.kernel.crypto.symmetric-algorithm-name:AES/GCM/PKCS5Padding}")
+	private String symmetricAlgorithm;
+
+	private SecureRandom secureRandom;
+
+	@PostConstruct
+	public void init() {
+		secureRandom = new SecureRandom();
+	}
+
+	@Override
+	public void symmetricEncrypt(SecretKey key, InputStream data, byte[] aad, OutputStream output)
+			throws IOException {
+		symmetricEncrypt(key, data, null, aad, output);
+	}
+
+	@Override
+	public void symmetricEncrypt(SecretKey key, InputStream data, byte[] iv, byte[] aad, OutputStream output)
+			throws IOException {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		verifyData(data);
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
+		byte[] randomIV = iv == null ? generateIV(cipher.getBlockSize()) : null;
+		cipher = initCipher(cipher, Cipher.ENCRYPT_MODE, key, iv == null ? randomIV : iv, aad);
+		transfer(data, output, cipher);
+		if (randomIV != null) {
+			output.write(randomIV);
+		}
+	}
+
+	@Override
+	public void symmetricDecrypt(SecretKey key, InputStream data, byte[] aad, OutputStream output)
+			throws IOException {
+		symmetricDecrypt(key, data, null, aad, output);
+	}
+
+	@Override
+	public void symmetricDecrypt(SecretKey key, InputStream data, byte[] iv, byte[] aad, OutputStream output)
+			throws IOException {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		verifyData(data);
+		Cipher cipher = Ciphers.get(symmetricAlgorithm);
+		EncryptedData encryptedData = new EncryptedData();
+		copy(data, encryptedData);
+		int ivLength = iv == null ? cipher.getBlockSize() : 0;
+		int length = encryptedData.size() - ivLength;
+		if (encryptedData.size() == 0) {
+			throw new InvalidDataException(SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorMessage());
+		} else if (length < 0) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage());
+		}
+		byte[] buffer = encryptedData.array();
+		cipher = initCipher(cipher, Cipher.DECRYPT_MODE, key, iv == null
+				? new GCMParameterSpec(tagLength, buffer, length, ivLength)
+				: new GCMParameterSpec(tagLength, iv), aad);
+		byte[] outputBuffer = new byte[cipher.getOutputSize(length)];
+		output.write(outputBuffer, 0, doFinal(cipher, buffer, 0, length, outputBuffer));
+	}
+
+	private Cipher initCipher(Cipher cipher, int mode, SecretKey key, byte[] iv, byte[] aad) {
+		return initCipher(cipher, mode, key, new GCMParameterSpec(tagLength, iv), aad);
+	}
+
+	private Cipher initCipher(Cipher cipher, int mode, SecretKey key, GCMParameterSpec gcmParameterSpec,
+			byte[] aad) {
+		try {
+			Cipher initialisedCipher = Ciphers.init(cipher, symmetricAlgorithm, mode, Ciphers.toAESKey(key),
+					gcmParameterSpec);
+			if (aad != null && aad.length != 0) {
+				initialisedCipher.updateAAD(aad);
+			}
+			return initialisedCipher;
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	/**
+	 * Passes the data through the cipher initialised for encryption with fixed
+	 * size buffers, the output buffer being large enough for each update and for
+	 * the final block and tag
+	 */
+	private void transfer(InputStream data, OutputStream output, Cipher cipher) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		byte[] outputBuffer = new byte[cipher.getOutputSize(BUFFER_SIZE)];
+		long total = 0;
+		int read;
+		while ((read = data.read(buffer)) != -1) {
+			total += read;
+			output.write(outputBuffer, 0, update(cipher, buffer, read, outputBuffer));
+		}
+		if (total == 0) {
+			throw new InvalidDataException(SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorMessage());
+		}
+		output.write(outputBuffer, 0, doFinal(cipher, null, 0, 0, outputBuffer));
+	}
+
+	private static void copy(InputStream data, OutputStream output) throws IOException {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = data.read(buffer)) != -1) {
+			output.write(buffer, 0, read);
+		}
+	}
+
+	private int update(Cipher cipher, byte[] data, int length, byte[] output) {
+		try {
+			return cipher.update(data, 0, length, output);
+		} catch (ShortBufferException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		}
+	}
+
+	private int doFinal(Cipher cipher, byte[] data, int offset, int length, byte[] output) {
+		try {
+			return data == null ? cipher.doFinal(output, 0) : cipher.doFinal(data, offset, length, output);
+		} catch (IllegalBlockSizeException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (BadPaddingException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (ShortBufferException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		}
+	}
+
+	private static void verifyData(InputStream data) {
+		if (data == null) {
+			throw new NullDataException(SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorMessage());
+		}
+	}
+
+	private byte[] generateIV(int blockSize) {
+		byte[] byteIV = new byte[blockSize];
+		secureRandom.nextBytes(byteIV);
+		return byteIV;
+	}
+
+	/**
+	 * Encrypted data read from a stream, exposing its buffer to avoid a copy
+	 */
+	private static class EncryptedData extends ByteArrayOutputStream {
+
+		EncryptedData() {
+			super(BUFFER_SIZE);
+		}
+
+		byte[] array() {
+			return buf;
+		}
+	}
+}
@@ -2,8 +2,10 @@ package io.mosip.kernel.crypto.jce.test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteBuffer;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
@@ -26,6 +28,7 @@ import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
 import io.mosip.kernel.core.crypto.exception.SignatureException;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -36,6 +39,9 @@ public class CryptoCoreTest {
 	@Autowired
 	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
 
+	@Autowired
+	private CryptoCore jceCryptoCore;
+
 	private KeyPair rsaPair;
 
 	private byte[] data;
@@ -226,4 +232,46 @@ public class CryptoCoreTest {
 		assertThat(cryptoCore.asymmetricDecrypt(invalidKeyPair.getPrivate(), encryptedData), isA(byte[].class));
 	}
 
+	@Test
+	public void testAESSymmetricByteBufferEncryptDecrypt() throws java.security.NoSuchAlgorithmException {
+		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
+		ByteBuffer encryptedData = ByteBuffer.allocateDirect(jceCryptoCore.getSymmetricEncryptedSize(data.length));
+		int length = jceCryptoCore.symmetricEncrypt(secretKeySpec, ByteBuffer.wrap(data),
+				ByteBuffer.wrap(MOCKAAD.getBytes()), encryptedData);
+		assertThat(length, is(encryptedData.capacity()));
+		encryptedData.flip();
+		ByteBuffer decryptedData = ByteBuffer.allocate(data.length);
+		assertThat(jceCryptoCore.symmetricDecrypt(secretKeySpec, encryptedData, ByteBuffer.wrap(MOCKAAD.getBytes()),
+				decryptedData), is(data.length));
+		assertArrayEquals(data, decryptedData.array());
+	}
+
+	@Test
+	public void testAESSymmetricByteBufferDecryptArray() throws java.security.NoSuchAlgorithmException {
+		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
+		ByteBuffer encryptedData = ByteBuffer.allocate(jceCryptoCore.getSymmetricEncryptedSize(data.length));
+		jceCryptoCore.symmetricEncrypt(secretKeySpec, ByteBuffer.wrap(data), null, encryptedData);
+		assertArrayEquals(data, cryptoCore.symmetricDecrypt(secretKeySpec, encryptedData.array(), null));
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void testAESSymmetricByteBufferEncryptShortOutput() throws java.security.NoSuchAlgorithmException {
+		jceCryptoCore.symmetricEncrypt(setSymmetricUp(32, "AES"), ByteBuffer.wrap(data), null,
+				ByteBuffer.allocate(data.length));
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void testAESSymmetricByteBufferDecryptInvalidDataLength() throws java.security.NoSuchAlgorithmException {
+		jceCryptoCore.symmetricDecrypt(setSymmetricUp(32, "AES"), ByteBuffer.wrap("aa".getBytes()), null,
+				ByteBuffer.allocate(16));
+	}
+
+	@Test
+	public void testAESSymmetricEncryptSameIvTwice() throws java.security.NoSuchAlgorithmException {
+		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
+		byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKeySpec, data, keyBytes, MOCKAAD.getBytes());
+		assertArrayEquals(encryptedData,
+				cryptoCore.symmetricEncrypt(secretKeySpec, data, keyBytes, MOCKAAD.getBytes()));
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package io.mosip.kernel.crypto.jce.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+import io.mosip.kernel.core.crypto.exception.NullDataException;
+import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.crypto.spi.StreamCryptoCoreSpec;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class StreamCryptoCoreTest {
+
+	private static final String MOCKAAD = "MOCKAAD";
+
+	@Autowired
+	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
+
+	@Autowired
+	private StreamCryptoCoreSpec<SecretKey> streamCryptoCore;
+
+	private SecretKey secretKey;
+
+	private byte[] data;
+
+	private final SecureRandom random = new SecureRandom();
+
+	@Before
+	public void init() {
+		byte[] keyBytes = new byte[32];
+		random.nextBytes(keyBytes);
+		secretKey = new SecretKeySpec(keyBytes, "AES");
+		data = new byte[100000];
+		random.nextBytes(data);
+	}
+
+	@Test
+	public void testAESSymmetricStreamEncryptArrayDecrypt() throws IOException {
+		ByteArrayOutputStream encryptedData = new ByteArrayOutputStream();
+		streamCryptoCore.symmetricEncrypt(secretKey, new ByteArrayInputStream(data), MOCKAAD.getBytes(),
+				encryptedData);
+		assertArrayEquals(data, cryptoCore.symmetricDecrypt(secretKey, encryptedData.toByteArray(), MOCKAAD.getBytes()));
+	}
+
+	@Test
+	public void testAESSymmetricArrayEncryptStreamDecrypt() throws IOException {
+		byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKey, data, MOCKAAD.getBytes());
+		ByteArrayOutputStream decryptedData = new ByteArrayOutputStream();
+		streamCryptoCore.symmetricDecrypt(secretKey, new ByteArrayInputStream(encryptedData), MOCKAAD.getBytes(),
+				decryptedData);
+		assertArrayEquals(data, decryptedData.toByteArray());
+	}
+
+	@Test
+	public void testAESSymmetricSaltStreamEncryptDecrypt() throws IOException {
+		byte[] iv = new byte[16];
+		random.nextBytes(iv);
+		ByteArrayOutputStream encryptedData = new ByteArrayOutputStream();
+		streamCryptoCore.symmetricEncrypt(secretKey, new ByteArrayInputStream(data), iv, MOCKAAD.getBytes(),
+				encryptedData);
+		assertArrayEquals(cryptoCore.symmetricEncrypt(secretKey, data, iv, MOCKAAD.getBytes()),
+				encryptedData.toByteArray());
+		ByteArrayOutputStream decryptedData = new ByteArrayOutputStream();
+		streamCryptoCore.symmetricDecrypt(secretKey, new ByteArrayInputStream(encryptedData.toByteArray()), iv,
+				MOCKAAD.getBytes(), decryptedData);
+		assertArrayEquals(data, decryptedData.toByteArray());
+	}
+
+	@Test
+	public void testAESSymmetricStreamDecryptLargeData() throws IOException {
+		byte[] largeData = new byte[16 * 1024 * 1024];
+		random.nextBytes(largeData);
+		byte[] iv = new byte[16];
+		random.nextBytes(iv);
+		ByteArrayOutputStream encryptedData = new ByteArrayOutputStream(largeData.length + 16);
+		streamCryptoCore.symmetricEncrypt(secretKey, new ByteArrayInputStream(largeData), iv, MOCKAAD.getBytes(),
+				encryptedData);
+		ByteArrayOutputStream decryptedData = new ByteArrayOutputStream(largeData.length);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		streamCryptoCore.symmetricDecrypt(secretKey, new ByteArrayInputStream(encryptedData.toByteArray()), iv,
+				MOCKAAD.getBytes(), decryptedData);
+		long allocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+		assertArrayEquals(largeData, decryptedData.toByteArray());
+		// the cipher text and the plain text are each held a few times at most, not
+		// once per buffer read
+		assertTrue("allocated " + allocated, allocated < 16L * largeData.length);
+
+		encryptedData.reset();
+		streamCryptoCore.symmetricEncrypt(secretKey, new ByteArrayInputStream(largeData), MOCKAAD.getBytes(),
+				encryptedData);
+		decryptedData.reset();
+		streamCryptoCore.symmetricDecrypt(secretKey, new ByteArrayInputStream(encryptedData.toByteArray()),
+				MOCKAAD.getBytes(), decryptedData);
+		assertArrayEquals(largeData, decryptedData.toByteArray());
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void testAESSymmetricStreamDecryptCorruptData() throws IOException {
+		byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKey, data, MOCKAAD.getBytes());
+		encryptedData[0] ^= 1;
+		streamCryptoCore.symmetricDecrypt(secretKey, new ByteArrayInputStream(encryptedData), MOCKAAD.getBytes(),
+				new ByteArrayOutputStream());
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void testAESSymmetricStreamEncryptEmptyData() throws IOException {
+		streamCryptoCore.symmetricEncrypt(secretKey, new ByteArrayInputStream(new byte[0]), null,
+				new ByteArrayOutputStream());
+	}
+
+	@Test(expected = NullDataException.class)
+	public void testAESSymmetricStreamEncryptNullData() throws IOException {
+		streamCryptoCore.symmetricEncrypt(secretKey, null, null, new ByteArrayOutputStream());
+	}
+}
@@ -0,0 +1,157 @@
+package io.mosip.kernel.crypto.jce.test.benchmark;
+
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
+
+/**
+ * Measures AES-GCM of {@link CryptoCore} from 1 KB to 10 MB against a new
+ * cipher and key spec per call with the output copied in place, as done before
+ * ciphers were reused, and RSA-OAEP of a symmetric key. Run with the main method
+ * from the test classpath.
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoCoreBenchmark {
+
+	private static final String SYMMETRIC_ALGORITHM = "AES/GCM/PKCS5Padding";
+
+	private static final int TAG_LENGTH = 128;
+
+	/**
+	 * Size of the encrypted data in bytes
+	 */
+	@Param({ "1024", "65536", "1048576", "10485760" })
+	private int size;
+
+	private CryptoCore cryptoCore;
+
+	private SecretKey secretKey;
+
+	private KeyPair keyPair;
+
+	private byte[] data;
+
+	private byte[] encryptedData;
+
+	private byte[] aad;
+
+	private ByteBuffer directData;
+
+	private ByteBuffer directOutput;
+
+	private byte[] encryptedKey;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	@Setup
+	public void setUp() throws Exception {
+		cryptoCore = new CryptoCore();
+		ReflectionTestUtils.setField(cryptoCore, "tagLength", TAG_LENGTH);
+		ReflectionTestUtils.setField(cryptoCore, "symmetricAlgorithm", SYMMETRIC_ALGORITHM);
+		ReflectionTestUtils.setField(cryptoCore, "asymmetricAlgorithm", "RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING");
+		ReflectionTestUtils.setField(cryptoCore, "asymmetricKeyLength", 2048);
+		cryptoCore.init();
+		Random random = new Random(42);
+		byte[] keyBytes = new byte[32];
+		random.nextBytes(keyBytes);
+		secretKey = new SecretKeySpec(keyBytes, "AES");
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048, secureRandom);
+		keyPair = generator.generateKeyPair();
+		data = new byte[size];
+		random.nextBytes(data);
+		aad = new byte[32];
+		random.nextBytes(aad);
+		encryptedData = cryptoCore.symmetricEncrypt(secretKey, data, aad);
+		directData = ByteBuffer.allocateDirect(size);
+		directData.put(data);
+		directOutput = ByteBuffer.allocateDirect(cryptoCore.getSymmetricEncryptedSize(size));
+		encryptedKey = cryptoCore.asymmetricEncrypt(keyPair.getPublic(), keyBytes);
+	}
+
+	@Benchmark
+	public byte[] symmetricEncrypt() {
+		return cryptoCore.symmetricEncrypt(secretKey, data, aad);
+	}
+
+	@Benchmark
+	public byte[] symmetricEncryptNewCipher() throws Exception {
+		Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+		byte[] iv = new byte[cipher.getBlockSize()];
+		secureRandom.nextBytes(iv);
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey.getEncoded(), "AES"),
+				new GCMParameterSpec(TAG_LENGTH, iv));
+		byte[] output = new byte[cipher.getOutputSize(data.length) + iv.length];
+		cipher.updateAAD(aad);
+		byte[] processData = cipher.doFinal(data);
+		System.arraycopy(processData, 0, output, 0, processData.length);
+		System.arraycopy(iv, 0, output, processData.length, iv.length);
+		return output;
+	}
+
+	@Benchmark
+	public int symmetricEncryptDirectBuffer() {
+		directData.rewind();
+		directOutput.clear();
+		return cryptoCore.symmetricEncrypt(secretKey, directData, ByteBuffer.wrap(aad), directOutput);
+	}
+
+	@Benchmark
+	public byte[] symmetricDecrypt() {
+		return cryptoCore.symmetricDecrypt(secretKey, encryptedData, aad);
+	}
+
+	/**
+	 * RSA-OAEP only wraps a key, so it is measured on a 32 byte key for every size
+	 */
+	@Benchmark
+	public byte[] asymmetricEncrypt() {
+		return cryptoCore.asymmetricEncrypt(keyPair.getPublic(), secretKey.getEncoded());
+	}
+
+	@Benchmark
+	public byte[] asymmetricDecrypt() {
+		return cryptoCore.asymmetricDecrypt(keyPair.getPrivate(), encryptedKey);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(CryptoCoreBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
@@ -1,7 +1,12 @@
 package io.mosip.kernel.cryptomanager.config;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import io.mosip.kernel.core.datamapper.spi.DataMapper;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
@@ -46,4 +51,18 @@ public class CryptomanagerConfig {
 		return new DataMapperBuilderImpl<>(CryptomanagerRequestDto.class, KeymanagerSymmetricKeyRequestDto.class)
 				.build();
 	}
+
+	/**
+	 * Executor processing the requests of batch encryption and decryption
+	 *
+	 * @param threads number of threads
+	 * @return the executor
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService cryptomanagerBatchExecutor(
+			@Value("${mosip.kernel.cryptomanager.batch.threads:8}") int threads) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cryptomanager-batch-");
+		threadFactory.setDaemon(true);
+		return Executors.newFixedThreadPool(threads, threadFactory);
+	}
 }
@@ -50,6 +50,10 @@ public enum CryptomanagerErrorCode {
 	 * 
 	 */
 	DATE_TIME_PARSE_EXCEPTION("KER-CRY-007", "timestamp should be in ISO 8601 format yyyy-MM-ddTHH::mm:ss.SZ"),
+	/**
+	 *
+	 */
+	BATCH_SIZE_EXCEEDED("KER-CRY-009", "number of requests in a batch should not exceed "),
 	INTERNAL_SERVER_ERROR("KER-CRY-500", "Internal server error");
 
 	/**
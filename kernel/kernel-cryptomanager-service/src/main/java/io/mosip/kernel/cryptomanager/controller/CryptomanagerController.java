@@ -6,18 +6,27 @@
  */
 package io.mosip.kernel.cryptomanager.controller;
 
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
@@ -74,4 +83,95 @@ public class CryptomanagerController {
 		response.setResponse(cryptomanagerService.decrypt(cryptomanagerRequestDto.getRequest()));
 		return response;
 	}
+
+	/**
+	 * Controller for Encrypt a batch of data
+	 * 
+	 * @param cryptomanagerBatchRequestDto {@link CryptomanagerBatchRequestDto}
+	 *                                     request
+	 * @return {@link CryptomanagerBatchResponseDto} encrypted Data or errors, in
+	 *         the order of the requests
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION','TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@ResponseFilter
+	@PostMapping(value = "/encrypt/batch", produces = "application/json")
+	public ResponseWrapper<CryptomanagerBatchResponseDto> encryptBatch(
+			@ApiParam("Salts and Data to encrypt in BASE64 encoding with meta-data") @RequestBody @Valid RequestWrapper<CryptomanagerBatchRequestDto> cryptomanagerBatchRequestDto) {
+		ResponseWrapper<CryptomanagerBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerService.encrypt(cryptomanagerBatchRequestDto.getRequest()));
+		return response;
+	}
+
+	/**
+	 * Controller for Decrypt a batch of data
+	 * 
+	 * @param cryptomanagerBatchRequestDto {@link CryptomanagerBatchRequestDto}
+	 *                                     request
+	 * @return {@link CryptomanagerBatchResponseDto} decrypted Data or errors, in
+	 *         the order of the requests
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION', 'TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@ResponseFilter
+	@PostMapping(value = "/decrypt/batch", produces = "application/json")
+	public ResponseWrapper<CryptomanagerBatchResponseDto> decryptBatch(
+			@ApiParam("Salts and Data to decrypt in BASE64 encoding with meta-data") @RequestBody @Valid RequestWrapper<CryptomanagerBatchRequestDto> cryptomanagerBatchRequestDto) {
+		ResponseWrapper<CryptomanagerBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerService.decrypt(cryptomanagerBatchRequestDto.getRequest()));
+		return response;
+	}
+
+	/**
+	 * Controller for Encrypt the data streamed in the request body. The response
+	 * body is the encrypted key, key splitter and encrypted data, as returned by
+	 * {@link #encrypt(RequestWrapper)} before BASE64 encoding.
+	 * 
+	 * @param applicationId application id
+	 * @param referenceId   reference id
+	 * @param timeStamp     timestamp in ISO 8601 format
+	 * @param salt          salt in BASE64 encoding
+	 * @param aad           AAD in BASE64 encoding
+	 * @param request       request with the data to encrypt as body
+	 * @param response      response the encrypted data is written to
+	 * @throws IOException if the request or response could not be read or written
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION','TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@PostMapping(value = "/encrypt.stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public void encryptStream(@RequestParam("applicationId") String applicationId,
+			@RequestParam(value = "referenceId", required = false) String referenceId,
+			@RequestParam("timeStamp") String timeStamp, @RequestParam(value = "salt", required = false) String salt,
+			@RequestParam(value = "aad", required = false) String aad, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		cryptomanagerService.encrypt(
+				new CryptomanagerRequestDto(applicationId, referenceId, DateUtils.parseToLocalDateTime(timeStamp),
+						null, salt, aad),
+				request.getInputStream(), response.getOutputStream());
+	}
+
+	/**
+	 * Controller for Decrypt the data streamed in the request body, in the format
+	 * written by {@link #encryptStream}.
+	 * 
+	 * @param applicationId application id
+	 * @param referenceId   reference id
+	 * @param timeStamp     timestamp in ISO 8601 format
+	 * @param salt          salt in BASE64 encoding
+	 * @param aad           AAD in BASE64 encoding
+	 * @param request       request with the data to decrypt as body
+	 * @param response      response the decrypted data is written to
+	 * @throws IOException if the request or response could not be read or written
+	 */
+	@PreAuthorize("hasAnyRole('INDIVIDUAL','ID_AUTHENTICATION', 'TEST', 'REGISTRATION_ADMIN', 'REGISTRATION_SUPERVISOR', 'REGISTRATION_OFFICER', 'REGISTRATION_PROCESSOR','PRE_REGISTRATION_ADMIN','RESIDENT')")
+	@PostMapping(value = "/decrypt.stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public void decryptStream(@RequestParam("applicationId") String applicationId,
+			@RequestParam(value = "referenceId", required = false) String referenceId,
+			@RequestParam("timeStamp") String timeStamp, @RequestParam(value = "salt", required = false) String salt,
+			@RequestParam(value = "aad", required = false) String aad, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		cryptomanagerService.decrypt(
+				new CryptomanagerRequestDto(applicationId, referenceId, DateUtils.parseToLocalDateTime(timeStamp),
+						null, salt, aad),
+				request.getInputStream(), response.getOutputStream());
+	}
 }
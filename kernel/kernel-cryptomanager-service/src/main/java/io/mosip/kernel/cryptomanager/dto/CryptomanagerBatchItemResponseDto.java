@@ -0,0 +1,36 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import io.mosip.kernel.core.exception.ServiceError;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a single request of a Crypto-Manager batch
+ * 
+ * @author Urvil Joshi
+ *
+ * @since 1.0.8
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing the result of a single request of a Crypto-Manager-Service batch")
+public class CryptomanagerBatchItemResponseDto {
+
+	/**
+	 * Data Encrypted/Decrypted in BASE64 encoding, null if the request failed
+	 */
+	@ApiModelProperty(notes = "Data encrypted/decrypted in BASE64 encoding, null if the request failed")
+	private String data;
+
+	/**
+	 * Errors of the request, empty if the request succeeded
+	 */
+	@ApiModelProperty(notes = "Errors of the request, empty if the request succeeded")
+	private List<ServiceError> errors;
+}
@@ -0,0 +1,37 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager batch request model
+ * 
+ * @author Urvil Joshi
+ *
+ * @since 1.0.8
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service batch Request")
+public class CryptomanagerBatchRequestDto {
+
+	/**
+	 * Requests to encrypt/decrypt, processed independently
+	 */
+	@ApiModelProperty(notes = "Requests to encrypt/decrypt", required = true)
+	@NotNull(message = CryptomanagerConstant.INVALID_REQUEST)
+	@Size(min = 1, message = CryptomanagerConstant.INVALID_REQUEST)
+	@Valid
+	private List<CryptomanagerRequestDto> requests;
+}
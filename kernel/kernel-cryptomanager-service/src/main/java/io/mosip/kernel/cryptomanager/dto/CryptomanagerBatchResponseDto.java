@@ -0,0 +1,29 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager batch response model
+ * 
+ * @author Urvil Joshi
+ *
+ * @since 1.0.8
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service batch Response")
+public class CryptomanagerBatchResponseDto {
+
+	/**
+	 * Results in the order of the requests
+	 */
+	@ApiModelProperty(notes = "Results in the order of the requests")
+	private List<CryptomanagerBatchItemResponseDto> responses;
+}
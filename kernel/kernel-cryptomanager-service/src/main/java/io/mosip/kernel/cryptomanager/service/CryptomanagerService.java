@@ -6,8 +6,14 @@
  */
 package io.mosip.kernel.cryptomanager.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import org.springframework.stereotype.Service;
 
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 
@@ -38,4 +44,48 @@ public interface CryptomanagerService {
 	 */
 	public CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto);
 
+	/**
+	 * Encrypt data read from a stream with metadata. Writes the encrypted
+	 * symmetric key, the key splitter and the encrypted data, in the format of
+	 * {@link #encrypt(CryptomanagerRequestDto)} without BASE64 encoding.
+	 *
+	 * @param cryptoRequestDto {@link CryptomanagerRequestDto} instance without data
+	 * @param data             data to encrypt
+	 * @param output           stream encrypted data is written to
+	 * @throws IOException if a stream could not be read or written
+	 */
+	public void encrypt(CryptomanagerRequestDto cryptoRequestDto, InputStream data, OutputStream output)
+			throws IOException;
+
+	/**
+	 * Decrypt data read from a stream with metadata, in the format written by
+	 * {@link #encrypt(CryptomanagerRequestDto, InputStream, OutputStream)}.
+	 *
+	 * @param cryptoRequestDto {@link CryptomanagerRequestDto} instance without data
+	 * @param data             data to decrypt
+	 * @param output           stream decrypted data is written to
+	 * @throws IOException if a stream could not be read or written
+	 */
+	public void decrypt(CryptomanagerRequestDto cryptoRequestDto, InputStream data, OutputStream output)
+			throws IOException;
+
+	/**
+	 * Encrypt a batch of data requested with metadata. Requests are encrypted in
+	 * parallel and a failed request does not fail the others.
+	 *
+	 * @param batchRequestDto {@link CryptomanagerBatchRequestDto} instance
+	 * @return encrypted data or errors, in the order of the requests
+	 */
+	public CryptomanagerBatchResponseDto encrypt(CryptomanagerBatchRequestDto batchRequestDto);
+
+	/**
+	 * Decrypt a batch of data requested with metadata. Symmetric keys shared by
+	 * requests are decrypted once, requests are decrypted in parallel and a failed
+	 * request does not fail the others.
+	 *
+	 * @param batchRequestDto {@link CryptomanagerBatchRequestDto} instance
+	 * @return decrypted data or errors, in the order of the requests
+	 */
+	public CryptomanagerBatchResponseDto decrypt(CryptomanagerBatchRequestDto batchRequestDto);
+
 }
@@ -8,19 +8,54 @@ package io.mosip.kernel.cryptomanager.service.impl;
 
 import static java.util.Arrays.copyOfRange;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 
+import io.mosip.kernel.auth.adapter.exception.AuthNException;
+import io.mosip.kernel.auth.adapter.exception.AuthZException;
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.crypto.spi.StreamCryptoCoreSpec;
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerErrorCode;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchItemResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
+import io.mosip.kernel.cryptomanager.exception.CryptoManagerSerivceException;
+import io.mosip.kernel.cryptomanager.exception.KeymanagerServiceException;
 import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
@@ -36,6 +71,11 @@ import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 @Service
 public class CryptomanagerServiceImpl implements CryptomanagerService {
 
+	/**
+	 * Maximum length of an encrypted symmetric key read from a stream
+	 */
+	private static final int MAX_ENCRYPTED_KEY_LENGTH = 1024;
+
 	/**
 	 * KeySplitter for splitting key and data
 	 */
@@ -60,6 +100,25 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 	@Autowired
 	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
 
+	/**
+	 * {@link StreamCryptoCoreSpec} instance for streaming symmetric encryption.
+	 */
+	@Autowired
+	private StreamCryptoCoreSpec<SecretKey> streamCryptoCore;
+
+	/**
+	 * Maximum number of requests in a batch
+	 */
+	@Value("${mosip.kernel.cryptomanager.batch.max-size:100}")
+	private int maxBatchSize;
+
+	/**
+	 * Executor processing the requests of a batch
+	 */
+	@Autowired
+	@Qualifier("cryptomanagerBatchExecutor")
+	private ExecutorService batchExecutorService;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -70,15 +129,7 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 	@Override
 	public CryptomanagerResponseDto encrypt(CryptomanagerRequestDto cryptoRequestDto) {
 		SecretKey secretKey = keyGenerator.getSymmetricKey();
-		final byte[] encryptedData;
-		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
-			encryptedData = cryptoCore.symmetricEncrypt(secretKey, CryptoUtil.decodeBase64(cryptoRequestDto.getData()),
-					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt())),
-					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
-		} else {
-			encryptedData = cryptoCore.symmetricEncrypt(secretKey, CryptoUtil.decodeBase64(cryptoRequestDto.getData()),
-					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
-		}
+		final byte[] encryptedData = symmetricEncrypt(secretKey, cryptoRequestDto);
 		PublicKey publicKey = cryptomanagerUtil.getPublicKey(cryptoRequestDto);
 		final byte[] encryptedSymmetricKey = cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded());
 		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
@@ -104,18 +155,262 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 				encryptedHybridData.length);
 		cryptoRequestDto.setData(CryptoUtil.encodeBase64(encryptedKey));
 		SecretKey decryptedSymmetricKey = cryptomanagerUtil.getDecryptedSymmetricKey(cryptoRequestDto);
-		final byte[] decryptedData;
+		final byte[] decryptedData = symmetricDecrypt(decryptedSymmetricKey, encryptedData, cryptoRequestDto);
+		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
+		cryptoResponseDto.setData(CryptoUtil.encodeBase64(decryptedData));
+		return cryptoResponseDto;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.cryptomanager.service.CryptomanagerService#encrypt(io.mosip.
+	 * kernel.cryptomanager.dto.CryptomanagerRequestDto, java.io.InputStream,
+	 * java.io.OutputStream)
+	 */
+	@Override
+	public void encrypt(CryptomanagerRequestDto cryptoRequestDto, InputStream data, OutputStream output)
+			throws IOException {
+		PushbackInputStream pushbackData = new PushbackInputStream(data);
+		int firstByte = pushbackData.read();
+		if (firstByte == -1) {
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_REQUEST.getErrorCode(),
+					"data " + CryptomanagerErrorCode.INVALID_REQUEST.getErrorMessage());
+		}
+		pushbackData.unread(firstByte);
+		SecretKey secretKey = keyGenerator.getSymmetricKey();
+		PublicKey publicKey = cryptomanagerUtil.getPublicKey(cryptoRequestDto);
+		final byte[] encryptedSymmetricKey = cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded());
+		output.write(encryptedSymmetricKey);
+		output.write(keySplitter.getBytes());
+		streamCryptoCore.symmetricEncrypt(secretKey, pushbackData, getSalt(cryptoRequestDto),
+				CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())), output);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.cryptomanager.service.CryptomanagerService#decrypt(io.mosip.
+	 * kernel.cryptomanager.dto.CryptomanagerRequestDto, java.io.InputStream,
+	 * java.io.OutputStream)
+	 */
+	@Override
+	public void decrypt(CryptomanagerRequestDto cryptoRequestDto, InputStream data, OutputStream output)
+			throws IOException {
+		InputStream bufferedData = new BufferedInputStream(data);
+		byte[] encryptedKey = CryptoUtil.readUntilSplitter(bufferedData, keySplitter, MAX_ENCRYPTED_KEY_LENGTH);
+		if (encryptedKey == null) {
+			throw new CryptoManagerSerivceException(
+					CryptomanagerErrorCode.INVALID_DATA_WITHOUT_KEY_BREAKER.getErrorCode(),
+					CryptomanagerErrorCode.INVALID_DATA_WITHOUT_KEY_BREAKER.getErrorMessage());
+		}
+		cryptoRequestDto.setData(CryptoUtil.encodeBase64(encryptedKey));
+		SecretKey decryptedSymmetricKey = cryptomanagerUtil.getDecryptedSymmetricKey(cryptoRequestDto);
+		streamCryptoCore.symmetricDecrypt(decryptedSymmetricKey, bufferedData, getSalt(cryptoRequestDto),
+				CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())), output);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.cryptomanager.service.CryptomanagerService#encrypt(io.mosip.
+	 * kernel.cryptomanager.dto.CryptomanagerBatchRequestDto)
+	 */
+	@Override
+	public CryptomanagerBatchResponseDto encrypt(CryptomanagerBatchRequestDto batchRequestDto) {
+		List<CryptomanagerRequestDto> requests = validateBatch(batchRequestDto);
+		Executor executor = batchExecutor();
+		Map<List<Object>, CompletableFuture<EncryptionKey>> sharedKeys = new HashMap<>();
+		List<CompletableFuture<CryptomanagerBatchItemResponseDto>> results = new ArrayList<>(requests.size());
+		for (CryptomanagerRequestDto request : requests) {
+			CompletableFuture<EncryptionKey> encryptionKey;
+			if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(request.getSalt()))) {
+				// a salt is used as IV, which must never be reused with the same key
+				encryptionKey = CompletableFuture.supplyAsync(() -> generateEncryptionKey(request), executor);
+			} else {
+				encryptionKey = sharedKeys.computeIfAbsent(
+						Arrays.asList(request.getApplicationId(), request.getReferenceId(), request.getTimeStamp()),
+						group -> CompletableFuture.supplyAsync(() -> generateEncryptionKey(request), executor));
+			}
+			results.add(encryptionKey.thenApplyAsync(key -> CryptoUtil.encodeBase64(CryptoUtil
+					.combineByteArray(symmetricEncrypt(key.secretKey, request), key.encryptedKey, keySplitter)),
+					executor).handle(this::toBatchItemResponse));
+		}
+		return toBatchResponse(results);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.cryptomanager.service.CryptomanagerService#decrypt(io.mosip.
+	 * kernel.cryptomanager.dto.CryptomanagerBatchRequestDto)
+	 */
+	@Override
+	public CryptomanagerBatchResponseDto decrypt(CryptomanagerBatchRequestDto batchRequestDto) {
+		List<CryptomanagerRequestDto> requests = validateBatch(batchRequestDto);
+		Executor executor = batchExecutor();
+		Map<List<Object>, CompletableFuture<SecretKey>> decryptedKeys = new HashMap<>();
+		List<CompletableFuture<CryptomanagerBatchItemResponseDto>> results = new ArrayList<>(requests.size());
+		for (CryptomanagerRequestDto request : requests) {
+			CompletableFuture<String> result;
+			try {
+				byte[] encryptedHybridData = CryptoUtil.decodeBase64(request.getData());
+				int keyDemiliterIndex = CryptoUtil.getSplitterIndex(encryptedHybridData, 0, keySplitter);
+				String encryptedKey = CryptoUtil.encodeBase64(copyOfRange(encryptedHybridData, 0, keyDemiliterIndex));
+				byte[] encryptedData = copyOfRange(encryptedHybridData, keyDemiliterIndex + keySplitter.length(),
+						encryptedHybridData.length);
+				CompletableFuture<SecretKey> decryptedKey = decryptedKeys.computeIfAbsent(
+						Arrays.asList(request.getApplicationId(), request.getReferenceId(), request.getTimeStamp(),
+								encryptedKey),
+						group -> CompletableFuture.supplyAsync(
+								() -> cryptomanagerUtil.getDecryptedSymmetricKey(
+										new CryptomanagerRequestDto(request.getApplicationId(), request.getReferenceId(),
+												request.getTimeStamp(), encryptedKey, request.getSalt(), request.getAad())),
+								executor));
+				result = decryptedKey.thenApplyAsync(
+						key -> CryptoUtil.encodeBase64(symmetricDecrypt(key, encryptedData, request)), executor);
+			} catch (RuntimeException exception) {
+				result = new CompletableFuture<>();
+				result.completeExceptionally(exception);
+			}
+			results.add(result.handle(this::toBatchItemResponse));
+		}
+		return toBatchResponse(results);
+	}
+
+	private List<CryptomanagerRequestDto> validateBatch(CryptomanagerBatchRequestDto batchRequestDto) {
+		List<CryptomanagerRequestDto> requests = batchRequestDto.getRequests();
+		if (requests.size() > maxBatchSize) {
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.BATCH_SIZE_EXCEEDED.getErrorCode(),
+					CryptomanagerErrorCode.BATCH_SIZE_EXCEEDED.getErrorMessage() + maxBatchSize);
+		}
+		return requests;
+	}
+
+	/**
+	 * Batch executor running with the security context of the request, so that
+	 * calls to Key-Manager-Service carry the token of the caller
+	 */
+	private Executor batchExecutor() {
+		return new DelegatingSecurityContextExecutor(batchExecutorService, SecurityContextHolder.getContext());
+	}
+
+	private EncryptionKey generateEncryptionKey(CryptomanagerRequestDto cryptoRequestDto) {
+		SecretKey secretKey = keyGenerator.getSymmetricKey();
+		PublicKey publicKey = cryptomanagerUtil.getPublicKey(cryptoRequestDto);
+		return new EncryptionKey(secretKey, cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded()));
+	}
+
+	private CryptomanagerBatchItemResponseDto toBatchItemResponse(String data, Throwable throwable) {
+		if (throwable == null) {
+			return new CryptomanagerBatchItemResponseDto(data, Collections.emptyList());
+		}
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+				? throwable.getCause()
+				: throwable;
+		if (cause instanceof AuthNException || cause instanceof AuthZException
+				|| cause instanceof AuthenticationException || cause instanceof AccessDeniedException) {
+			// the caller is not allowed to use the keys, which fails the whole batch
+			throw (RuntimeException) cause;
+		}
+		return new CryptomanagerBatchItemResponseDto(null, toServiceErrors(cause));
+	}
+
+	/**
+	 * Errors of a failed request of a batch, as mapped by
+	 * {@link io.mosip.kernel.cryptomanager.exception.CryptomanagerExceptionHandler}
+	 * for a single request
+	 */
+	private List<ServiceError> toServiceErrors(Throwable cause) {
+		if (cause instanceof KeymanagerServiceException) {
+			return ((KeymanagerServiceException) cause).getList();
+		}
+		if (cause instanceof InvalidDataException) {
+			InvalidDataException exception = (InvalidDataException) cause;
+			return Collections.singletonList(new ServiceError(exception.getErrorCode(),
+					exception.getErrorText() + CryptomanagerErrorCode.INVALID_DATA.getErrorMessage()));
+		}
+		if (cause instanceof BaseUncheckedException) {
+			BaseUncheckedException exception = (BaseUncheckedException) cause;
+			return Collections.singletonList(new ServiceError(exception.getErrorCode(), exception.getErrorText()));
+		}
+		if (cause instanceof IllegalArgumentException) {
+			return Collections.singletonList(
+					new ServiceError(CryptomanagerErrorCode.INVALID_DATA_WITHOUT_KEY_BREAKER.getErrorCode(),
+							CryptomanagerErrorCode.INVALID_DATA_WITHOUT_KEY_BREAKER.getErrorMessage()));
+		}
+		if (cause instanceof HttpStatusCodeException) {
+			return Collections.singletonList(new ServiceError(
+					CryptomanagerErrorCode.KEYMANAGER_SERVICE_ERROR.getErrorCode(),
+					CryptomanagerErrorCode.KEYMANAGER_SERVICE_ERROR.getErrorMessage() + CryptomanagerConstant.WHITESPACE
+							+ ((HttpStatusCodeException) cause).getResponseBodyAsString()));
+		}
+		if (cause instanceof ResourceAccessException) {
+			return Collections.singletonList(
+					new ServiceError(CryptomanagerErrorCode.CANNOT_CONNECT_TO_KEYMANAGER_SERVICE.getErrorCode(),
+							CryptomanagerErrorCode.CANNOT_CONNECT_TO_KEYMANAGER_SERVICE.getErrorMessage()));
+		}
+		return Collections.singletonList(
+				new ServiceError(CryptomanagerErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(), cause.getMessage()));
+	}
+
+	private CryptomanagerBatchResponseDto toBatchResponse(
+			List<CompletableFuture<CryptomanagerBatchItemResponseDto>> results) {
+		List<CryptomanagerBatchItemResponseDto> responses = new ArrayList<>(results.size());
+		for (CompletableFuture<CryptomanagerBatchItemResponseDto> result : results) {
+			try {
+				responses.add(result.join());
+			} catch (CompletionException exception) {
+				results.forEach(pending -> pending.cancel(false));
+				throw (RuntimeException) exception.getCause();
+			}
+		}
+		return new CryptomanagerBatchResponseDto(responses);
+	}
+
+	private byte[] symmetricEncrypt(SecretKey secretKey, CryptomanagerRequestDto cryptoRequestDto) {
 		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
-			decryptedData = cryptoCore.symmetricDecrypt(decryptedSymmetricKey, encryptedData,
+			return cryptoCore.symmetricEncrypt(secretKey, CryptoUtil.decodeBase64(cryptoRequestDto.getData()),
 					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt())),
 					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
-		} else {
-			decryptedData = cryptoCore.symmetricDecrypt(decryptedSymmetricKey, encryptedData,
+		}
+		return cryptoCore.symmetricEncrypt(secretKey, CryptoUtil.decodeBase64(cryptoRequestDto.getData()),
+				CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
+	}
+
+	private byte[] symmetricDecrypt(SecretKey secretKey, byte[] encryptedData,
+			CryptomanagerRequestDto cryptoRequestDto) {
+		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
+			return cryptoCore.symmetricDecrypt(secretKey, encryptedData,
+					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt())),
 					CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
 		}
-		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
-		cryptoResponseDto.setData(CryptoUtil.encodeBase64(decryptedData));
-		return cryptoResponseDto;
+		return cryptoCore.symmetricDecrypt(secretKey, encryptedData,
+				CryptoUtil.decodeBase64(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
+	}
+
+	private byte[] getSalt(CryptomanagerRequestDto cryptoRequestDto) {
+		String salt = CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt());
+		return cryptomanagerUtil.isValidSalt(salt) ? CryptoUtil.decodeBase64(salt) : null;
+	}
+
+	/**
+	 * Symmetric key with its encryption by the public key
+	 */
+	private static final class EncryptionKey {
+
+		private final SecretKey secretKey;
+
+		private final byte[] encryptedKey;
+
+		private EncryptionKey(SecretKey secretKey, byte[] encryptedKey) {
+			this.secretKey = secretKey;
+			this.encryptedKey = encryptedKey;
+		}
 	}
 
 }
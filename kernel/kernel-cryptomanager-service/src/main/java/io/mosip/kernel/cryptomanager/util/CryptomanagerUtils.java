@@ -58,6 +58,7 @@ import io.mosip.kernel.cryptomanager.dto.KeymanagerSymmetricKeyResponseDto;
 import io.mosip.kernel.cryptomanager.exception.CryptoManagerSerivceException;
 import io.mosip.kernel.cryptomanager.exception.KeymanagerServiceException;
 import io.mosip.kernel.cryptomanager.exception.ParseResponseException;
+import io.mosip.kernel.cryptomanager.util.PublicKeyCache.PublicKeyEntry;
 
 /**
  * Util class for this project
@@ -140,24 +141,43 @@ public class CryptomanagerUtils {
 	@Autowired
 	private RestTemplate restTemplate;
 
+	/**
+	 * {@link PublicKeyCache} instance
+	 */
+	@Autowired
+	private PublicKeyCache publicKeyCache;
+
 	private static final String KEYMANAGER = "Keymanager";
 
 	private static final String PUBLIC_KEY = "Public Key";
 
 	/**
-	 * Calls Key-Manager-Service to get public key of an application
+	 * Gets public key of an application, from {@link PublicKeyCache} or else from
+	 * Key-Manager-Service
 	 * 
 	 * @param cryptomanagerRequestDto {@link CryptomanagerRequestDto} instance
 	 * @return {@link PublicKey} returned by Key Manager Service
 	 */
 	public PublicKey getPublicKey(CryptomanagerRequestDto cryptomanagerRequestDto) {
+		return publicKeyCache.get(cryptomanagerRequestDto.getApplicationId(), cryptomanagerRequestDto.getReferenceId(),
+				cryptomanagerRequestDto.getTimeStamp(), this::loadPublicKey);
+	}
+
+	/**
+	 * Calls Key-Manager-Service to get public key of an application
+	 * 
+	 * @param applicationId applicationId
+	 * @param referenceId   referenceId
+	 * @param timeStamp     timeStamp
+	 * @return {@link PublicKeyEntry} returned by Key Manager Service
+	 */
+	private PublicKeyEntry loadPublicKey(String applicationId, String referenceId, LocalDateTime timeStamp) {
 		PublicKey key = null;
 		ResponseEntity<String> response = null;
 		Map<String, String> uriParams = new HashMap<>();
-		uriParams.put(APPLICATION_ID, cryptomanagerRequestDto.getApplicationId());
+		uriParams.put(APPLICATION_ID, applicationId);
 		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(getPublicKeyUrl)
-				.queryParam(TIMESTAMP, DateUtils.formatToISOString(cryptomanagerRequestDto.getTimeStamp()))
-				.queryParam(REFERENCE_ID, cryptomanagerRequestDto.getReferenceId());
+				.queryParam(TIMESTAMP, DateUtils.formatToISOString(timeStamp)).queryParam(REFERENCE_ID, referenceId);
 		try {
 			response = restTemplate.exchange(builder.buildAndExpand(uriParams).toUri(), HttpMethod.GET, null,
 					String.class);
@@ -181,7 +201,7 @@ public class CryptomanagerUtils {
 					CryptomanagerErrorCode.NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
 					CryptomanagerErrorCode.NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage());
 		}
-		return key;
+		return new PublicKeyEntry(key, keyManagerResponseDto.getIssuedAt(), keyManagerResponseDto.getExpiryAt());
 	}
 
 	/**
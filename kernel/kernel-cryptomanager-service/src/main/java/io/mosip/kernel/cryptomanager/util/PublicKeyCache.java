@@ -0,0 +1,338 @@
+package io.mosip.kernel.cryptomanager.util;
+
+import java.security.PublicKey;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.cryptomanager.config.LoggerConfiguration;
+
+/**
+ * Local cache of public keys fetched from Key-Manager-Service, so that
+ * encryption does not call Key-Manager-Service for every request.
+ *
+ * <p>
+ * Keys are cached per applicationId and referenceId, with the validity window
+ * (issuedAt to expiryAt) returned by Key-Manager-Service; a lookup hits only if
+ * the timestamp falls in the window of a cached key. A hit on a key older than
+ * the configured time to live, or on a key close to its expiry, refreshes the
+ * key or fetches its successor in the background, so callers keep being served
+ * from the cache across refreshes and key rotation. Background refreshes run
+ * with the security context of the request which triggered them. The least
+ * recently used applicationId and referenceId are evicted beyond the
+ * configured size; a size of zero disables the cache.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Component
+public class PublicKeyCache {
+
+	private static final Logger LOGGER = LoggerConfiguration.logConfig(PublicKeyCache.class);
+
+	/**
+	 * Validity windows kept for a single applicationId and referenceId
+	 */
+	private static final int MAX_WINDOWS = 4;
+
+	@Value("${mosip.kernel.cryptomanager.publickey-cache.max-size:100}")
+	private int maxSize;
+
+	@Value("${mosip.kernel.cryptomanager.publickey-cache.ttl-seconds:600}")
+	private long ttlSeconds;
+
+	@Value("${mosip.kernel.cryptomanager.publickey-cache.refresh-before-expiry-seconds:3600}")
+	private long refreshBeforeExpirySeconds;
+
+	private long ttlNanos;
+
+	/**
+	 * Clock of the load times compared with the time to live
+	 */
+	private LongSupplier nanoClock = System::nanoTime;
+
+	/**
+	 * Cached keys by applicationId and referenceId, in access order
+	 */
+	private Map<CacheKey, List<CachedPublicKey>> cacheMap;
+
+	/**
+	 * Executor running background refreshes
+	 */
+	private ExecutorService refreshExecutor;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder refreshes = new LongAdder();
+
+	private final LongAdder refreshFailures = new LongAdder();
+
+	/**
+	 * Loads a public key from Key-Manager-Service
+	 */
+	@FunctionalInterface
+	public interface PublicKeyLoader {
+
+		/**
+		 * Function to load the public key valid at the timestamp
+		 *
+		 * @param applicationId applicationId
+		 * @param referenceId   referenceId
+		 * @param timeStamp     timeStamp
+		 * @return the public key with its validity window
+		 */
+		PublicKeyEntry load(String applicationId, String referenceId, LocalDateTime timeStamp);
+	}
+
+	/**
+	 * Public key with its validity window
+	 */
+	public static final class PublicKeyEntry {
+
+		private final PublicKey publicKey;
+
+		private final LocalDateTime issuedAt;
+
+		private final LocalDateTime expiryAt;
+
+		public PublicKeyEntry(PublicKey publicKey, LocalDateTime issuedAt, LocalDateTime expiryAt) {
+			this.publicKey = publicKey;
+			this.issuedAt = issuedAt;
+			this.expiryAt = expiryAt;
+		}
+
+		public PublicKey getPublicKey() {
+			return publicKey;
+		}
+
+		public LocalDateTime getIssuedAt() {
+			return issuedAt;
+		}
+
+		public LocalDateTime getExpiryAt() {
+			return expiryAt;
+		}
+
+		private boolean isValid(LocalDateTime timeStamp) {
+			return !timeStamp.isBefore(issuedAt) && !timeStamp.isAfter(expiryAt);
+		}
+
+		private boolean overlaps(PublicKeyEntry other) {
+			return !issuedAt.isAfter(other.expiryAt) && !other.issuedAt.isAfter(expiryAt);
+		}
+	}
+
+	@PostConstruct
+	public void init() {
+		ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+		cacheMap = new LinkedHashMap<CacheKey, List<CachedPublicKey>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, List<CachedPublicKey>> eldest) {
+				return size() > maxSize;
+			}
+		};
+		refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "publickey-cache-refresh");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void destroy() {
+		refreshExecutor.shutdownNow();
+	}
+
+	/**
+	 * Function to get the public key valid at the timestamp, from the cache or
+	 * else from the loader
+	 *
+	 * @param applicationId applicationId
+	 * @param referenceId   referenceId
+	 * @param timeStamp     timeStamp
+	 * @param loader        loader of keys not cached
+	 * @return the public key
+	 */
+	public PublicKey get(String applicationId, String referenceId, LocalDateTime timeStamp, PublicKeyLoader loader) {
+		if (maxSize <= 0) {
+			return loader.load(applicationId, referenceId, timeStamp).getPublicKey();
+		}
+		CacheKey key = new CacheKey(applicationId, referenceId);
+		CachedPublicKey cachedKey = null;
+		boolean successorCached = false;
+		synchronized (cacheMap) {
+			List<CachedPublicKey> windows = cacheMap.get(key);
+			if (windows != null) {
+				cachedKey = find(windows, timeStamp);
+				successorCached = cachedKey != null && find(windows, cachedKey.entry.expiryAt.plusSeconds(1)) != null;
+			}
+		}
+		if (cachedKey == null) {
+			misses.increment();
+			PublicKeyEntry entry = loader.load(applicationId, referenceId, timeStamp);
+			put(key, entry);
+			return entry.getPublicKey();
+		}
+		hits.increment();
+		if (nanoClock.getAsLong() - cachedKey.loadedAt >= ttlNanos) {
+			scheduleRefresh(key, cachedKey, timeStamp, loader);
+		} else if (!successorCached
+				&& !timeStamp.isBefore(cachedKey.entry.expiryAt.minusSeconds(refreshBeforeExpirySeconds))) {
+			scheduleRefresh(key, cachedKey, cachedKey.entry.expiryAt.plusSeconds(1), loader);
+		}
+		return cachedKey.entry.getPublicKey();
+	}
+
+	/**
+	 * Function to evict all cached public keys
+	 */
+	public void clear() {
+		if (maxSize <= 0) {
+			return;
+		}
+		synchronized (cacheMap) {
+			cacheMap.clear();
+		}
+	}
+
+	private void put(CacheKey key, PublicKeyEntry entry) {
+		if (entry.getIssuedAt() == null || entry.getExpiryAt() == null) {
+			return;
+		}
+		CachedPublicKey cachedKey = new CachedPublicKey(entry, nanoClock.getAsLong());
+		synchronized (cacheMap) {
+			List<CachedPublicKey> windows = cacheMap.computeIfAbsent(key, k -> new ArrayList<>(MAX_WINDOWS));
+			windows.removeIf(window -> window.entry.overlaps(entry));
+			if (windows.size() == MAX_WINDOWS) {
+				windows.remove(0);
+			}
+			windows.add(cachedKey);
+		}
+	}
+
+	private void scheduleRefresh(CacheKey key, CachedPublicKey cachedKey, LocalDateTime timeStamp,
+			PublicKeyLoader loader) {
+		if (!cachedKey.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		Runnable refresh = () -> {
+			try {
+				put(key, loader.load(key.applicationId, key.referenceId, timeStamp));
+				refreshes.increment();
+			} catch (RuntimeException exception) {
+				// the cached key is served until a later refresh succeeds
+				refreshFailures.increment();
+				LOGGER.error(key.applicationId, String.valueOf(key.referenceId), timeStamp.toString(),
+						"Public key refresh failed " + exception.getMessage());
+			} finally {
+				cachedKey.refreshing.set(false);
+			}
+		};
+		try {
+			refreshExecutor.execute(new DelegatingSecurityContextRunnable(refresh));
+		} catch (RuntimeException exception) {
+			cachedKey.refreshing.set(false);
+		}
+	}
+
+	private static CachedPublicKey find(List<CachedPublicKey> windows, LocalDateTime timeStamp) {
+		for (CachedPublicKey window : windows) {
+			if (window.entry.isValid(timeStamp)) {
+				return window;
+			}
+		}
+		return null;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getRefreshes() {
+		return refreshes.sum();
+	}
+
+	public long getRefreshFailures() {
+		return refreshFailures.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + ", misses=" + getMisses() + ", refreshes=" + getRefreshes()
+				+ ", refreshFailures=" + getRefreshFailures();
+	}
+
+	private static final class CacheKey {
+
+		private final String applicationId;
+
+		private final String referenceId;
+
+		private CacheKey(String applicationId, String referenceId) {
+			this.applicationId = applicationId;
+			this.referenceId = referenceId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return Objects.equals(applicationId, other.applicationId) && Objects.equals(referenceId, other.referenceId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(applicationId, referenceId);
+		}
+	}
+
+	private static final class CachedPublicKey {
+
+		private final PublicKeyEntry entry;
+
+		private final long loadedAt;
+
+		/**
+		 * Set while a refresh triggered by this key is scheduled or running
+		 */
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		private CachedPublicKey(PublicKeyEntry entry, long loadedAt) {
+			this.entry = entry;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package io.mosip.kernel.cryptomanager.test.integration;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
@@ -8,11 +10,14 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,6 +35,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -40,15 +46,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.crypto.spi.StreamCryptoCoreSpec;
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.dto.KeymanagerPublicKeyResponseDto;
 import io.mosip.kernel.cryptomanager.dto.KeymanagerSymmetricKeyResponseDto;
 import io.mosip.kernel.cryptomanager.test.CryptoManagerTestBootApplication;
+import io.mosip.kernel.cryptomanager.util.PublicKeyCache;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 
 @SpringBootTest(classes = CryptoManagerTestBootApplication.class)
@@ -80,9 +90,15 @@ public class CryptographicServiceIntegrationTest {
 	@Autowired
 	private KeyGenerator generator;
 
+	@Autowired
+	private StreamCryptoCoreSpec<SecretKey> streamCryptoCore;
+
 	@Autowired
 	private RestTemplate restTemplate;
 
+	@Autowired
+	private PublicKeyCache publicKeyCache;
+
 	private KeyPair keyPair;
 
 	private MockRestServiceServer server;
@@ -109,6 +125,7 @@ public class CryptographicServiceIntegrationTest {
 		requestWrapper.setRequesttime(LocalDateTime.now(ZoneId.of("UTC")));
 
 		keyPair = generator.getAsymmetricKey();
+		publicKeyCache.clear();
 		server = MockRestServiceServer.bindTo(restTemplate).build();
 		uriParams = new HashMap<>();
 		uriParams.put("applicationId", "REGISTRATION");
@@ -152,6 +169,38 @@ public class CryptographicServiceIntegrationTest {
 		assertThat(cryptomanagerResponseDto.getData(), isA(String.class));
 	}
 
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testEncryptCachedPublicKey() throws Exception {
+		KeymanagerPublicKeyResponseDto keymanagerPublicKeyResponseDto = new KeymanagerPublicKeyResponseDto(
+				CryptoUtil.encodeBase64(keyPair.getPublic().getEncoded()), LocalDateTime.of(2018, 12, 1, 0, 0),
+				LocalDateTime.of(2019, 12, 1, 0, 0));
+		ResponseWrapper<KeymanagerPublicKeyResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerPublicKeyResponseDto);
+		server.expect(ExpectedCount.once(), requestTo(builder.buildAndExpand(uriParams).toUriString()))
+				.andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+		when(cryptoCore.symmetricEncrypt(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn("MOCKENCRYPTEDDATA".getBytes());
+		when(cryptoCore.asymmetricEncrypt(Mockito.any(), Mockito.any()))
+				.thenReturn("MOCKENCRYPTEDSESSIONKEY".getBytes());
+		requestDto = new CryptomanagerRequestDto();
+		requestWrapper.setRequest(requestDto);
+
+		requestDto.setApplicationId("REGISTRATION");
+		requestDto.setData("dXJ2aWw");
+		requestDto.setReferenceId("ref123");
+		requestDto.setTimeStamp(DateUtils.parseToLocalDateTime("2018-12-06T12:07:44.403Z"));
+
+		String requestBody = objectMapper.writeValueAsString(requestWrapper);
+		long hits = publicKeyCache.getHits();
+		mockMvc.perform(post("/encrypt").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/encrypt").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+				.andExpect(status().isOk());
+		server.verify();
+		assertThat(publicKeyCache.getHits(), is(hits + 1));
+	}
+
 	@WithUserDetails("reg-processor")
 	@Test
 	public void testDecrypt() throws Exception {
@@ -182,4 +231,91 @@ public class CryptographicServiceIntegrationTest {
 		assertThat(cryptomanagerResponseDto.getData(), isA(String.class));
 	}
 
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testDecryptBatch() throws Exception {
+		KeymanagerSymmetricKeyResponseDto keymanagerSymmetricKeyResponseDto = new KeymanagerSymmetricKeyResponseDto(
+				CryptoUtil.encodeBase64(generator.getSymmetricKey().getEncoded()));
+		ResponseWrapper<KeymanagerSymmetricKeyResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerSymmetricKeyResponseDto);
+		server.expect(ExpectedCount.once(), requestTo(symmetricKeyUrl))
+				.andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+		when(cryptoCore.symmetricDecrypt(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn("urvil".getBytes());
+
+		LocalDateTime timeStamp = DateUtils.parseToLocalDateTime("2018-12-06T12:07:44.403Z");
+		RequestWrapper<CryptomanagerBatchRequestDto> batchRequestWrapper = new RequestWrapper<>();
+		batchRequestWrapper.setId(ID);
+		batchRequestWrapper.setVersion(VERSION);
+		batchRequestWrapper.setRequesttime(LocalDateTime.now(ZoneId.of("UTC")));
+		batchRequestWrapper.setRequest(new CryptomanagerBatchRequestDto(Arrays.asList(
+				new CryptomanagerRequestDto("REGISTRATION", "ref123", timeStamp, "dXJ2aWwjS0VZX1NQTElUVEVSI3Vydmls",
+						null, null),
+				new CryptomanagerRequestDto("REGISTRATION", "ref123", timeStamp, "dXJ2aWw", null, null),
+				new CryptomanagerRequestDto("REGISTRATION", "ref123", timeStamp, "dXJ2aWwjS0VZX1NQTElUVEVSI3Vydmls",
+						null, null))));
+		String requestBody = objectMapper.writeValueAsString(batchRequestWrapper);
+		MvcResult result = mockMvc
+				.perform(post("/decrypt/batch").contentType(MediaType.APPLICATION_JSON).content(requestBody))
+				.andExpect(status().isOk()).andReturn();
+		server.verify();
+		ResponseWrapper<?> responseWrapper = objectMapper.readValue(result.getResponse().getContentAsString(),
+				ResponseWrapper.class);
+		CryptomanagerBatchResponseDto batchResponseDto = objectMapper.readValue(
+				objectMapper.writeValueAsString(responseWrapper.getResponse()), CryptomanagerBatchResponseDto.class);
+
+		assertThat(batchResponseDto.getResponses().size(), is(3));
+		assertThat(batchResponseDto.getResponses().get(0).getData(), is(CryptoUtil.encodeBase64("urvil".getBytes())));
+		assertThat(batchResponseDto.getResponses().get(1).getErrors().get(0).getErrorCode(), is("KER-CRY-003"));
+		assertThat(batchResponseDto.getResponses().get(2).getData(), is(CryptoUtil.encodeBase64("urvil".getBytes())));
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testEncryptStream() throws Exception {
+		KeymanagerPublicKeyResponseDto keymanagerPublicKeyResponseDto = new KeymanagerPublicKeyResponseDto(
+				CryptoUtil.encodeBase64(keyPair.getPublic().getEncoded()), LocalDateTime.now(),
+				LocalDateTime.now().plusDays(100));
+		ResponseWrapper<KeymanagerPublicKeyResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerPublicKeyResponseDto);
+		server.expect(requestTo(builder.buildAndExpand(uriParams).toUriString()))
+				.andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+		when(cryptoCore.asymmetricEncrypt(Mockito.any(), Mockito.any()))
+				.thenReturn("MOCKENCRYPTEDSESSIONKEY".getBytes());
+
+		MvcResult result = mockMvc
+				.perform(post("/encrypt.stream").param("applicationId", "REGISTRATION").param("referenceId", "ref123")
+						.param("timeStamp", "2018-12-06T12:07:44.403Z")
+						.contentType(MediaType.APPLICATION_OCTET_STREAM).content("urvil".getBytes()))
+				.andExpect(status().isOk()).andReturn();
+
+		byte[] encryptedData = result.getResponse().getContentAsByteArray();
+		byte[] encryptedKey = CryptoUtil.readUntilSplitter(new ByteArrayInputStream(encryptedData),
+				"#KEY_SPLITTER#", 1024);
+		assertArrayEquals("MOCKENCRYPTEDSESSIONKEY".getBytes(), encryptedKey);
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testDecryptStream() throws Exception {
+		SecretKey secretKey = generator.getSymmetricKey();
+		KeymanagerSymmetricKeyResponseDto keymanagerSymmetricKeyResponseDto = new KeymanagerSymmetricKeyResponseDto(
+				CryptoUtil.encodeBase64(secretKey.getEncoded()));
+		ResponseWrapper<KeymanagerSymmetricKeyResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(keymanagerSymmetricKeyResponseDto);
+		server.expect(requestTo(symmetricKeyUrl))
+				.andRespond(withSuccess(objectMapper.writeValueAsString(response), MediaType.APPLICATION_JSON));
+		ByteArrayOutputStream requestBody = new ByteArrayOutputStream();
+		requestBody.write("urvil#KEY_SPLITTER#".getBytes());
+		streamCryptoCore.symmetricEncrypt(secretKey, new ByteArrayInputStream("urvil".getBytes()), null,
+				requestBody);
+
+		MvcResult result = mockMvc
+				.perform(post("/decrypt.stream").param("applicationId", "REGISTRATION").param("referenceId", "ref123")
+						.param("timeStamp", "2018-12-06T12:07:44.403Z")
+						.contentType(MediaType.APPLICATION_OCTET_STREAM).content(requestBody.toByteArray()))
+				.andExpect(status().isOk()).andReturn();
+
+		assertArrayEquals("urvil".getBytes(), result.getResponse().getContentAsByteArray());
+	}
+
 }
@@ -0,0 +1,150 @@
+package io.mosip.kernel.cryptomanager.test.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.PublicKey;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.cryptomanager.util.PublicKeyCache;
+import io.mosip.kernel.cryptomanager.util.PublicKeyCache.PublicKeyEntry;
+import io.mosip.kernel.cryptomanager.util.PublicKeyCache.PublicKeyLoader;
+
+public class PublicKeyCacheTest {
+
+	private static final String APPLICATION_ID = "REGISTRATION";
+
+	private static final String REFERENCE_ID = "ref123";
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2019, 6, 1, 12, 0);
+
+	private static final long TTL_SECONDS = 600;
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private final PublicKeyLoader loader = mock(PublicKeyLoader.class);
+
+	private final PublicKey key1 = mock(PublicKey.class);
+
+	private final PublicKey key2 = mock(PublicKey.class);
+
+	private PublicKeyCache cache;
+
+	@Before
+	public void setup() {
+		cache = new PublicKeyCache();
+		ReflectionTestUtils.setField(cache, "maxSize", 10);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", TTL_SECONDS);
+		ReflectionTestUtils.setField(cache, "refreshBeforeExpirySeconds", 3600L);
+		cache.init();
+		ReflectionTestUtils.setField(cache, "nanoClock", (LongSupplier) nanos::get);
+	}
+
+	@After
+	public void destroy() {
+		cache.destroy();
+	}
+
+	@Test
+	public void refreshAfterTtlTest() throws Exception {
+		when(loader.load(APPLICATION_ID, REFERENCE_ID, NOW)).thenReturn(entry(key1, NOW.minusDays(1), NOW.plusYears(1)))
+				.thenReturn(entry(key2, NOW.minusDays(1), NOW.plusYears(1)));
+		assertSame(key1, get(NOW));
+		advance(TTL_SECONDS - 1);
+		assertSame(key1, get(NOW));
+		awaitRefreshes();
+		verify(loader, times(1)).load(any(), any(), any());
+		advance(1);
+		// the stale key is served while it is refreshed in the background
+		assertSame(key1, get(NOW));
+		awaitRefreshes();
+		verify(loader, times(2)).load(any(), any(), any());
+		assertEquals(1, cache.getRefreshes());
+		assertSame(key2, get(NOW));
+		awaitRefreshes();
+		verify(loader, times(2)).load(any(), any(), any());
+		assertEquals(1, cache.getMisses());
+		assertEquals(3, cache.getHits());
+	}
+
+	@Test
+	public void prefetchSuccessorBeforeExpiryTest() throws Exception {
+		LocalDateTime expiryAt = NOW.plusHours(2);
+		when(loader.load(APPLICATION_ID, REFERENCE_ID, NOW)).thenReturn(entry(key1, NOW.minusDays(1), expiryAt));
+		when(loader.load(APPLICATION_ID, REFERENCE_ID, expiryAt.plusSeconds(1)))
+				.thenReturn(entry(key2, expiryAt.plusSeconds(1), expiryAt.plusYears(1)));
+		assertSame(key1, get(NOW));
+		assertSame(key1, get(NOW.plusMinutes(59)));
+		awaitRefreshes();
+		verify(loader, times(1)).load(any(), any(), any());
+		assertSame(key1, get(NOW.plusMinutes(61)));
+		awaitRefreshes();
+		verify(loader, times(1)).load(APPLICATION_ID, REFERENCE_ID, expiryAt.plusSeconds(1));
+		assertEquals(1, cache.getRefreshes());
+		// the successor is cached, it is neither prefetched again nor loaded on
+		// rotation
+		assertSame(key1, get(NOW.plusMinutes(90)));
+		assertSame(key2, get(expiryAt.plusSeconds(1)));
+		awaitRefreshes();
+		verify(loader, times(2)).load(any(), any(), any());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void failedRefreshTest() throws Exception {
+		when(loader.load(APPLICATION_ID, REFERENCE_ID, NOW)).thenReturn(entry(key1, NOW.minusDays(1), NOW.plusYears(1)))
+				.thenThrow(new IllegalStateException("Keymanager unavailable"))
+				.thenReturn(entry(key2, NOW.minusDays(1), NOW.plusYears(1)));
+		assertSame(key1, get(NOW));
+		advance(TTL_SECONDS);
+		assertSame(key1, get(NOW));
+		awaitRefreshes();
+		assertEquals(1, cache.getRefreshFailures());
+		assertEquals(0, cache.getRefreshes());
+		// the cached key is still served, and the next hit retries the refresh
+		assertSame(key1, get(NOW));
+		awaitRefreshes();
+		verify(loader, times(3)).load(any(), any(), any());
+		assertEquals(1, cache.getRefreshes());
+		assertSame(key2, get(NOW));
+		assertEquals(1, cache.getMisses());
+	}
+
+	private PublicKey get(LocalDateTime timeStamp) {
+		return cache.get(APPLICATION_ID, REFERENCE_ID, timeStamp, loader);
+	}
+
+	private void advance(long seconds) {
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+	}
+
+	/**
+	 * Waits for the scheduled refreshes and replaces the refresh executor
+	 */
+	private void awaitRefreshes() throws InterruptedException {
+		ExecutorService refreshExecutor = (ExecutorService) ReflectionTestUtils.getField(cache, "refreshExecutor");
+		refreshExecutor.shutdown();
+		assertTrue(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS));
+		ReflectionTestUtils.setField(cache, "refreshExecutor", Executors.newSingleThreadExecutor());
+	}
+
+	private static PublicKeyEntry entry(PublicKey publicKey, LocalDateTime issuedAt, LocalDateTime expiryAt) {
+		return new PublicKeyEntry(publicKey, issuedAt, expiryAt);
+	}
+}
@@ -15,6 +15,10 @@ public enum PlatformErrorMessages {
 	RPR_FAC_PACKET_NOT_AVAILABLE(PlatformErrorConstants.RPR_FILESYSTEM_ADAPTOR_CEPH_MODULE + "003",
 			"Cannot find the Registration Packet"),
 
+	/** The rpr fac store failed. */
+	RPR_FAC_STORE_FAILED(PlatformErrorConstants.RPR_FILESYSTEM_ADAPTOR_CEPH_MODULE + "004",
+			"Cannot store the file in Packet Store"),
+
 	RPR_SYS_TIMEOUT_EXCEPTION(PlatformErrorConstants.RPR_SYSTEM_EXCEPTION + "005", "Timeout Error"),
 
 	RPR_SYS_UNEXCEPTED_EXCEPTION(PlatformErrorConstants.RPR_SYSTEM_EXCEPTION + "001", "Unexpected exception"),;
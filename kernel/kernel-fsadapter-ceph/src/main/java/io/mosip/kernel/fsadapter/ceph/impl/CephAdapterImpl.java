@@ -3,8 +3,15 @@ package io.mosip.kernel.fsadapter.ceph.impl;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -16,10 +23,13 @@ import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
 
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
 import io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter;
+import io.mosip.kernel.fsadapter.ceph.constant.PlatformErrorMessages;
 import io.mosip.kernel.fsadapter.ceph.exception.handler.ExceptionHandler;
 import io.mosip.kernel.fsadapter.ceph.util.ConnectionUtils;
 
@@ -35,6 +45,9 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	/** The conn. */
 	private AmazonS3 conn;
 
+	/** The transfer manager, uploading large objects in parts. */
+	private TransferManager transferManager;
+
 	/** The Constant LOGGER. */
 	private static final Logger LOGGER = LoggerFactory.getLogger(CephAdapterImpl.class);
 
@@ -44,6 +57,25 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	/** The Constant SUCCESS_UPLOAD_MESSAGE. */
 	private static final String SUCCESS_UPLOAD_MESSAGE = "uploaded to DFS successfully";
 
+	/** The Constant KNOWN_BUCKETS_LIMIT. */
+	private static final int KNOWN_BUCKETS_LIMIT = 10000;
+
+	/** The Constant BUFFER_SIZE. */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The buckets known to exist, the least recently used first, so that storing
+	 * in a known bucket does not check the bucket.
+	 */
+	@SuppressWarnings("serial")
+	private final Set<String> knownBuckets = Collections
+			.newSetFromMap(Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+					return size() > KNOWN_BUCKETS_LIMIT;
+				}
+			}));
+
 	/**
 	 * Constructor to get Connection to CEPH instance.
 	 *
@@ -52,6 +84,7 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	public CephAdapterImpl(ConnectionUtils connectionUtil) {
 		if (conn == null) {
 			this.conn = connectionUtil.getConnection();
+			this.transferManager = connectionUtil.getTransferManager();
 		}
 	}
 
@@ -64,12 +97,11 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	@Override
 	public boolean storePacket(String enrolmentId, File filePath) {
 		try {
-			if (!conn.doesBucketExistV2(enrolmentId)) {
-				conn.createBucket(enrolmentId);
-			}
-			this.conn.putObject(enrolmentId, enrolmentId, filePath);
+			createBucketIfAbsent(enrolmentId);
+			putObject(enrolmentId, enrolmentId, filePath);
 			LOGGER.debug(LOGDISPLAY, enrolmentId, SUCCESS_UPLOAD_MESSAGE);
 		} catch (AmazonS3Exception e) {
+			knownBuckets.remove(enrolmentId);
 			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
 			ExceptionHandler.exceptionHandler(e);
 		} catch (SdkClientException e) {
@@ -88,12 +120,11 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	@Override
 	public boolean storePacket(String enrolmentId, InputStream file) {
 		try {
-			if (!conn.doesBucketExistV2(enrolmentId)) {
-				conn.createBucket(enrolmentId);
-			}
-			this.conn.putObject(enrolmentId, enrolmentId, file, null);
+			createBucketIfAbsent(enrolmentId);
+			putObject(enrolmentId, enrolmentId, file);
 			LOGGER.debug(LOGDISPLAY, enrolmentId, SUCCESS_UPLOAD_MESSAGE);
 		} catch (AmazonS3Exception e) {
+			knownBuckets.remove(enrolmentId);
 			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
 			ExceptionHandler.exceptionHandler(e);
 		} catch (SdkClientException e) {
@@ -139,12 +170,11 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	@Override
 	public boolean storeFile(String enrolmentId, String key, InputStream document) {
 		try {
-			if (!conn.doesBucketExistV2(enrolmentId)) {
-				conn.createBucket(enrolmentId);
-			}
-			this.conn.putObject(enrolmentId, key, document, null);
+			createBucketIfAbsent(enrolmentId);
+			putObject(enrolmentId, key, document);
 			LOGGER.debug(LOGDISPLAY, enrolmentId, key, SUCCESS_UPLOAD_MESSAGE);
 		} catch (AmazonS3Exception e) {
+			knownBuckets.remove(enrolmentId);
 			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
 			ExceptionHandler.exceptionHandler(e);
 		} catch (SdkClientException e) {
@@ -171,12 +201,11 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	public boolean copyFile(String sourceBucketName, String sourceKey, String destinationBucketName,
 			String destinationKey) {
 		try {
-			if (!conn.doesBucketExistV2(destinationBucketName)) {
-				conn.createBucket(destinationBucketName);
-			}
+			createBucketIfAbsent(destinationBucketName);
 			this.conn.copyObject(sourceBucketName, sourceKey, destinationBucketName, destinationKey);
 			LOGGER.debug(LOGDISPLAY, SUCCESS_UPLOAD_MESSAGE);
 		} catch (AmazonS3Exception e) {
+			knownBuckets.remove(destinationBucketName);
 			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
 			ExceptionHandler.exceptionHandler(e);
 		} catch (SdkClientException e) {
@@ -318,9 +347,7 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	public boolean checkFileExistence(String enrolmentId, String fileName) {
 		boolean result = false;
 		try {
-			if (getFile(enrolmentId, fileName) != null) {
-				result = true;
-			}
+			result = doesObjectExist(enrolmentId, fileName);
 		} catch (FSAdapterException e) {
 			LOGGER.error(LOGDISPLAY, "INVALID_PACKET_FILE_NAME");
 			return false;
@@ -337,7 +364,115 @@ public class CephAdapterImpl implements FileSystemAdapter {
 	 */
 	@Override
 	public boolean isPacketPresent(String registrationId) {
-		return this.getPacket(registrationId) != null;
+		return doesObjectExist(registrationId, registrationId);
+	}
+
+	/**
+	 * Checks the existence of an object with a HEAD request, without fetching its
+	 * content.
+	 *
+	 * @param bucketName the bucket name
+	 * @param key        the key
+	 * @return true if the object exists
+	 */
+	private boolean doesObjectExist(String bucketName, String key) {
+		try {
+			return this.conn.doesObjectExist(bucketName, key);
+		} catch (AmazonS3Exception e) {
+			LOGGER.error(LOGDISPLAY, e.getStatusCode(), e.getErrorCode(), e.getErrorMessage());
+			ExceptionHandler.exceptionHandler(e);
+		} catch (SdkClientException e) {
+			ExceptionHandler.exceptionHandler(e);
+		}
+		return false;
+	}
+
+	/**
+	 * Creates a bucket if it does not exist. A bucket known to exist is not
+	 * checked again.
+	 *
+	 * @param bucketName the bucket name
+	 */
+	private void createBucketIfAbsent(String bucketName) {
+		if (knownBuckets.contains(bucketName)) {
+			return;
+		}
+		if (!conn.doesBucketExistV2(bucketName)) {
+			try {
+				conn.createBucket(bucketName);
+			} catch (AmazonS3Exception e) {
+				// created meanwhile by another request
+				if (e.getStatusCode() != 409) {
+					throw e;
+				}
+			}
+		}
+		knownBuckets.add(bucketName);
+	}
+
+	/**
+	 * Puts a file, in parts from the multipart threshold.
+	 *
+	 * @param bucketName the bucket name
+	 * @param key        the key
+	 * @param file       the file
+	 */
+	private void putObject(String bucketName, String key, File file) {
+		if (file.length() < transferManager.getConfiguration().getMultipartUploadThreshold()) {
+			this.conn.putObject(bucketName, key, file);
+			return;
+		}
+		try {
+			transferManager.upload(bucketName, key, file).waitForCompletion();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new FSAdapterException(PlatformErrorMessages.RPR_FAC_STORE_FAILED.getErrorCode(),
+					PlatformErrorMessages.RPR_FAC_STORE_FAILED.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Puts a stream with its content length, so that it is not buffered by the
+	 * client. A stream smaller than the multipart threshold is read in memory and
+	 * put at once; a larger stream is spooled to a temporary file and put in
+	 * parts.
+	 *
+	 * @param bucketName the bucket name
+	 * @param key        the key
+	 * @param stream     the stream
+	 */
+	private void putObject(String bucketName, String key, InputStream stream) {
+		long threshold = transferManager.getConfiguration().getMultipartUploadThreshold();
+		try {
+			ByteArrayOutputStream head = new ByteArrayOutputStream();
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int length = 0;
+			while (head.size() < threshold
+					&& (length = stream.read(buffer, 0, (int) Math.min(buffer.length, threshold - head.size()))) != -1) {
+				head.write(buffer, 0, length);
+			}
+			if (length == -1) {
+				ObjectMetadata metadata = new ObjectMetadata();
+				metadata.setContentLength(head.size());
+				this.conn.putObject(bucketName, key, new ByteArrayInputStream(head.toByteArray()), metadata);
+				return;
+			}
+			File spool = File.createTempFile("ceph-", ".part");
+			try {
+				try (OutputStream out = new FileOutputStream(spool)) {
+					head.writeTo(out);
+					while ((length = stream.read(buffer)) != -1) {
+						out.write(buffer, 0, length);
+					}
+				}
+				putObject(bucketName, key, spool);
+			} finally {
+				Files.deleteIfExists(spool.toPath());
+			}
+		} catch (IOException e) {
+			throw new FSAdapterException(PlatformErrorMessages.RPR_FAC_STORE_FAILED.getErrorCode(),
+					PlatformErrorMessages.RPR_FAC_STORE_FAILED.getMessage(), e);
+		}
 	}
 
 }
@@ -1,8 +1,14 @@
 package io.mosip.kernel.fsadapter.ceph.util;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
@@ -10,6 +16,8 @@ import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
 /**
  * This class gets connection to CEPH storage cluster.
@@ -24,6 +32,9 @@ public class ConnectionUtils {
 	/** The connection. */
 	private AmazonS3 connection;
 
+	/** The transfer manager, uploading large objects in parts. */
+	private TransferManager transferManager;
+
 	/** The access key. */
 	@Value("${mosip.kernel.fsadapter.ceph.access-key}")
 	private String accessKey;
@@ -36,6 +47,30 @@ public class ConnectionUtils {
 	@Value("${mosip.kernel.fsadapter.ceph.endpoint}")
 	private String endpoint;
 
+	/** The maximum number of pooled HTTP connections. */
+	@Value("${mosip.kernel.fsadapter.ceph.max-connections:100}")
+	private int maxConnections;
+
+	/** The connection timeout in milliseconds. */
+	@Value("${mosip.kernel.fsadapter.ceph.connection-timeout:10000}")
+	private int connectionTimeout;
+
+	/** The socket timeout in milliseconds. */
+	@Value("${mosip.kernel.fsadapter.ceph.socket-timeout:50000}")
+	private int socketTimeout;
+
+	/** The size in bytes from which an object is uploaded in parts. */
+	@Value("${mosip.kernel.fsadapter.ceph.multipart-threshold:16777216}")
+	private long multipartThreshold;
+
+	/** The size in bytes of an uploaded part. */
+	@Value("${mosip.kernel.fsadapter.ceph.multipart-part-size:8388608}")
+	private long multipartPartSize;
+
+	/** The number of threads uploading parts. */
+	@Value("${mosip.kernel.fsadapter.ceph.transfer-threads:10}")
+	private int transferThreads;
+
 	/**
 	 * Instantiates a new connection util.
 	 */
@@ -48,7 +83,10 @@ public class ConnectionUtils {
 	 */
 	private void initializeConnection() {
 		AWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
+		ClientConfiguration clientConfiguration = new ClientConfiguration().withMaxConnections(maxConnections)
+				.withConnectionTimeout(connectionTimeout).withSocketTimeout(socketTimeout).withTcpKeepAlive(true);
 		connection = AmazonS3ClientBuilder.standard().withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+				.withClientConfiguration(clientConfiguration)
 				.withEndpointConfiguration(new EndpointConfiguration(endpoint, Regions.AP_SOUTH_1.toString())).build();
 	}
 
@@ -57,11 +95,44 @@ public class ConnectionUtils {
 	 *
 	 * @return the connection
 	 */
-	public AmazonS3 getConnection() {
+	public synchronized AmazonS3 getConnection() {
 		if (connection == null) {
 			initializeConnection();
 		}
 		return connection;
 	}
 
+	/**
+	 * Gets the transfer manager, sharing the connection pool of the connection.
+	 * Objects from the multipart threshold are uploaded in parts of the multipart
+	 * part size, in parallel.
+	 *
+	 * @return the transfer manager
+	 */
+	public synchronized TransferManager getTransferManager() {
+		if (transferManager == null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			transferManager = TransferManagerBuilder.standard().withS3Client(getConnection())
+					.withMultipartUploadThreshold(multipartThreshold).withMinimumUploadPartSize(multipartPartSize)
+					.withExecutorFactory(() -> Executors.newFixedThreadPool(transferThreads, runnable -> {
+						Thread thread = new Thread(runnable, "ceph-transfer-" + threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					})).build();
+		}
+		return transferManager;
+	}
+
+	/**
+	 * Shuts down the transfer manager and the connection.
+	 */
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (transferManager != null) {
+			transferManager.shutdownNow(true);
+		} else if (connection != null) {
+			connection.shutdown();
+		}
+	}
+
 }
@@ -4,14 +4,16 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Set;
 
-import org.apache.http.client.methods.HttpGet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,8 +27,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
-import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
 
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
 import io.mosip.kernel.core.fsadapter.spi.FileSystemAdapter;
@@ -52,6 +52,7 @@ public class FileSystemAdapterCephExceptionTest {
 	public void setup() {
 		amazonS3 = Mockito.mock(AmazonS3.class);
 		ReflectionTestUtils.setField(fileSystemAdapter, "conn", amazonS3, AmazonS3.class);
+		((Set<?>) ReflectionTestUtils.getField(fileSystemAdapter, "knownBuckets")).clear();
 	}
 
 	@Test(expected = FSAdapterException.class)
@@ -141,19 +142,33 @@ public class FileSystemAdapterCephExceptionTest {
 
 	@Test
 	public void testIsPacketPresent() {
-		S3Object object = new S3Object();
-		object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream("test".getBytes()), new HttpGet()));
-		when(amazonS3.getObject(Mockito.any())).thenReturn(object);
+		when(amazonS3.doesObjectExist(enrollmentId, enrollmentId)).thenReturn(true);
 		assertTrue(fileSystemAdapter.isPacketPresent(enrollmentId));
 
 	}
 
 	@Test
 	public void testIsPacketPresentFalse() {
-		when(amazonS3.getObject(Mockito.any())).thenReturn(null);
+		when(amazonS3.doesObjectExist(enrollmentId, enrollmentId)).thenReturn(false);
 		assertFalse(fileSystemAdapter.isPacketPresent(enrollmentId));
 	}
 
+	@Test(expected = FSAdapterException.class)
+	public void testIsPacketPresentInvalidConnParameterException() {
+		AmazonS3Exception amzException = new AmazonS3Exception("test");
+		ReflectionTestUtils.setField(amzException, "statusCode", 403);
+		when(amazonS3.doesObjectExist(enrollmentId, enrollmentId)).thenThrow(amzException);
+		fileSystemAdapter.isPacketPresent(enrollmentId);
+	}
+
+	@Test
+	public void testStoreFileKnownBucket() {
+		doReturn(true).when(amazonS3).doesBucketExistV2("test");
+		this.fileSystemAdapter.storeFile("test", "test-key", new ByteArrayInputStream("test".getBytes()));
+		this.fileSystemAdapter.storeFile("test", "test-key2", new ByteArrayInputStream("test".getBytes()));
+		verify(amazonS3, times(1)).doesBucketExistV2("test");
+	}
+
 	@Test(expected = FSAdapterException.class)
 	public void testCopyFileInvalidConnParameterException() {
 		AmazonS3Exception amzException = new AmazonS3Exception("test");
@@ -1,14 +1,17 @@
 package io.mosip.kernel.fsadapter.ceph.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Enumeration;
+import java.util.Random;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
@@ -29,6 +32,8 @@ import com.amazonaws.auth.AnonymousAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.util.IOUtils;
 
 import io.findify.s3mock.S3Mock;
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
@@ -95,6 +100,8 @@ public class FilesystemCephAdapterImplTest {
 				.withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials())).build();
 
 		when(connectionUtil.getConnection()).thenReturn(client);
+		when(connectionUtil.getTransferManager())
+				.thenReturn(TransferManagerBuilder.standard().withS3Client(client).build());
 		dfsAdapter = new CephAdapterImpl(connectionUtil);
 		// Putting a file to mocked ceph instance
 
@@ -246,6 +253,24 @@ public class FilesystemCephAdapterImplTest {
 		this.dfsAdapter.storePacket(this.checkEnrolmentId, packet);
 	}
 
+	/**
+	 * This method tests storing a file larger than the multipart threshold,
+	 * which is uploaded in parts.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testStoreFileMultipart() throws IOException {
+		when(connectionUtil.getTransferManager()).thenReturn(TransferManagerBuilder.standard().withS3Client(client)
+				.withMultipartUploadThreshold(1024L).withMinimumUploadPartSize(1024L).build());
+		dfsAdapter = new CephAdapterImpl(connectionUtil);
+		byte[] document = new byte[4096];
+		new Random().nextBytes(document);
+		boolean result = this.dfsAdapter.storeFile(checkEnrolmentId, "MULTIPART", new ByteArrayInputStream(document));
+		assertEquals("Successfully uploaded file in parts to DFS.", true, result);
+		assertArrayEquals(document, IOUtils.toByteArray(this.dfsAdapter.getFile(checkEnrolmentId, "MULTIPART")));
+	}
+
 	@Test
 	public void fileExistenceFailureTest() {
 		boolean result = this.dfsAdapter.checkFileExistence("ThisShouldNotExist", PacketFiles.BIOMETRIC.name());
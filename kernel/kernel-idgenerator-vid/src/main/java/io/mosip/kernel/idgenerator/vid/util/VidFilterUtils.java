@@ -4,14 +4,14 @@
 package io.mosip.kernel.idgenerator.vid.util;
 
 import java.util.List;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.mosip.kernel.core.util.IdFilter;
+
 /**
  * @author Dharmesh Khandelwal
  * @author Megha Tanga
@@ -60,62 +60,15 @@ public class VidFilterUtils {
 	private int vidLength;
 
 	/**
-	 * Ascending digits which will be checked for sequence in id
-	 */
-	private static final String SEQ_ASC = "0123456789";
-
-	/**
-	 * Descending digits which will be checked for sequence in id
-	 */
-	private static final String SEQ_DEC = "9876543210";
-
-	/**
-	 * Compiled regex pattern of {@link #repeatingRegEx}
-	 */
-	private Pattern repeatingPattern = null;
-
-	/**
-	 * Compiled regex pattern of {@link #repeatingBlockRegEx}
+	 * Compiled filter built from the configured limits
 	 */
-	private Pattern repeatingBlockPattern = null;
+	private IdFilter idFilter;
 
 	@PostConstruct
 	public void initializeRegEx() {
-
-		/**
-		 * Regex for matching repeating digits like 11, 1x1, 1xx1, 1xxx1, etc.<br/>
-		 * If repeating digit limit is 2, then <b>Regex:</b> (\d)\d{0,2}\1<br/>
-		 * <b>Explanation:</b><br/>
-		 * <b>1st Capturing Group (\d)</b><br/>
-		 * <b>\d</b> matches a digit (equal to [0-9])<br/>
-		 * <b>{0,2} Quantifier</b> — Matches between 0 and 2 times, as many times as
-		 * possible, giving back as needed (greedy)<br/>
-		 * <b>\1</b> matches the same text as most recently matched by the 1st capturing
-		 * group<br/>
-		 */
-		if (repeatingLimit > 0) {
-			String repeatingRegEx = "(\\d)\\d{0," + (repeatingLimit - 1) + "}\\1";
-			repeatingPattern = Pattern.compile(repeatingRegEx);
-		}
-		/**
-		 * Regex for matching repeating block of digits like 482xx482, 4827xx4827 (x is
-		 * any digit).<br/>
-		 * If repeating block limit is 3, then <b>Regex:</b> (\d{3,}).*?\1<br/>
-		 * <b>Explanation:</b><br/>
-		 * <b>1st Capturing Group (\d{3,})</b><br/>
-		 * <b>\d{3,}</b> matches a digit (equal to [0-9])<br/>
-		 * <b>{3,}</b> Quantifier — Matches between 3 and unlimited times, as many times
-		 * as possible, giving back as needed (greedy)<br/>
-		 * <b>.*?</b> matches any character (except for line terminators)<br/>
-		 * <b>*?</b> Quantifier — Matches between zero and unlimited times, as few times
-		 * as possible, expanding as needed (lazy)<br/>
-		 * <b>\1</b> matches the same text as most recently matched by the 1st capturing
-		 * group<br/>
-		 */
-		if (repeatingBlockLimit > 0) {
-			String repeatingBlockRegEx = "(\\d{" + repeatingBlockLimit + ",}).*?\\1";
-			repeatingBlockPattern = Pattern.compile(repeatingBlockRegEx);
-		}
+		idFilter = IdFilter.builder().length(vidLength).sequenceLimit(sequenceLimit, false)
+				.repeatingLimit(repeatingLimit).repeatingBlockLimit(repeatingBlockLimit)
+				.restrictedNumbers(restrictedAdminDigits).notStartWith(notStartWith).build();
 	}
 
 	/**
@@ -127,67 +80,6 @@ public class VidFilterUtils {
 	 * @return true if the input id is valid
 	 */
 	public boolean isValidId(String id) {
-		return !(sequenceFilter(id) || regexFilter(id, repeatingPattern) || regexFilter(id, repeatingBlockPattern)
-				|| validateNotStartWith(id) || validateIdLength(id) || restrictedAdminFilter(id));
-	}
-
-	/**
-	 * Checks the input id for {@link #restrictedNumbers} filter
-	 * 
-	 * @param id The input id to validate
-	 * @return true if the id matches the filter
-	 */
-	private boolean restrictedAdminFilter(String id) {
-		return restrictedAdminDigits.parallelStream().anyMatch(id::contains);
-	}
-
-	/**
-	 * Checks the input id for {@link #SEQUENCE_LIMIT} filter
-	 * 
-	 * @param id The input id to validate
-	 * @return true if the id matches the filter
-	 */
-	private boolean sequenceFilter(String id) {
-		if (sequenceLimit > 0)
-			return IntStream.rangeClosed(0, id.length() - sequenceLimit).parallel()
-					.mapToObj(index -> id.subSequence(index, index + sequenceLimit))
-					.anyMatch(idSubSequence -> SEQ_ASC.contains(idSubSequence) || SEQ_DEC.contains(idSubSequence));
-		return false;
-	}
-
-	/**
-	 * Checks the input id if it matched the given regex pattern
-	 * ({@link #repeatingPattern}, {@link #repeatingBlockPattern})
-	 * 
-	 * @param id      The input id to validate
-	 * @param pattern The input regex Pattern
-	 * @return true if the id matches the given regex pattern
-	 */
-	private static boolean regexFilter(String id, Pattern pattern) {
-		if (pattern != null) {
-			return pattern.matcher(id).find();
-		}
-		return false;
-	}
-
-	/**
-	 * Method to validate that the vid should not contains the specified digit at
-	 * first index
-	 * 
-	 * @param id The input id to validate
-	 * @return true if found otherwise false
-	 */
-	private boolean validateNotStartWith(String id) {
-		if (notStartWith != null && !notStartWith.isEmpty()) {
-			for (String str : notStartWith) {
-				if (id.startsWith(str))
-					return true;
-			}
-		}
-		return false;
-	}
-
-	private boolean validateIdLength(String id) {
-		return (id.length() != vidLength);
+		return idFilter.isValidId(id);
 	}
 }
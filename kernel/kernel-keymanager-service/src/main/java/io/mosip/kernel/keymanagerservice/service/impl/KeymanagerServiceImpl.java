@@ -72,6 +72,7 @@ import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
 import io.mosip.kernel.keymanagerservice.repository.KeyStoreRepository;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
+import io.mosip.kernel.keymanagerservice.util.PrivateKeyCache;
 
 /**
  * This class provides the implementation for the methods of KeymanagerService
@@ -147,6 +148,12 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 	@Autowired
 	KeymanagerUtil keymanagerUtil;
 
+	/**
+	 * Cache of private keys used to decrypt symmetric keys
+	 */
+	@Autowired
+	private PrivateKeyCache privateKeyCache;
+
 	@Autowired
 	private PDFGenerator pdfGenerator;
 
@@ -483,6 +490,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		keyAlias.setKeyGenerationTime(timeStamp);
 		keyAlias.setKeyExpiryTime(expiryDateTime);
 		keyAliasRepository.save(keymanagerUtil.setMetaData(keyAlias));
+		privateKeyCache.invalidate(applicationId, referenceId);
 	}
 
 	/**
@@ -513,7 +521,13 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 	private PrivateKey getPrivateKeyFromRequestData(String applicationId, String referenceId, LocalDateTime timeStamp) {
 		List<KeyAlias> currentKeyAlias;
 
-		PrivateKey privateKey = null;
+		PrivateKey privateKey = privateKeyCache.get(applicationId,
+				keymanagerUtil.isValidReferenceId(referenceId) ? referenceId : null, timeStamp);
+		if (privateKey != null) {
+			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+					"Private key found in cache. Will decrypt symmetric key with cached key");
+			return privateKey;
+		}
 
 		if (!keymanagerUtil.isValidReferenceId(referenceId)) {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
@@ -537,7 +551,8 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 					"CurrentKeyAlias size is one. Will decrypt symmetric key for this alias");
 			KeyAlias fetchedKeyAlias = currentKeyAlias.get(0);
 			privateKey = getPrivateKey(referenceId, fetchedKeyAlias);
-
+			privateKeyCache.put(applicationId, keymanagerUtil.isValidReferenceId(referenceId) ? referenceId : null,
+					fetchedKeyAlias, privateKey);
 		}
 
 		return privateKey;
@@ -0,0 +1,256 @@
+package io.mosip.kernel.keymanagerservice.util;
+
+import java.security.PrivateKey;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+
+/**
+ * Local cache of resolved key aliases and their unwrapped private keys, so that
+ * decrypting a symmetric key does not query the key alias and key store tables
+ * and unwrap the private key with the master key on every call.
+ *
+ * <p>
+ * Keys are cached per applicationId and referenceId, with the validity window
+ * of their alias; a lookup hits only if the timestamp falls in the window of a
+ * cached key. Entries live for the configured time to live, after which the
+ * key is resolved from the database again. A new key alias for an
+ * applicationId and referenceId evicts its cached keys. The least recently
+ * used applicationId and referenceId are evicted beyond the configured size; a
+ * size of zero disables the cache.
+ * </p>
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+@Component
+public class PrivateKeyCache {
+
+	/**
+	 * Validity windows kept for a single applicationId and referenceId
+	 */
+	private static final int MAX_WINDOWS = 4;
+
+	@Value("${mosip.kernel.keymanager.privatekey-cache.max-size:100}")
+	private int maxSize;
+
+	@Value("${mosip.kernel.keymanager.privatekey-cache.ttl-seconds:600}")
+	private long ttlSeconds;
+
+	private long ttlNanos;
+
+	/**
+	 * Cached keys by applicationId and referenceId, in access order
+	 */
+	private Map<CacheKey, List<CachedPrivateKey>> cacheMap;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	@PostConstruct
+	public void init() {
+		ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+		cacheMap = new LinkedHashMap<CacheKey, List<CachedPrivateKey>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, List<CachedPrivateKey>> eldest) {
+				if (size() > maxSize) {
+					evictions.add(eldest.getValue().size());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Function to get the cached private key valid at the timestamp
+	 *
+	 * @param applicationId applicationId
+	 * @param referenceId   referenceId, null for the master key
+	 * @param timeStamp     timeStamp
+	 * @return the private key, null if not cached
+	 */
+	public PrivateKey get(String applicationId, String referenceId, LocalDateTime timeStamp) {
+		if (maxSize <= 0) {
+			return null;
+		}
+		long now = System.nanoTime();
+		synchronized (cacheMap) {
+			List<CachedPrivateKey> windows = cacheMap.get(new CacheKey(applicationId, referenceId));
+			if (windows != null) {
+				removeExpired(windows, now);
+				for (CachedPrivateKey cachedKey : windows) {
+					if (cachedKey.isValid(timeStamp)) {
+						hits.increment();
+						return cachedKey.privateKey;
+					}
+				}
+			}
+		}
+		misses.increment();
+		return null;
+	}
+
+	/**
+	 * Function to cache the private key of a key alias
+	 *
+	 * @param applicationId applicationId
+	 * @param referenceId   referenceId, null for the master key
+	 * @param keyAlias      the key alias of the private key
+	 * @param privateKey    the private key
+	 */
+	public void put(String applicationId, String referenceId, KeyAlias keyAlias, PrivateKey privateKey) {
+		if (maxSize <= 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		CachedPrivateKey cachedKey = new CachedPrivateKey(keyAlias, privateKey, now);
+		synchronized (cacheMap) {
+			List<CachedPrivateKey> windows = cacheMap.computeIfAbsent(new CacheKey(applicationId, referenceId),
+					key -> new ArrayList<>(MAX_WINDOWS));
+			removeExpired(windows, now);
+			windows.removeIf(window -> window.alias.equals(cachedKey.alias));
+			if (windows.size() == MAX_WINDOWS) {
+				windows.remove(0);
+				evictions.increment();
+			}
+			windows.add(cachedKey);
+		}
+	}
+
+	/**
+	 * Function to evict the cached private keys of an applicationId and
+	 * referenceId, called when a key alias is stored for them
+	 *
+	 * @param applicationId applicationId
+	 * @param referenceId   referenceId, null for the master key
+	 */
+	public void invalidate(String applicationId, String referenceId) {
+		if (maxSize <= 0) {
+			return;
+		}
+		synchronized (cacheMap) {
+			List<CachedPrivateKey> windows = cacheMap.remove(new CacheKey(applicationId, referenceId));
+			if (windows != null) {
+				evictions.add(windows.size());
+			}
+		}
+	}
+
+	/**
+	 * Function to evict all cached private keys
+	 */
+	public void clear() {
+		if (maxSize <= 0) {
+			return;
+		}
+		synchronized (cacheMap) {
+			cacheMap.values().forEach(windows -> evictions.add(windows.size()));
+			cacheMap.clear();
+		}
+	}
+
+	private void removeExpired(List<CachedPrivateKey> windows, long now) {
+		Iterator<CachedPrivateKey> iterator = windows.iterator();
+		while (iterator.hasNext()) {
+			if (now - iterator.next().cachedAt >= ttlNanos) {
+				iterator.remove();
+				evictions.increment();
+			}
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions();
+	}
+
+	private static final class CacheKey {
+
+		private final String applicationId;
+
+		private final String referenceId;
+
+		private CacheKey(String applicationId, String referenceId) {
+			this.applicationId = applicationId;
+			this.referenceId = referenceId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return Objects.equals(applicationId, other.applicationId) && Objects.equals(referenceId, other.referenceId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(applicationId, referenceId);
+		}
+	}
+
+	private static final class CachedPrivateKey {
+
+		private final String alias;
+
+		private final LocalDateTime keyGenerationTime;
+
+		private final LocalDateTime keyExpiryTime;
+
+		private final PrivateKey privateKey;
+
+		private final long cachedAt;
+
+		private CachedPrivateKey(KeyAlias keyAlias, PrivateKey privateKey, long cachedAt) {
+			this.alias = keyAlias.getAlias();
+			this.keyGenerationTime = keyAlias.getKeyGenerationTime();
+			this.keyExpiryTime = keyAlias.getKeyExpiryTime();
+			this.privateKey = privateKey;
+			this.cachedAt = cachedAt;
+		}
+
+		/**
+		 * Same check as {@link KeymanagerUtil#isValidTimestamp(LocalDateTime, KeyAlias)}
+		 */
+		private boolean isValid(LocalDateTime timeStamp) {
+			return !timeStamp.isBefore(keyGenerationTime) && !timeStamp.isAfter(keyExpiryTime);
+		}
+	}
+}
@@ -4,6 +4,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -63,6 +65,7 @@ import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
 import io.mosip.kernel.keymanagerservice.repository.KeyStoreRepository;
 import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
+import io.mosip.kernel.keymanagerservice.util.PrivateKeyCache;
 
 /**
  * @author Dharmesh Khandelwal
@@ -109,6 +112,9 @@ public class KeymanagerIntegrationTest {
 	@SpyBean
 	private KeymanagerUtil keymanagerUtil;
 
+	@Autowired
+	private PrivateKeyCache privateKeyCache;
+
 	private KeyPair key;
 	private ObjectMapper mapper;
 	private List<KeyAlias> keyalias;
@@ -122,6 +128,7 @@ public class KeymanagerIntegrationTest {
 
 	@Before
 	public void init() {
+		privateKeyCache.clear();
 		mapper = new ObjectMapper();
 		keyalias = new ArrayList<>();
 		keyPolicy = Optional.empty();
@@ -423,6 +430,32 @@ public class KeymanagerIntegrationTest {
 		// System.out.println(result.getResponse().getContentAsString());
 	}
 
+	@WithUserDetails("reg-processor")
+	@Test
+	public void decryptSymmetricKeyWithReferenceIdCachedPrivateKey() throws Exception {
+		setupSingleKeyAlias();
+		setupDBKeyStore();
+		setupKey();
+		when(keyStoreRepository.findByAlias(Mockito.any())).thenReturn(dbKeyStore);
+		when(keyAliasRepository.findByApplicationIdAndReferenceId(Mockito.any(), Mockito.any())).thenReturn(keyalias);
+		when(cryptoCore.asymmetricDecrypt(Mockito.any(), Mockito.any())).thenReturn("".getBytes());
+		doReturn(key.getPrivate().getEncoded()).when(keymanagerUtil).decryptKey(Mockito.any(), Mockito.any());
+		SymmetricKeyRequestDto symmetricKeyRequestDto = new SymmetricKeyRequestDto("applicationId",
+				LocalDateTime.parse("2010-05-01 12:00", DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")), "referenceId",
+				"");
+		requestWrapper.setRequest(symmetricKeyRequestDto);
+		String content = mapper.writeValueAsString(requestWrapper);
+		long hits = privateKeyCache.getHits();
+		mockMvc.perform(post("/decrypt").contentType(MediaType.APPLICATION_JSON).content(content))
+				.andExpect(status().is(200));
+		mockMvc.perform(post("/decrypt").contentType(MediaType.APPLICATION_JSON).content(content))
+				.andExpect(status().is(200));
+		verify(keyAliasRepository, times(1)).findByApplicationIdAndReferenceId("applicationId", "referenceId");
+		verify(keyStoreRepository, times(1)).findByAlias("alias");
+		verify(cryptoCore, times(2)).asymmetricDecrypt(Mockito.any(), Mockito.any());
+		assertThat(privateKeyCache.getHits(), is(hits + 1));
+	}
+
 	@WithUserDetails("reg-processor")
 	@Test
 	public void encryptWithReferenceId() throws Exception {
@@ -0,0 +1,94 @@
+package io.mosip.kernel.keymanagerservice.test.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.security.PrivateKey;
+import java.time.LocalDateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.util.PrivateKeyCache;
+
+/**
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+public class PrivateKeyCacheTest {
+
+	private static final LocalDateTime GENERATION_TIME = LocalDateTime.of(2010, 1, 1, 12, 00);
+
+	private static final LocalDateTime EXPIRY_TIME = LocalDateTime.of(2011, 1, 1, 12, 00);
+
+	private PrivateKeyCache privateKeyCache;
+
+	private PrivateKey privateKey;
+
+	private KeyAlias keyAlias;
+
+	@Before
+	public void setUp() {
+		privateKeyCache = newCache(2, 600);
+		privateKey = Mockito.mock(PrivateKey.class);
+		keyAlias = new KeyAlias("alias", "applicationId", "referenceId", GENERATION_TIME, EXPIRY_TIME, "status");
+	}
+
+	private PrivateKeyCache newCache(int maxSize, long ttlSeconds) {
+		PrivateKeyCache cache = new PrivateKeyCache();
+		ReflectionTestUtils.setField(cache, "maxSize", maxSize);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+		cache.init();
+		return cache;
+	}
+
+	@Test
+	public void getWithinValidityWindowTest() {
+		privateKeyCache.put("applicationId", "referenceId", keyAlias, privateKey);
+		assertThat(privateKeyCache.get("applicationId", "referenceId", GENERATION_TIME), is(sameInstance(privateKey)));
+		assertThat(privateKeyCache.get("applicationId", "referenceId", EXPIRY_TIME), is(sameInstance(privateKey)));
+		assertThat(privateKeyCache.get("applicationId", "referenceId", EXPIRY_TIME.plusSeconds(1)), is(nullValue()));
+		assertThat(privateKeyCache.get("applicationId", null, GENERATION_TIME), is(nullValue()));
+		assertThat(privateKeyCache.getHits(), is(2L));
+		assertThat(privateKeyCache.getMisses(), is(2L));
+	}
+
+	@Test
+	public void invalidateTest() {
+		privateKeyCache.put("applicationId", "referenceId", keyAlias, privateKey);
+		privateKeyCache.invalidate("applicationId", "referenceId");
+		assertThat(privateKeyCache.get("applicationId", "referenceId", GENERATION_TIME), is(nullValue()));
+		assertThat(privateKeyCache.getEvictions(), is(1L));
+	}
+
+	@Test
+	public void evictLeastRecentlyUsedTest() {
+		privateKeyCache.put("applicationId", "referenceId", keyAlias, privateKey);
+		privateKeyCache.put("applicationId", "referenceId2", keyAlias, privateKey);
+		privateKeyCache.get("applicationId", "referenceId", GENERATION_TIME);
+		privateKeyCache.put("applicationId", "referenceId3", keyAlias, privateKey);
+		assertThat(privateKeyCache.get("applicationId", "referenceId2", GENERATION_TIME), is(nullValue()));
+		assertThat(privateKeyCache.get("applicationId", "referenceId", GENERATION_TIME), is(sameInstance(privateKey)));
+		assertThat(privateKeyCache.getEvictions(), is(1L));
+	}
+
+	@Test
+	public void expiredTest() {
+		privateKeyCache = newCache(2, 0);
+		privateKeyCache.put("applicationId", "referenceId", keyAlias, privateKey);
+		assertThat(privateKeyCache.get("applicationId", "referenceId", GENERATION_TIME), is(nullValue()));
+	}
+
+	@Test
+	public void disabledTest() {
+		privateKeyCache = newCache(0, 600);
+		privateKeyCache.put("applicationId", "referenceId", keyAlias, privateKey);
+		assertThat(privateKeyCache.get("applicationId", "referenceId", GENERATION_TIME), is(nullValue()));
+	}
+}
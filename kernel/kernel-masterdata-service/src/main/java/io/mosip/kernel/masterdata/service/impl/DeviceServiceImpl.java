@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -442,8 +443,17 @@ public class DeviceServiceImpl implements DeviceService {
 		Pagination pagination = dto.getPagination();
 		List<SearchSort> sort = dto.getSort();
 		pageUtils.validateSortField(DeviceSearchDto.class, Device.class, sort);
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
+		// sorting on entity fields and pagination are applied by the query, so that
+		// only the rows of the page are fetched and enriched
+		List<SearchSort> entitySort = pageUtils.toEntitySort(Device.class, sort);
+		boolean sortedByQuery = entitySort != null && pagination != null
+				&& (mapStatusList.isEmpty() || addList.isEmpty());
+		if (sortedByQuery) {
+			dto.setSort(entitySort);
+		} else {
+			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+			dto.setSort(Collections.emptyList());
+		}
 		if (filterValidator.validate(DeviceSearchDto.class, dto.getFilters())) {
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
 			OptionalFilter zoneOptionalFilter = new OptionalFilter(zoneFilter);
@@ -467,7 +477,8 @@ public class DeviceServiceImpl implements DeviceService {
 						device.setMapStatus("unassigned");
 					}
 				});
-				pageDto = pageUtils.sortPage(devices, sort, pagination);
+				pageDto = sortedByQuery ? pageUtils.pageResponse(page, devices)
+						: pageUtils.sortPage(devices, sort, pagination);
 
 			}
 
@@ -491,20 +502,19 @@ public class DeviceServiceImpl implements DeviceService {
 	 * @param list the {@link DeviceSearchDto}.
 	 */
 	private void setDeviceTypeNames(List<DeviceSearchDto> list) {
-		List<DeviceSpecification> deviceSpecifications = deviceUtil.getDeviceSpec();
-		List<DeviceType> deviceTypes = deviceUtil.getDeviceTypes();
+		Map<String, DeviceSpecification> deviceSpecifications = deviceUtil.getDeviceSpec().stream()
+				.collect(Collectors.toMap(s -> s.getId() + s.getLangCode(), s -> s, (s1, s2) -> s2));
+		Map<String, DeviceType> deviceTypes = deviceUtil.getDeviceTypes().stream()
+				.collect(Collectors.toMap(mt -> mt.getCode() + mt.getLangCode(), mt -> mt, (mt1, mt2) -> mt2));
 		list.forEach(deviceSearchDto -> {
-			deviceSpecifications.forEach(s -> {
-				if (s.getId().equals(deviceSearchDto.getDeviceSpecId())
-						&& s.getLangCode().equals(deviceSearchDto.getLangCode())) {
-					String typeCode = s.getDeviceTypeCode();
-					deviceTypes.forEach(mt -> {
-						if (mt.getCode().equals(typeCode) && mt.getLangCode().equals(s.getLangCode())) {
-							deviceSearchDto.setDeviceTypeName(mt.getName());
-						}
-					});
+			DeviceSpecification s = deviceSpecifications
+					.get(deviceSearchDto.getDeviceSpecId() + deviceSearchDto.getLangCode());
+			if (s != null) {
+				DeviceType mt = deviceTypes.get(s.getDeviceTypeCode() + s.getLangCode());
+				if (mt != null) {
+					deviceSearchDto.setDeviceTypeName(mt.getName());
 				}
-			});
+			}
 		});
 	}
 
@@ -515,21 +525,21 @@ public class DeviceServiceImpl implements DeviceService {
 	 */
 	private void setMapStatus(List<DeviceSearchDto> list, String langCode) {
 
-		List<RegistrationCenterDevice> centerDeviceList = deviceUtil.getAllDeviceCentersList();
-		List<RegistrationCenter> registrationCenterList = deviceUtil.getAllRegistrationCenters();
+		Map<String, RegistrationCenterDevice> centerDevices = deviceUtil.getAllDeviceCentersList().stream()
+				.collect(Collectors.toMap(cd -> cd.getDevice().getId() + cd.getLangCode(), cd -> cd,
+						(cd1, cd2) -> cd2));
+		Map<String, RegistrationCenter> registrationCenters = deviceUtil.getAllRegistrationCenters().stream()
+				.collect(Collectors.toMap(rc -> rc.getId() + rc.getLangCode(), rc -> rc, (rc1, rc2) -> rc2));
 		list.forEach(deviceSearchDto -> {
-			centerDeviceList.forEach(centerDevice -> {
-				if (centerDevice.getDevice().getId().equals(deviceSearchDto.getId())
-						&& centerDevice.getLangCode().equals(deviceSearchDto.getLangCode())) {
-					String regId = centerDevice.getRegistrationCenter().getId();
-					registrationCenterList.forEach(registrationCenter -> {
-						if (registrationCenter.getId().equals(regId)
-								&& centerDevice.getLangCode().equals(registrationCenter.getLangCode())) {
-							deviceSearchDto.setMapStatus(registrationCenter.getName());
-						}
-					});
+			RegistrationCenterDevice centerDevice = centerDevices
+					.get(deviceSearchDto.getId() + deviceSearchDto.getLangCode());
+			if (centerDevice != null) {
+				RegistrationCenter registrationCenter = registrationCenters
+						.get(centerDevice.getRegistrationCenter().getId() + centerDevice.getLangCode());
+				if (registrationCenter != null) {
+					deviceSearchDto.setMapStatus(registrationCenter.getName());
 				}
-			});
+			}
 		});
 	}
 
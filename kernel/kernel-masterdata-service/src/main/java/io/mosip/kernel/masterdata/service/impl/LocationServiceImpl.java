@@ -60,6 +60,7 @@ import io.mosip.kernel.masterdata.repository.LocationRepository;
 import io.mosip.kernel.masterdata.service.LocationService;
 import io.mosip.kernel.masterdata.utils.AuditUtil;
 import io.mosip.kernel.masterdata.utils.ExceptionUtils;
+import io.mosip.kernel.masterdata.utils.HierarchyIndexCache;
 import io.mosip.kernel.masterdata.utils.MapperUtils;
 import io.mosip.kernel.masterdata.utils.MasterDataFilterHelper;
 import io.mosip.kernel.masterdata.utils.MasterdataCreationUtil;
@@ -101,6 +102,9 @@ public class LocationServiceImpl implements LocationService {
 	@Autowired
 	private MasterdataCreationUtil masterDataCreateUtil;
 
+	@Autowired
+	private HierarchyIndexCache hierarchyIndexCache;
+
 	@Autowired
 	private PageUtils pageUtils;
 	private List<Location> childHierarchyList = null;
@@ -246,6 +250,7 @@ public class LocationServiceImpl implements LocationService {
 
 				locationEntity = MetaDataUtils.setCreateMetaData(dto, Location.class);
 				locationEntity = locationRepository.create(locationEntity);
+				hierarchyIndexCache.invalidateLocations();
 				MapperUtils.map(locationEntity, locationPostResponseDto);
 			}
 		} catch (DataAccessLayerException | DataAccessException ex) {
@@ -332,6 +337,7 @@ public class LocationServiceImpl implements LocationService {
 			} else {
 				location = MetaDataUtils.setUpdateMetaData(locationDto, location, false);
 				locationRepository.update(location);
+				hierarchyIndexCache.invalidateLocations();
 				MapperUtils.map(location, postLocationCodeResponseDto);
 			}
 
@@ -371,6 +377,7 @@ public class LocationServiceImpl implements LocationService {
 
 				locations.stream().map(MetaDataUtils::setDeleteMetaData)
 						.forEach(location -> locationRepository.update(location));
+				hierarchyIndexCache.invalidateLocations();
 
 			} else {
 				throw new RequestException(LocationErrorCode.LOCATION_NOT_FOUND_EXCEPTION.getErrorCode(),
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -466,8 +467,17 @@ public class MachineServiceImpl implements MachineService {
 		dto.getFilters().removeAll(removeList);
 		Pagination pagination = dto.getPagination();
 		List<SearchSort> sort = dto.getSort();
-		dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
-		dto.setSort(Collections.emptyList());
+		// sorting on entity fields and pagination are applied by the query, so that
+		// only the rows of the page are fetched and enriched
+		List<SearchSort> entitySort = pageUtils.toEntitySort(Machine.class, sort);
+		boolean sortedByQuery = entitySort != null && pagination != null
+				&& (mapStatusList.isEmpty() || addList.isEmpty());
+		if (sortedByQuery) {
+			dto.setSort(entitySort);
+		} else {
+			dto.setPagination(new Pagination(0, Integer.MAX_VALUE));
+			dto.setSort(Collections.emptyList());
+		}
 		if (filterValidator.validate(MachineSearchDto.class, dto.getFilters())) {
 
 			OptionalFilter optionalFilter = new OptionalFilter(addList);
@@ -490,7 +500,8 @@ public class MachineServiceImpl implements MachineService {
 						machine.setMapStatus("unassigned");
 					}
 				});
-				pageDto = pageUtils.sortPage(machines, sort, pagination);
+				pageDto = sortedByQuery ? pageUtils.pageResponse(page, machines)
+						: pageUtils.sortPage(machines, sort, pagination);
 			}
 
 		}
@@ -513,20 +524,19 @@ public class MachineServiceImpl implements MachineService {
 	 * @param list the {@link MachineSearchDto}.
 	 */
 	private void setMachineTypeNames(List<MachineSearchDto> list) {
-		List<MachineSpecification> machineSpecifications = machineUtil.getMachineSpec();
-		List<MachineType> machineTypes = machineUtil.getMachineTypes();
+		Map<String, MachineSpecification> machineSpecifications = machineUtil.getMachineSpec().stream()
+				.collect(Collectors.toMap(s -> s.getId() + s.getLangCode(), s -> s, (s1, s2) -> s2));
+		Map<String, MachineType> machineTypes = machineUtil.getMachineTypes().stream()
+				.collect(Collectors.toMap(mt -> mt.getCode() + mt.getLangCode(), mt -> mt, (mt1, mt2) -> mt2));
 		list.forEach(machineSearchDto -> {
-			machineSpecifications.forEach(s -> {
-				if (s.getId().equals(machineSearchDto.getMachineSpecId())
-						&& s.getLangCode().equals(machineSearchDto.getLangCode())) {
-					String typeCode = s.getMachineTypeCode();
-					machineTypes.forEach(mt -> {
-						if (mt.getCode().equals(typeCode) && mt.getLangCode().equals(s.getLangCode())) {
-							machineSearchDto.setMachineTypeName(mt.getName());
-						}
-					});
+			MachineSpecification s = machineSpecifications
+					.get(machineSearchDto.getMachineSpecId() + machineSearchDto.getLangCode());
+			if (s != null) {
+				MachineType mt = machineTypes.get(s.getMachineTypeCode() + s.getLangCode());
+				if (mt != null) {
+					machineSearchDto.setMachineTypeName(mt.getName());
 				}
-			});
+			}
 		});
 	}
 
@@ -536,21 +546,21 @@ public class MachineServiceImpl implements MachineService {
 	 * @param list the {@link MachineSearchDto}.
 	 */
 	private void setMapStatus(List<MachineSearchDto> list) {
-		List<RegistrationCenterMachine> centerMachineList = machineUtil.getAllMachineCentersList();
-		List<RegistrationCenter> registrationCenterList = machineUtil.getAllRegistrationCenters();
+		Map<String, RegistrationCenterMachine> centerMachines = machineUtil.getAllMachineCentersList().stream()
+				.collect(Collectors.toMap(cm -> cm.getMachine().getId() + cm.getLangCode(), cm -> cm,
+						(cm1, cm2) -> cm2));
+		Map<String, RegistrationCenter> registrationCenters = machineUtil.getAllRegistrationCenters().stream()
+				.collect(Collectors.toMap(rc -> rc.getId() + rc.getLangCode(), rc -> rc, (rc1, rc2) -> rc2));
 		list.forEach(machineSearchDto -> {
-			centerMachineList.forEach(centerMachine -> {
-				if (centerMachine.getMachine().getId().equals(machineSearchDto.getId())
-						&& centerMachine.getLangCode().equals(machineSearchDto.getLangCode())) {
-					String regId = centerMachine.getRegistrationCenter().getId();
-					registrationCenterList.forEach(registrationCenter -> {
-						if (registrationCenter.getId().equals(regId)
-								&& centerMachine.getLangCode().equals(registrationCenter.getLangCode())) {
-							machineSearchDto.setMapStatus(registrationCenter.getName());
-						}
-					});
+			RegistrationCenterMachine centerMachine = centerMachines
+					.get(machineSearchDto.getId() + machineSearchDto.getLangCode());
+			if (centerMachine != null) {
+				RegistrationCenter registrationCenter = registrationCenters
+						.get(centerMachine.getRegistrationCenter().getId() + centerMachine.getLangCode());
+				if (registrationCenter != null) {
+					machineSearchDto.setMapStatus(registrationCenter.getName());
 				}
-			});
+			}
 		});
 	}
 
@@ -774,7 +774,7 @@ public class RegistrationCenterServiceImpl implements RegistrationCenterService
 				Location location = serviceHelper.locationSearch(filter);
 				if (location != null) {
 					// fetching sub-locations
-					List<Location> descendants = locationUtils.getDescedants(locations, location);
+					List<Location> descendants = locationUtils.getDescedants(location);
 					List<Location> leaves = descendants.parallelStream().filter(child -> child.getHierarchyLevel() == 5)
 							.collect(Collectors.toList());
 					locationFilter.addAll(serviceHelper.buildLocationSearchFilter(leaves));
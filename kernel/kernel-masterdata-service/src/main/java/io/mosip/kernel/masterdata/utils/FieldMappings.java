@@ -0,0 +1,157 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+
+/**
+ * Field mappings used by {@link MapperUtils}, built once per pair of classes.
+ *
+ * <p>
+ * A mapping copies the values of the non static and non final fields declared
+ * by a source class to the fields of the same name and type declared by a
+ * destination class. Fields are matched and resolved to method handles when
+ * the mapping is built, so mapping an object only invokes the handles.
+ * </p>
+ *
+ * @author Bal Vikash Sharma
+ * @since 1.0.8
+ */
+final class FieldMappings {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final MethodHandle FIELD_SET;
+
+	static {
+		try {
+			FIELD_SET = LOOKUP.findVirtual(Field.class, "set", SETTER_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * Accessible declared fields by class
+	 */
+	private static final ClassValue<Field[]> DECLARED_FIELDS = new ClassValue<Field[]>() {
+
+		@Override
+		protected Field[] computeValue(Class<?> type) {
+			Field[] fields = type.getDeclaredFields();
+			for (Field field : fields) {
+				field.setAccessible(true);
+			}
+			return fields;
+		}
+	};
+
+	/**
+	 * Mappings by source class and destination class
+	 */
+	private static final ClassValue<ConcurrentMap<Class<?>, FieldMapping[]>> MAPPINGS =
+			new ClassValue<ConcurrentMap<Class<?>, FieldMapping[]>>() {
+
+		@Override
+		protected ConcurrentMap<Class<?>, FieldMapping[]> computeValue(Class<?> sourceClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private FieldMappings() {
+	}
+
+	/**
+	 * Function to get the fields declared by a class, made accessible. The array
+	 * is shared and must not be modified.
+	 *
+	 * @param type the class
+	 * @return the declared fields
+	 */
+	static Field[] declaredFields(Class<?> type) {
+		return DECLARED_FIELDS.get(type);
+	}
+
+	/**
+	 * Function to copy the fields declared by a source class to the fields of the
+	 * same name and type declared by a destination class
+	 *
+	 * @param source           the source object
+	 * @param destination      the destination object
+	 * @param sourceClass      source object class or super class declaring the
+	 *                         fields to copy
+	 * @param destinationClass destination object class or super class declaring
+	 *                         the fields to copy to
+	 * @param mapNullValues    whether null or empty values are copied
+	 * @throws Throwable if a field could not be copied
+	 */
+	static void copy(Object source, Object destination, Class<?> sourceClass, Class<?> destinationClass,
+			boolean mapNullValues) throws Throwable {
+		ConcurrentMap<Class<?>, FieldMapping[]> sourceMappings = MAPPINGS.get(sourceClass);
+		FieldMapping[] mappings = sourceMappings.get(destinationClass);
+		if (mappings == null) {
+			mappings = build(sourceClass, destinationClass);
+			sourceMappings.putIfAbsent(destinationClass, mappings);
+		}
+		for (FieldMapping mapping : mappings) {
+			Object value = (Object) mapping.getter.invokeExact(source);
+			// check whether user wants to map null values into destination object or not
+			if (mapNullValues || !EmptyCheckUtils.isNullEmpty(value)) {
+				mapping.setter.invokeExact(destination, value);
+			}
+		}
+	}
+
+	private static FieldMapping[] build(Class<?> sourceClass, Class<?> destinationClass)
+			throws IllegalAccessException {
+		Field[] destinationFields = declaredFields(destinationClass);
+		List<FieldMapping> mappings = new ArrayList<>();
+		for (Field sfield : declaredFields(sourceClass)) {
+			// Do not set values either static or final
+			if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
+				continue;
+			}
+			for (Field dfield : destinationFields) {
+				// map only those field whose name and type is same
+				if (sfield.getName().equals(dfield.getName()) && sfield.getType().equals(dfield.getType())) {
+					MethodHandle getter = LOOKUP.unreflectGetter(sfield).asType(GETTER_TYPE);
+					mappings.add(new FieldMapping(getter, setter(dfield)));
+					break;
+				}
+			}
+		}
+		return mappings.toArray(new FieldMapping[mappings.size()]);
+	}
+
+	private static MethodHandle setter(Field field) throws IllegalAccessException {
+		if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+			// not settable through a field handle, set reflectively
+			return FIELD_SET.bindTo(field);
+		}
+		return LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+	}
+
+	private static final class FieldMapping {
+
+		private final MethodHandle getter;
+
+		private final MethodHandle setter;
+
+		private FieldMapping(MethodHandle getter, MethodHandle setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+	}
+}
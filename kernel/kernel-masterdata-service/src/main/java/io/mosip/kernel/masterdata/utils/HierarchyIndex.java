@@ -0,0 +1,269 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable index of a hierarchy, such as zones or locations, by language.
+ *
+ * <p>
+ * The items of a language are laid out in depth first order, so that the
+ * descendants of an item are the range following it, and each item keeps the
+ * position of its parent. Descendants, children and leaves are listed in O(k)
+ * of the items returned, ancestors in O(depth). An item whose parent is not in
+ * the language is a root. Of several items with the same code and language,
+ * the last one is indexed.
+ * </p>
+ *
+ * @author Abhishek Kumar
+ * @since 1.0.8
+ *
+ * @param <T> item type
+ */
+public final class HierarchyIndex<T> {
+
+	private final List<T> items;
+
+	private final Map<String, Tree<T>> trees;
+
+	private HierarchyIndex(List<T> items, Map<String, Tree<T>> trees) {
+		this.items = items;
+		this.trees = trees;
+	}
+
+	/**
+	 * Function to build an index
+	 *
+	 * @param items      the items
+	 * @param code       code of an item
+	 * @param parentCode code of the parent of an item, null for a root
+	 * @param langCode   language code of an item
+	 * @return the index
+	 */
+	public static <T> HierarchyIndex<T> of(List<T> items, Function<T, String> code, Function<T, String> parentCode,
+			Function<T, String> langCode) {
+		Map<String, Map<String, T>> byLanguage = new HashMap<>();
+		for (T item : items) {
+			byLanguage.computeIfAbsent(langCode.apply(item), lang -> new LinkedHashMap<>()).put(code.apply(item), item);
+		}
+		Map<String, Tree<T>> trees = new HashMap<>();
+		byLanguage.forEach((lang, itemsByCode) -> trees.put(lang, new Tree<>(itemsByCode, code, parentCode)));
+		return new HierarchyIndex<>(Collections.unmodifiableList(new ArrayList<>(items)), trees);
+	}
+
+	/**
+	 * @return the items indexed, in the order they were given
+	 */
+	public List<T> getAll() {
+		return items;
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	/**
+	 * @param langCode language code
+	 * @param code     item code
+	 * @return the item, null if not found
+	 */
+	public T get(String langCode, String code) {
+		Tree<T> tree = trees.get(langCode);
+		if (tree == null) {
+			return null;
+		}
+		Integer position = tree.positions.get(code);
+		return position == null ? null : tree.items[position];
+	}
+
+	/**
+	 * @param langCode language code
+	 * @param code     item code
+	 * @return the item followed by its descendants in depth first order, empty if
+	 *         not found
+	 */
+	public List<T> getDescendants(String langCode, String code) {
+		Tree<T> tree = trees.get(langCode);
+		Integer position = tree == null ? null : tree.positions.get(code);
+		if (position == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(tree.items).subList(position, tree.ends[position]));
+	}
+
+	/**
+	 * @param code item code
+	 * @return codes of the item and its descendants in any language
+	 */
+	public Set<String> getDescendantCodes(String code) {
+		Set<String> codes = new HashSet<>();
+		for (Tree<T> tree : trees.values()) {
+			Integer position = tree.positions.get(code);
+			if (position != null) {
+				codes.addAll(Arrays.asList(tree.codes).subList(position, tree.ends[position]));
+			}
+		}
+		return codes;
+	}
+
+	/**
+	 * @param langCode language code
+	 * @param code     item code
+	 * @return the item followed by its parent up to the root, empty if not found
+	 */
+	public List<T> getAncestors(String langCode, String code) {
+		Tree<T> tree = trees.get(langCode);
+		Integer position = tree == null ? null : tree.positions.get(code);
+		if (position == null) {
+			return Collections.emptyList();
+		}
+		List<T> ancestors = new ArrayList<>();
+		for (int i = position; i >= 0; i = tree.parents[i]) {
+			ancestors.add(tree.items[i]);
+		}
+		return ancestors;
+	}
+
+	/**
+	 * @param langCode language code
+	 * @param code     item code
+	 * @return the immediate children of the item, empty if not found
+	 */
+	public List<T> getChildren(String langCode, String code) {
+		Tree<T> tree = trees.get(langCode);
+		Integer position = tree == null ? null : tree.positions.get(code);
+		if (position == null) {
+			return Collections.emptyList();
+		}
+		List<T> children = new ArrayList<>();
+		for (int i = position + 1; i < tree.ends[position]; i = tree.ends[i]) {
+			children.add(tree.items[i]);
+		}
+		return children;
+	}
+
+	/**
+	 * @param langCode language code
+	 * @param code     item code
+	 * @return the descendants of the item having no children, the item itself if
+	 *         it has none, empty if not found
+	 */
+	public List<T> getLeaves(String langCode, String code) {
+		Tree<T> tree = trees.get(langCode);
+		Integer position = tree == null ? null : tree.positions.get(code);
+		if (position == null) {
+			return Collections.emptyList();
+		}
+		List<T> leaves = new ArrayList<>();
+		for (int i = position; i < tree.ends[position]; i++) {
+			if (tree.ends[i] == i + 1) {
+				leaves.add(tree.items[i]);
+			}
+		}
+		return leaves;
+	}
+
+	/**
+	 * Items of a language in depth first order
+	 */
+	private static final class Tree<T> {
+
+		private final T[] items;
+
+		private final String[] codes;
+
+		/**
+		 * Position following the last descendant, by position
+		 */
+		private final int[] ends;
+
+		/**
+		 * Position of the parent by position, -1 for a root
+		 */
+		private final int[] parents;
+
+		private final Map<String, Integer> positions;
+
+		@SuppressWarnings("unchecked")
+		private Tree(Map<String, T> itemsByCode, Function<T, String> code, Function<T, String> parentCode) {
+			int size = itemsByCode.size();
+			items = (T[]) new Object[size];
+			codes = new String[size];
+			ends = new int[size];
+			parents = new int[size];
+			positions = new HashMap<>(size * 2);
+
+			Map<String, List<T>> children = new HashMap<>();
+			List<T> roots = new ArrayList<>();
+			for (T item : itemsByCode.values()) {
+				String parent = parentCode.apply(item);
+				if (parent == null || parent.equals(code.apply(item)) || !itemsByCode.containsKey(parent)) {
+					roots.add(item);
+				} else {
+					children.computeIfAbsent(parent, key -> new ArrayList<>()).add(item);
+				}
+			}
+			Deque<T> pending = new ArrayDeque<>();
+			Deque<Integer> pendingParents = new ArrayDeque<>();
+			int next = 0;
+			for (T root : roots) {
+				next = layout(root, next, pending, pendingParents, children, code);
+			}
+			// items in a cycle are not reachable from a root, each cycle is cut at its
+			// first item
+			for (T item : itemsByCode.values()) {
+				if (!positions.containsKey(code.apply(item))) {
+					next = layout(item, next, pending, pendingParents, children, code);
+				}
+			}
+			// descendants follow their ancestors, so a reverse pass sets the ends
+			for (int i = size - 1; i >= 0; i--) {
+				ends[i] = Math.max(ends[i], i + 1);
+				if (parents[i] >= 0) {
+					ends[parents[i]] = Math.max(ends[parents[i]], ends[i]);
+				}
+			}
+		}
+
+		/**
+		 * Lays out an item and its descendants depth first from a position, without
+		 * recursion as hierarchies can be deep
+		 *
+		 * @return the position following the last one laid out
+		 */
+		private int layout(T root, int next, Deque<T> pending, Deque<Integer> pendingParents,
+				Map<String, List<T>> children, Function<T, String> code) {
+			pending.push(root);
+			pendingParents.push(-1);
+			while (!pending.isEmpty()) {
+				T item = pending.pop();
+				int parent = pendingParents.pop();
+				String itemCode = code.apply(item);
+				if (positions.containsKey(itemCode)) {
+					continue;
+				}
+				int position = next++;
+				items[position] = item;
+				codes[position] = itemCode;
+				parents[position] = parent;
+				positions.put(itemCode, position);
+				List<T> itemChildren = children.getOrDefault(itemCode, Collections.emptyList());
+				for (int i = itemChildren.size() - 1; i >= 0; i--) {
+					pending.push(itemChildren.get(i));
+					pendingParents.push(position);
+				}
+			}
+			return next;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package io.mosip.kernel.masterdata.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.masterdata.constant.LocationErrorCode;
+import io.mosip.kernel.masterdata.constant.ZoneErrorCode;
+import io.mosip.kernel.masterdata.entity.Location;
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
+import io.mosip.kernel.masterdata.repository.LocationRepository;
+import io.mosip.kernel.masterdata.repository.ZoneRepository;
+
+/**
+ * Shared {@link HierarchyIndex} of the non deleted zones and locations.
+ *
+ * <p>
+ * An index is loaded on first use and reloaded by the first lookup after the
+ * configured time to live or after it is invalidated, while concurrent lookups
+ * use the previous index. A time to live of zero loads an index on every
+ * lookup.
+ * </p>
+ *
+ * @author Abhishek Kumar
+ * @since 1.0.8
+ *
+ */
+@Component
+public class HierarchyIndexCache {
+
+	@Value("${mosip.kernel.masterdata.hierarchy-index.ttl-seconds:60}")
+	private long ttlSeconds;
+
+	@Autowired
+	private ZoneRepository zoneRepository;
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	private final Entry<Zone> zones = new Entry<>();
+
+	private final Entry<Location> locations = new Entry<>();
+
+	private final LongAdder loads = new LongAdder();
+
+	/**
+	 * @return index of the non deleted zones
+	 */
+	public HierarchyIndex<Zone> getZones() {
+		return zones.get(() -> {
+			try {
+				return index(zoneRepository.findAllNonDeleted(), Zone::getCode, Zone::getParentZoneCode,
+						Zone::getLangCode);
+			} catch (DataAccessException e) {
+				throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
+						ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
+			}
+		});
+	}
+
+	/**
+	 * @return index of the non deleted locations
+	 */
+	public HierarchyIndex<Location> getLocations() {
+		return locations.get(() -> {
+			try {
+				return index(locationRepository.findAllNonDeleted(), Location::getCode, Location::getParentLocCode,
+						Location::getLangCode);
+			} catch (DataAccessException e) {
+				throw new MasterDataServiceException(LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorCode(),
+						LocationErrorCode.LOCATION_FETCH_EXCEPTION.getErrorMessage());
+			}
+		});
+	}
+
+	/**
+	 * Function to reload the zone index on next lookup
+	 */
+	public void invalidateZones() {
+		zones.invalidate();
+	}
+
+	/**
+	 * Function to reload the location index on next lookup
+	 */
+	public void invalidateLocations() {
+		locations.invalidate();
+	}
+
+	public long getLoads() {
+		return loads.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "HierarchyIndexCache [ttlSeconds=" + ttlSeconds + ", loads=" + getLoads() + "]";
+	}
+
+	private <T> HierarchyIndex<T> index(List<T> items, Function<T, String> code, Function<T, String> parentCode,
+			Function<T, String> langCode) {
+		loads.increment();
+		return HierarchyIndex.of(items == null ? Collections.<T>emptyList() : items, code, parentCode, langCode);
+	}
+
+	/**
+	 * Index with its expiry
+	 */
+	private final class Entry<T> {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private volatile HierarchyIndex<T> index;
+
+		private volatile long expiresAt;
+
+		private HierarchyIndex<T> get(Supplier<HierarchyIndex<T>> loader) {
+			if (ttlSeconds <= 0) {
+				return loader.get();
+			}
+			HierarchyIndex<T> current = index;
+			if (current != null && System.nanoTime() - expiresAt < 0) {
+				return current;
+			}
+			if (current != null) {
+				// stale index: one thread queries the repository again, requests arriving
+				// meanwhile still answer from the stale hierarchy
+				if (!lock.tryLock()) {
+					return current;
+				}
+			} else {
+				lock.lock();
+			}
+			try {
+				current = index;
+				if (current == null || System.nanoTime() - expiresAt >= 0) {
+					current = loader.get();
+					expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds);
+					index = current;
+				}
+				return current;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void invalidate() {
+			index = null;
+		}
+	}
+}
@@ -4,66 +4,65 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.masterdata.entity.Location;
 
 @Component
 public class LocationUtils {
-	ThreadLocal<List<Location>> local;
-	ThreadLocal<List<Location>> list;
+
+	@Autowired
+	private HierarchyIndexCache hierarchyIndexCache;
 
 	public List<Location> getDescedants(List<Location> locations, Location location) {
 		Objects.requireNonNull(locations);
-		initialize(locations);
-		list.get().add(location);
-		getImmdChild(locations, location);
-		return list.get();
-	}
-
-	private void initialize(List<Location> locations) {
-		local = new ThreadLocal<>();
-		local.set(locations);
-		list = new ThreadLocal<>();
-		list.set(new ArrayList<>());
+		return withFirst(location, index(locations).getDescendants(location.getLangCode(), location.getCode()));
 	}
 
-	private void getImmdChild(List<Location> locations, Location location) {
-		locations.stream().filter(child -> isChild(child, location)).forEach(i -> {
-			list.get().add(i);
-			getImmdChild(local.get(), i);
-		});
+	public List<Location> getAncestors(List<Location> locations, Location location) {
+		Objects.requireNonNull(locations);
+		return withFirst(location, index(locations).getAncestors(location.getLangCode(), location.getCode()));
 	}
 
-	private void getImmdParent(List<Location> locations, Location location) {
-		locations.stream().filter(parent -> isParent(parent, location)).forEach(i -> {
-			list.get().add(i);
-			getImmdParent(local.get(), i);
-		});
+	/**
+	 * Method to get a location followed by its descendants, from the shared
+	 * {@link HierarchyIndexCache}
+	 *
+	 * @param location the location
+	 * @return the location and its descendants
+	 */
+	public List<Location> getDescedants(Location location) {
+		return withFirst(location,
+				hierarchyIndexCache.getLocations().getDescendants(location.getLangCode(), location.getCode()));
 	}
 
-	public List<Location> getAncestors(List<Location> locations, Location location) {
-		initialize(locations);
-		list.get().add(location);
-		getImmdParent(locations, location);
-		return list.get();
+	/**
+	 * Method to get a location followed by its ancestors, from the shared
+	 * {@link HierarchyIndexCache}
+	 *
+	 * @param location the location
+	 * @return the location and its ancestors
+	 */
+	public List<Location> getAncestors(Location location) {
+		return withFirst(location,
+				hierarchyIndexCache.getLocations().getAncestors(location.getLangCode(), location.getCode()));
 	}
 
-	private boolean isChild(Location child, Location parent) {
-		Objects.requireNonNull(child);
-		Objects.requireNonNull(parent);
-		if (child.getParentLocCode() != null)
-			return child.getParentLocCode().equals(parent.getCode())
-					&& child.getLangCode().equals(parent.getLangCode());
-		else
-			return false;
+	private static HierarchyIndex<Location> index(List<Location> locations) {
+		return HierarchyIndex.of(locations, Location::getCode, Location::getParentLocCode, Location::getLangCode);
 	}
 
-	private boolean isParent(Location parent, Location child) {
-		if (parent.getCode() != null)
-			return parent.getCode().equals(child.getParentLocCode())
-					&& child.getLangCode().equals(parent.getLangCode());
-		else
-			return false;
+	/**
+	 * The hierarchy found starts with the indexed location, replaced by the one
+	 * passed
+	 */
+	private static List<Location> withFirst(Location location, List<Location> hierarchy) {
+		List<Location> list = new ArrayList<>(Math.max(hierarchy.size(), 1));
+		list.add(location);
+		if (hierarchy.size() > 1) {
+			list.addAll(hierarchy.subList(1, hierarchy.size()));
+		}
+		return list;
 	}
 }
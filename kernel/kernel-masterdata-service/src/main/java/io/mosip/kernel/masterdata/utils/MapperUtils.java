@@ -2,7 +2,6 @@
 package io.mosip.kernel.masterdata.utils;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,7 +18,6 @@ import javax.persistence.Entity;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
-import io.mosip.kernel.core.util.EmptyCheckUtils;
 import io.mosip.kernel.masterdata.dto.DeviceLangCodeDtypeDto;
 import io.mosip.kernel.masterdata.dto.ExceptionalHolidayDto;
 import io.mosip.kernel.masterdata.dto.HolidayDto;
@@ -216,10 +214,7 @@ public class MapperUtils {
 
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		Field[] destinationFields = destination.getClass().getDeclaredFields();
-
-		mapFieldValues(source, destination, sourceFields, destinationFields);
+		mapFieldValues(source, destination, source.getClass(), destination.getClass());
 
 	}
 
@@ -246,37 +241,37 @@ public class MapperUtils {
 		String baseDtoClassName = BaseDto.class.getName();// base entity fully qualified name
 
 		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			sourceFields = source.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
+			sourceFieldsClass = source.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			return;
 		}
 		if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
+			destinationFieldsClass = destination.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			return;
 		}
 
 		// if source is an entity
 		if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
 			// if destination is an entity
-			Field[] sourceFields = source.getClass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 		} else {
 			if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
-				Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-				Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-				mapFieldValues(source, destination, sourceFields, destinationFields);
+				Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+				Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+				mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			}
 		}
 
@@ -322,7 +317,7 @@ public class MapperUtils {
 	 */
 	private static <S, D> void mapDtoToEntity(S source, D destination)
 			throws InstantiationException, IllegalAccessException {
-		Field[] fields = destination.getClass().getDeclaredFields();
+		Field[] fields = FieldMappings.declaredFields(destination.getClass());
 		setBaseFieldValue(source, destination);// map super class values
 		for (Field field : fields) {
 			/**
@@ -331,9 +326,7 @@ public class MapperUtils {
 			if (field.isAnnotationPresent(EmbeddedId.class)) {
 				Object id = field.getType().newInstance();
 				mapFieldValues(source, id);
-				field.setAccessible(true);
 				field.set(destination, id);
-				field.setAccessible(false);
 				break;
 			}
 		}
@@ -349,7 +342,7 @@ public class MapperUtils {
 	 * @throws IllegalAccessException if provided fields are not accessible
 	 */
 	private static <S, D> void mapEntityToDto(S source, D destination) throws IllegalAccessException {
-		Field[] sourceFields = source.getClass().getDeclaredFields();
+		Field[] sourceFields = FieldMappings.declaredFields(source.getClass());
 		/*
 		 * Here source is a Entity so we need to take values from Entity object and set
 		 * the matching fields in the destination object mostly an DTO.
@@ -357,7 +350,6 @@ public class MapperUtils {
 		boolean isIdMapped = false;// a flag to check if there any composite key is present and is mapped
 		boolean isSuperMapped = false;// a flag to check is class extends the BaseEntity and is mapped
 		for (Field sfield : sourceFields) {
-			sfield.setAccessible(true);// mark accessible true because fields my be private, for safety
 			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
 				/**
 				 * Map the composite key values from source to destination if field name is same
@@ -367,7 +359,6 @@ public class MapperUtils {
 				 * destination object
 				 */
 				mapFieldValues(sfield.get(source), destination);
-				sfield.setAccessible(false);
 				isIdMapped = true;// set flag so no need to check and map again
 			} else if (!isSuperMapped) {
 				setBaseFieldValue(source, destination);// this method check whether source is entity or destination
@@ -378,70 +369,29 @@ public class MapperUtils {
 	}
 
 	/**
-	 * Map values from source field to destination.
+	 * Map values from the fields declared by a class of the source to the fields
+	 * declared by a class of the destination.
 	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param sf          source fields
-	 * @param dtf         destination fields
+	 * @param <S>                    is a type parameter
+	 * @param <D>                    is a type parameter
+	 * @param source                 which value is going to be mapped
+	 * @param destination            where values is going to be mapped
+	 * @param sourceFieldsClass      class declaring the source fields
+	 * @param destinationFieldsClass class declaring the destination fields
 	 */
-	private static <D, S> void mapFieldValues(S source, D destination, Field[] sourceFields,
-			Field[] destinationFields) {
+	private static <D, S> void mapFieldValues(S source, D destination, Class<?> sourceFieldsClass,
+			Class<?> destinationFieldsClass) {
 		try {
-			for (Field sfield : sourceFields) {
-				// Do not set values either static or final
-				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
-					continue;
-				}
-
-				// make field accessible possibly private
-				sfield.setAccessible(true);
-
-				for (Field dfield : destinationFields) {
-
-					Class<?> sourceType = sfield.getType();
-					Class<?> destinationType = dfield.getType();
-
-					// map only those field whose name and type is same
-					if (sfield.getName().equals(dfield.getName()) && sourceType.equals(destinationType)) {
-
-						// for normal field values
-						dfield.setAccessible(true);
-						setFieldValue(source, destination, sfield, dfield);
-						break;
-					}
-				}
-			}
-		} catch (IllegalAccessException e) {
+			FieldMappings.copy(source, destination, sourceFieldsClass, destinationFieldsClass, mapNullValues);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
 
 			throw new DataAccessLayerException("KER-MSD-993", "Exception raised while mapping values form "
 					+ source.getClass().getName() + " to " + destination.getClass().getName(), e);
 		}
 	}
 
-	/**
-	 * Take value from source field and insert value into destination field.
-	 * 
-	 * @param <S>         is a type parameter
-	 * @param <D>         is a type parameter
-	 * @param source      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param sf          source fields
-	 * @param dtf         destination fields
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 */
-	private static <S, D> void setFieldValue(S source, D destination, Field sf, Field dtf)
-			throws IllegalAccessException {
-		// check whether user wants to map null values into destination object or not
-		if (!mapNullValues && EmptyCheckUtils.isNullEmpty(sf.get(source))) {
-			return;
-		}
-		dtf.set(destination, sf.get(source));
-		dtf.setAccessible(false);
-		sf.setAccessible(false);
-	}
 	// ----------------------------------------------------------------------------------------------------------------------------
 
 	public static List<HolidayDto> mapHolidays(List<Holiday> holidays) {
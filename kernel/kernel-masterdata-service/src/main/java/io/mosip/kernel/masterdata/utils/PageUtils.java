@@ -82,6 +82,37 @@ public class PageUtils {
 		return pageResponse;
 	}
 
+	/**
+	 * Method to map the sort criteria to the entity fields, so that the sorting
+	 * and pagination can be applied by the database query
+	 * 
+	 * @param clazz entity class
+	 * @param sort  sort criteria
+	 * @return sort criteria with the entity field names, null if the list has to
+	 *         be sorted in memory
+	 */
+	public <T extends BaseEntity> List<SearchSort> toEntitySort(Class<T> clazz, List<SearchSort> sort) {
+		return sortUtils.toEntitySort(clazz, sort);
+	}
+
+	/**
+	 * Method to create the response of a page sorted and paginated by the database
+	 * query, same as {@link #sortPage(List, List, Pagination)} for a list sorted
+	 * and paginated in memory
+	 * 
+	 * @param page    the page fetched
+	 * @param content the page content
+	 * @return {@link PageResponseDto}
+	 */
+	public <T, D> PageResponseDto<D> pageResponse(Page<T> page, List<D> content) {
+		PageResponseDto<D> pageResponse = new PageResponseDto<>();
+		if (content != null && !content.isEmpty()) {
+			pageResponse = pageResponse(page);
+			pageResponse.setData(content);
+		}
+		return pageResponse;
+	}
+
 	public <D> PageResponseDto<D> applyPagination(List<D> list, Pagination page) {
 		return sortPage(list, Collections.emptyList(), page);
 	}
@@ -1,12 +1,21 @@
 package io.mosip.kernel.masterdata.utils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+import javax.persistence.Transient;
+
 import org.apache.commons.lang3.StringUtils;
 
 import io.mosip.kernel.masterdata.constant.MasterdataSearchErrorCode;
@@ -116,6 +125,65 @@ public class SortUtils {
 
 	}
 
+	/**
+	 * Method to map the sort criteria to the entity fields, so that the sorting
+	 * can be applied by the database query. The id fields of the entity are
+	 * appended in ascending order when not already sorted on, so that the order
+	 * is total and the pages fetched with limit and offset neither repeat nor skip
+	 * rows
+	 * 
+	 * @param clazz       - entity class
+	 * @param searchSorts - {@link SearchSort}
+	 * @return sort criteria with the entity field names, null if a sort field is
+	 *         not a persistent column of the entity
+	 */
+	public <T extends BaseEntity> List<SearchSort> toEntitySort(Class<T> clazz, List<SearchSort> searchSorts) {
+		List<Field> fields = extractEntityFields(clazz).stream().filter(SortUtils::isColumn)
+				.collect(Collectors.toList());
+		List<SearchSort> entitySorts = new ArrayList<>();
+		if (searchSorts != null) {
+			for (SearchSort searchSort : searchSorts) {
+				Optional<Field> field = fields.stream()
+						.filter(f -> f.getName().equalsIgnoreCase(searchSort.getSortField())).findFirst();
+				if (!field.isPresent()) {
+					return null;
+				}
+				entitySorts.add(new SearchSort(field.get().getName(), searchSort.getSortType()));
+			}
+		}
+		for (String idField : extractIdFields(clazz, fields)) {
+			if (entitySorts.stream().noneMatch(s -> s.getSortField().equals(idField))) {
+				entitySorts.add(new SearchSort(idField, OrderEnum.asc.name()));
+			}
+		}
+		return entitySorts;
+	}
+
+	/**
+	 * Method to extract the id field names of the entity, the fields of its
+	 * {@link IdClass} if it has one, the {@link Id} fields otherwise
+	 * 
+	 * @param clazz  entity class
+	 * @param fields persistent fields of the entity
+	 * @return id field names
+	 */
+	private <T extends BaseEntity> List<String> extractIdFields(Class<T> clazz, List<Field> fields) {
+		IdClass idClass = clazz.getAnnotation(IdClass.class);
+		if (idClass != null) {
+			return Arrays.stream(idClass.value().getDeclaredFields())
+					.filter(f -> !Modifier.isStatic(f.getModifiers())).map(Field::getName)
+					.collect(Collectors.toList());
+		}
+		return fields.stream().filter(f -> f.isAnnotationPresent(Id.class)).map(Field::getName)
+				.collect(Collectors.toList());
+	}
+
+	private static boolean isColumn(Field field) {
+		return !Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(Transient.class)
+				&& !field.isAnnotationPresent(ManyToOne.class) && !field.isAnnotationPresent(OneToOne.class)
+				&& !field.isAnnotationPresent(OneToMany.class) && !field.isAnnotationPresent(ManyToMany.class);
+	}
+
 	private void findType(String sortType) {
 		if (StringUtils.isBlank(sortType)) {
 			throw new RequestException(MasterdataSearchErrorCode.INVALID_SORT_INPUT.getErrorCode(),
@@ -2,7 +2,7 @@ package io.mosip.kernel.masterdata.utils;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -10,23 +10,20 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
-import io.mosip.kernel.core.masterdata.util.model.Node;
-import io.mosip.kernel.core.masterdata.util.spi.UBtree;
 import io.mosip.kernel.masterdata.constant.ZoneErrorCode;
 import io.mosip.kernel.masterdata.entity.Zone;
 import io.mosip.kernel.masterdata.entity.ZoneUser;
 import io.mosip.kernel.masterdata.exception.MasterDataServiceException;
-import io.mosip.kernel.masterdata.repository.ZoneRepository;
 import io.mosip.kernel.masterdata.repository.ZoneUserRepository;
 
 /**
- * Zone utility
+ * Zone utility, looking up zone hierarchies in the shared
+ * {@link HierarchyIndexCache}
  * 
  * @author Abhishek Kumar
  * @since 1.0.0
@@ -34,18 +31,11 @@ import io.mosip.kernel.masterdata.repository.ZoneUserRepository;
 @Component
 public class ZoneUtils {
 
-	@Autowired
-	private ZoneRepository zoneRepository;
-
 	@Autowired
 	private ZoneUserRepository zoneUserRepository;
 
 	@Autowired
-	@Qualifier("zoneTree")
-	private UBtree<Zone> zoneTree;
-
-	@Value("mosip.kernel.masterdata.zone-heirarchy-path-delimiter:/")
-	private String hierarchyPathDelimiter;
+	private HierarchyIndexCache hierarchyIndexCache;
 
 	@Value("${mosip.primary-language}")
 	private String primaryLangugage;
@@ -58,40 +48,28 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZones(List<Zone> zones) {
-		List<Zone> zoneIds = new ArrayList<>();
 		String userName = SecurityContextHolder.getContext().getAuthentication().getName();
-		List<ZoneUser> userZones = getZoneUser(userName);
-		if (userZones != null && !userZones.isEmpty()) {
-			for (ZoneUser zu : userZones) {
-				searchZones(zones, zoneIds, zu);
-			}
-		} else {
-			throw new MasterDataServiceException(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorCode(),
-					String.format(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorMessage(), userName));
-		}
-		return zoneIds;
+		return searchZones(index(zones), userName);
 	}
 
 	/**
-	 * Method to search the all the child zones as per input.
+	 * Method to search the all the zones of a user with their child zones.
 	 * 
-	 * @param zones   list of zones
-	 * @param zoneIds zone id's to be searched
-	 * @param zu      zone user
+	 * @param index    index of the zones to search
+	 * @param userName the user
+	 * @return list of zones
 	 */
-	private void searchZones(List<Zone> zones, List<Zone> zoneIds, ZoneUser zu) {
-		Optional<Zone> zoneOptional = zones.stream()
-				.filter(i -> zu.getZoneCode().equals(i.getCode()) && zu.getLangCode().equals(i.getLangCode()))
-				.findFirst();
-		if (zoneOptional.isPresent()) {
-			Zone zone = zoneOptional.get();
-			if (!zoneIds.contains(zone))
-				zoneIds.add(zone);
-			List<Zone> zoneList = getDescedants(zones, zone);
-			if (zoneList != null && !zoneList.isEmpty()) {
-				zoneIds.addAll(zoneList);
-			}
+	private List<Zone> searchZones(HierarchyIndex<Zone> index, String userName) {
+		List<ZoneUser> userZones = getZoneUser(userName);
+		if (userZones == null || userZones.isEmpty()) {
+			throw new MasterDataServiceException(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorCode(),
+					String.format(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorMessage(), userName));
+		}
+		Set<Zone> zoneIds = new LinkedHashSet<>();
+		for (ZoneUser zu : userZones) {
+			zoneIds.addAll(index.getDescendants(zu.getLangCode(), zu.getZoneCode()));
 		}
+		return new ArrayList<>(zoneIds);
 	}
 
 	/**
@@ -100,22 +78,24 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZones() {
-		List<Zone> zones = null;
-		try {
-			zones = zoneRepository.findAllNonDeleted();
-		} catch (DataAccessException e) {
-			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
-					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
-		}
-
-		if (zones != null && !zones.isEmpty()) {
-			List<Zone> userZones = getUserZones(zones);
-			List<String> zoneIds = userZones.stream().map(Zone::getCode).collect(Collectors.toList());
-			return zones.stream().filter(i -> zoneIds.contains(i.getCode())).collect(Collectors.toList());
-		}
+		String userName = SecurityContextHolder.getContext().getAuthentication().getName();
+		return getUserZonesByUserName(userName);
+	}
 
-		else
+	/**
+	 * Method to fetch the zones, in every language, of a user's zones and all
+	 * their child zones.
+	 * 
+	 * @param userName the user
+	 * @return list of zones
+	 */
+	private List<Zone> getUserZonesByUserName(String userName) {
+		HierarchyIndex<Zone> index = hierarchyIndexCache.getZones();
+		if (index.isEmpty()) {
 			return Collections.emptyList();
+		}
+		Set<String> zoneIds = searchZones(index, userName).stream().map(Zone::getCode).collect(Collectors.toSet());
+		return index.getAll().stream().filter(i -> zoneIds.contains(i.getCode())).collect(Collectors.toList());
 	}
 
 	/**
@@ -126,38 +106,14 @@ public class ZoneUtils {
 	 */
 	public List<Zone> getZones(Zone zone) {
 		Objects.requireNonNull(zone, "zone cannot be null");
-		Set<String> zoneList = new HashSet<>();
 		List<Zone> zones = getUserZones();
 		if (zones != null && !zones.isEmpty()) {
-			zones.stream().filter(z -> z.getHierarchyPath().contains(zone.getCode())).map(Zone::getHierarchyPath)
-					.forEach(i -> {
-						int iIndex = i.lastIndexOf(zone.getCode());
-						String szone = i.substring(iIndex);
-						String[] sArray = szone.split(hierarchyPathDelimiter);
-						for (String zoneCode : sArray) {
-							zoneList.add(zoneCode);
-						}
-					});
+			Set<String> zoneList = hierarchyIndexCache.getZones().getDescendantCodes(zone.getCode());
 			return zones.stream().filter(z -> zoneList.contains(z.getCode())).collect(Collectors.toList());
 		}
 		return Collections.emptyList();
 	}
 
-	/**
-	 * Method to fetch the all the child zones as per the input
-	 * 
-	 * @param zones input list of zone to search from
-	 * @param zone  zone to be search
-	 * @return list of zones
-	 */
-	private List<Zone> getDescedants(List<Zone> zones, Zone zone) {
-		List<Zone> zoneList = zones.stream().filter(i -> i.getLangCode().equals(zone.getLangCode()))
-				.collect(Collectors.toList());
-		List<Node<Zone>> tree = zoneTree.createTree(zoneList);
-		Node<Zone> node = zoneTree.findNode(tree, zone.getCode());
-		return zoneTree.getChildHierarchy(node);
-	}
-
 	/**
 	 * Method to fetch the user's zone
 	 * 
@@ -187,18 +143,8 @@ public class ZoneUtils {
 		if (userZones != null && !userZones.isEmpty()) {
 			Optional<String> zoneId = userZones.stream().map(ZoneUser::getZoneCode).findFirst();
 			if (zoneId.isPresent()) {
-				List<Zone> zones = getUserZones();
-				List<Zone> langSpecificZones = null;
-				if (!langCode.equals("all")) {
-					langSpecificZones = zones.stream().filter(i -> i.getLangCode().equals(langCode))
-							.collect(Collectors.toList());
-				} else {
-					langSpecificZones = zones.stream().filter(i -> i.getLangCode().equals(primaryLangugage))
-							.collect(Collectors.toList());
-				}
-				List<Node<Zone>> tree = zoneTree.createTree(langSpecificZones);
-				Node<Zone> node = zoneTree.findNode(tree, zoneId.get());
-				return zoneTree.findLeafsValue(node);
+				String zoneLangCode = langCode.equals("all") ? primaryLangugage : langCode;
+				return hierarchyIndexCache.getZones().getLeaves(zoneLangCode, zoneId.get());
 			}
 		}
 		return Collections.emptyList();
@@ -214,18 +160,7 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZonesByUserId(List<Zone> zones, String userId) {
-		List<Zone> zoneIds = new ArrayList<>();
-		String userName = userId;
-		List<ZoneUser> userZones = getZoneUser(userName);
-		if (userZones != null && !userZones.isEmpty()) {
-			for (ZoneUser zu : userZones) {
-				searchZones(zones, zoneIds, zu);
-			}
-		} else {
-			throw new MasterDataServiceException(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorCode(),
-					String.format(ZoneErrorCode.USER_ZONE_UNAVAILABLE.getErrorMessage(), userName));
-		}
-		return zoneIds;
+		return searchZones(index(zones), userId);
 	}
 
 	/**
@@ -235,30 +170,15 @@ public class ZoneUtils {
 	 * @return list of zones
 	 */
 	public List<Zone> getUserZonesByUserId(String userId) {
-		List<Zone> zones = null;
-		try {
-			zones = zoneRepository.findAllNonDeleted();
-		} catch (DataAccessException e) {
-			throw new MasterDataServiceException(ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorCode(),
-					ZoneErrorCode.ZONE_FETCH_EXCEPTION.getErrorMessage());
-		}
-
-		if (zones != null && !zones.isEmpty()) {
-			List<Zone> userZones = getUserZonesByUserId(zones, userId);
-			List<String> zoneIds = userZones.stream().map(Zone::getCode).collect(Collectors.toList());
-			return zones.stream().filter(i -> zoneIds.contains(i.getCode())).collect(Collectors.toList());
-		}
-
-		else
-			return Collections.emptyList();
+		return getUserZonesByUserName(userId);
 	}
 
 	public List<Zone> getChildZoneList(List<String> zoneIds, String zoneCode, String langCode) {
-		List<Zone> zones = null;
-		Zone zone = zoneRepository.findZoneByCodeAndLangCodeNonDeleted(zoneCode, langCode);
-		zones = zoneRepository.findAllNonDeleted();
-		List<Zone> zoneHeirarchyList = getDescedants(zones, zone);
-		return zoneHeirarchyList;
+		return hierarchyIndexCache.getZones().getDescendants(langCode, zoneCode);
+	}
+
+	private static HierarchyIndex<Zone> index(List<Zone> zones) {
+		return HierarchyIndex.of(zones, Zone::getCode, Zone::getParentZoneCode, Zone::getLangCode);
 	}
 
 }
@@ -0,0 +1,110 @@
+package io.mosip.kernel.masterdata.test.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import io.mosip.kernel.masterdata.dto.request.Pagination;
+import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.dto.response.MachineSearchDto;
+import io.mosip.kernel.masterdata.dto.response.PageResponseDto;
+import io.mosip.kernel.masterdata.entity.Machine;
+import io.mosip.kernel.masterdata.utils.MapperUtils;
+import io.mosip.kernel.masterdata.utils.PageUtils;
+
+/**
+ * Measures the machine search work done in the service for one page of 10,
+ * when all the matching machines are fetched, mapped and sorted in memory
+ * against when the query returns only the rows of the page, ordered with the
+ * id tie-breaker. Run with the main method from the test classpath.
+ *
+ * @author Ritesh Sinha
+ * @since 1.0.8
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MachineSearchPagingBenchmark {
+
+	private static final int PAGE_START = 5;
+
+	private static final int PAGE_FETCH = 10;
+
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	private PageUtils pageUtils;
+
+	private List<Machine> machines;
+
+	private List<Machine> pageRows;
+
+	private List<SearchSort> sort;
+
+	@Setup
+	public void setup() {
+		pageUtils = new PageUtils();
+		machines = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Machine machine = new Machine();
+			machine.setId(String.format("%08d", size - i));
+			machine.setLangCode("eng");
+			machine.setName("Machine" + (i % 100));
+			machine.setMachineSpecId("1001");
+			machine.setZoneCode("NTH");
+			machine.setIsActive(true);
+			machines.add(machine);
+		}
+		sort = Arrays.asList(new SearchSort("name", "asc"));
+		// the rows the database returns for the page, as sorted by the query
+		List<Machine> sorted = new ArrayList<>(machines);
+		sorted.sort((m1, m2) -> m1.getName().equals(m2.getName()) ? m1.getId().compareTo(m2.getId())
+				: m1.getName().compareTo(m2.getName()));
+		pageRows = new ArrayList<>(
+				sorted.subList(PAGE_START * PAGE_FETCH, Math.min(size, (PAGE_START + 1) * PAGE_FETCH)));
+	}
+
+	@Benchmark
+	public PageResponseDto<MachineSearchDto> sortedInMemory() {
+		List<MachineSearchDto> dtos = MapperUtils.mapAll(machines, MachineSearchDto.class);
+		return pageUtils.sortPage(dtos, sort, new Pagination(PAGE_START, PAGE_FETCH));
+	}
+
+	@Benchmark
+	public PageResponseDto<MachineSearchDto> pagedByQuery(Blackhole blackhole) {
+		blackhole.consume(pageUtils.toEntitySort(Machine.class, sort));
+		Page<Machine> page = new PageImpl<>(pageRows, PageRequest.of(PAGE_START, PAGE_FETCH), size);
+		List<MachineSearchDto> dtos = MapperUtils.mapAll(page.getContent(), MachineSearchDto.class);
+		return pageUtils.pageResponse(page, dtos);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(MachineSearchPagingBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
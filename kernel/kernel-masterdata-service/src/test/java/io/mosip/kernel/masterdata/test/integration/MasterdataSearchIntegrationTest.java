@@ -1,10 +1,13 @@
 package io.mosip.kernel.masterdata.test.integration;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
@@ -16,6 +19,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,6 +56,7 @@ import io.mosip.kernel.masterdata.dto.request.Pagination;
 import io.mosip.kernel.masterdata.dto.request.SearchDto;
 import io.mosip.kernel.masterdata.dto.request.SearchFilter;
 import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.dto.response.DeviceSearchDto;
 import io.mosip.kernel.masterdata.dto.response.MachineSearchDto;
 import io.mosip.kernel.masterdata.dto.response.RegistrationCenterSearchDto;
 import io.mosip.kernel.masterdata.entity.BlacklistedWords;
@@ -722,6 +727,35 @@ public class MasterdataSearchIntegrationTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	@WithUserDetails("global-admin")
+	public void searchMachinePagedByQueryTest() throws Exception {
+		machineSearchDto.setPagination(new Pagination(1, 2));
+		machineSearchDto.setSort(Arrays.asList(new SearchSort("name", "asc")));
+		String json = objectMapper.writeValueAsString(machineRequestDto);
+		Machine machine1 = new Machine();
+		machine1.setId("1003");
+		machine1.setName("Dekstop");
+		Machine machine2 = new Machine();
+		machine2.setId("1004");
+		machine2.setName("Dekstop");
+		Page<Machine> pageContentData = new PageImpl<>(Arrays.asList(machine1, machine2), PageRequest.of(1, 2), 5);
+		when(filterTypeValidator.validate(Mockito.eq(MachineSearchDto.class), Mockito.anyList())).thenReturn(true);
+		ArgumentCaptor<SearchDto> searchCaptor = ArgumentCaptor.forClass(SearchDto.class);
+		when(masterdataSearchHelper.searchMasterdata(Mockito.eq(Machine.class), searchCaptor.capture(),
+				Mockito.any())).thenReturn(pageContentData);
+		mockMvc.perform(post("/machines/search").contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.response.fromRecord", is(3)))
+				.andExpect(jsonPath("$.response.toRecord", is(4)))
+				.andExpect(jsonPath("$.response.totalRecord", is(5)))
+				.andExpect(jsonPath("$.response.data[0].id", is("1003")))
+				.andExpect(jsonPath("$.response.data[1].id", is("1004")));
+		SearchDto search = searchCaptor.getValue();
+		assertEquals(new Pagination(1, 2), search.getPagination());
+		assertEquals(Arrays.asList(new SearchSort("name", "asc"), new SearchSort("id", "asc"),
+				new SearchSort("langCode", "asc")), search.getSort());
+	}
+
 	@Test
 	@WithUserDetails("global-admin")
 	public void searchMachineByMappedStatusFieldTest() throws Exception {
@@ -991,6 +1025,30 @@ public class MasterdataSearchIntegrationTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	@WithUserDetails("global-admin")
+	public void searchDevicePagedByQueryTest() throws Exception {
+		deviceSearchDto.setPagination(new Pagination(0, 2));
+		String json = objectMapper.writeValueAsString(deviceRequestDto);
+		Device device1 = new Device();
+		device1.setId("1001");
+		Device device2 = new Device();
+		device2.setId("1002");
+		Page<Device> pageContentData = new PageImpl<>(Arrays.asList(device1, device2), PageRequest.of(0, 2), 3);
+		when(filterTypeValidator.validate(Mockito.eq(DeviceSearchDto.class), Mockito.anyList())).thenReturn(true);
+		ArgumentCaptor<SearchDto> searchCaptor = ArgumentCaptor.forClass(SearchDto.class);
+		when(masterdataSearchHelper.searchMasterdata(Mockito.eq(Device.class), searchCaptor.capture(),
+				Mockito.any())).thenReturn(pageContentData);
+		mockMvc.perform(post("/devices/search").contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.response.fromRecord", is(1)))
+				.andExpect(jsonPath("$.response.toRecord", is(2)))
+				.andExpect(jsonPath("$.response.totalRecord", is(3)));
+		SearchDto search = searchCaptor.getValue();
+		assertEquals(new Pagination(0, 2), search.getPagination());
+		assertEquals(Arrays.asList(new SearchSort("id", "asc"), new SearchSort("langCode", "asc")),
+				search.getSort());
+	}
+
 	@Test
 	@WithUserDetails("global-admin")
 	public void searchDeviceTestMapStatusException() throws Exception {
@@ -168,7 +168,7 @@ public class RegistrationCenterSearchFilterIntegrationTest {
 		when(serviceHelper.fetchLocations(Mockito.anyString())).thenReturn(locations);
 		doNothing().when(serviceHelper).centerTypeSearch(Mockito.any(), Mockito.any(), Mockito.any());
 		when(serviceHelper.locationSearch(Mockito.any())).thenReturn(location);
-		when(locationUtils.getDescedants(Mockito.any(), Mockito.any())).thenReturn(locations);
+		when(locationUtils.getDescedants(Mockito.any(Location.class))).thenReturn(locations);
 		when(serviceHelper.buildLocationSearchFilter(Mockito.any())).thenReturn(Arrays.asList(filter,filter1));
 		when(serviceHelper.fetchUserZone(Mockito.any(),Mockito.any())).thenReturn(zones);
 		when(filterTypeValidator.validate(Mockito.any(),Mockito.any())).thenReturn(true);
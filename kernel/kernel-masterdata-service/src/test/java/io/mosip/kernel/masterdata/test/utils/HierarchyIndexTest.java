@@ -0,0 +1,80 @@
+package io.mosip.kernel.masterdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.mosip.kernel.masterdata.entity.Zone;
+import io.mosip.kernel.masterdata.utils.HierarchyIndex;
+
+public class HierarchyIndexTest {
+
+	private HierarchyIndex<Zone> index;
+
+	@Before
+	public void setup() {
+		List<Zone> zones = new ArrayList<>();
+		zones.add(new Zone("AAA", "ENG", "AAA", (short) 0, "AAA", null, "AAA"));
+		zones.add(new Zone("BBB", "ENG", "AAA", (short) 0, "BBB", "AAA", "AAA/BBB"));
+		zones.add(new Zone("CCC", "ENG", "AAA", (short) 0, "CCC", "AAA", "AAA/CCC"));
+		zones.add(new Zone("AAA1", "ENG", "AAA", (short) 0, "AAA1", "BBB", "AAA/BBB/AAA1"));
+		zones.add(new Zone("AAA2", "ENG", "AAA", (short) 0, "AAA2", "BBB", "AAA/BBB/AAA2"));
+		zones.add(new Zone("AAA3", "ENG", "AAA", (short) 0, "AAA3", "CCC", "AAA/CCC/AAA3"));
+		zones.add(new Zone("AAA", "FRA", "AAA", (short) 0, "AAA", null, "AAA"));
+		zones.add(new Zone("DDD", "FRA", "AAA", (short) 0, "DDD", "AAA", "AAA/DDD"));
+		zones.add(new Zone("XXX", "ENG", "AAA", (short) 0, "XXX", "YYY", "YYY/XXX"));
+		zones.add(new Zone("YYY", "ENG", "AAA", (short) 0, "YYY", "XXX", "XXX/YYY"));
+		index = HierarchyIndex.of(zones, Zone::getCode, Zone::getParentZoneCode, Zone::getLangCode);
+	}
+
+	@Test
+	public void getDescendantsTest() {
+		assertEquals(Arrays.asList("AAA", "BBB", "AAA1", "AAA2", "CCC", "AAA3"),
+				codes(index.getDescendants("ENG", "AAA")));
+		assertEquals(Arrays.asList("BBB", "AAA1", "AAA2"), codes(index.getDescendants("ENG", "BBB")));
+		assertEquals(Arrays.asList("AAA", "DDD"), codes(index.getDescendants("FRA", "AAA")));
+		assertTrue(index.getDescendants("ENG", "ZZZ").isEmpty());
+		assertTrue(index.getDescendants("ARA", "AAA").isEmpty());
+	}
+
+	@Test
+	public void getDescendantCodesTest() {
+		assertEquals(new HashSet<>(Arrays.asList("AAA", "BBB", "AAA1", "AAA2", "CCC", "AAA3", "DDD")),
+				index.getDescendantCodes("AAA"));
+	}
+
+	@Test
+	public void getAncestorsTest() {
+		assertEquals(Arrays.asList("AAA3", "CCC", "AAA"), codes(index.getAncestors("ENG", "AAA3")));
+		assertEquals(Arrays.asList("AAA"), codes(index.getAncestors("ENG", "AAA")));
+	}
+
+	@Test
+	public void getChildrenAndLeavesTest() {
+		assertEquals(Arrays.asList("BBB", "CCC"), codes(index.getChildren("ENG", "AAA")));
+		assertEquals(Arrays.asList("AAA1", "AAA2", "AAA3"), codes(index.getLeaves("ENG", "AAA")));
+		assertEquals(Arrays.asList("AAA1"), codes(index.getLeaves("ENG", "AAA1")));
+	}
+
+	@Test
+	public void cycleTest() {
+		// the cycle is cut at its first zone
+		assertEquals(Arrays.asList("XXX", "YYY"), codes(index.getDescendants("ENG", "XXX")));
+		assertEquals(Arrays.asList("YYY", "XXX"), codes(index.getAncestors("ENG", "YYY")));
+		assertEquals("XXX", index.get("ENG", "XXX").getCode());
+		assertNull(index.get("FRA", "XXX"));
+	}
+
+	private static List<String> codes(List<Zone> zones) {
+		return zones.stream().map(Zone::getCode).collect(Collectors.toList());
+	}
+}
@@ -1,6 +1,7 @@
 package io.mosip.kernel.masterdata.test.utils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,6 +14,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
 import io.mosip.kernel.masterdata.dto.request.SearchSort;
+import io.mosip.kernel.masterdata.entity.Device;
+import io.mosip.kernel.masterdata.entity.Machine;
 import io.mosip.kernel.masterdata.exception.RequestException;
 import io.mosip.kernel.masterdata.utils.SortUtils;
 
@@ -122,4 +125,48 @@ public class SortUtilsTest {
 		List<TestPojo> list = sortUtils.sort(pojos, sort);
 		assertEquals(1, list.get(0).getId());
 	}
+
+	@Test
+	public void toEntitySortTest() {
+		List<SearchSort> sort = new ArrayList<>();
+		sort.add(new SearchSort("machinespecid", "asc"));
+		sort.add(new SearchSort("createdDateTime", "desc"));
+		List<SearchSort> entitySort = sortUtils.toEntitySort(Machine.class, sort);
+		assertEquals("machineSpecId", entitySort.get(0).getSortField());
+		assertEquals("asc", entitySort.get(0).getSortType());
+		assertEquals("createdDateTime", entitySort.get(1).getSortField());
+		assertEquals(4, entitySort.size());
+		assertEquals("id", entitySort.get(2).getSortField());
+		assertEquals("asc", entitySort.get(2).getSortType());
+		assertEquals("langCode", entitySort.get(3).getSortField());
+		assertEquals("asc", entitySort.get(3).getSortType());
+	}
+
+	@Test
+	public void toEntitySortTieBreakerTest() {
+		List<SearchSort> entitySort = sortUtils.toEntitySort(Machine.class, new ArrayList<>());
+		assertEquals(2, entitySort.size());
+		assertEquals("id", entitySort.get(0).getSortField());
+		assertEquals("langCode", entitySort.get(1).getSortField());
+		assertEquals(2, sortUtils.toEntitySort(Device.class, null).size());
+		List<SearchSort> sort = new ArrayList<>();
+		sort.add(new SearchSort("ID", "desc"));
+		entitySort = sortUtils.toEntitySort(Machine.class, sort);
+		assertEquals(2, entitySort.size());
+		assertEquals("id", entitySort.get(0).getSortField());
+		assertEquals("desc", entitySort.get(0).getSortType());
+		assertEquals("langCode", entitySort.get(1).getSortField());
+	}
+
+	@Test
+	public void toEntitySortNotColumnTest() {
+		List<SearchSort> sort = new ArrayList<>();
+		sort.add(new SearchSort("name", "asc"));
+		sort.add(new SearchSort("mapStatus", "asc"));
+		assertNull(sortUtils.toEntitySort(Machine.class, sort));
+		sort.set(1, new SearchSort("machineTypeName", "asc"));
+		assertNull(sortUtils.toEntitySort(Machine.class, sort));
+		sort.set(1, new SearchSort("machineSpecification", "asc"));
+		assertNull(sortUtils.toEntitySort(Machine.class, sort));
+	}
 }
@@ -0,0 +1,72 @@
+package io.mosip.kernel.otpmanager.repository;
+
+import java.time.LocalDateTime;
+
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+
+/**
+ * This interface provides the operations on the OTPs of the keys, implemented
+ * by the database store or by the in-memory store selected with
+ * mosip.kernel.otp.store. Each operation is atomic for its key.
+ * 
+ * @author Ritesh Sinha
+ * @since 1.0.8
+ *
+ */
+public interface OtpStore {
+
+	/**
+	 * This method returns the OTP of a key.
+	 * 
+	 * @param key the key.
+	 * @return the OTP, null if no OTP was generated for the key.
+	 */
+	OtpEntity findById(String key);
+
+	/**
+	 * This method saves a generated OTP, replacing the previous OTP of its key.
+	 * 
+	 * @param otp the OTP.
+	 */
+	void save(OtpEntity otp);
+
+	/**
+	 * This method counts a validation attempt of the unused OTP of a key, unless
+	 * its validation attempts have already reached the threshold.
+	 * 
+	 * @param key            the key.
+	 * @param threshold      the validation attempt threshold.
+	 * @param validationTime the time of the validation attempt.
+	 * @return true if the attempt is counted.
+	 */
+	boolean countAttempt(String key, int threshold, LocalDateTime validationTime);
+
+	/**
+	 * This method freezes the key of an unused OTP whose validation attempts have
+	 * reached the threshold, resetting its validation attempt count.
+	 * 
+	 * @param key            the key.
+	 * @param threshold      the validation attempt threshold.
+	 * @param validationTime the time of the validation attempt.
+	 * @return true if the key is frozen by this call.
+	 */
+	boolean freezeAtThreshold(String key, int threshold, LocalDateTime validationTime);
+
+	/**
+	 * This method updates the status and the validation attempt count of a key,
+	 * such as to freeze or unfreeze it.
+	 * 
+	 * @param key            the key.
+	 * @param status         the new status.
+	 * @param attemptCount   the new validation attempt count.
+	 * @param validationTime the time of the validation attempt.
+	 */
+	void updateStatus(String key, String status, int attemptCount, LocalDateTime validationTime);
+
+	/**
+	 * This method deletes the OTP of a key.
+	 * 
+	 * @param key the key.
+	 */
+	void deleteById(String key);
+}
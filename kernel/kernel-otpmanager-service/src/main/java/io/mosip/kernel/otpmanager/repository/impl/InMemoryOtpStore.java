@@ -0,0 +1,186 @@
+package io.mosip.kernel.otpmanager.repository.impl;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.OtpStore;
+import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
+
+/**
+ * This class stores the OTPs in memory, for a single node generating and
+ * validating the OTPs of its keys. The OTPs are lost on restart.
+ * 
+ * <p>
+ * Each key is updated atomically. An OTP is swept once both its expiry time and
+ * the key freeze time have passed since it was generated or last attempted,
+ * plus the retention time during which its validation still reports it as
+ * expired.
+ * </p>
+ * 
+ * @author Sagar Mahapatra
+ * @since 1.0.8
+ *
+ */
+@Component
+@ConditionalOnProperty(name = "mosip.kernel.otp.store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore {
+
+	@Value("${mosip.kernel.otp.expiry-time}")
+	String otpExpiryLimit;
+
+	@Value("${mosip.kernel.otp.key-freeze-time}")
+	String keyFreezeDuration;
+
+	@Value("${mosip.kernel.otp.store.memory.retention-seconds:300}")
+	long retentionSeconds;
+
+	@Value("${mosip.kernel.otp.store.memory.sweep-interval-seconds:60}")
+	long sweepIntervalSeconds;
+
+	private final Map<String, OtpEntity> otps = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService sweeper;
+
+	@PostConstruct
+	public void init() {
+		if (sweepIntervalSeconds > 0) {
+			sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "otp-store-sweeper");
+				thread.setDaemon(true);
+				return thread;
+			});
+			sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds,
+					TimeUnit.SECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (sweeper != null) {
+			sweeper.shutdownNow();
+		}
+	}
+
+	@Override
+	public OtpEntity findById(String key) {
+		OtpEntity otp = otps.get(key);
+		return otp != null ? copy(otp) : null;
+	}
+
+	@Override
+	public void save(OtpEntity otp) {
+		otps.put(otp.getId(), copy(otp));
+	}
+
+	@Override
+	public boolean countAttempt(String key, int threshold, LocalDateTime validationTime) {
+		AtomicBoolean counted = new AtomicBoolean();
+		otps.computeIfPresent(key, (id, otp) -> {
+			if (!isUnused(otp) || otp.getValidationRetryCount() >= threshold) {
+				return otp;
+			}
+			counted.set(true);
+			OtpEntity updated = copy(otp);
+			updated.setValidationRetryCount(otp.getValidationRetryCount() + 1);
+			updated.setUpdatedDtimes(validationTime);
+			return updated;
+		});
+		return counted.get();
+	}
+
+	@Override
+	public boolean freezeAtThreshold(String key, int threshold, LocalDateTime validationTime) {
+		AtomicBoolean frozen = new AtomicBoolean();
+		otps.computeIfPresent(key, (id, otp) -> {
+			if (!isUnused(otp) || otp.getValidationRetryCount() < threshold) {
+				return otp;
+			}
+			frozen.set(true);
+			OtpEntity updated = copy(otp);
+			updated.setStatusCode(OtpStatusConstants.KEY_FREEZED.getProperty());
+			updated.setValidationRetryCount(0);
+			updated.setUpdatedDtimes(validationTime);
+			return updated;
+		});
+		return frozen.get();
+	}
+
+	@Override
+	public void updateStatus(String key, String status, int attemptCount, LocalDateTime validationTime) {
+		otps.computeIfPresent(key, (id, otp) -> {
+			OtpEntity updated = copy(otp);
+			updated.setStatusCode(status);
+			updated.setValidationRetryCount(attemptCount);
+			updated.setUpdatedDtimes(validationTime);
+			return updated;
+		});
+	}
+
+	@Override
+	public void deleteById(String key) {
+		otps.remove(key);
+	}
+
+	/**
+	 * This method removes the OTPs no longer needed for generation or validation.
+	 */
+	public void sweep() {
+		LocalDateTime now = OtpManagerUtils.getCurrentLocalDateTime();
+		long retainedSeconds = Math.max(Integer.parseInt(otpExpiryLimit), Integer.parseInt(keyFreezeDuration))
+				+ retentionSeconds;
+		for (Map.Entry<String, OtpEntity> entry : otps.entrySet()) {
+			OtpEntity otp = entry.getValue();
+			LocalDateTime lastUsed = otp.getUpdatedDtimes().isAfter(otp.getGeneratedDtimes())
+					? otp.getUpdatedDtimes()
+					: otp.getGeneratedDtimes();
+			if (OtpManagerUtils.timeDifferenceInSeconds(lastUsed, now) > retainedSeconds) {
+				otps.remove(entry.getKey(), otp);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of OTPs stored.
+	 */
+	public int size() {
+		return otps.size();
+	}
+
+	private static boolean isUnused(OtpEntity otp) {
+		return OtpStatusConstants.UNUSED_OTP.getProperty().equals(otp.getStatusCode());
+	}
+
+	private static OtpEntity copy(OtpEntity otp) {
+		OtpEntity copy = new OtpEntity();
+		copy.setId(otp.getId());
+		copy.setOtp(otp.getOtp());
+		copy.setValidationRetryCount(otp.getValidationRetryCount());
+		copy.setGeneratedDtimes(otp.getGeneratedDtimes());
+		copy.setUpdatedDtimes(otp.getUpdatedDtimes());
+		copy.setStatusCode(otp.getStatusCode());
+		copy.setRefId(otp.getRefId());
+		copy.setRefIdType(otp.getRefIdType());
+		copy.setExpiryDTimes(otp.getExpiryDTimes());
+		copy.setLangCode(otp.getLangCode());
+		copy.setCreatedBy(otp.getCreatedBy());
+		copy.setUpdatedBy(otp.getUpdatedBy());
+		copy.setCrDtimes(otp.getCrDtimes());
+		copy.setDelDtimes(otp.getDelDtimes());
+		copy.setDeleted(otp.isDeleted());
+		return copy;
+	}
+}
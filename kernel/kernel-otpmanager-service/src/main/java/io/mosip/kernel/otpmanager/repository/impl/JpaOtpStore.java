@@ -0,0 +1,94 @@
+package io.mosip.kernel.otpmanager.repository.impl;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.constant.SqlQueryConstants;
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.repository.OtpStore;
+
+/**
+ * This class stores the OTPs in the database, which is the default store.
+ * 
+ * @author Sagar Mahapatra
+ * @since 1.0.8
+ *
+ */
+@Component
+@ConditionalOnProperty(name = "mosip.kernel.otp.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaOtpStore implements OtpStore {
+
+	private static final String COUNT_ATTEMPT = SqlQueryConstants.UPDATE.getProperty() + " "
+			+ OtpEntity.class.getSimpleName()
+			+ " SET validation_retry_count = validation_retry_count + 1, upd_dtimes = :newValidationTime"
+			+ " WHERE id=:id AND status_code = :otpStatus AND validation_retry_count < :threshold";
+
+	private static final String FREEZE_AT_THRESHOLD = SqlQueryConstants.UPDATE.getProperty() + " "
+			+ OtpEntity.class.getSimpleName()
+			+ " SET status_code = :newOtpStatus, validation_retry_count = 0, upd_dtimes = :newValidationTime"
+			+ " WHERE id=:id AND status_code = :otpStatus AND validation_retry_count >= :threshold";
+
+	private static final String UPDATE_STATUS = SqlQueryConstants.UPDATE.getProperty() + " "
+			+ OtpEntity.class.getSimpleName()
+			+ " SET status_code = :newOtpStatus, validation_retry_count = :newNumOfAttempt,"
+			+ " upd_dtimes = :newValidationTime WHERE id=:id";
+
+	/**
+	 * The reference that autowires OtpRepository.
+	 */
+	@Autowired
+	private OtpRepository otpRepository;
+
+	@Override
+	public OtpEntity findById(String key) {
+		return otpRepository.findById(OtpEntity.class, key);
+	}
+
+	@Override
+	public void save(OtpEntity otp) {
+		otpRepository.save(otp);
+	}
+
+	@Override
+	public boolean countAttempt(String key, int threshold, LocalDateTime validationTime) {
+		Map<String, Object> updateMap = new HashMap<>();
+		updateMap.put(SqlQueryConstants.ID.getProperty(), key);
+		updateMap.put(SqlQueryConstants.OTP_STATUS.getProperty(), OtpStatusConstants.UNUSED_OTP.getProperty());
+		updateMap.put(SqlQueryConstants.THRESHOLD.getProperty(), threshold);
+		updateMap.put(SqlQueryConstants.NEW_VALIDATION_TIME.getProperty(), validationTime);
+		return otpRepository.createQueryUpdateOrDelete(COUNT_ATTEMPT, updateMap) > 0;
+	}
+
+	@Override
+	public boolean freezeAtThreshold(String key, int threshold, LocalDateTime validationTime) {
+		Map<String, Object> updateMap = new HashMap<>();
+		updateMap.put(SqlQueryConstants.ID.getProperty(), key);
+		updateMap.put(SqlQueryConstants.OTP_STATUS.getProperty(), OtpStatusConstants.UNUSED_OTP.getProperty());
+		updateMap.put(SqlQueryConstants.NEW_OTP_STATUS.getProperty(), OtpStatusConstants.KEY_FREEZED.getProperty());
+		updateMap.put(SqlQueryConstants.THRESHOLD.getProperty(), threshold);
+		updateMap.put(SqlQueryConstants.NEW_VALIDATION_TIME.getProperty(), validationTime);
+		return otpRepository.createQueryUpdateOrDelete(FREEZE_AT_THRESHOLD, updateMap) > 0;
+	}
+
+	@Override
+	public void updateStatus(String key, String status, int attemptCount, LocalDateTime validationTime) {
+		Map<String, Object> updateMap = new HashMap<>();
+		updateMap.put(SqlQueryConstants.ID.getProperty(), key);
+		updateMap.put(SqlQueryConstants.NEW_OTP_STATUS.getProperty(), status);
+		updateMap.put(SqlQueryConstants.NEW_NUM_OF_ATTEMPT.getProperty(), attemptCount);
+		updateMap.put(SqlQueryConstants.NEW_VALIDATION_TIME.getProperty(), validationTime);
+		otpRepository.createQueryUpdateOrDelete(UPDATE_STATUS, updateMap);
+	}
+
+	@Override
+	public void deleteById(String key) {
+		otpRepository.deleteById(key);
+	}
+}
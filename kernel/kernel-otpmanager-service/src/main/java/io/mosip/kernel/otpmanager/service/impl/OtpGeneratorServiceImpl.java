@@ -13,7 +13,7 @@ import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
 import io.mosip.kernel.otpmanager.dto.OtpGeneratorRequestDto;
 import io.mosip.kernel.otpmanager.dto.OtpGeneratorResponseDto;
 import io.mosip.kernel.otpmanager.entity.OtpEntity;
-import io.mosip.kernel.otpmanager.repository.OtpRepository;
+import io.mosip.kernel.otpmanager.repository.OtpStore;
 import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
 import io.mosip.kernel.otpmanager.util.OtpProvider;
 
@@ -29,10 +29,10 @@ import io.mosip.kernel.otpmanager.util.OtpProvider;
 @Service
 public class OtpGeneratorServiceImpl implements OtpGenerator<OtpGeneratorRequestDto, OtpGeneratorResponseDto> {
 	/**
-	 * The reference that autowires OtpRepository class.
+	 * The reference that autowires OtpStore class.
 	 */
 	@Autowired
-	private OtpRepository otpRepository;
+	private OtpStore otpStore;
 
 	@Autowired
 	private OtpProvider otpProvider;
@@ -83,7 +83,7 @@ public class OtpGeneratorServiceImpl implements OtpGenerator<OtpGeneratorRequest
 		/*
 		 * Checking whether the key exists in the repository.
 		 */
-		OtpEntity keyCheck = otpRepository.findById(OtpEntity.class, otpDto.getKey());
+		OtpEntity keyCheck = otpStore.findById(otpDto.getKey());
 		if ((keyCheck != null) && (keyCheck.getStatusCode().equals(OtpStatusConstants.KEY_FREEZED.getProperty()))
 				&& (OtpManagerUtils.timeDifferenceInSeconds(keyCheck.getUpdatedDtimes(),
 						LocalDateTime.now(ZoneId.of("UTC"))) <= Integer.parseInt(keyFreezeTime))) {
@@ -95,7 +95,7 @@ public class OtpGeneratorServiceImpl implements OtpGenerator<OtpGeneratorRequest
 			otp.setId(otpDto.getKey());
 			otp.setValidationRetryCount(0);
 			otp.setOtp(generatedOtp);
-			otpRepository.save(otp);
+			otpStore.save(otp);
 			response.setOtp(generatedOtp);
 			response.setStatus(OtpStatusConstants.GENERATION_SUCCESSFUL.getProperty());
 		}
@@ -2,6 +2,8 @@ package io.mosip.kernel.otpmanager.util;
 
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -23,6 +25,12 @@ import io.mosip.kernel.otpmanager.util.PasscodeGenerator.Signer;
 @Component
 public class OtpProvider {
 
+	/**
+	 * The MAC instances of the thread by algorithm, initialized with the key on
+	 * each use.
+	 */
+	private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+
 	/**
 	 * This method compute OTP against provided key and macAlgo.
 	 * 
@@ -50,7 +58,13 @@ public class OtpProvider {
 	 */
 	static Signer getSigning(String secret, String macAlgo) {
 		try {
-			final Mac mac = Mac.getInstance(macAlgo);
+			Map<String, Mac> macs = MACS.get();
+			Mac instance = macs.get(macAlgo);
+			if (instance == null) {
+				instance = Mac.getInstance(macAlgo);
+				macs.put(macAlgo, instance);
+			}
+			final Mac mac = instance;
 			mac.init(new SecretKeySpec(secret.getBytes(), ""));
 			return (byte[] data) -> mac.doFinal(data);
 		} catch (NoSuchAlgorithmException | InvalidKeyException error) {
@@ -0,0 +1,136 @@
+package io.mosip.kernel.otpmanager.test.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.otpmanager.dto.OtpGeneratorRequestDto;
+import io.mosip.kernel.otpmanager.dto.OtpValidatorResponseDto;
+import io.mosip.kernel.otpmanager.repository.impl.InMemoryOtpStore;
+import io.mosip.kernel.otpmanager.service.impl.OtpGeneratorServiceImpl;
+import io.mosip.kernel.otpmanager.service.impl.OtpValidatorServiceImpl;
+import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
+import io.mosip.kernel.otpmanager.util.OtpProvider;
+
+/**
+ * Measures the OTP generation and validation throughput of 8 threads on the
+ * in-memory store, for keys of their own and for wrong OTPs on keys shared by
+ * all the threads, which contend on the attempt count and the key freeze. Run
+ * with the main method from the test classpath.
+ *
+ * @author Sagar Mahapatra
+ * @since 1.0.8
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class OtpStoreBenchmark {
+
+	private static final int SHARED_KEYS = 64;
+
+	private final AtomicInteger threadCount = new AtomicInteger();
+
+	private OtpGeneratorServiceImpl generator;
+
+	private OtpValidatorServiceImpl validator;
+
+	@State(Scope.Thread)
+	public static class Keys {
+
+		private String prefix;
+
+		private long next;
+
+		@Setup
+		public void setup(OtpStoreBenchmark benchmark) {
+			prefix = "key" + benchmark.threadCount.incrementAndGet() + "-";
+		}
+
+		private String nextKey() {
+			return prefix + next++;
+		}
+	}
+
+	@Setup
+	public void setup() {
+		InMemoryOtpStore store = new InMemoryOtpStore();
+		ReflectionTestUtils.setField(store, "otpExpiryLimit", "120");
+		ReflectionTestUtils.setField(store, "keyFreezeDuration", "1");
+		ReflectionTestUtils.setField(store, "retentionSeconds", 1L);
+		ReflectionTestUtils.setField(store, "sweepIntervalSeconds", 1L);
+		store.init();
+
+		generator = new OtpGeneratorServiceImpl();
+		ReflectionTestUtils.setField(generator, "otpStore", store);
+		ReflectionTestUtils.setField(generator, "otpProvider", new OtpProvider());
+		ReflectionTestUtils.setField(generator, "keyFreezeTime", "1");
+		ReflectionTestUtils.setField(generator, "otpLength", 6);
+		ReflectionTestUtils.setField(generator, "macAlgorithm", "HmacSHA512");
+		ReflectionTestUtils.setField(generator, "activeProfile", "benchmark");
+
+		OtpManagerUtils otpUtils = new OtpManagerUtils();
+		ReflectionTestUtils.setField(otpUtils, "keyMinLength", "3");
+		ReflectionTestUtils.setField(otpUtils, "keyMaxLength", "255");
+		validator = new OtpValidatorServiceImpl();
+		ReflectionTestUtils.setField(validator, "otpStore", store);
+		ReflectionTestUtils.setField(validator, "otpUtils", otpUtils);
+		ReflectionTestUtils.setField(validator, "numberOfValidationAttemptsAllowed", "3");
+		ReflectionTestUtils.setField(validator, "keyFreezeDuration", "1");
+		ReflectionTestUtils.setField(validator, "otpExpiryLimit", "120");
+		ReflectionTestUtils.setField(validator, "activeProfile", "benchmark");
+		for (int i = 0; i < SHARED_KEYS; i++) {
+			generator.getOtp(request("shared" + i));
+		}
+	}
+
+	@Benchmark
+	public ResponseEntity<OtpValidatorResponseDto> generateAndValidate(Keys keys) {
+		String key = keys.nextKey();
+		String otp = generator.getOtp(request(key)).getOtp();
+		return validator.validateOtp(key, otp);
+	}
+
+	@Benchmark
+	public ResponseEntity<OtpValidatorResponseDto> validateWrongOtpOnSharedKey() {
+		String key = "shared" + ThreadLocalRandom.current().nextInt(SHARED_KEYS);
+		ResponseEntity<OtpValidatorResponseDto> response = validator.validateOtp(key, "1");
+		if (ThreadLocalRandom.current().nextInt(16) == 0) {
+			generator.getOtp(request(key));
+		}
+		return response;
+	}
+
+	private static OtpGeneratorRequestDto request(String key) {
+		OtpGeneratorRequestDto request = new OtpGeneratorRequestDto();
+		request.setKey(key);
+		return request;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(OtpStoreBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,116 @@
+package io.mosip.kernel.otpmanager.test.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.impl.InMemoryOtpStore;
+
+public class InMemoryOtpStoreTest {
+
+	private InMemoryOtpStore store;
+
+	@Before
+	public void setup() {
+		store = new InMemoryOtpStore();
+		ReflectionTestUtils.setField(store, "otpExpiryLimit", "40");
+		ReflectionTestUtils.setField(store, "keyFreezeDuration", "40");
+		ReflectionTestUtils.setField(store, "retentionSeconds", 60L);
+		OtpEntity otp = new OtpEntity();
+		otp.setId("testKey");
+		otp.setOtp("1234");
+		store.save(otp);
+	}
+
+	@Test
+	public void saveAndFindTest() {
+		OtpEntity otp = store.findById("testKey");
+		assertEquals("1234", otp.getOtp());
+		assertEquals(OtpStatusConstants.UNUSED_OTP.getProperty(), otp.getStatusCode());
+		// the store is not updated through a found OTP
+		otp.setOtp("5678");
+		assertEquals("1234", store.findById("testKey").getOtp());
+		assertNull(store.findById("otherKey"));
+	}
+
+	@Test
+	public void updateStatusAndDeleteTest() {
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+		store.updateStatus("testKey", OtpStatusConstants.KEY_FREEZED.getProperty(), 0, now);
+		OtpEntity otp = store.findById("testKey");
+		assertEquals(OtpStatusConstants.KEY_FREEZED.getProperty(), otp.getStatusCode());
+		assertEquals(now, otp.getUpdatedDtimes());
+		store.updateStatus("otherKey", OtpStatusConstants.KEY_FREEZED.getProperty(), 0, now);
+		assertNull(store.findById("otherKey"));
+		store.deleteById("testKey");
+		assertNull(store.findById("testKey"));
+	}
+
+	@Test
+	public void countAttemptAndFreezeTest() {
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+		assertTrue(store.countAttempt("testKey", 2, now));
+		assertFalse(store.freezeAtThreshold("testKey", 2, now));
+		assertTrue(store.countAttempt("testKey", 2, now));
+		assertFalse(store.countAttempt("testKey", 2, now));
+		assertEquals(2, store.findById("testKey").getValidationRetryCount());
+		assertTrue(store.freezeAtThreshold("testKey", 2, now));
+		OtpEntity otp = store.findById("testKey");
+		assertEquals(OtpStatusConstants.KEY_FREEZED.getProperty(), otp.getStatusCode());
+		assertEquals(0, otp.getValidationRetryCount());
+		// a frozen key neither counts attempts nor freezes again
+		assertFalse(store.countAttempt("testKey", 2, now));
+		assertFalse(store.freezeAtThreshold("testKey", 2, now));
+		assertFalse(store.countAttempt("otherKey", 2, now));
+	}
+
+	@Test
+	public void countAttemptConcurrentlyTest() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> attempts = new ArrayList<>();
+		try {
+			for (int i = 0; i < 1000; i++) {
+				attempts.add(executor
+						.submit(() -> store.countAttempt("testKey", 3, LocalDateTime.now(ZoneId.of("UTC")))));
+			}
+			int counted = 0;
+			for (Future<Boolean> attempt : attempts) {
+				counted += attempt.get() ? 1 : 0;
+			}
+			assertEquals(3, counted);
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(3, store.findById("testKey").getValidationRetryCount());
+	}
+
+	@Test
+	public void sweepTest() {
+		OtpEntity otp = new OtpEntity();
+		otp.setId("oldKey");
+		otp.setOtp("1234");
+		otp.setGeneratedDtimes(LocalDateTime.now(ZoneId.of("UTC")).minusSeconds(101));
+		otp.setUpdatedDtimes(otp.getGeneratedDtimes());
+		store.save(otp);
+		store.sweep();
+		assertNull(store.findById("oldKey"));
+		assertNotNull(store.findById("testKey"));
+		assertEquals(1, store.size());
+	}
+}
@@ -0,0 +1,85 @@
+package io.mosip.kernel.otpmanager.test.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.otpmanager.constant.OtpStatusConstants;
+import io.mosip.kernel.otpmanager.dto.OtpValidatorResponseDto;
+import io.mosip.kernel.otpmanager.entity.OtpEntity;
+import io.mosip.kernel.otpmanager.repository.impl.InMemoryOtpStore;
+import io.mosip.kernel.otpmanager.service.impl.OtpValidatorServiceImpl;
+import io.mosip.kernel.otpmanager.util.OtpManagerUtils;
+
+public class OtpValidatorConcurrencyTest {
+
+	private InMemoryOtpStore store;
+
+	private OtpValidatorServiceImpl validator;
+
+	@Before
+	public void setup() {
+		store = new InMemoryOtpStore();
+		OtpManagerUtils otpUtils = new OtpManagerUtils();
+		ReflectionTestUtils.setField(otpUtils, "keyMinLength", "3");
+		ReflectionTestUtils.setField(otpUtils, "keyMaxLength", "255");
+		validator = new OtpValidatorServiceImpl();
+		ReflectionTestUtils.setField(validator, "otpStore", store);
+		ReflectionTestUtils.setField(validator, "otpUtils", otpUtils);
+		ReflectionTestUtils.setField(validator, "numberOfValidationAttemptsAllowed", "3");
+		ReflectionTestUtils.setField(validator, "keyFreezeDuration", "40");
+		ReflectionTestUtils.setField(validator, "otpExpiryLimit", "40");
+		ReflectionTestUtils.setField(validator, "activeProfile", "test");
+		OtpEntity otp = new OtpEntity();
+		otp.setId("testKey");
+		otp.setOtp("123456");
+		store.save(otp);
+	}
+
+	@Test
+	public void concurrentWrongOtpFreezesKeyTest() throws Exception {
+		List<ResponseEntity<OtpValidatorResponseDto>> responses = validateConcurrently("654321", 100);
+		OtpEntity otp = store.findById("testKey");
+		assertEquals(OtpStatusConstants.KEY_FREEZED.getProperty(), otp.getStatusCode());
+		assertEquals(0, otp.getValidationRetryCount());
+		long failures = responses.stream().filter(response -> OtpStatusConstants.FAILURE_STATUS.getProperty()
+				.equals(response.getBody().getStatus())).count();
+		assertEquals(100, failures);
+		// the right OTP is rejected while the key is frozen
+		assertEquals(OtpStatusConstants.FAILURE_STATUS.getProperty(),
+				validator.validateOtp("testKey", "123456").getBody().getStatus());
+	}
+
+	private List<ResponseEntity<OtpValidatorResponseDto>> validateConcurrently(String otp, int attempts)
+			throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<ResponseEntity<OtpValidatorResponseDto>>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < attempts; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return validator.validateOtp("testKey", otp);
+				}));
+			}
+			start.countDown();
+			List<ResponseEntity<OtpValidatorResponseDto>> responses = new ArrayList<>();
+			for (Future<ResponseEntity<OtpValidatorResponseDto>> future : futures) {
+				responses.add(future.get());
+			}
+			return responses;
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -12,6 +12,7 @@ import java.time.temporal.ChronoUnit;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -46,6 +47,7 @@ public class OtpValidatorServiceTest {
 		entity.setStatusCode("OTP_UNUSED");
 		entity.setUpdatedDtimes(LocalDateTime.now(ZoneId.of("UTC")).plusSeconds(50));
 		when(repository.findById(OtpEntity.class, "testKey")).thenReturn(entity);
+		when(repository.createQueryUpdateOrDelete(Mockito.anyString(), Mockito.any())).thenReturn(1);
 		mockMvc.perform(get("/otp/validate?key=testKey&otp=1234").contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isOk()).andExpect(jsonPath("$.response.status", is("success")));
 	}
@@ -0,0 +1,50 @@
+package io.mosip.kernel.pridgenerator.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.mosip.kernel.core.util.IdDispenser;
+import io.mosip.kernel.pridgenerator.generator.PridBlockSource;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Configuration of the in memory prid dispenser used by the fetch endpoint. The
+ * dispenser needs postgres (FOR UPDATE SKIP LOCKED, UPDATE RETURNING) and is
+ * disabled by default.
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Configuration
+public class PridDispenserConfig {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PridDispenserConfig.class);
+
+	@Value("${mosip.kernel.prid.dispenser.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.prid.dispenser.block-size:500}")
+	private int blockSize;
+
+	@Value("${mosip.kernel.prid.dispenser.low-watermark:100}")
+	private int lowWatermark;
+
+	@Value("${mosip.kernel.prid.dispenser.heartbeat-interval-seconds:60}")
+	private long heartbeatIntervalSeconds;
+
+	@Bean(destroyMethod = "stop")
+	public IdDispenser pridDispenser(PridBlockSource pridBlockSource) {
+		IdDispenser dispenser = new IdDispenser(pridBlockSource, blockSize, lowWatermark,
+				TimeUnit.SECONDS.toMillis(heartbeatIntervalSeconds));
+		if (enabled) {
+			LOGGER.info("released {} stale prid reservations", pridBlockSource.releaseStale());
+			dispenser.start();
+		}
+		return dispenser;
+	}
+}
@@ -8,4 +8,5 @@ public class PridLifecycleStatus {
 
 	public static final String AVAILABLE = "AVAILABLE";
 	public static final String ASSIGNED = "ASSIGNED";
+	public static final String RESERVED = "RESERVED";
 }
@@ -0,0 +1,97 @@
+package io.mosip.kernel.pridgenerator.generator;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.kernel.core.idgenerator.spi.IdBlockSource;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.pridgenerator.constant.PRIDGeneratorConstant;
+import io.mosip.kernel.pridgenerator.constant.PridLifecycleStatus;
+import io.mosip.kernel.pridgenerator.repository.PridRepository;
+
+/**
+ * Reserves blocks of available prids for this instance. Reserved prids are
+ * marked {@link PridLifecycleStatus#RESERVED} with the instance id as updater,
+ * so that concurrent instances skip them and only this instance can assign
+ * them. Reservations commit independently of the request which triggered them.
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Component
+public class PridBlockSource implements IdBlockSource {
+
+	@Autowired
+	private PridRepository pridRepository;
+
+	/**
+	 * Id of this instance, recorded on the prids it reserves
+	 */
+	@Value("${mosip.kernel.prid.dispenser.instance-id:${HOSTNAME:pridgenerator}}")
+	private String instanceId;
+
+	/**
+	 * Reservations not refreshed by the heartbeat of their owner for this long are
+	 * released on startup
+	 */
+	@Value("${mosip.kernel.prid.dispenser.reservation-timeout-minutes:10}")
+	private long reservationTimeoutMinutes;
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<String> reserve(int count) {
+		return pridRepository.reservePrids(PridLifecycleStatus.AVAILABLE, PridLifecycleStatus.RESERVED, instanceId,
+				DateUtils.getUTCCurrentDateTime(), count);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int release(Collection<String> prids) {
+		return pridRepository.releasePrids(PridLifecycleStatus.AVAILABLE, PridLifecycleStatus.RESERVED, instanceId,
+				PRIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(), prids);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int heartbeat() {
+		return pridRepository.refreshReservedPrids(PridLifecycleStatus.RESERVED, instanceId,
+				DateUtils.getUTCCurrentDateTime());
+	}
+
+	/**
+	 * Releases prids left reserved by a previous run of this instance or by an
+	 * instance which stopped without releasing them. Running instances refresh
+	 * their reservations with {@link #heartbeat()}, so their prids are kept.
+	 *
+	 * @return number of prids released
+	 */
+	@Transactional
+	public int releaseStale() {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		return pridRepository.releaseStalePrids(PridLifecycleStatus.AVAILABLE, PridLifecycleStatus.RESERVED,
+				instanceId, now.minusMinutes(reservationTimeoutMinutes), PRIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+				now);
+	}
+
+	/**
+	 * Assigns a prid reserved by this instance
+	 *
+	 * @param prid the reserved prid
+	 * @return true if assigned, false if the prid is no longer reserved by this
+	 *         instance
+	 */
+	@Transactional
+	public boolean assign(String prid) {
+		return pridRepository.assignReservedPrid(PridLifecycleStatus.ASSIGNED, PridLifecycleStatus.RESERVED,
+				instanceId, PRIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(),
+				prid) == 1;
+	}
+}
@@ -1,6 +1,7 @@
 package io.mosip.kernel.pridgenerator.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,4 +26,31 @@ public interface PridRepository extends JpaRepository<PridEntity, String> {
 	@Query(value = "UPDATE kernel.prid SET prid_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where prid=:prid", nativeQuery = true)
 	void updatePrid(@Param("status") String status, @Param("contextUser") String contextUser,
 			@Param("uptimes") LocalDateTime uptimes, @Param("prid") String prid);
+
+	@Query(value = "UPDATE kernel.prid SET prid_status=:reserved, upd_by=:owner, upd_dtimes=:uptimes where prid IN (select v.prid from kernel.prid v where v.prid_status=:available and v.is_deleted=false limit :count FOR UPDATE SKIP LOCKED) RETURNING prid", nativeQuery = true)
+	List<String> reservePrids(@Param("available") String available, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("uptimes") LocalDateTime uptimes, @Param("count") int count);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.prid SET prid_status=:available, upd_by=:contextUser, upd_dtimes=:uptimes where prid IN :prids and prid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int releasePrids(@Param("available") String available, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("prids") Collection<String> prids);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.prid SET upd_dtimes=:uptimes where prid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int refreshReservedPrids(@Param("reserved") String reserved, @Param("owner") String owner,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.prid SET prid_status=:available, upd_by=:contextUser, upd_dtimes=:uptimes where prid_status=:reserved and (upd_by=:owner or upd_dtimes<:staleBefore)", nativeQuery = true)
+	int releaseStalePrids(@Param("available") String available, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("staleBefore") LocalDateTime staleBefore,
+			@Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.prid SET prid_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where prid=:prid and prid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int assignReservedPrid(@Param("status") String status, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("prid") String prid);
 }
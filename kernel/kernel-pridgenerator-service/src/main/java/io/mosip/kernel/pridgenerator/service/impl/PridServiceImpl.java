@@ -6,12 +6,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.IdDispenser;
 import io.mosip.kernel.pridgenerator.constant.PRIDGeneratorConstant;
 import io.mosip.kernel.pridgenerator.constant.PRIDGeneratorErrorCode;
 import io.mosip.kernel.pridgenerator.constant.PridLifecycleStatus;
 import io.mosip.kernel.pridgenerator.dto.PridFetchResponseDto;
 import io.mosip.kernel.pridgenerator.entity.PridEntity;
 import io.mosip.kernel.pridgenerator.exception.PridGeneratorServiceException;
+import io.mosip.kernel.pridgenerator.generator.PridBlockSource;
 import io.mosip.kernel.pridgenerator.repository.PridRepository;
 import io.mosip.kernel.pridgenerator.service.PridService;
 import io.mosip.kernel.pridgenerator.utils.ExceptionUtils;
@@ -26,9 +28,18 @@ public class PridServiceImpl implements PridService {
 	@Autowired
 	private PridRepository pridRepository;
 
+	@Autowired
+	private IdDispenser pridDispenser;
+
+	@Autowired
+	private PridBlockSource pridBlockSource;
+
 	@Override
 	@Transactional
 	public PridFetchResponseDto fetchPrid() {
+		if (pridDispenser.isRunning()) {
+			return dispensePrid();
+		}
 		PridFetchResponseDto pridFetchResponseDto = new PridFetchResponseDto();
 		PridEntity pridEntity = null;
 		try {
@@ -59,6 +70,37 @@ public class PridServiceImpl implements PridService {
 		return pridFetchResponseDto;
 	}
 
+	/**
+	 * Hands out a prid reserved by the dispenser. A prid whose reservation was
+	 * released meanwhile is skipped.
+	 *
+	 * @return the prid
+	 */
+	private PridFetchResponseDto dispensePrid() {
+		try {
+			String prid;
+			while ((prid = pridDispenser.next()) != null) {
+				if (pridBlockSource.assign(prid)) {
+					PridFetchResponseDto pridFetchResponseDto = new PridFetchResponseDto();
+					pridFetchResponseDto.setPrid(prid);
+					return pridFetchResponseDto;
+				}
+				LOGGER.warn("reservation of prid lost, skipping");
+			}
+		} catch (DataAccessException exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new PridGeneratorServiceException(PRIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		} catch (Exception exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new PridGeneratorServiceException(PRIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		}
+		LOGGER.info("prid not available");
+		throw new PridGeneratorServiceException(PRIDGeneratorErrorCode.PRID_NOT_AVAILABLE.getErrorCode(),
+				PRIDGeneratorErrorCode.PRID_NOT_AVAILABLE.getErrorMessage());
+	}
+
 	@Override
 	public long fetchPridCount(String status) {
 		long pridCount = 0;
@@ -2,12 +2,15 @@ package io.mosip.kernel.syncdata;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.mosip.kernel.syncdata.utils.SyncQueryMetrics;
+
 /**
  * Main class of Sync handler Application.
  * 
@@ -27,16 +30,34 @@ public class SyncDataBootApplication {
 	}
 
 	/**
-	 * Creating bean of TaskExecutor to run Async tasks
+	 * Creating bean of TaskExecutor to run Async tasks. The queue is bounded, a
+	 * task submitted once it is full is rejected with a
+	 * {@link org.springframework.core.task.TaskRejectedException}, answered with
+	 * HTTP 503.
 	 * 
+	 * @param corePoolSize  threads kept in the pool
+	 * @param maxPoolSize   threads the pool grows to once the queue is full
+	 * @param queueCapacity tasks queued before the pool grows
+	 * @param queryMetrics  metrics the queue wait of each task is recorded to
 	 * @return {@link Executor}
 	 */
 	@Bean
-	public Executor taskExecutor() {
+	public Executor taskExecutor(@Value("${mosip.kernel.syncdata.executor.core-pool-size:20}") int corePoolSize,
+			@Value("${mosip.kernel.syncdata.executor.max-pool-size:40}") int maxPoolSize,
+			@Value("${mosip.kernel.syncdata.executor.queue-capacity:1000}") int queueCapacity,
+			SyncQueryMetrics queryMetrics) {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(20);
-		executor.setMaxPoolSize(40);
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
 		executor.setThreadNamePrefix("SYNCDATA-Async-Thread-");
+		executor.setTaskDecorator(task -> {
+			long submitted = System.nanoTime();
+			return () -> {
+				queryMetrics.recordQueueWait(System.nanoTime() - submitted);
+				task.run();
+			};
+		});
 		executor.initialize();
 		return executor;
 	}
@@ -48,12 +48,35 @@ public class ResponseBodyAdviceConfig implements ResponseBodyAdvice<ResponseWrap
 			MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
 			ServerHttpRequest request, ServerHttpResponse response) {
 
+		setHeader(body, ((ServletServerHttpRequest) request).getServletRequest());
+		if (body != null) {
+			try {
+				String timestamp = DateUtils.getUTCCurrentDateTimeString();
+				body.setResponsetime(DateUtils.convertUTCToLocalDateTime(timestamp));
+				SignatureResponse cryptoManagerResponseDto = signatureUtil.sign(objectMapper.writeValueAsString(body),
+						timestamp);
+				response.getHeaders().add("response-signature", cryptoManagerResponseDto.getData());
+			} catch (JsonProcessingException e) {
+				throw new ParseResponseException(SigningDataErrorCode.RESPONSE_PARSE_EXCEPTION.getErrorCode(),
+						SigningDataErrorCode.RESPONSE_PARSE_EXCEPTION.getErrorCode());
+			}
+		}
+
+		return body;
+	}
+
+	/**
+	 * Sets the id and version of the request to a response and clears its errors,
+	 * also used for the responses streamed without going through the advice
+	 * 
+	 * @param body               the response
+	 * @param httpServletRequest the request
+	 */
+	public void setHeader(ResponseWrapper<?> body, HttpServletRequest httpServletRequest) {
 		RequestWrapper<?> requestWrapper = null;
 		String requestBody = null;
 
 		try {
-			HttpServletRequest httpServletRequest = ((ServletServerHttpRequest) request).getServletRequest();
-
 			if (httpServletRequest instanceof ContentCachingRequestWrapper) {
 				requestBody = new String(((ContentCachingRequestWrapper) httpServletRequest).getContentAsByteArray());
 			} else if (httpServletRequest instanceof HttpServletRequestWrapper
@@ -76,20 +99,6 @@ public class ResponseBodyAdviceConfig implements ResponseBodyAdvice<ResponseWrap
 			Logger mosipLogger = LoggerConfiguration.logConfig(ResponseBodyAdviceConfig.class);
 			mosipLogger.error("", "", "", e.getMessage());
 		}
-		if (body != null) {
-			try {
-				String timestamp = DateUtils.getUTCCurrentDateTimeString();
-				body.setResponsetime(DateUtils.convertUTCToLocalDateTime(timestamp));
-				SignatureResponse cryptoManagerResponseDto = signatureUtil.sign(objectMapper.writeValueAsString(body),
-						timestamp);
-				response.getHeaders().add("response-signature", cryptoManagerResponseDto.getData());
-			} catch (JsonProcessingException e) {
-				throw new ParseResponseException(SigningDataErrorCode.RESPONSE_PARSE_EXCEPTION.getErrorCode(),
-						SigningDataErrorCode.RESPONSE_PARSE_EXCEPTION.getErrorCode());
-			}
-		}
-
-		return body;
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,13 +1,22 @@
 package io.mosip.kernel.syncdata.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,10 +24,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.syncdata.config.ResponseBodyAdviceConfig;
 import io.mosip.kernel.syncdata.dto.ConfigDto;
 import io.mosip.kernel.syncdata.dto.PublicKeyResponse;
 import io.mosip.kernel.syncdata.dto.SyncUserDetailDto;
@@ -33,6 +47,7 @@ import io.mosip.kernel.syncdata.service.SyncMasterDataService;
 import io.mosip.kernel.syncdata.service.SyncRolesService;
 import io.mosip.kernel.syncdata.service.SyncUserDetailsService;
 import io.mosip.kernel.syncdata.utils.LocalDateTimeUtil;
+import io.mosip.kernel.syncdata.utils.MasterDataSections;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import net.minidev.json.JSONObject;
@@ -75,6 +90,12 @@ public class SyncDataController {
 	@Autowired
 	LocalDateTimeUtil localDateTimeUtil;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ResponseBodyAdviceConfig responseBodyAdvice;
+
 	/**
 	 * This API method would fetch all synced global config details from server
 	 * 
@@ -165,7 +186,9 @@ public class SyncDataController {
 		MasterDataResponseDto masterDataResponseDto = masterDataService.syncData(regCenterId, macId, serialNumber,
 				timestamp, currentTimeStamp, keyIndex);
 
-		masterDataResponseDto.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
+		if (masterDataResponseDto.getLastSyncTime() == null) {
+			masterDataResponseDto.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
+		}
 
 		ResponseWrapper<MasterDataResponseDto> response = new ResponseWrapper<>();
 		response.setResponse(masterDataResponseDto);
@@ -199,13 +222,125 @@ public class SyncDataController {
 		MasterDataResponseDto masterDataResponseDto = masterDataService.syncData(regCenterId, macId, serialNumber,
 				timestamp, currentTimeStamp, keyIndex);
 
-		masterDataResponseDto.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
+		if (masterDataResponseDto.getLastSyncTime() == null) {
+			masterDataResponseDto.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
+		}
 
 		ResponseWrapper<MasterDataResponseDto> response = new ResponseWrapper<>();
 		response.setResponse(masterDataResponseDto);
 		return response;
 	}
+
+	/**
+	 * Streaming mode of {@link #syncMasterData}, enabled by the stream request
+	 * parameter. The response is gzip encoded and each section of the master data
+	 * is written as soon as it is fetched. The response is not signed.
+	 * 
+	 * @param macId        - MAC address of the machine
+	 * @param serialNumber - Serial number of the machine
+	 * @param lastUpdated  - last updated time stamp
+	 * @param keyIndex     - keyIndex mapped to machine
+	 * @param request      - request, for the id and version of the response
+	 * @param response     - response the master data is streamed to
+	 * @throws InterruptedException - this method will throw interrupted Exception
+	 * @throws IOException          - if the response could not be written
+	 */
+	@PreAuthorize("hasAnyRole('REGISTRATION_SUPERVISOR','REGISTRATION_OFFICER','REGISTRATION_ADMIN')")
+	@GetMapping(value = "/masterdata", params = "stream=true")
+	public void streamMasterData(@RequestParam(value = "macaddress", required = false) String macId,
+			@RequestParam(value = "serialnumber", required = false) String serialNumber,
+			@RequestParam(value = "lastupdated", required = false) String lastUpdated,
+			@RequestParam(value = "keyindex", required = false) String keyIndex, HttpServletRequest request,
+			HttpServletResponse response) throws InterruptedException, IOException {
+
+		LocalDateTime currentTimeStamp = LocalDateTime.now(ZoneOffset.UTC);
+		LocalDateTime timestamp = localDateTimeUtil.getLocalDateTimeFromTimeStamp(currentTimeStamp, lastUpdated);
+		MasterDataSections sections = masterDataService.syncDataSections(null, macId, serialNumber, timestamp,
+				currentTimeStamp, keyIndex);
+		writeMasterData(sections, currentTimeStamp, request, response);
+	}
+
+	/**
+	 * Streaming mode of {@link #syncMasterDataWithRegCenterId}, enabled by the
+	 * stream request parameter. The response is gzip encoded and each section of
+	 * the master data is written as soon as it is fetched. The response is not
+	 * signed.
+	 * 
+	 * @param regCenterId  - reg Center Id
+	 * @param macId        - MAC address of the machine
+	 * @param serialNumber - Serial number of the machine
+	 * @param lastUpdated  - last updated time stamp
+	 * @param keyIndex     - keyIndex mapped to machine
+	 * @param request      - request, for the id and version of the response
+	 * @param response     - response the master data is streamed to
+	 * @throws InterruptedException - this method will throw interrupted Exception
+	 * @throws IOException          - if the response could not be written
+	 */
+	@PreAuthorize("hasAnyRole('REGISTRATION_SUPERVISOR','REGISTRATION_OFFICER','REGISTRATION_ADMIN')")
+	@GetMapping(value = "/masterdata/{regcenterId}", params = "stream=true")
+	public void streamMasterDataWithRegCenterId(@PathVariable("regcenterId") String regCenterId,
+			@RequestParam(value = "macaddress", required = false) String macId,
+			@RequestParam(value = "serialnumber", required = false) String serialNumber,
+			@RequestParam(value = "lastupdated", required = false) String lastUpdated,
+			@RequestParam(value = "keyindex", required = false) String keyIndex, HttpServletRequest request,
+			HttpServletResponse response) throws InterruptedException, IOException {
+
+		LocalDateTime currentTimeStamp = LocalDateTime.now(ZoneOffset.UTC);
+		LocalDateTime timestamp = localDateTimeUtil.getLocalDateTimeFromTimeStamp(currentTimeStamp, lastUpdated);
+		MasterDataSections sections = masterDataService.syncDataSections(regCenterId, macId, serialNumber,
+				timestamp, currentTimeStamp, keyIndex);
+		writeMasterData(sections, currentTimeStamp, request, response);
+	}
+
+	/**
+	 * Writes the master data as a {@link ResponseWrapper}, gzip encoded, with the
+	 * header set by {@link ResponseBodyAdviceConfig} as for the other endpoints.
+	 * Only called once the machine is resolved, so that errors found before
+	 * streaming are handled as for the other endpoints. The JSON is left
+	 * incomplete if a section fails while streaming.
+	 */
+	private void writeMasterData(MasterDataSections sections, LocalDateTime currentTimeStamp,
+			HttpServletRequest request, HttpServletResponse response) throws IOException, InterruptedException {
+		if (sections.getLastSyncTime() == null) {
+			sections.setLastSyncTime(DateUtils.formatToISOString(currentTimeStamp));
+		}
+		response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+		response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+		JsonGenerator generator = objectMapper.getFactory()
+				.createGenerator(new GZIPOutputStream(response.getOutputStream(), true));
+		ResponseWrapper<MasterDataResponseDto> header = new ResponseWrapper<>();
+		responseBodyAdvice.setHeader(header, request);
+		generator.writeStartObject();
+		Iterator<Map.Entry<String, JsonNode>> fields = objectMapper.valueToTree(header).fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			generator.writeFieldName(field.getKey());
+			if ("response".equals(field.getKey())) {
+				sections.write(generator);
+			} else {
+				generator.writeTree(field.getValue());
+			}
+		}
+		generator.writeEndObject();
+		generator.close();
+	}
 	
+	/**
+	 * API to have the snapshot of the global master data reloaded by the next
+	 * sync, to be called after the global master data is changed
+	 * 
+	 * @return message that the snapshot is invalidated
+	 */
+	@PreAuthorize("hasAnyRole('REGISTRATION_ADMIN')")
+	@ResponseFilter
+	@DeleteMapping("/masterdata/snapshot")
+	public ResponseWrapper<String> invalidateMasterDataSnapshot() {
+		masterDataService.invalidateMasterDataSnapshot();
+		ResponseWrapper<String> response = new ResponseWrapper<>();
+		response.setResponse("Master data snapshot invalidated");
+		return response;
+	}
+
 	/**
 	 * 
 	 * @param keyIndex     - keyIndex mapped to machine
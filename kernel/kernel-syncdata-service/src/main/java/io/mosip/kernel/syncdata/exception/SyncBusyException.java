@@ -0,0 +1,41 @@
+package io.mosip.kernel.syncdata.exception;
+
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+
+/**
+ * Custom Exception Class in case a sync is rejected because the service is
+ * saturated.
+ *
+ * @see io.mosip.kernel.core.exception.BaseUncheckedException
+ * @author Urvil Joshi
+ * @since 1.0.8
+ */
+public class SyncBusyException extends BaseUncheckedException {
+
+	/**
+	 * Generated serial version id
+	 */
+	private static final long serialVersionUID = -3418356102984736571L;
+
+	/**
+	 * Constructor the initialize Handler exception
+	 *
+	 * @param errorCode    The error code for this exception
+	 * @param errorMessage The error message for this exception
+	 */
+	public SyncBusyException(String errorCode, String errorMessage) {
+		super(errorCode, errorMessage);
+	}
+
+	/**
+	 * Constructor the initialize Handler exception
+	 *
+	 * @param errorCode    The error code for this exception
+	 * @param errorMessage The error message for this exception
+	 * @param rootCause    the specified cause
+	 */
+	public SyncBusyException(String errorCode, String errorMessage, Throwable rootCause) {
+		super(errorCode, errorMessage, rootCause);
+	}
+
+}
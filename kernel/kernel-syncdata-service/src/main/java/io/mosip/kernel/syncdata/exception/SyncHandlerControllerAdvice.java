@@ -6,6 +6,9 @@ import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -42,6 +45,9 @@ public class SyncHandlerControllerAdvice {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Value("${mosip.kernel.syncdata.retry-after-seconds:30}")
+	private long retryAfterSeconds;
+
 	@ExceptionHandler(SyncDataServiceException.class)
 	public ResponseEntity<ResponseWrapper<ServiceError>> controlDataServiceException(final SyncDataServiceException e,
 			final HttpServletRequest httpServletRequest) throws IOException {
@@ -49,6 +55,19 @@ public class SyncHandlerControllerAdvice {
 		return getServiceErrorResponseEntity(e, HttpStatus.INTERNAL_SERVER_ERROR, httpServletRequest);
 	}
 
+	@ExceptionHandler(SyncBusyException.class)
+	public ResponseEntity<ResponseWrapper<ServiceError>> syncBusyException(final SyncBusyException e,
+			final HttpServletRequest httpServletRequest) throws IOException {
+		return getServiceUnavailableResponseEntity(e.getErrorCode(), e.getErrorText(), httpServletRequest);
+	}
+
+	@ExceptionHandler(TaskRejectedException.class)
+	public ResponseEntity<ResponseWrapper<ServiceError>> taskRejectedException(final TaskRejectedException e,
+			final HttpServletRequest httpServletRequest) throws IOException {
+		return getServiceUnavailableResponseEntity(MasterDataErrorCode.SYNC_BUSY.getErrorCode(),
+				MasterDataErrorCode.SYNC_BUSY.getErrorMessage(), httpServletRequest);
+	}
+
 	@ExceptionHandler(DateParsingException.class)
 	public ResponseEntity<ResponseWrapper<ServiceError>> controlDataServiceException(final DateParsingException e,
 			final HttpServletRequest httpServletRequest) throws IOException {
@@ -144,6 +163,14 @@ public class SyncHandlerControllerAdvice {
 		return new ResponseEntity<>(responseWrapper, httpStatus);
 	}
 
+	private ResponseEntity<ResponseWrapper<ServiceError>> getServiceUnavailableResponseEntity(String errorCode,
+			String errorMessage, HttpServletRequest httpServletRequest) throws IOException {
+		ResponseWrapper<ServiceError> responseWrapper = setErrors(httpServletRequest);
+		responseWrapper.getErrors().add(new ServiceError(errorCode, errorMessage));
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds)).body(responseWrapper);
+	}
+
 	private ResponseWrapper<ServiceError> setErrors(HttpServletRequest httpServletRequest) throws IOException {
 		ResponseWrapper<ServiceError> responseWrapper = new ResponseWrapper<>();
 		String requestBody = null;
@@ -7,6 +7,7 @@ import io.mosip.kernel.syncdata.dto.UploadPublicKeyRequestDto;
 import io.mosip.kernel.syncdata.dto.UploadPublicKeyResponseDto;
 import io.mosip.kernel.syncdata.dto.response.MasterDataResponseDto;
 import io.mosip.kernel.syncdata.dto.response.SyncDataResponseDto;
+import io.mosip.kernel.syncdata.utils.MasterDataSections;
 
 /**
  * Masterdata sync handler service
@@ -33,6 +34,21 @@ public interface SyncMasterDataService {
 	MasterDataResponseDto syncData(String regCenterId, String macAddress, String serialNumber,
 			LocalDateTime lastUpdated, LocalDateTime currentTimestamp, String keyIndex)
 			throws InterruptedException, ExecutionException;
+
+	/**
+	 * Resolves the machine and starts fetching the master data to sync, without
+	 * waiting for it.
+	 * 
+	 * @param regCenterId      - registration center id
+	 * @param macAddress       - MAC address of the machine
+	 * @param serialNumber     - serial number for either desktop or dongle
+	 * @param lastUpdated      - last updated time stamp
+	 * @param currentTimestamp - current time stamp
+	 * @param keyIndex         - registration client TPM EK public key SHA256
+	 * @return {@link MasterDataSections} being fetched
+	 */
+	MasterDataSections syncDataSections(String regCenterId, String macAddress, String serialNumber,
+			LocalDateTime lastUpdated, LocalDateTime currentTimestamp, String keyIndex);
 	
 	
 	/**
@@ -56,4 +72,10 @@ public interface SyncMasterDataService {
 	 */
 	UploadPublicKeyResponseDto uploadpublickey(UploadPublicKeyRequestDto uploadPublicKeyRequestDto);
 
+	/**
+	 * Has the snapshot of the global master data reloaded by the next sync, so
+	 * that a change to it is sent without waiting for the snapshot to expire
+	 */
+	void invalidateMasterDataSnapshot();
+
 }
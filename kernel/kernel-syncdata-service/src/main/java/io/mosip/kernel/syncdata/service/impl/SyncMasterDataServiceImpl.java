@@ -9,18 +9,21 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 import javax.persistence.PersistenceException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
 import io.mosip.kernel.syncdata.dto.AppAuthenticationMethodDto;
 import io.mosip.kernel.syncdata.dto.AppDetailDto;
@@ -30,44 +33,24 @@ import io.mosip.kernel.syncdata.dto.ApplicationDto;
 import io.mosip.kernel.syncdata.dto.BiometricAttributeDto;
 import io.mosip.kernel.syncdata.dto.BiometricTypeDto;
 import io.mosip.kernel.syncdata.dto.BlacklistedWordsDto;
-import io.mosip.kernel.syncdata.dto.DeviceDto;
 import io.mosip.kernel.syncdata.dto.DeviceProviderDto;
 import io.mosip.kernel.syncdata.dto.DeviceServiceDto;
-import io.mosip.kernel.syncdata.dto.DeviceSpecificationDto;
 import io.mosip.kernel.syncdata.dto.DeviceSubTypeDPMDto;
 import io.mosip.kernel.syncdata.dto.DeviceTypeDPMDto;
-import io.mosip.kernel.syncdata.dto.DeviceTypeDto;
 import io.mosip.kernel.syncdata.dto.DocumentCategoryDto;
 import io.mosip.kernel.syncdata.dto.DocumentTypeDto;
 import io.mosip.kernel.syncdata.dto.FoundationalTrustProviderDto;
 import io.mosip.kernel.syncdata.dto.GenderDto;
-import io.mosip.kernel.syncdata.dto.HolidayDto;
 import io.mosip.kernel.syncdata.dto.IdTypeDto;
 import io.mosip.kernel.syncdata.dto.IndividualTypeDto;
 import io.mosip.kernel.syncdata.dto.LanguageDto;
 import io.mosip.kernel.syncdata.dto.LocationDto;
-import io.mosip.kernel.syncdata.dto.MachineDto;
-import io.mosip.kernel.syncdata.dto.MachineSpecificationDto;
-import io.mosip.kernel.syncdata.dto.MachineTypeDto;
 import io.mosip.kernel.syncdata.dto.PostReasonCategoryDto;
 import io.mosip.kernel.syncdata.dto.ProcessListDto;
 import io.mosip.kernel.syncdata.dto.ReasonListDto;
-import io.mosip.kernel.syncdata.dto.RegisteredDeviceDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterDeviceDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterDeviceHistoryDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDeviceDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDeviceHistoryDto;
 import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterMachineHistoryDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterTypeDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterUserDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterUserHistoryDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterUserMachineMappingDto;
-import io.mosip.kernel.syncdata.dto.RegistrationCenterUserMachineMappingHistoryDto;
 import io.mosip.kernel.syncdata.dto.ScreenAuthorizationDto;
 import io.mosip.kernel.syncdata.dto.ScreenDetailDto;
-import io.mosip.kernel.syncdata.dto.SyncJobDefDto;
 import io.mosip.kernel.syncdata.dto.TemplateDto;
 import io.mosip.kernel.syncdata.dto.TemplateFileFormatDto;
 import io.mosip.kernel.syncdata.dto.TemplateTypeDto;
@@ -85,6 +68,7 @@ import io.mosip.kernel.syncdata.entity.RegistrationCenter;
 import io.mosip.kernel.syncdata.entity.RegistrationCenterMachine;
 import io.mosip.kernel.syncdata.exception.ParseResponseException;
 import io.mosip.kernel.syncdata.exception.RequestException;
+import io.mosip.kernel.syncdata.exception.SyncBusyException;
 import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
 import io.mosip.kernel.syncdata.exception.SyncServiceException;
 import io.mosip.kernel.syncdata.repository.MachineHistoryRepository;
@@ -103,8 +87,12 @@ import io.mosip.kernel.syncdata.service.helper.RegistrationCenterDataHelper;
 import io.mosip.kernel.syncdata.service.helper.TemplateDataHelper;
 import io.mosip.kernel.syncdata.utils.ExceptionUtils;
 import io.mosip.kernel.syncdata.utils.MapperUtils;
+import io.mosip.kernel.syncdata.utils.MasterDataSections;
+import io.mosip.kernel.syncdata.utils.MasterDataSnapshotCache;
 import io.mosip.kernel.syncdata.utils.MetaDataUtils;
+import io.mosip.kernel.syncdata.utils.SyncExecutionLimiter;
 import io.mosip.kernel.syncdata.utils.SyncMasterDataServiceHelper;
+import io.mosip.kernel.syncdata.utils.SyncQueryMetrics;
 
 import io.mosip.kernel.syncdata.entity.AppAuthenticationMethod;
 import io.mosip.kernel.syncdata.entity.AppDetail;
@@ -192,6 +180,15 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 	@Autowired
 	private MapperUtils mapper;
 
+	@Autowired
+	private MasterDataSnapshotCache snapshotCache;
+
+	@Autowired
+	private SyncExecutionLimiter syncExecutionLimiter;
+
+	@Autowired
+	private SyncQueryMetrics queryMetrics;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -204,145 +201,9 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 	public MasterDataResponseDto syncData(String regCenterId, String macAddress, String serialNum,
 			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp, String keyIndex)
 			throws InterruptedException, ExecutionException {
-		String machineId = null;
-		RegistrationCenterMachineDto regCenterMachineDto = null;
-		if (regCenterId == null) {
-			regCenterMachineDto = getRegistationMachineMapping(macAddress, serialNum, keyIndex);
-		} else {
-
-			regCenterMachineDto = getRegCenterMachineMappingWithRegCenterId(regCenterId, macAddress, serialNum,
-					keyIndex);
-		}
-
-		machineId = regCenterMachineDto.getMachineId();
-		regCenterId = regCenterMachineDto.getRegCenterId();
-		MasterDataResponseDto response = new MasterDataResponseDto();
-		CompletableFuture<List<MachineDto>> machineDetails = null;
-		CompletableFuture<List<ApplicationDto>> applications = null;
-		CompletableFuture<List<RegistrationCenterTypeDto>> registrationCenterTypes = null;
-		CompletableFuture<List<RegistrationCenterDto>> registrationCenters = null;
-		CompletableFuture<List<TemplateDto>> templates = null;
-		CompletableFuture<List<TemplateFileFormatDto>> templateFileFormats = null;
-		CompletableFuture<List<PostReasonCategoryDto>> reasonCategory = null;
-		CompletableFuture<List<HolidayDto>> holidays = null;
-		CompletableFuture<List<BlacklistedWordsDto>> blacklistedWords = null;
-		CompletableFuture<List<BiometricTypeDto>> biometricTypes = null;
-		CompletableFuture<List<BiometricAttributeDto>> biometricAttributes = null;
-		CompletableFuture<List<TitleDto>> titles = null;
-		CompletableFuture<List<LanguageDto>> languages = null;
-		CompletableFuture<List<GenderDto>> genders = null;
-		CompletableFuture<List<DeviceDto>> devices = null;
-		CompletableFuture<List<DocumentCategoryDto>> documentCategories = null;
-		CompletableFuture<List<DocumentTypeDto>> documentTypes = null;
-		CompletableFuture<List<IdTypeDto>> idTypes = null;
-		CompletableFuture<List<DeviceSpecificationDto>> deviceSpecifications = null;
-		CompletableFuture<List<LocationDto>> locationHierarchy = null;
-		CompletableFuture<List<MachineSpecificationDto>> machineSpecification = null;
-		CompletableFuture<List<MachineTypeDto>> machineType = null;
-		CompletableFuture<List<TemplateTypeDto>> templateTypes = null;
-		CompletableFuture<List<DeviceTypeDto>> deviceTypes = null;
-		CompletableFuture<List<ValidDocumentDto>> validDocumentsMapping = null;
-		CompletableFuture<List<ReasonListDto>> reasonList = null;
-		CompletableFuture<List<ApplicantValidDocumentDto>> applicantValidDocumentList = null;
-		CompletableFuture<List<IndividualTypeDto>> individualTypeList = null;
-		CompletableFuture<List<AppAuthenticationMethodDto>> appAuthenticationMethods = null;
-		CompletableFuture<List<AppDetailDto>> appDetails = null;
-		CompletableFuture<List<AppRolePriorityDto>> appRolePriorities = null;
-		CompletableFuture<List<ScreenAuthorizationDto>> screenAuthorizations = null;
-		CompletableFuture<List<ProcessListDto>> processList = null;
-		CompletableFuture<List<DeviceProviderDto>> deviceProviders = null;
-		CompletableFuture<List<DeviceServiceDto>> deviceServices = null;
-		CompletableFuture<List<RegisteredDeviceDto>> registeredDevices = null;
-		CompletableFuture<List<FoundationalTrustProviderDto>> ftps = null;
-		CompletableFuture<List<DeviceTypeDPMDto>> deviceTypeDPMs = null;
-		CompletableFuture<List<DeviceSubTypeDPMDto>> deviceSubTypeDPMs = null;
-
-		CompletableFuture<List<RegistrationCenterMachineDto>> registrationCenterMachines = null;
-		CompletableFuture<List<RegistrationCenterDeviceDto>> registrationCenterDevices = null;
-		CompletableFuture<List<RegistrationCenterMachineDeviceDto>> registrationCenterMachineDevices = null;
-		CompletableFuture<List<RegistrationCenterUserMachineMappingDto>> registrationCenterUserMachines = null;
-		CompletableFuture<List<RegistrationCenterUserDto>> registrationCenterUsers = null;
-		CompletableFuture<List<RegistrationCenterUserHistoryDto>> registrationCenterUserHistoryList = null;
-		CompletableFuture<List<RegistrationCenterUserMachineMappingHistoryDto>> registrationCenterUserMachineMappingHistoryList = null;
-		CompletableFuture<List<RegistrationCenterMachineDeviceHistoryDto>> registrationCenterMachineDeviceHistoryList = null;
-		CompletableFuture<List<RegistrationCenterDeviceHistoryDto>> registrationCenterDeviceHistoryList = null;
-		CompletableFuture<List<RegistrationCenterMachineHistoryDto>> registrationCenterMachineHistoryList = null;
-		CompletableFuture<List<SyncJobDefDto>> syncJobDefDtos;
-		CompletableFuture<List<ScreenDetailDto>> screenDetails;
-
-		applications = serviceHelper.getApplications(lastUpdated, currentTimeStamp);
-		machineDetails = serviceHelper.getMachines(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenters = serviceHelper.getRegistrationCenter(machineId, lastUpdated, currentTimeStamp);
-		registrationCenterTypes = serviceHelper.getRegistrationCenterType(machineId, lastUpdated, currentTimeStamp);
-		templates = serviceHelper.getTemplates(lastUpdated, currentTimeStamp);
-		templateFileFormats = serviceHelper.getTemplateFileFormats(lastUpdated, currentTimeStamp);
-		reasonCategory = serviceHelper.getReasonCategory(lastUpdated, currentTimeStamp);
-		holidays = serviceHelper.getHolidays(lastUpdated, machineId, currentTimeStamp);
-		blacklistedWords = serviceHelper.getBlackListedWords(lastUpdated, currentTimeStamp);
-		biometricTypes = serviceHelper.getBiometricTypes(lastUpdated, currentTimeStamp);
-		biometricAttributes = serviceHelper.getBiometricAttributes(lastUpdated, currentTimeStamp);
-		titles = serviceHelper.getTitles(lastUpdated, currentTimeStamp);
-		languages = serviceHelper.getLanguages(lastUpdated, currentTimeStamp);
-		genders = serviceHelper.getGenders(lastUpdated, currentTimeStamp);
-		devices = serviceHelper.getDevices(regCenterId, lastUpdated, currentTimeStamp);
-		documentCategories = serviceHelper.getDocumentCategories(lastUpdated, currentTimeStamp);
-		documentTypes = serviceHelper.getDocumentTypes(lastUpdated, currentTimeStamp);
-		idTypes = serviceHelper.getIdTypes(lastUpdated, currentTimeStamp);
-		deviceSpecifications = serviceHelper.getDeviceSpecifications(regCenterId, lastUpdated, currentTimeStamp);
-		locationHierarchy = serviceHelper.getLocationHierarchy(lastUpdated, currentTimeStamp);
-		machineSpecification = serviceHelper.getMachineSpecification(regCenterId, lastUpdated, currentTimeStamp);
-		machineType = serviceHelper.getMachineType(regCenterId, lastUpdated, currentTimeStamp);
-		templateTypes = serviceHelper.getTemplateTypes(lastUpdated, currentTimeStamp);
-		deviceTypes = serviceHelper.getDeviceType(regCenterId, lastUpdated, currentTimeStamp);
-		reasonList = serviceHelper.getReasonList(lastUpdated, currentTimeStamp);
-		applicantValidDocumentList = serviceHelper.getApplicantValidDocument(lastUpdated, currentTimeStamp);
-		individualTypeList = serviceHelper.getIndividualType(lastUpdated, currentTimeStamp);
-		validDocumentsMapping = serviceHelper.getValidDocuments(lastUpdated, currentTimeStamp);
-		appAuthenticationMethods = serviceHelper.getAppAuthenticationMethodDetails(lastUpdated, currentTimeStamp);
-		appDetails = serviceHelper.getAppDetails(lastUpdated, currentTimeStamp);
-		appRolePriorities = serviceHelper.getAppRolePriorityDetails(lastUpdated, currentTimeStamp);
-		processList = serviceHelper.getProcessList(lastUpdated, currentTimeStamp);
-		screenAuthorizations = serviceHelper.getScreenAuthorizationDetails(lastUpdated, currentTimeStamp);
-		registrationCenterMachines = serviceHelper.getRegistrationCenterMachines(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterDevices = serviceHelper.getRegistrationCenterDevices(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterMachineDevices = serviceHelper.getRegistrationCenterMachineDevices(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterUserMachines = serviceHelper.getRegistrationCenterUserMachines(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterUsers = serviceHelper.getRegistrationCenterUsers(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenterUserHistoryList = serviceHelper.getRegistrationCenterUserHistory(regCenterId, lastUpdated,
-				currentTimeStamp);
-		registrationCenterUserMachineMappingHistoryList = serviceHelper
-				.getRegistrationCenterUserMachineMapping(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenterMachineDeviceHistoryList = serviceHelper
-				.getRegistrationCenterMachineDeviceHistoryDetails(regCenterId, lastUpdated, currentTimeStamp);
-		registrationCenterDeviceHistoryList = serviceHelper.getRegistrationCenterDeviceHistoryDetails(regCenterId,
-				lastUpdated, currentTimeStamp);
-		registrationCenterMachineHistoryList = serviceHelper.getRegistrationCenterMachineHistoryDetails(regCenterId,
-				lastUpdated, currentTimeStamp);
-		//
-		syncJobDefDtos = serviceHelper.getSyncJobDefDetails(lastUpdated, currentTimeStamp);
-		screenDetails = serviceHelper.getScreenDetails(lastUpdated, currentTimeStamp);
-		registeredDevices = serviceHelper.getRegisteredDeviceDetails(regCenterId, lastUpdated, currentTimeStamp);
-		deviceProviders = serviceHelper.getDeviceProviderDetails(lastUpdated, currentTimeStamp);
-		deviceServices = serviceHelper.getDeviceServiceDetails(lastUpdated, currentTimeStamp);
-		ftps = serviceHelper.getFPDetails(lastUpdated, currentTimeStamp);
-		deviceTypeDPMs = serviceHelper.getDeviceTypeDetails(lastUpdated, currentTimeStamp);
-		deviceSubTypeDPMs = serviceHelper.getDeviceSubTypeDetails(lastUpdated, currentTimeStamp);
-		CompletableFuture<Void> future = CompletableFuture.allOf(machineDetails, applications, registrationCenterTypes,
-				registrationCenters, templates, templateFileFormats, reasonCategory, reasonList, holidays,
-				blacklistedWords, biometricTypes, biometricAttributes, titles, languages, devices, documentCategories,
-				documentTypes, idTypes, deviceSpecifications, locationHierarchy, machineSpecification, machineType,
-				templateTypes, deviceTypes, validDocumentsMapping, registrationCenterMachines,
-				registrationCenterDevices, registrationCenterMachineDevices, registrationCenterUserMachines,
-				registrationCenterUsers, registrationCenterUserHistoryList,
-				registrationCenterUserMachineMappingHistoryList, registrationCenterMachineDeviceHistoryList,
-				registrationCenterDeviceHistoryList, registrationCenterMachineHistoryList, applicantValidDocumentList,
-				individualTypeList, appAuthenticationMethods, appDetails, appRolePriorities, processList,
-				screenAuthorizations, syncJobDefDtos, screenDetails, registeredDevices, deviceProviders, deviceServices,
-				ftps, deviceTypeDPMs, deviceSubTypeDPMs);
+		MasterDataSections sections = syncDataSections(regCenterId, macAddress, serialNum, lastUpdated,
+				currentTimeStamp, keyIndex);
+		CompletableFuture<Void> future = sections.allOf();
 
 		try {
 			future.join();
@@ -357,61 +218,219 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 				throw (RuntimeException) e.getCause();
 			}
 		}
+		return sections.toResponse();
 
-		response.setMachineDetails(machineDetails.get());
-		response.setApplications(applications.get());
-		response.setRegistrationCenterTypes(registrationCenterTypes.get());
-		response.setRegistrationCenter(registrationCenters.get());
-		response.setTemplates(templates.get());
-		response.setTemplateFileFormat(templateFileFormats.get());
-		response.setReasonCategory(reasonCategory.get());
-		response.setReasonList(reasonList.get());
-		response.setHolidays(holidays.get());
-		response.setBlackListedWords(blacklistedWords.get());
-		response.setBiometricTypes(biometricTypes.get());
-		response.setBiometricattributes(biometricAttributes.get());
-		response.setTitles(titles.get());
-		response.setLanguages(languages.get());
-		response.setGenders(genders.get());
-		response.setDevices(devices.get());
-		response.setDocumentCategories(documentCategories.get());
-		response.setDocumentTypes(documentTypes.get());
-		response.setIdTypes(idTypes.get());
-		response.setDeviceSpecifications(deviceSpecifications.get());
-		response.setLocationHierarchy(locationHierarchy.get());
-		response.setMachineSpecification(machineSpecification.get());
-		response.setMachineType(machineType.get());
-		response.setTemplatesTypes(templateTypes.get());
-		response.setDeviceTypes(deviceTypes.get());
-		response.setValidDocumentMapping(validDocumentsMapping.get());
-		response.setApplicantValidDocuments(applicantValidDocumentList.get());
-		response.setIndividualTypes(individualTypeList.get());
-		response.setAppAuthenticationMethods(appAuthenticationMethods.get());
-		response.setAppDetails(appDetails.get());
-		response.setAppRolePriorities(appRolePriorities.get());
-		response.setProcessList(processList.get());
-		response.setScreenAuthorizations(screenAuthorizations.get());
-		response.setSyncJobDefinitions(syncJobDefDtos.get());
-		response.setScreenDetails(screenDetails.get());
-		response.setRegisteredDevices(registeredDevices.get());
-		response.setDeviceProviders(deviceProviders.get());
-		response.setDeviceServices(deviceServices.get());
-		response.setDeviceTypeDPMs(deviceTypeDPMs.get());
-		response.setDeviceSubTypeDPMs(deviceSubTypeDPMs.get());
-		response.setFunctionalTrustProviders(ftps.get());
-		response.setRegistrationCenterMachines(registrationCenterMachines.get());
-		response.setRegistrationCenterDevices(registrationCenterDevices.get());
-		response.setRegistrationCenterMachineDevices(registrationCenterMachineDevices.get());
-		response.setRegistrationCenterUserMachines(registrationCenterUserMachines.get());
-		response.setRegistrationCenterUsers(registrationCenterUsers.get());
-		response.setRegistrationCenterUserHistory(registrationCenterUserHistoryList.get());
-		response.setRegistrationCenterUserMachineMappingHistory(registrationCenterUserMachineMappingHistoryList.get());
-		response.setRegistrationCenterDeviceHistory(registrationCenterDeviceHistoryList.get());
-		response.setRegistrationCenterMachineHistory(registrationCenterMachineHistoryList.get());
-		response.setRegistrationCenterMachineDeviceHistory(registrationCenterMachineDeviceHistoryList.get());
+	}
 
-		return response;
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.kernel.syncdata.service.SyncMasterDataService#syncDataSections(java.
+	 * lang.String, java.lang.String, java.lang.String, java.time.LocalDateTime,
+	 * java.time.LocalDateTime, java.lang.String)
+	 */
+	@Override
+	public MasterDataSections syncDataSections(String regCenterId, String macAddress, String serialNum,
+			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp, String keyIndex) {
+		String machineId = null;
+		RegistrationCenterMachineDto regCenterMachineDto = null;
+		if (regCenterId == null) {
+			regCenterMachineDto = getRegistationMachineMapping(macAddress, serialNum, keyIndex);
+		} else {
+
+			regCenterMachineDto = getRegCenterMachineMappingWithRegCenterId(regCenterId, macAddress, serialNum,
+					keyIndex);
+		}
 
+		machineId = regCenterMachineDto.getMachineId();
+		regCenterId = regCenterMachineDto.getRegCenterId();
+		Runnable permit = syncExecutionLimiter.acquire(machineId);
+		MasterDataSections sections = new MasterDataSections(queryMetrics);
+		try {
+			addSections(sections, regCenterId, machineId, lastUpdated, currentTimeStamp);
+		} catch (TaskRejectedException e) {
+			throw new SyncBusyException(MasterDataErrorCode.SYNC_BUSY.getErrorCode(),
+					MasterDataErrorCode.SYNC_BUSY.getErrorMessage(), e);
+		} finally {
+			// released once the sections added are done, also when adding the others
+			// failed, so that the queries of a rejected sync are counted until they end
+			sections.allOf().whenComplete((result, exception) -> permit.run());
+		}
+		return sections;
+	}
+
+	/**
+	 * Adds the sections of a sync, each one queried asynchronously or taken from
+	 * the snapshot
+	 */
+	private void addSections(MasterDataSections sections, String regCenterId, String machineId,
+			LocalDateTime lastUpdated, LocalDateTime currentTimeStamp) {
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(lastUpdated);
+		sections.add("machineDetails", serviceHelper.getMachines(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setMachineDetails);
+		sections.add("applications", getGlobalData(snapshot, ApplicationDto.class, lastUpdated,
+				() -> serviceHelper.getApplications(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setApplications);
+		sections.add("registrationCenterTypes",
+				serviceHelper.getRegistrationCenterType(machineId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterTypes);
+		sections.add("registrationCenter",
+				serviceHelper.getRegistrationCenter(machineId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenter);
+		sections.add("templates", getGlobalData(snapshot, TemplateDto.class, lastUpdated,
+				() -> serviceHelper.getTemplates(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setTemplates);
+		sections.add("templateFileFormat", getGlobalData(snapshot, TemplateFileFormatDto.class, lastUpdated,
+				() -> serviceHelper.getTemplateFileFormats(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setTemplateFileFormat);
+		sections.add("reasonCategory", getGlobalData(snapshot, PostReasonCategoryDto.class, lastUpdated,
+				() -> serviceHelper.getReasonCategory(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setReasonCategory);
+		sections.add("reasonList", getGlobalData(snapshot, ReasonListDto.class, lastUpdated,
+				() -> serviceHelper.getReasonList(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setReasonList);
+		sections.add("holidays", serviceHelper.getHolidays(lastUpdated, machineId, currentTimeStamp),
+				MasterDataResponseDto::setHolidays);
+		sections.add("blackListedWords", getGlobalData(snapshot, BlacklistedWordsDto.class, lastUpdated,
+				() -> serviceHelper.getBlackListedWords(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setBlackListedWords);
+		sections.add("biometricTypes", getGlobalData(snapshot, BiometricTypeDto.class, lastUpdated,
+				() -> serviceHelper.getBiometricTypes(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setBiometricTypes);
+		sections.add("biometricattributes", getGlobalData(snapshot, BiometricAttributeDto.class, lastUpdated,
+				() -> serviceHelper.getBiometricAttributes(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setBiometricattributes);
+		sections.add("titles", getGlobalData(snapshot, TitleDto.class, lastUpdated,
+				() -> serviceHelper.getTitles(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setTitles);
+		sections.add("languages", getGlobalData(snapshot, LanguageDto.class, lastUpdated,
+				() -> serviceHelper.getLanguages(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setLanguages);
+		sections.add("genders", getGlobalData(snapshot, GenderDto.class, lastUpdated,
+				() -> serviceHelper.getGenders(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setGenders);
+		sections.add("devices", serviceHelper.getDevices(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setDevices);
+		sections.add("documentCategories", getGlobalData(snapshot, DocumentCategoryDto.class, lastUpdated,
+				() -> serviceHelper.getDocumentCategories(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setDocumentCategories);
+		sections.add("documentTypes", getGlobalData(snapshot, DocumentTypeDto.class, lastUpdated,
+				() -> serviceHelper.getDocumentTypes(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setDocumentTypes);
+		sections.add("idTypes", getGlobalData(snapshot, IdTypeDto.class, lastUpdated,
+				() -> serviceHelper.getIdTypes(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setIdTypes);
+		sections.add("deviceSpecifications",
+				serviceHelper.getDeviceSpecifications(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setDeviceSpecifications);
+		sections.add("locationHierarchy", getGlobalData(snapshot, LocationDto.class, lastUpdated,
+				() -> serviceHelper.getLocationHierarchy(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setLocationHierarchy);
+		sections.add("machineSpecification",
+				serviceHelper.getMachineSpecification(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setMachineSpecification);
+		sections.add("machineType", serviceHelper.getMachineType(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setMachineType);
+		sections.add("templatesTypes", getGlobalData(snapshot, TemplateTypeDto.class, lastUpdated,
+				() -> serviceHelper.getTemplateTypes(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setTemplatesTypes);
+		sections.add("deviceTypes", serviceHelper.getDeviceType(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setDeviceTypes);
+		sections.add("validDocumentMapping", getGlobalData(snapshot, ValidDocumentDto.class, lastUpdated,
+				() -> serviceHelper.getValidDocuments(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setValidDocumentMapping);
+		sections.add("applicantValidDocuments", getGlobalData(snapshot, ApplicantValidDocumentDto.class, lastUpdated,
+				() -> serviceHelper.getApplicantValidDocument(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setApplicantValidDocuments);
+		sections.add("individualTypes", getGlobalData(snapshot, IndividualTypeDto.class, lastUpdated,
+				() -> serviceHelper.getIndividualType(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setIndividualTypes);
+		sections.add("appAuthenticationMethods",
+				getGlobalData(snapshot, AppAuthenticationMethodDto.class, lastUpdated,
+						() -> serviceHelper.getAppAuthenticationMethodDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setAppAuthenticationMethods);
+		sections.add("appDetails", getGlobalData(snapshot, AppDetailDto.class, lastUpdated,
+				() -> serviceHelper.getAppDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setAppDetails);
+		sections.add("appRolePriorities", getGlobalData(snapshot, AppRolePriorityDto.class, lastUpdated,
+				() -> serviceHelper.getAppRolePriorityDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setAppRolePriorities);
+		sections.add("processList", getGlobalData(snapshot, ProcessListDto.class, lastUpdated,
+				() -> serviceHelper.getProcessList(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setProcessList);
+		sections.add("screenAuthorizations", getGlobalData(snapshot, ScreenAuthorizationDto.class, lastUpdated,
+				() -> serviceHelper.getScreenAuthorizationDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setScreenAuthorizations);
+		sections.add("syncJobDefinitions", serviceHelper.getSyncJobDefDetails(lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setSyncJobDefinitions);
+		sections.add("screenDetails", getGlobalData(snapshot, ScreenDetailDto.class, lastUpdated,
+				() -> serviceHelper.getScreenDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setScreenDetails);
+		sections.add("registeredDevices",
+				serviceHelper.getRegisteredDeviceDetails(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegisteredDevices);
+		sections.add("deviceProviders", getGlobalData(snapshot, DeviceProviderDto.class, lastUpdated,
+				() -> serviceHelper.getDeviceProviderDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setDeviceProviders);
+		sections.add("deviceServices", getGlobalData(snapshot, DeviceServiceDto.class, lastUpdated,
+				() -> serviceHelper.getDeviceServiceDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setDeviceServices);
+		sections.add("deviceTypeDPMs", getGlobalData(snapshot, DeviceTypeDPMDto.class, lastUpdated,
+				() -> serviceHelper.getDeviceTypeDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setDeviceTypeDPMs);
+		sections.add("deviceSubTypeDPMs", getGlobalData(snapshot, DeviceSubTypeDPMDto.class, lastUpdated,
+				() -> serviceHelper.getDeviceSubTypeDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setDeviceSubTypeDPMs);
+		sections.add("functionalTrustProviders",
+				getGlobalData(snapshot, FoundationalTrustProviderDto.class, lastUpdated,
+						() -> serviceHelper.getFPDetails(lastUpdated, currentTimeStamp)),
+				MasterDataResponseDto::setFunctionalTrustProviders);
+		sections.add("registrationCenterMachines",
+				serviceHelper.getRegistrationCenterMachines(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterMachines);
+		sections.add("registrationCenterDevices",
+				serviceHelper.getRegistrationCenterDevices(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterDevices);
+		sections.add("registrationCenterMachineDevices",
+				serviceHelper.getRegistrationCenterMachineDevices(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterMachineDevices);
+		sections.add("registrationCenterUserMachines",
+				serviceHelper.getRegistrationCenterUserMachines(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterUserMachines);
+		sections.add("registrationCenterUsers",
+				serviceHelper.getRegistrationCenterUsers(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterUsers);
+		sections.add("registrationCenterUserHistory",
+				serviceHelper.getRegistrationCenterUserHistory(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterUserHistory);
+		sections.add("registrationCenterUserMachineMappingHistory",
+				serviceHelper.getRegistrationCenterUserMachineMapping(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterUserMachineMappingHistory);
+		sections.add("registrationCenterDeviceHistory",
+				serviceHelper.getRegistrationCenterDeviceHistoryDetails(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterDeviceHistory);
+		sections.add("registrationCenterMachineHistory",
+				serviceHelper.getRegistrationCenterMachineHistoryDetails(regCenterId, lastUpdated, currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterMachineHistory);
+		sections.add("registrationCenterMachineDeviceHistory",
+				serviceHelper.getRegistrationCenterMachineDeviceHistoryDetails(regCenterId, lastUpdated,
+						currentTimeStamp),
+				MasterDataResponseDto::setRegistrationCenterMachineDeviceHistory);
+		if (snapshot != null) {
+			// changes after the watermark are not in the snapshot, so are synced next
+			sections.setLastSyncTime(DateUtils.formatToISOString(snapshot.getWatermark()));
+		}
+	}
+
+	/**
+	 * Global master data changed after the last sync, from the snapshot if there is
+	 * one or else queried
+	 */
+	private static <T> CompletableFuture<List<T>> getGlobalData(MasterDataSnapshotCache.Snapshot snapshot,
+			Class<T> dtoClass, LocalDateTime lastUpdated, Supplier<CompletableFuture<List<T>>> query) {
+		return snapshot == null ? query.get()
+				: CompletableFuture.completedFuture(snapshot.getDelta(dtoClass, lastUpdated));
 	}
 
 	/**
@@ -515,6 +534,17 @@ public class SyncMasterDataServiceImpl implements SyncMasterDataService {
 		return regCenterMachine;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.kernel.syncdata.service.SyncMasterDataService#
+	 * invalidateMasterDataSnapshot()
+	 */
+	@Override
+	public void invalidateMasterDataSnapshot() {
+		snapshotCache.invalidate();
+	}
+
 	@Override
 	@Transactional("syncDataTransactionManager")
 	public UploadPublicKeyResponseDto uploadpublickey(UploadPublicKeyRequestDto uploadPublicKeyRequestDto) {
@@ -1,7 +1,6 @@
 package io.mosip.kernel.syncdata.utils;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -189,10 +188,7 @@ public class MapperUtils {
 
 		Objects.requireNonNull(source, SOURCE_NULL_MESSAGE);
 		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		Field[] sourceFields = source.getClass().getDeclaredFields();
-		Field[] destinationFields = destination.getClass().getDeclaredFields();
-
-		mapFieldValues(source, destination, sourceFields, destinationFields);
+		mapFieldValues(source, destination, source.getClass(), destination.getClass());
 
 	}
 
@@ -206,7 +202,7 @@ public class MapperUtils {
 	}
 
 	private static <S, D> void mapEntityToDto(S source, D destination) throws IllegalAccessException {
-		Field[] sourceFields = source.getClass().getDeclaredFields();
+		Field[] sourceFields = FieldMappings.declaredFields(source.getClass());
 		/*
 		 * Here source is a Entity so we need to take values from Entity object and set
 		 * the matching fields in the destination object mostly an DTO.
@@ -214,7 +210,6 @@ public class MapperUtils {
 		boolean isIdMapped = false;// a flag to check if there any composite key is present and is mapped
 		boolean isSuperMapped = false;// a flag to check is class extends the BaseEntity and is mapped
 		for (Field sfield : sourceFields) {
-			sfield.setAccessible(true);// mark accessible true because fields my be private, for safety
 			if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
 				/**
 				 * Map the composite key values from source to destination if field name is same
@@ -224,7 +219,6 @@ public class MapperUtils {
 				 * destination object
 				 */
 				mapFieldValues(sfield.get(source), destination);
-				sfield.setAccessible(false);
 				isIdMapped = true;// set flag so no need to check and map again
 			} else if (!isSuperMapped) {
 				setBaseFieldValue(source, destination);// this method check whether source is entity or destination
@@ -256,19 +250,19 @@ public class MapperUtils {
 
 		// if source is an entity
 		if (sourceSupername.equals(baseEntityClassName) && !destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 		} else if (destinationSupername.equals(baseEntityClassName) && !sourceSupername.equals(baseEntityClassName)) {
 			// if destination is an entity
-			Field[] sourceFields = source.getClass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 		} else {
 			if (!sourceSupername.equals(objectClassName) && !destinationSupername.equals(objectClassName)) {
-				Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-				Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-				mapFieldValues(source, destination, sourceFields, destinationFields);
+				Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+				Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+				mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			}
 		}
 
@@ -283,79 +277,51 @@ public class MapperUtils {
 		String baseDtoClassName = BaseDto.class.getName();// base entity fully qualified name
 
 		if (sourceSupername.equals(baseEntityClassName) && destinationSupername.equals(baseDtoClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			sourceFields = source.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
+			sourceFieldsClass = source.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			return;
 		}
 		if (sourceSupername.equals(baseDtoClassName) && destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
-			destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
+			destinationFieldsClass = destination.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			return;
 		}
 
 		// if source is an entity
 		if (sourceSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getSuperclass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass().getSuperclass();
+			Class<?> destinationFieldsClass = destination.getClass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 			return;
 		}
 		// if destination is an entity
 		if (destinationSupername.equals(baseEntityClassName)) {
-			Field[] sourceFields = source.getClass().getDeclaredFields();
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapFieldValues(source, destination, sourceFields, destinationFields);
+			Class<?> sourceFieldsClass = source.getClass();
+			Class<?> destinationFieldsClass = destination.getClass().getSuperclass();
+			mapFieldValues(source, destination, sourceFieldsClass, destinationFieldsClass);
 		}
 
 	}
 
-	private static <D, S> void mapFieldValues(S source, D destination, Field[] sourceFields,
-			Field[] destinationFields) {
+	private static <D, S> void mapFieldValues(S source, D destination, Class<?> sourceFieldsClass,
+			Class<?> destinationFieldsClass) {
 		try {
-			for (Field sfield : sourceFields) {
-				// Do not set values either static or final
-				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
-					continue;
-				}
-
-				// make field accessible possibly private
-				sfield.setAccessible(true);
-
-				for (Field dfield : destinationFields) {
-
-					Class<?> sourceType = sfield.getType();
-					Class<?> destinationType = dfield.getType();
-
-					// map only those field whose name and type is same
-					if (sfield.getName().equals(dfield.getName()) && sourceType.equals(destinationType)) {
-
-						// for normal field values
-						dfield.setAccessible(true);
-						setFieldValue(source, destination, sfield, dfield);
-						break;
-					}
-				}
-			}
-		} catch (Exception e) {
+			FieldMappings.copy(source, destination, sourceFieldsClass, destinationFieldsClass);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 
 			throw new DataAccessLayerException("KER-MSD-993", "Exception raised while mapping values form "
 					+ source.getClass().getName() + " to " + destination.getClass().getName(), e);
 		}
 	}
 
-	private static <S, D> void setFieldValue(S source, D destination, Field ef, Field dtf)
-			throws IllegalAccessException {
-		dtf.set(destination, ef.get(source));
-		dtf.setAccessible(false);
-		ef.setAccessible(false);
-	}
-
 	public static List<UserDetailMapDto> mapUserDetailsToUserDetailMap(List<UserDetailDto> userDetails) {
 		List<UserDetailMapDto> userDetailMapDtoList = new ArrayList<>();
 
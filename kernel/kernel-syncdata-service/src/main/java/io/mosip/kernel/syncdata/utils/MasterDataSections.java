@@ -0,0 +1,155 @@
+package io.mosip.kernel.syncdata.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.mosip.kernel.syncdata.dto.response.MasterDataResponseDto;
+
+/**
+ * Sections of a master data sync, each one the list of a
+ * {@link MasterDataResponseDto} field fetched asynchronously.
+ *
+ * <p>
+ * The sections are either set to a {@link MasterDataResponseDto} once all of
+ * them are fetched, or written to a JSON generator one by one as they are
+ * fetched, so that the response is streamed without holding the whole master
+ * data in memory.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+public class MasterDataSections {
+
+	private final List<Section<?>> sections = new ArrayList<>();
+
+	private final SyncQueryMetrics metrics;
+
+	private String lastSyncTime;
+
+	public MasterDataSections() {
+		this(null);
+	}
+
+	/**
+	 * @param metrics metrics the query of each section is recorded to, may be
+	 *                null
+	 */
+	public MasterDataSections(SyncQueryMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Function to add a section
+	 *
+	 * @param name   name of the {@link MasterDataResponseDto} field
+	 * @param data   the list being fetched
+	 * @param setter setter of the {@link MasterDataResponseDto} field
+	 */
+	public <T> void add(String name, CompletableFuture<List<T>> data,
+			BiConsumer<MasterDataResponseDto, List<T>> setter) {
+		if (metrics != null) {
+			long start = System.nanoTime();
+			data.whenComplete((rows, exception) -> metrics.record(name, System.nanoTime() - start,
+					exception == null && rows == null ? Collections.emptyList() : rows));
+		}
+		sections.add(new Section<>(name, data, setter));
+	}
+
+	public String getLastSyncTime() {
+		return lastSyncTime;
+	}
+
+	public void setLastSyncTime(String lastSyncTime) {
+		this.lastSyncTime = lastSyncTime;
+	}
+
+	/**
+	 * @return future completed when all the sections are fetched
+	 */
+	public CompletableFuture<Void> allOf() {
+		return CompletableFuture
+				.allOf(sections.stream().map(section -> section.data).toArray(CompletableFuture[]::new));
+	}
+
+	/**
+	 * Function to get the sections as a {@link MasterDataResponseDto}, once all of
+	 * them are fetched
+	 *
+	 * @return {@link MasterDataResponseDto}
+	 */
+	public MasterDataResponseDto toResponse() {
+		MasterDataResponseDto response = new MasterDataResponseDto();
+		response.setLastSyncTime(lastSyncTime);
+		for (Section<?> section : sections) {
+			section.set(response);
+		}
+		return response;
+	}
+
+	/**
+	 * Function to write the sections as a {@link MasterDataResponseDto} JSON
+	 * object, flushing each section in the order they are fetched. A section is
+	 * released once written. The object is left open if a section fails, so that
+	 * the client does not take a partial response as complete.
+	 *
+	 * @param generator generator to write to
+	 * @throws IOException          if writing fails
+	 * @throws InterruptedException if interrupted while waiting for a section
+	 */
+	public void write(JsonGenerator generator) throws IOException, InterruptedException {
+		BlockingQueue<Section<?>> fetched = new LinkedBlockingQueue<>();
+		for (Section<?> section : sections) {
+			section.data.whenComplete((data, exception) -> fetched.add(section));
+		}
+		int remaining = sections.size();
+		sections.clear();
+
+		generator.writeStartObject();
+		generator.writeStringField("lastSyncTime", lastSyncTime);
+		generator.flush();
+		for (; remaining > 0; remaining--) {
+			Section<?> section = fetched.take();
+			List<?> data;
+			try {
+				data = section.data.join();
+			} catch (CompletionException exception) {
+				throw (RuntimeException) exception.getCause();
+			}
+			generator.writeFieldName(section.name);
+			generator.writeObject(data);
+			generator.flush();
+		}
+		generator.writeEndObject();
+	}
+
+	private static final class Section<T> {
+
+		private final String name;
+
+		private final CompletableFuture<List<T>> data;
+
+		private final BiConsumer<MasterDataResponseDto, List<T>> setter;
+
+		private Section(String name, CompletableFuture<List<T>> data,
+				BiConsumer<MasterDataResponseDto, List<T>> setter) {
+			this.name = name;
+			this.data = data;
+			this.setter = setter;
+		}
+
+		private void set(MasterDataResponseDto response) {
+			setter.accept(response, data.join());
+		}
+	}
+}
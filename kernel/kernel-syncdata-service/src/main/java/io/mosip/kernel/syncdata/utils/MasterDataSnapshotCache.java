@@ -0,0 +1,471 @@
+package io.mosip.kernel.syncdata.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.syncdata.dto.AppAuthenticationMethodDto;
+import io.mosip.kernel.syncdata.dto.AppDetailDto;
+import io.mosip.kernel.syncdata.dto.AppRolePriorityDto;
+import io.mosip.kernel.syncdata.dto.ApplicantValidDocumentDto;
+import io.mosip.kernel.syncdata.dto.ApplicationDto;
+import io.mosip.kernel.syncdata.dto.BiometricAttributeDto;
+import io.mosip.kernel.syncdata.dto.BiometricTypeDto;
+import io.mosip.kernel.syncdata.dto.BlacklistedWordsDto;
+import io.mosip.kernel.syncdata.dto.DeviceProviderDto;
+import io.mosip.kernel.syncdata.dto.DeviceServiceDto;
+import io.mosip.kernel.syncdata.dto.DeviceSubTypeDPMDto;
+import io.mosip.kernel.syncdata.dto.DeviceTypeDPMDto;
+import io.mosip.kernel.syncdata.dto.DocumentCategoryDto;
+import io.mosip.kernel.syncdata.dto.DocumentTypeDto;
+import io.mosip.kernel.syncdata.dto.FoundationalTrustProviderDto;
+import io.mosip.kernel.syncdata.dto.GenderDto;
+import io.mosip.kernel.syncdata.dto.IdTypeDto;
+import io.mosip.kernel.syncdata.dto.IndividualTypeDto;
+import io.mosip.kernel.syncdata.dto.LanguageDto;
+import io.mosip.kernel.syncdata.dto.LocationDto;
+import io.mosip.kernel.syncdata.dto.PostReasonCategoryDto;
+import io.mosip.kernel.syncdata.dto.ProcessListDto;
+import io.mosip.kernel.syncdata.dto.ReasonListDto;
+import io.mosip.kernel.syncdata.dto.ScreenAuthorizationDto;
+import io.mosip.kernel.syncdata.dto.ScreenDetailDto;
+import io.mosip.kernel.syncdata.dto.TemplateDto;
+import io.mosip.kernel.syncdata.dto.TemplateFileFormatDto;
+import io.mosip.kernel.syncdata.dto.TemplateTypeDto;
+import io.mosip.kernel.syncdata.dto.TitleDto;
+import io.mosip.kernel.syncdata.dto.ValidDocumentDto;
+import io.mosip.kernel.syncdata.entity.BaseEntity;
+import io.mosip.kernel.syncdata.entity.DeviceService;
+import io.mosip.kernel.syncdata.repository.AppAuthenticationMethodRepository;
+import io.mosip.kernel.syncdata.repository.AppDetailRepository;
+import io.mosip.kernel.syncdata.repository.AppRolePriorityRepository;
+import io.mosip.kernel.syncdata.repository.ApplicantValidDocumentRespository;
+import io.mosip.kernel.syncdata.repository.ApplicationRepository;
+import io.mosip.kernel.syncdata.repository.BiometricAttributeRepository;
+import io.mosip.kernel.syncdata.repository.BiometricTypeRepository;
+import io.mosip.kernel.syncdata.repository.BlacklistedWordsRepository;
+import io.mosip.kernel.syncdata.repository.DeviceProviderRepository;
+import io.mosip.kernel.syncdata.repository.DeviceServiceRepository;
+import io.mosip.kernel.syncdata.repository.DeviceSubTypeDPMRepository;
+import io.mosip.kernel.syncdata.repository.DeviceTypeDPMRepository;
+import io.mosip.kernel.syncdata.repository.DocumentCategoryRepository;
+import io.mosip.kernel.syncdata.repository.DocumentTypeRepository;
+import io.mosip.kernel.syncdata.repository.FoundationalTrustProviderRepository;
+import io.mosip.kernel.syncdata.repository.GenderRepository;
+import io.mosip.kernel.syncdata.repository.IdTypeRepository;
+import io.mosip.kernel.syncdata.repository.IndividualTypeRepository;
+import io.mosip.kernel.syncdata.repository.LanguageRepository;
+import io.mosip.kernel.syncdata.repository.LocationRepository;
+import io.mosip.kernel.syncdata.repository.ProcessListRepository;
+import io.mosip.kernel.syncdata.repository.ReasonCategoryRepository;
+import io.mosip.kernel.syncdata.repository.ReasonListRepository;
+import io.mosip.kernel.syncdata.repository.ScreenAuthorizationRepository;
+import io.mosip.kernel.syncdata.repository.ScreenDetailRepository;
+import io.mosip.kernel.syncdata.repository.TemplateFileFormatRepository;
+import io.mosip.kernel.syncdata.repository.TemplateRepository;
+import io.mosip.kernel.syncdata.repository.TemplateTypeRepository;
+import io.mosip.kernel.syncdata.repository.TitleRepository;
+import io.mosip.kernel.syncdata.repository.ValidDocumentRepository;
+
+/**
+ * In memory snapshot of the global master data, which is the same for every
+ * registration machine, so that a master data sync queries only the machine
+ * and center specific tables.
+ *
+ * <p>
+ * The snapshot holds every row of the global tables as of its watermark, the
+ * time it was loaded, with the created, updated and deleted times of the rows.
+ * The delta for a last sync time is made of the rows created, updated or
+ * deleted after it, same as the repository queries. A sync served from the
+ * snapshot returns the watermark as its last sync time, so that rows changed
+ * after the snapshot was loaded are sent by the next sync. The snapshot is
+ * reloaded by the first sync after the configured time to live or after
+ * {@link #invalidate()}, while concurrent syncs are served from the previous
+ * snapshot; a time to live of zero disables the snapshot. The hits, misses and
+ * loads are published as metrics and logged on each load.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Component
+public class MasterDataSnapshotCache {
+
+	private static final Logger LOGGER = LogManager.getLogger(MasterDataSnapshotCache.class);
+
+	private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+	@Value("${mosip.kernel.syncdata.masterdata-snapshot.ttl-seconds:300}")
+	private long ttlSeconds;
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ApplicationRepository applicationRepository;
+	@Autowired
+	private TemplateRepository templateRepository;
+	@Autowired
+	private TemplateFileFormatRepository templateFileFormatRepository;
+	@Autowired
+	private TemplateTypeRepository templateTypeRepository;
+	@Autowired
+	private ReasonCategoryRepository reasonCategoryRepository;
+	@Autowired
+	private ReasonListRepository reasonListRepository;
+	@Autowired
+	private BlacklistedWordsRepository blacklistedWordsRepository;
+	@Autowired
+	private BiometricTypeRepository biometricTypeRepository;
+	@Autowired
+	private BiometricAttributeRepository biometricAttributeRepository;
+	@Autowired
+	private TitleRepository titleRepository;
+	@Autowired
+	private LanguageRepository languageRepository;
+	@Autowired
+	private GenderRepository genderRepository;
+	@Autowired
+	private DocumentCategoryRepository documentCategoryRepository;
+	@Autowired
+	private DocumentTypeRepository documentTypeRepository;
+	@Autowired
+	private IdTypeRepository idTypeRepository;
+	@Autowired
+	private LocationRepository locationRepository;
+	@Autowired
+	private ValidDocumentRepository validDocumentRepository;
+	@Autowired
+	private ApplicantValidDocumentRespository applicantValidDocumentRepository;
+	@Autowired
+	private IndividualTypeRepository individualTypeRepository;
+	@Autowired
+	private AppAuthenticationMethodRepository appAuthenticationMethodRepository;
+	@Autowired
+	private AppDetailRepository appDetailRepository;
+	@Autowired
+	private AppRolePriorityRepository appRolePriorityRepository;
+	@Autowired
+	private ScreenAuthorizationRepository screenAuthorizationRepository;
+	@Autowired
+	private ProcessListRepository processListRepository;
+	@Autowired
+	private ScreenDetailRepository screenDetailRepository;
+	@Autowired
+	private DeviceProviderRepository deviceProviderRepository;
+	@Autowired
+	private DeviceServiceRepository deviceServiceRepository;
+	@Autowired
+	private FoundationalTrustProviderRepository foundationalTrustProviderRepository;
+	@Autowired
+	private DeviceTypeDPMRepository deviceTypeDPMRepository;
+	@Autowired
+	private DeviceSubTypeDPMRepository deviceSubTypeDPMRepository;
+
+	/**
+	 * Held by the sync loading the snapshot
+	 */
+	private final ReentrantLock loadLock = new ReentrantLock();
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Set by {@link #invalidate()} until the snapshot is reloaded
+	 */
+	private volatile boolean invalidated;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder loads = new LongAdder();
+
+	private final LongAdder loadFailures = new LongAdder();
+
+	@PostConstruct
+	public void registerMetrics() {
+		if (meterRegistry == null) {
+			return;
+		}
+		FunctionCounter.builder("syncdata.masterdata.snapshot.hits", this, MasterDataSnapshotCache::getHits)
+				.description("Syncs served from the master data snapshot").register(meterRegistry);
+		FunctionCounter.builder("syncdata.masterdata.snapshot.misses", this, MasterDataSnapshotCache::getMisses)
+				.description("Syncs querying the global master data while the snapshot is enabled")
+				.register(meterRegistry);
+		FunctionCounter.builder("syncdata.masterdata.snapshot.loads", this, MasterDataSnapshotCache::getLoads)
+				.description("Loads of the master data snapshot").register(meterRegistry);
+		FunctionCounter
+				.builder("syncdata.masterdata.snapshot.load.failures", this, MasterDataSnapshotCache::getLoadFailures)
+				.description("Failed loads of the master data snapshot").register(meterRegistry);
+	}
+
+	/**
+	 * Function to get the snapshot to serve a sync from, loading it if missing or
+	 * expired
+	 *
+	 * @param lastUpdated last sync time of the machine, null for a full sync
+	 * @return the snapshot, null if the global master data has to be queried
+	 */
+	public Snapshot get(LocalDateTime lastUpdated) {
+		if (ttlSeconds <= 0) {
+			return null;
+		}
+		Snapshot current = snapshot;
+		if (current == null || invalidated
+				|| System.nanoTime() - current.loadedAt >= TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+			current = reload(current);
+		}
+		// a machine synced after the watermark, by another instance, is ahead of it
+		if (current == null || (lastUpdated != null && lastUpdated.isAfter(current.watermark))) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return current;
+	}
+
+	/**
+	 * Function to have the snapshot reloaded by the next sync, called when global
+	 * master data is changed
+	 */
+	public void invalidate() {
+		invalidated = true;
+	}
+
+	private Snapshot reload(Snapshot current) {
+		if (current == null) {
+			loadLock.lock();
+		} else if (!loadLock.tryLock()) {
+			// served until the reload completes, the watermark keeps it consistent
+			return current;
+		}
+		try {
+			if (snapshot != current) {
+				return snapshot;
+			}
+			invalidated = false;
+			long start = System.nanoTime();
+			snapshot = load();
+			loads.increment();
+			LOGGER.info("Loaded master data snapshot in {} ms, {}",
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), this);
+			return snapshot;
+		} catch (RuntimeException exception) {
+			loadFailures.increment();
+			LOGGER.error("Failed to load master data snapshot", exception);
+			return current;
+		} finally {
+			loadLock.unlock();
+		}
+	}
+
+	private Snapshot load() {
+		LocalDateTime watermark = LocalDateTime.now(ZoneOffset.UTC);
+		Snapshot loaded = new Snapshot(watermark, System.nanoTime());
+		loaded.put(ApplicationDto.class, applicationRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(TemplateDto.class, templateRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(TemplateFileFormatDto.class,
+				templateFileFormatRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark), false);
+		loaded.put(TemplateTypeDto.class, templateTypeRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(PostReasonCategoryDto.class,
+				reasonCategoryRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(ReasonListDto.class, reasonListRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(BlacklistedWordsDto.class,
+				blacklistedWordsRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(BiometricTypeDto.class, biometricTypeRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(BiometricAttributeDto.class,
+				biometricAttributeRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(TitleDto.class, titleRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(LanguageDto.class, languageRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(GenderDto.class, genderRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(DocumentCategoryDto.class,
+				documentCategoryRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(DocumentTypeDto.class, documentTypeRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(IdTypeDto.class, idTypeRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(LocationDto.class, locationRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(ValidDocumentDto.class, validDocumentRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(ApplicantValidDocumentDto.class,
+				applicantValidDocumentRepository.findAllByTimeStamp(EPOCH, watermark));
+		loaded.put(IndividualTypeDto.class,
+				individualTypeRepository.findAllIndvidualTypeByTimeStamp(EPOCH, watermark));
+		loaded.put(AppAuthenticationMethodDto.class,
+				appAuthenticationMethodRepository.findByLastUpdatedAndCurrentTimeStamp(EPOCH, watermark));
+		loaded.put(AppDetailDto.class, appDetailRepository.findByLastUpdatedTimeAndCurrentTimeStamp(EPOCH, watermark));
+		loaded.put(AppRolePriorityDto.class,
+				appRolePriorityRepository.findByLastUpdatedAndCurrentTimeStamp(EPOCH, watermark));
+		loaded.put(ScreenAuthorizationDto.class,
+				screenAuthorizationRepository.findByLastUpdatedAndCurrentTimeStamp(EPOCH, watermark));
+		loaded.put(ProcessListDto.class,
+				processListRepository.findByLastUpdatedTimeAndCurrentTimeStamp(EPOCH, watermark));
+		loaded.put(ScreenDetailDto.class, screenDetailRepository.findByLastUpdatedAndCurrentTimeStamp(EPOCH, watermark));
+		loaded.put(DeviceProviderDto.class,
+				deviceProviderRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(DeviceServiceDto.class, deviceServiceRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark),
+				MasterDataSnapshotCache::toDeviceServiceDto, false);
+		loaded.put(FoundationalTrustProviderDto.class,
+				foundationalTrustProviderRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(DeviceTypeDPMDto.class, deviceTypeDPMRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		loaded.put(DeviceSubTypeDPMDto.class,
+				deviceSubTypeDPMRepository.findAllLatestCreatedUpdateDeleted(EPOCH, watermark));
+		return loaded;
+	}
+
+	/**
+	 * Same mapping as {@link SyncMasterDataServiceHelper#getDeviceServiceDetails}
+	 */
+	private static DeviceServiceDto toDeviceServiceDto(DeviceService deviceService) {
+		DeviceServiceDto deviceServiceDto = new DeviceServiceDto();
+		deviceServiceDto.setSwBinaryHash(CryptoUtil.encodeBase64(deviceService.getSwBinaryHash()));
+		MapperUtils.map(deviceService, deviceServiceDto);
+		return deviceServiceDto;
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getLoads() {
+		return loads.sum();
+	}
+
+	public long getLoadFailures() {
+		return loadFailures.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + ", misses=" + getMisses() + ", loads=" + getLoads() + ", loadFailures="
+				+ getLoadFailures();
+	}
+
+	/**
+	 * Global master data as of a watermark
+	 */
+	public static final class Snapshot {
+
+		private final LocalDateTime watermark;
+
+		private final long loadedAt;
+
+		private final Map<Class<?>, GlobalSet<?>> sets = new HashMap<>();
+
+		private Snapshot(LocalDateTime watermark, long loadedAt) {
+			this.watermark = watermark;
+			this.loadedAt = loadedAt;
+		}
+
+		/**
+		 * @return time up to which the snapshot holds the changes of the global
+		 *         master data, to be returned as last sync time
+		 */
+		public LocalDateTime getWatermark() {
+			return watermark;
+		}
+
+		/**
+		 * Function to get the rows of a global table created, updated or deleted
+		 * after the last sync time. The rows are shared by syncs and must not be
+		 * modified.
+		 *
+		 * @param dtoClass    dto of the table
+		 * @param lastUpdated last sync time, null for all rows
+		 * @return the rows, null or empty as returned by
+		 *         {@link SyncMasterDataServiceHelper} if none
+		 */
+		@SuppressWarnings("unchecked")
+		public <D> List<D> getDelta(Class<D> dtoClass, LocalDateTime lastUpdated) {
+			GlobalSet<D> set = (GlobalSet<D>) sets.get(dtoClass);
+			LocalDateTime since = lastUpdated == null ? EPOCH : lastUpdated;
+			List<D> delta = new ArrayList<>();
+			for (GlobalRow<D> row : set.rows) {
+				if (row.isChangedAfter(since)) {
+					delta.add(row.dto);
+				}
+			}
+			return delta.isEmpty() && set.nullIfEmpty ? null : delta;
+		}
+
+		private <E extends BaseEntity, D> void put(Class<D> dtoClass, List<E> entities) {
+			put(dtoClass, entities, entity -> MapperUtils.map(entity, dtoClass), true);
+		}
+
+		private <E extends BaseEntity, D> void put(Class<D> dtoClass, List<E> entities, boolean nullIfEmpty) {
+			put(dtoClass, entities, entity -> MapperUtils.map(entity, dtoClass), nullIfEmpty);
+		}
+
+		private <E extends BaseEntity, D> void put(Class<D> dtoClass, List<E> entities, Function<E, D> mapper,
+				boolean nullIfEmpty) {
+			List<GlobalRow<D>> rows = new ArrayList<>(entities.size());
+			for (E entity : entities) {
+				rows.add(new GlobalRow<>(mapper.apply(entity), entity));
+			}
+			sets.put(dtoClass, new GlobalSet<>(rows, nullIfEmpty));
+		}
+	}
+
+	private static final class GlobalSet<D> {
+
+		private final List<GlobalRow<D>> rows;
+
+		/**
+		 * Whether an empty delta is returned as null, same as the helper
+		 */
+		private final boolean nullIfEmpty;
+
+		private GlobalSet(List<GlobalRow<D>> rows, boolean nullIfEmpty) {
+			this.rows = rows;
+			this.nullIfEmpty = nullIfEmpty;
+		}
+	}
+
+	private static final class GlobalRow<D> {
+
+		private final D dto;
+
+		private final LocalDateTime createdDateTime;
+
+		private final LocalDateTime updatedDateTime;
+
+		private final LocalDateTime deletedDateTime;
+
+		private GlobalRow(D dto, BaseEntity entity) {
+			this.dto = dto;
+			this.createdDateTime = entity.getCreatedDateTime();
+			this.updatedDateTime = entity.getUpdatedDateTime();
+			this.deletedDateTime = entity.getDeletedDateTime();
+		}
+
+		private boolean isChangedAfter(LocalDateTime lastUpdated) {
+			return isAfter(createdDateTime, lastUpdated) || isAfter(updatedDateTime, lastUpdated)
+					|| isAfter(deletedDateTime, lastUpdated);
+		}
+
+		private static boolean isAfter(LocalDateTime dateTime, LocalDateTime lastUpdated) {
+			return dateTime != null && dateTime.isAfter(lastUpdated);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package io.mosip.kernel.syncdata.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
+import io.mosip.kernel.syncdata.exception.SyncBusyException;
+
+/**
+ * Caps the master data syncs fetching data at the same time, for the service
+ * instance and for each machine, so that a burst of syncs is rejected instead
+ * of queueing its queries behind the sync executor.
+ *
+ * <p>
+ * A sync holds a permit from the time its machine is resolved until all its
+ * sections are fetched. A sync that cannot get a permit is rejected with a
+ * {@link SyncBusyException}, answered with HTTP 503 and a Retry-After header.
+ * A limit of zero disables it.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Component
+public class SyncExecutionLimiter {
+
+	@Value("${mosip.kernel.syncdata.max-concurrent-syncs:20}")
+	private int maxConcurrentSyncs = 20;
+
+	@Value("${mosip.kernel.syncdata.max-concurrent-syncs-per-machine:1}")
+	private int maxConcurrentSyncsPerMachine = 1;
+
+	private Semaphore permits;
+
+	private final ConcurrentMap<String, Integer> machines = new ConcurrentHashMap<>();
+
+	private final LongAdder admitted = new LongAdder();
+
+	private final LongAdder rejected = new LongAdder();
+
+	@PostConstruct
+	public void init() {
+		permits = maxConcurrentSyncs > 0 ? new Semaphore(maxConcurrentSyncs) : null;
+	}
+
+	/**
+	 * Function to get a permit to sync for a machine
+	 *
+	 * @param machineId the machine id
+	 * @return permit to release once the sync data is fetched, which may be
+	 *         released more than once
+	 * @throws SyncBusyException if the instance or the machine is running as many
+	 *                           syncs as allowed
+	 */
+	public Runnable acquire(String machineId) {
+		if (permits != null && !permits.tryAcquire()) {
+			throw busy();
+		}
+		if (maxConcurrentSyncsPerMachine > 0 && !acquireMachine(machineId)) {
+			if (permits != null) {
+				permits.release();
+			}
+			throw busy();
+		}
+		admitted.increment();
+		AtomicBoolean released = new AtomicBoolean();
+		return () -> {
+			if (released.compareAndSet(false, true)) {
+				if (maxConcurrentSyncsPerMachine > 0) {
+					machines.computeIfPresent(machineId, (id, count) -> count == 1 ? null : count - 1);
+				}
+				if (permits != null) {
+					permits.release();
+				}
+			}
+		};
+	}
+
+	private boolean acquireMachine(String machineId) {
+		AtomicBoolean acquired = new AtomicBoolean();
+		machines.compute(machineId, (id, count) -> {
+			int current = count == null ? 0 : count;
+			if (current >= maxConcurrentSyncsPerMachine) {
+				return count;
+			}
+			acquired.set(true);
+			return current + 1;
+		});
+		return acquired.get();
+	}
+
+	private SyncBusyException busy() {
+		rejected.increment();
+		return new SyncBusyException(MasterDataErrorCode.SYNC_BUSY.getErrorCode(),
+				MasterDataErrorCode.SYNC_BUSY.getErrorMessage());
+	}
+
+	/**
+	 * @return syncs running for the instance
+	 */
+	public int getActive() {
+		return permits == null ? 0 : maxConcurrentSyncs - permits.availablePermits();
+	}
+
+	public long getAdmitted() {
+		return admitted.sum();
+	}
+
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "SyncExecutionLimiter [active=" + getActive() + ", admitted=" + getAdmitted() + ", rejected="
+				+ getRejected() + "]";
+	}
+}
@@ -0,0 +1,181 @@
+package io.mosip.kernel.syncdata.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency and row count of the queries run by master data syncs, by
+ * {@link MasterDataSections} section, and time the queries wait in the sync
+ * executor queue.
+ *
+ * <p>
+ * The latency of a section is measured from the time its query is submitted to
+ * the time it completes, so it includes the queue wait. Latencies are counted
+ * in fixed millisecond buckets; a query slower than the configured threshold is
+ * logged with its section and row count.
+ * </p>
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Component
+public class SyncQueryMetrics {
+
+	private static final Logger LOGGER = LogManager.getLogger(SyncQueryMetrics.class);
+
+	/**
+	 * Upper bounds in milliseconds of the latency buckets, the last bucket counts
+	 * the slower ones
+	 */
+	private static final long[] BUCKETS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+	@Value("${mosip.kernel.syncdata.slow-query-threshold-ms:2000}")
+	private long slowQueryThresholdMs = 2000;
+
+	private final ConcurrentMap<String, Stats> sections = new ConcurrentHashMap<>();
+
+	private final Stats queueWait = new Stats();
+
+	/**
+	 * Function to record a section query
+	 *
+	 * @param section     section name
+	 * @param elapsedNano time from submission to completion
+	 * @param rows        rows fetched, null if the query failed
+	 */
+	public void record(String section, long elapsedNano, List<?> rows) {
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNano);
+		Stats stats = sections.computeIfAbsent(section, name -> new Stats());
+		stats.record(elapsedMs);
+		if (rows == null) {
+			stats.failures.increment();
+		} else {
+			stats.rows.add(rows.size());
+			stats.maxRows.accumulate(rows.size());
+		}
+		if (slowQueryThresholdMs > 0 && elapsedMs >= slowQueryThresholdMs) {
+			LOGGER.warn("Slow sync query for {}: {} ms, {}", section, elapsedMs,
+					rows == null ? "failed" : rows.size() + " rows");
+		}
+	}
+
+	/**
+	 * Function to record the time a task waited in the sync executor queue
+	 *
+	 * @param waitNano time from submission to start
+	 */
+	public void recordQueueWait(long waitNano) {
+		queueWait.record(TimeUnit.NANOSECONDS.toMillis(waitNano));
+	}
+
+	/**
+	 * @return statistics by section name
+	 */
+	public Map<String, Stats> getSections() {
+		return new TreeMap<>(sections);
+	}
+
+	/**
+	 * @return statistics of the executor queue wait
+	 */
+	public Stats getQueueWait() {
+		return queueWait;
+	}
+
+	@Override
+	public String toString() {
+		return "SyncQueryMetrics [queueWait=" + queueWait + ", sections=" + getSections() + "]";
+	}
+
+	/**
+	 * Latency histogram and row counts of a query
+	 */
+	public static final class Stats {
+
+		private final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder totalMs = new LongAdder();
+
+		private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+
+		private final LongAdder failures = new LongAdder();
+
+		private final LongAdder rows = new LongAdder();
+
+		private final LongAccumulator maxRows = new LongAccumulator(Math::max, 0);
+
+		private Stats() {
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(long elapsedMs) {
+			int bucket = 0;
+			while (bucket < BUCKETS.length && elapsedMs > BUCKETS[bucket]) {
+				bucket++;
+			}
+			buckets[bucket].increment();
+			count.increment();
+			totalMs.add(elapsedMs);
+			maxMs.accumulate(elapsedMs);
+		}
+
+		/**
+		 * @return count of queries by latency bucket upper bound in milliseconds,
+		 *         {@link Long#MAX_VALUE} for the slowest bucket
+		 */
+		public Map<Long, Long> getHistogram() {
+			Map<Long, Long> histogram = new TreeMap<>();
+			for (int i = 0; i < buckets.length; i++) {
+				histogram.put(i < BUCKETS.length ? BUCKETS[i] : Long.MAX_VALUE, buckets[i].sum());
+			}
+			return histogram;
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getTotalMs() {
+			return totalMs.sum();
+		}
+
+		public long getMaxMs() {
+			return maxMs.get();
+		}
+
+		public long getFailures() {
+			return failures.sum();
+		}
+
+		public long getRows() {
+			return rows.sum();
+		}
+
+		public long getMaxRows() {
+			return maxRows.get();
+		}
+
+		@Override
+		public String toString() {
+			return "Stats [count=" + getCount() + ", totalMs=" + getTotalMs() + ", maxMs=" + getMaxMs()
+					+ ", failures=" + getFailures() + ", rows=" + getRows() + ", maxRows=" + getMaxRows()
+					+ ", histogram=" + getHistogram() + "]";
+		}
+	}
+}
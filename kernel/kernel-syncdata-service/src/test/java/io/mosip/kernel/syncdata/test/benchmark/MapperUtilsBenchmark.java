@@ -0,0 +1,194 @@
+package io.mosip.kernel.syncdata.test.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.mosip.kernel.syncdata.dto.BaseDto;
+import io.mosip.kernel.syncdata.dto.HolidayDto;
+import io.mosip.kernel.syncdata.dto.LocationDto;
+import io.mosip.kernel.syncdata.entity.BaseEntity;
+import io.mosip.kernel.syncdata.entity.Holiday;
+import io.mosip.kernel.syncdata.entity.Location;
+import io.mosip.kernel.syncdata.entity.id.HolidayID;
+import io.mosip.kernel.syncdata.utils.MapperUtils;
+
+/**
+ * Measures {@link MapperUtils#mapAll} of 100k {@link Location} and
+ * {@link Holiday} entities to DTOs against the reflective mapping done before
+ * field mappings were cached, which looks up and matches the declared fields
+ * for every object. Run with the main method from the test classpath.
+ *
+ * @author Abhishek Kumar
+ * @since 1.0.8
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperUtilsBenchmark {
+
+	private static final int SIZE = 100_000;
+
+	private List<Location> locations;
+
+	private List<Holiday> holidays;
+
+	@Setup
+	public void setup() {
+		LocalDateTime now = LocalDateTime.now();
+		locations = new ArrayList<>(SIZE);
+		holidays = new ArrayList<>(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			Location location = new Location();
+			location.setCode("LOC" + i);
+			location.setName("location " + i);
+			location.setHierarchyLevel(i % 5);
+			location.setHierarchyName("City");
+			location.setParentLocCode("LOC" + (i / 10));
+			location.setLangCode("eng");
+			location.setIsActive(true);
+			location.setCreatedDateTime(now);
+			locations.add(location);
+
+			Holiday holiday = new Holiday();
+			holiday.setId(i);
+			holiday.setHolidayId(new HolidayID("LOC" + i, LocalDate.of(2019, 1, 1).plusDays(i % 365), "eng",
+					"holiday " + i));
+			holiday.setHolidayDesc("holiday " + i);
+			holiday.setIsActive(true);
+			holiday.setCreatedDateTime(now);
+			holidays.add(holiday);
+		}
+	}
+
+	@Benchmark
+	public List<LocationDto> mapLocations() {
+		return MapperUtils.mapAll(locations, LocationDto.class);
+	}
+
+	@Benchmark
+	public List<LocationDto> mapLocationsReflective() {
+		return ReflectiveMapper.mapAll(locations, LocationDto.class);
+	}
+
+	@Benchmark
+	public List<HolidayDto> mapHolidays() {
+		return MapperUtils.mapAll(holidays, HolidayDto.class);
+	}
+
+	@Benchmark
+	public List<HolidayDto> mapHolidaysReflective() {
+		return ReflectiveMapper.mapAll(holidays, HolidayDto.class);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(MapperUtilsBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * Entity to DTO mapping of {@link MapperUtils} before field mappings were
+	 * cached
+	 */
+	private static final class ReflectiveMapper {
+
+		private static <S, D> List<D> mapAll(List<S> sourceList, Class<D> destinationClass) {
+			return sourceList.stream().map(source -> map(source, destinationClass)).collect(Collectors.toList());
+		}
+
+		private static <S, D> D map(S source, Class<D> destinationClass) {
+			try {
+				D destination = destinationClass.newInstance();
+				mapFieldValues(source, destination);
+				if (source.getClass().isAnnotationPresent(Entity.class)) {
+					mapEntityToDto(source, destination);
+				}
+				return destination;
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static void mapFieldValues(Object source, Object destination) throws IllegalAccessException {
+			mapFieldValues(source, destination, source.getClass().getDeclaredFields(),
+					destination.getClass().getDeclaredFields());
+		}
+
+		private static void mapEntityToDto(Object source, Object destination) throws IllegalAccessException {
+			boolean isIdMapped = false;
+			boolean isSuperMapped = false;
+			for (Field sfield : source.getClass().getDeclaredFields()) {
+				sfield.setAccessible(true);
+				if (!isIdMapped && sfield.isAnnotationPresent(EmbeddedId.class)) {
+					mapFieldValues(sfield.get(source), destination);
+					sfield.setAccessible(false);
+					isIdMapped = true;
+				} else if (!isSuperMapped) {
+					setBaseFieldValue(source, destination);
+					isSuperMapped = true;
+				}
+			}
+		}
+
+		private static void setBaseFieldValue(Object source, Object destination) throws IllegalAccessException {
+			String sourceSupername = source.getClass().getSuperclass().getName();
+			String destinationSupername = destination.getClass().getSuperclass().getName();
+			if (sourceSupername.equals(BaseEntity.class.getName())
+					&& destinationSupername.equals(BaseDto.class.getName())) {
+				Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
+				mapFieldValues(source, destination, source.getClass().getSuperclass().getDeclaredFields(),
+						destinationFields);
+				mapFieldValues(source, destination, source.getClass().getDeclaredFields(), destinationFields);
+			} else if (sourceSupername.equals(BaseEntity.class.getName())) {
+				mapFieldValues(source, destination, source.getClass().getSuperclass().getDeclaredFields(),
+						destination.getClass().getDeclaredFields());
+			}
+		}
+
+		private static void mapFieldValues(Object source, Object destination, Field[] sourceFields,
+				Field[] destinationFields) throws IllegalAccessException {
+			for (Field sfield : sourceFields) {
+				if (Modifier.isStatic(sfield.getModifiers()) || Modifier.isFinal(sfield.getModifiers())) {
+					continue;
+				}
+				sfield.setAccessible(true);
+				for (Field dfield : destinationFields) {
+					if (sfield.getName().equals(dfield.getName()) && sfield.getType().equals(dfield.getType())) {
+						dfield.setAccessible(true);
+						dfield.set(destination, sfield.get(source));
+						dfield.setAccessible(false);
+						sfield.setAccessible(false);
+						break;
+					}
+				}
+			}
+		}
+	}
+}
@@ -1,13 +1,20 @@
 package io.mosip.kernel.syncdata.test.controller;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +27,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.signatureutil.model.SignatureResponse;
 import io.mosip.kernel.core.signatureutil.spi.SignatureUtil;
@@ -40,6 +51,7 @@ import io.mosip.kernel.syncdata.service.SyncMasterDataService;
 import io.mosip.kernel.syncdata.service.SyncRolesService;
 import io.mosip.kernel.syncdata.service.SyncUserDetailsService;
 import io.mosip.kernel.syncdata.test.TestBootApplication;
+import io.mosip.kernel.syncdata.utils.MasterDataSections;
 import net.minidev.json.JSONObject;
 
 @SpringBootTest(classes = TestBootApplication.class)
@@ -50,6 +62,9 @@ public class SyncDataControllerTest {
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	@MockBean
 	private SyncMasterDataService masterDataService;
 
@@ -143,6 +158,43 @@ public class SyncDataControllerTest {
 		List<MachineTypeDto> machineTypes = new ArrayList<>();
 		machineTypes.add(new MachineTypeDto("1", "ENG", "Laptop"));
 		masterDataResponseDto.setMachineType(machineTypes);
+		masterDataResponseDto.setLastSyncTime("2019-09-09T09:09:09.000Z");
+	}
+
+	private MasterDataSections masterDataSections() {
+		MasterDataSections sections = new MasterDataSections();
+		sections.setLastSyncTime(masterDataResponseDto.getLastSyncTime());
+		sections.add("machineDetails", CompletableFuture.completedFuture(masterDataResponseDto.getMachineDetails()),
+				MasterDataResponseDto::setMachineDetails);
+		sections.add("applications", CompletableFuture.completedFuture(masterDataResponseDto.getApplications()),
+				MasterDataResponseDto::setApplications);
+		sections.add("machineSpecification",
+				CompletableFuture.completedFuture(masterDataResponseDto.getMachineSpecification()),
+				MasterDataResponseDto::setMachineSpecification);
+		sections.add("machineType", CompletableFuture.completedFuture(masterDataResponseDto.getMachineType()),
+				MasterDataResponseDto::setMachineType);
+		sections.add("holidays", CompletableFuture.completedFuture(masterDataResponseDto.getHolidays()),
+				MasterDataResponseDto::setHolidays);
+		return sections;
+	}
+
+	private void assertSameMasterData(MvcResult result, MvcResult streamResult) throws Exception {
+		JsonNode expected = objectMapper.readTree(result.getResponse().getContentAsString());
+		JsonNode streamed = objectMapper.readTree(
+				new GZIPInputStream(new ByteArrayInputStream(streamResult.getResponse().getContentAsByteArray())));
+		assertEquals("gzip", streamResult.getResponse().getHeader("Content-Encoding"));
+		assertEquals(fieldNames(expected), fieldNames(streamed));
+		for (String field : Arrays.asList("id", "version", "metadata", "errors")) {
+			assertEquals(field, expected.get(field), streamed.get(field));
+		}
+		assertEquals(objectMapper.treeToValue(expected.get("response"), MasterDataResponseDto.class),
+				objectMapper.treeToValue(streamed.get("response"), MasterDataResponseDto.class));
+	}
+
+	private static List<String> fieldNames(JsonNode node) {
+		List<String> fieldNames = new ArrayList<>();
+		node.fieldNames().forEachRemaining(fieldNames::add);
+		return fieldNames;
 	}
 
 	/*
@@ -243,4 +295,47 @@ public class SyncDataControllerTest {
 		Mockito.when(syncRolesService.getAllRoles()).thenReturn(rolesResponseDto);
 		mockMvc.perform(get("/roles")).andExpect(status().isOk());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@WithUserDetails(value = "reg-admin")
+	public void invalidateMasterDataSnapshot() throws Exception {
+		when(signingUtil.sign(Mockito.anyString(), Mockito.anyString())).thenReturn(signResponse);
+		mockMvc.perform(delete("/masterdata/snapshot")).andExpect(status().isOk());
+		verify(masterDataService).invalidateMasterDataSnapshot();
+	}
+
+	// -----------------------stream masterdata-------------------------------//
+
+	@Test
+	@WithUserDetails(value = "reg-officer")
+	public void streamMasterData() throws Exception {
+		when(signingUtil.sign(Mockito.anyString(), Mockito.anyString())).thenReturn(signResponse);
+		when(masterDataService.syncData(Mockito.isNull(), Mockito.anyString(), Mockito.isNull(), Mockito.any(),
+				Mockito.any(), Mockito.anyString())).thenReturn(masterDataResponseDto);
+		when(masterDataService.syncDataSections(Mockito.isNull(), Mockito.anyString(), Mockito.isNull(),
+				Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(masterDataSections());
+		MvcResult result = mockMvc.perform(get("/masterdata").param("macaddress", "36-7D-D4-F3-E3-A6")
+				.param("keyindex", "keyIndex")).andExpect(status().isOk()).andReturn();
+		MvcResult streamResult = mockMvc.perform(get("/masterdata").param("macaddress", "36-7D-D4-F3-E3-A6")
+				.param("keyindex", "keyIndex").param("stream", "true")).andExpect(status().isOk()).andReturn();
+		assertSameMasterData(result, streamResult);
+	}
+
+	@Test
+	@WithUserDetails(value = "reg-officer")
+	public void streamMasterDataWithRegCenterId() throws Exception {
+		when(signingUtil.sign(Mockito.anyString(), Mockito.anyString())).thenReturn(signResponse);
+		when(masterDataService.syncData(Mockito.eq("10001"), Mockito.anyString(), Mockito.isNull(), Mockito.any(),
+				Mockito.any(), Mockito.anyString())).thenReturn(masterDataResponseDto);
+		when(masterDataService.syncDataSections(Mockito.eq("10001"), Mockito.anyString(), Mockito.isNull(),
+				Mockito.any(), Mockito.any(), Mockito.anyString())).thenReturn(masterDataSections());
+		MvcResult result = mockMvc.perform(get("/masterdata/{regcenterId}", "10001")
+				.param("macaddress", "36-7D-D4-F3-E3-A6").param("keyindex", "keyIndex")).andExpect(status().isOk())
+				.andReturn();
+		MvcResult streamResult = mockMvc
+				.perform(get("/masterdata/{regcenterId}", "10001").param("macaddress", "36-7D-D4-F3-E3-A6")
+						.param("keyindex", "keyIndex").param("stream", "true"))
+				.andExpect(status().isOk()).andReturn();
+		assertSameMasterData(result, streamResult);
+	}
+}
@@ -0,0 +1,84 @@
+package io.mosip.kernel.syncdata.test.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.syncdata.constant.MasterDataErrorCode;
+import io.mosip.kernel.syncdata.dto.ApplicationDto;
+import io.mosip.kernel.syncdata.dto.MachineDto;
+import io.mosip.kernel.syncdata.exception.SyncBusyException;
+import io.mosip.kernel.syncdata.repository.RegistrationCenterMachineRepository;
+import io.mosip.kernel.syncdata.service.impl.SyncMasterDataServiceImpl;
+import io.mosip.kernel.syncdata.utils.MasterDataSnapshotCache;
+import io.mosip.kernel.syncdata.utils.SyncExecutionLimiter;
+import io.mosip.kernel.syncdata.utils.SyncMasterDataServiceHelper;
+
+public class SyncDataSectionsPermitTest {
+
+	private final SyncMasterDataServiceHelper serviceHelper = mock(SyncMasterDataServiceHelper.class);
+
+	private SyncExecutionLimiter limiter;
+
+	private SyncMasterDataServiceImpl service;
+
+	@Before
+	public void setUp() {
+		limiter = new SyncExecutionLimiter();
+		ReflectionTestUtils.setField(limiter, "maxConcurrentSyncs", 2);
+		ReflectionTestUtils.setField(limiter, "maxConcurrentSyncsPerMachine", 1);
+		limiter.init();
+		RegistrationCenterMachineRepository machineRepository = mock(RegistrationCenterMachineRepository.class);
+		when(machineRepository.getRegistrationCenterMachineWithKeyIndex("keyIndex"))
+				.thenReturn(Collections.singletonList(new Object[] { "10001", "10002" }));
+		service = new SyncMasterDataServiceImpl();
+		ReflectionTestUtils.setField(service, "serviceHelper", serviceHelper);
+		ReflectionTestUtils.setField(service, "registrationCenterMachineRepository", machineRepository);
+		ReflectionTestUtils.setField(service, "snapshotCache", mock(MasterDataSnapshotCache.class));
+		ReflectionTestUtils.setField(service, "syncExecutionLimiter", limiter);
+	}
+
+	@Test
+	public void rejectedSyncHoldsPermitUntilSubmittedSectionsEndTest() {
+		CompletableFuture<List<MachineDto>> machines = new CompletableFuture<>();
+		when(serviceHelper.getMachines(eq("10001"), any(), any())).thenReturn(machines);
+		when(serviceHelper.getApplications(any(), any()))
+				.thenReturn(CompletableFuture.completedFuture(Collections.<ApplicationDto>emptyList()));
+		when(serviceHelper.getRegistrationCenterType(eq("10002"), any(), any()))
+				.thenThrow(new TaskRejectedException("sync executor full"));
+		try {
+			service.syncDataSections(null, null, null, null, LocalDateTime.now(), "keyIndex");
+			fail();
+		} catch (SyncBusyException e) {
+			assertEquals(MasterDataErrorCode.SYNC_BUSY.getErrorCode(), e.getErrorCode());
+		}
+		assertEquals(1, limiter.getActive());
+		machines.complete(Collections.emptyList());
+		assertEquals(0, limiter.getActive());
+	}
+
+	@Test
+	public void rejectedFirstSectionReleasesPermitTest() {
+		when(serviceHelper.getMachines(eq("10001"), any(), any()))
+				.thenThrow(new TaskRejectedException("sync executor full"));
+		try {
+			service.syncDataSections(null, null, null, null, LocalDateTime.now(), "keyIndex");
+			fail();
+		} catch (SyncBusyException e) {
+			assertEquals(0, limiter.getActive());
+		}
+	}
+}
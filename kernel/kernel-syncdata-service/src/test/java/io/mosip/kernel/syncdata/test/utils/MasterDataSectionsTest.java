@@ -0,0 +1,78 @@
+package io.mosip.kernel.syncdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.syncdata.dto.LanguageDto;
+import io.mosip.kernel.syncdata.dto.TitleDto;
+import io.mosip.kernel.syncdata.dto.response.MasterDataResponseDto;
+import io.mosip.kernel.syncdata.exception.SyncDataServiceException;
+import io.mosip.kernel.syncdata.utils.MasterDataSections;
+
+public class MasterDataSectionsTest {
+
+	private ObjectMapper objectMapper;
+
+	private MasterDataSections sections;
+
+	private CompletableFuture<List<TitleDto>> titles;
+
+	@Before
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		LanguageDto language = new LanguageDto();
+		language.setCode("eng");
+		titles = new CompletableFuture<>();
+		sections = new MasterDataSections();
+		sections.setLastSyncTime("2019-09-09T09:09:09.000Z");
+		sections.add("titles", titles, MasterDataResponseDto::setTitles);
+		sections.add("languages", CompletableFuture.completedFuture(Arrays.asList(language)),
+				MasterDataResponseDto::setLanguages);
+		sections.add("holidays", CompletableFuture.completedFuture(null), MasterDataResponseDto::setHolidays);
+	}
+
+	@Test
+	public void toResponseTest() {
+		titles.complete(Collections.emptyList());
+		MasterDataResponseDto response = sections.toResponse();
+		assertEquals("2019-09-09T09:09:09.000Z", response.getLastSyncTime());
+		assertEquals("eng", response.getLanguages().get(0).getCode());
+		assertTrue(response.getTitles().isEmpty());
+	}
+
+	@Test
+	public void writeTest() throws Exception {
+		new Thread(() -> titles.complete(Collections.emptyList())).start();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+		sections.write(generator);
+		generator.close();
+
+		String json = output.toString("UTF-8");
+		MasterDataResponseDto response = objectMapper.readValue(json, MasterDataResponseDto.class);
+		assertEquals("2019-09-09T09:09:09.000Z", response.getLastSyncTime());
+		assertEquals("eng", response.getLanguages().get(0).getCode());
+		assertTrue(response.getTitles().isEmpty());
+		assertNull(response.getHolidays());
+	}
+
+	@Test(expected = SyncDataServiceException.class)
+	public void writeFailureTest() throws Exception {
+		titles.completeExceptionally(new SyncDataServiceException("KER-SNC-100", "error"));
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(new ByteArrayOutputStream());
+		sections.write(generator);
+	}
+}
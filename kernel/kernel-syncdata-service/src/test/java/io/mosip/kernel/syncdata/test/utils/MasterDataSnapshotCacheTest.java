@@ -0,0 +1,119 @@
+package io.mosip.kernel.syncdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.mosip.kernel.syncdata.dto.LanguageDto;
+import io.mosip.kernel.syncdata.dto.TitleDto;
+import io.mosip.kernel.syncdata.entity.Language;
+import io.mosip.kernel.syncdata.repository.LanguageRepository;
+import io.mosip.kernel.syncdata.utils.MasterDataSnapshotCache;
+
+public class MasterDataSnapshotCacheTest {
+
+	private MasterDataSnapshotCache snapshotCache;
+
+	private LanguageRepository languageRepository;
+
+	private LocalDateTime lastSync;
+
+	@Before
+	public void setUp() {
+		snapshotCache = new MasterDataSnapshotCache();
+		for (Field field : MasterDataSnapshotCache.class.getDeclaredFields()) {
+			if (JpaRepository.class.isAssignableFrom(field.getType())) {
+				ReflectionTestUtils.setField(snapshotCache, field.getName(), mock(field.getType()));
+			}
+		}
+		ReflectionTestUtils.setField(snapshotCache, "ttlSeconds", 300L);
+		languageRepository = (LanguageRepository) ReflectionTestUtils.getField(snapshotCache, "languageRepository");
+
+		lastSync = LocalDateTime.now().minusDays(1);
+		Language english = new Language("eng", "english", "family", "english");
+		english.setCreatedDateTime(lastSync.minusDays(1));
+		Language arabic = new Language("ara", "arabic", "family", "arabic");
+		arabic.setCreatedDateTime(lastSync.minusDays(1));
+		arabic.setUpdatedDateTime(lastSync.plusHours(1));
+		when(languageRepository.findAllLatestCreatedUpdateDeleted(any(), any()))
+				.thenReturn(Arrays.asList(english, arabic));
+	}
+
+	@Test
+	public void getDeltaTest() {
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(lastSync);
+		assertNotNull(snapshot);
+		assertEquals(2, snapshot.getDelta(LanguageDto.class, null).size());
+		List<LanguageDto> delta = snapshot.getDelta(LanguageDto.class, lastSync);
+		assertEquals(1, delta.size());
+		assertEquals("ara", delta.get(0).getCode());
+		assertNull(snapshot.getDelta(TitleDto.class, lastSync));
+	}
+
+	@Test
+	public void getSnapshotTest() {
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(null);
+		assertSame(snapshot, snapshotCache.get(lastSync));
+		assertEquals(1, snapshotCache.getLoads());
+		assertEquals(2, snapshotCache.getHits());
+	}
+
+	@Test
+	public void getSnapshotAfterWatermarkTest() {
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(null);
+		assertNull(snapshotCache.get(snapshot.getWatermark().plusSeconds(1)));
+		assertEquals(1, snapshotCache.getMisses());
+	}
+
+	@Test
+	public void invalidateTest() {
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(null);
+		snapshotCache.invalidate();
+		assertNotSame(snapshot, snapshotCache.get(null));
+		assertEquals(2, snapshotCache.getLoads());
+	}
+
+	@Test
+	public void loadFailureTest() {
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(null);
+		when(languageRepository.findAllLatestCreatedUpdateDeleted(any(), any())).thenThrow(new RuntimeException());
+		snapshotCache.invalidate();
+		assertSame(snapshot, snapshotCache.get(null));
+		assertEquals(1, snapshotCache.getLoadFailures());
+	}
+
+	@Test
+	public void metricsTest() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(snapshotCache, "meterRegistry", meterRegistry);
+		snapshotCache.registerMetrics();
+		MasterDataSnapshotCache.Snapshot snapshot = snapshotCache.get(null);
+		snapshotCache.get(snapshot.getWatermark().plusSeconds(1));
+		assertEquals(1, meterRegistry.get("syncdata.masterdata.snapshot.hits").functionCounter().count(), 0);
+		assertEquals(1, meterRegistry.get("syncdata.masterdata.snapshot.misses").functionCounter().count(), 0);
+		assertEquals(1, meterRegistry.get("syncdata.masterdata.snapshot.loads").functionCounter().count(), 0);
+	}
+
+	@Test
+	public void disabledTest() {
+		ReflectionTestUtils.setField(snapshotCache, "ttlSeconds", 0L);
+		assertNull(snapshotCache.get(null));
+		assertEquals(0, snapshotCache.getLoads());
+	}
+}
@@ -0,0 +1,86 @@
+package io.mosip.kernel.syncdata.test.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.syncdata.exception.SyncBusyException;
+import io.mosip.kernel.syncdata.utils.SyncExecutionLimiter;
+import io.mosip.kernel.syncdata.utils.SyncQueryMetrics;
+
+public class SyncExecutionLimiterTest {
+
+	private SyncExecutionLimiter limiter;
+
+	@Before
+	public void setUp() {
+		limiter = new SyncExecutionLimiter();
+		ReflectionTestUtils.setField(limiter, "maxConcurrentSyncs", 2);
+		ReflectionTestUtils.setField(limiter, "maxConcurrentSyncsPerMachine", 1);
+		limiter.init();
+	}
+
+	@Test
+	public void acquireReleaseTest() {
+		Runnable permit = limiter.acquire("10001");
+		assertEquals(1, limiter.getActive());
+		permit.run();
+		permit.run();
+		assertEquals(0, limiter.getActive());
+		limiter.acquire("10001");
+		assertEquals(2, limiter.getAdmitted());
+	}
+
+	@Test
+	public void machineLimitTest() {
+		limiter.acquire("10001");
+		try {
+			limiter.acquire("10001");
+			fail();
+		} catch (SyncBusyException e) {
+			assertEquals("KER-SNC-166", e.getErrorCode());
+		}
+		assertEquals(1, limiter.getActive());
+		limiter.acquire("10002");
+		assertEquals(1, limiter.getRejected());
+	}
+
+	@Test(expected = SyncBusyException.class)
+	public void globalLimitTest() {
+		limiter.acquire("10001");
+		limiter.acquire("10002");
+		limiter.acquire("10003");
+	}
+
+	@Test
+	public void disabledTest() {
+		ReflectionTestUtils.setField(limiter, "maxConcurrentSyncs", 0);
+		ReflectionTestUtils.setField(limiter, "maxConcurrentSyncsPerMachine", 0);
+		limiter.init();
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire("10001");
+		}
+		assertEquals(10, limiter.getAdmitted());
+	}
+
+	@Test
+	public void queryMetricsTest() {
+		SyncQueryMetrics metrics = new SyncQueryMetrics();
+		metrics.record("titles", 5_000_000L, Arrays.asList("a", "b"));
+		metrics.record("titles", 300_000_000L, Collections.emptyList());
+		metrics.record("titles", 1_000_000L, null);
+		SyncQueryMetrics.Stats stats = metrics.getSections().get("titles");
+		assertEquals(3, stats.getCount());
+		assertEquals(1, stats.getFailures());
+		assertEquals(2, stats.getRows());
+		assertEquals(300, stats.getMaxMs());
+		assertEquals(Long.valueOf(2), stats.getHistogram().get(10L));
+		assertEquals(Long.valueOf(1), stats.getHistogram().get(500L));
+	}
+}
@@ -0,0 +1,50 @@
+package io.mosip.kernel.uingenerator.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.mosip.kernel.core.util.IdDispenser;
+import io.mosip.kernel.uingenerator.generator.UinBlockSource;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Configuration of the in memory uin dispenser used by the fetch endpoint. The
+ * dispenser needs postgres (FOR UPDATE SKIP LOCKED, UPDATE RETURNING) and is
+ * disabled by default.
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+@Configuration
+public class UinDispenserConfig {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UinDispenserConfig.class);
+
+	@Value("${mosip.kernel.uin.dispenser.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.uin.dispenser.block-size:500}")
+	private int blockSize;
+
+	@Value("${mosip.kernel.uin.dispenser.low-watermark:100}")
+	private int lowWatermark;
+
+	@Value("${mosip.kernel.uin.dispenser.heartbeat-interval-seconds:60}")
+	private long heartbeatIntervalSeconds;
+
+	@Bean(destroyMethod = "stop")
+	public IdDispenser uinDispenser(UinBlockSource uinBlockSource) {
+		IdDispenser dispenser = new IdDispenser(uinBlockSource, blockSize, lowWatermark,
+				TimeUnit.SECONDS.toMillis(heartbeatIntervalSeconds));
+		if (enabled) {
+			LOGGER.info("released {} stale uin reservations", uinBlockSource.releaseStale());
+			dispenser.start();
+		}
+		return dispenser;
+	}
+}
@@ -33,6 +33,7 @@ public final class UinGeneratorConstant {
 	public static final String ISSUED = "ISSUED";
 	public static final String ASSIGNED = "ASSIGNED";
 	public static final String UNASSIGNED = "UNASSIGNED";
+	public static final String RESERVED = "RESERVED";
 	/**
 	 * The string field for http port
 	 */
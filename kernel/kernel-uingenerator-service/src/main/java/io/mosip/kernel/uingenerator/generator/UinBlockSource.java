@@ -0,0 +1,96 @@
+package io.mosip.kernel.uingenerator.generator;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.kernel.core.idgenerator.spi.IdBlockSource;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.repository.UinRepository;
+
+/**
+ * Reserves blocks of unused uins for this instance. Reserved uins are marked
+ * {@link UinGeneratorConstant#RESERVED} with the instance id as updater, so that
+ * concurrent instances skip them and only this instance can issue them.
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+@Component
+public class UinBlockSource implements IdBlockSource {
+
+	/**
+	 * Field for {@link #uinRepository}
+	 */
+	@Autowired
+	private UinRepository uinRepository;
+
+	/**
+	 * Id of this instance, recorded on the uins it reserves
+	 */
+	@Value("${mosip.kernel.uin.dispenser.instance-id:${HOSTNAME:uingenerator}}")
+	private String instanceId;
+
+	/**
+	 * Reservations not refreshed by the heartbeat of their owner for this long are
+	 * released on startup
+	 */
+	@Value("${mosip.kernel.uin.dispenser.reservation-timeout-minutes:10}")
+	private long reservationTimeoutMinutes;
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<String> reserve(int count) {
+		return uinRepository.reserveUins(UinGeneratorConstant.UNUSED, UinGeneratorConstant.RESERVED, instanceId,
+				DateUtils.getUTCCurrentDateTime(), count);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int release(Collection<String> uins) {
+		return uinRepository.releaseUins(UinGeneratorConstant.UNUSED, UinGeneratorConstant.RESERVED, instanceId,
+				UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(), uins);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int heartbeat() {
+		return uinRepository.refreshReservedUins(UinGeneratorConstant.RESERVED, instanceId,
+				DateUtils.getUTCCurrentDateTime());
+	}
+
+	/**
+	 * Releases uins left reserved by a previous run of this instance or by an
+	 * instance which stopped without releasing them. Running instances refresh
+	 * their reservations with {@link #heartbeat()}, so their uins are kept.
+	 *
+	 * @return number of uins released
+	 */
+	@Transactional
+	public int releaseStale() {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		return uinRepository.releaseStaleUins(UinGeneratorConstant.UNUSED, UinGeneratorConstant.RESERVED, instanceId,
+				now.minusMinutes(reservationTimeoutMinutes), UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO, now);
+	}
+
+	/**
+	 * Issues a uin reserved by this instance
+	 *
+	 * @param uin the reserved uin
+	 * @return true if issued, false if the uin is no longer reserved by this
+	 *         instance
+	 */
+	@Transactional
+	public boolean issue(String uin) {
+		return uinRepository.updateReservedStatus(UinGeneratorConstant.ISSUED, UinGeneratorConstant.RESERVED,
+				instanceId, UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(), uin) == 1;
+	}
+}
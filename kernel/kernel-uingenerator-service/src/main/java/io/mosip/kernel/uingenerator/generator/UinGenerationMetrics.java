@@ -0,0 +1,112 @@
+package io.mosip.kernel.uingenerator.generator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput counters of a single uin pool population run
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+public class UinGenerationMetrics {
+
+	/**
+	 * Number of uins generated
+	 */
+	private final LongAdder generated = new LongAdder();
+
+	/**
+	 * Number of uins rejected by filters
+	 */
+	private final LongAdder filtered = new LongAdder();
+
+	/**
+	 * Number of uins persisted
+	 */
+	private final LongAdder persisted = new LongAdder();
+
+	/**
+	 * Number of uins skipped as already present in pool
+	 */
+	private final LongAdder duplicates = new LongAdder();
+
+	/**
+	 * Start time of the run in nanoseconds
+	 */
+	private final long startNanos = System.nanoTime();
+
+	/**
+	 * End time of the run in nanoseconds
+	 */
+	private volatile long endNanos;
+
+	public void generated() {
+		generated.increment();
+	}
+
+	public void filtered() {
+		filtered.increment();
+	}
+
+	public void persisted(int count) {
+		persisted.add(count);
+	}
+
+	public void duplicates(int count) {
+		duplicates.add(count);
+	}
+
+	/**
+	 * Marks the end of the run
+	 */
+	public void stop() {
+		endNanos = System.nanoTime();
+	}
+
+	public long getGenerated() {
+		return generated.sum();
+	}
+
+	public long getFiltered() {
+		return filtered.sum();
+	}
+
+	public long getPersisted() {
+		return persisted.sum();
+	}
+
+	public long getDuplicates() {
+		return duplicates.sum();
+	}
+
+	/**
+	 * Function to get elapsed time of the run
+	 *
+	 * @return elapsed time in milliseconds
+	 */
+	public long getElapsedMillis() {
+		long end = endNanos == 0 ? System.nanoTime() : endNanos;
+		return TimeUnit.NANOSECONDS.toMillis(end - startNanos);
+	}
+
+	/**
+	 * Function to get rate per second of a counter
+	 *
+	 * @param count the counter value
+	 * @return count per second
+	 */
+	public long perSecond(long count) {
+		long elapsedMillis = getElapsedMillis();
+		return elapsedMillis == 0 ? count : count * 1000 / elapsedMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "generated=" + getGenerated() + " (" + perSecond(getGenerated()) + "/s), filtered=" + getFiltered()
+				+ " (" + perSecond(getFiltered()) + "/s), persisted=" + getPersisted() + " ("
+				+ perSecond(getPersisted()) + "/s), duplicates=" + getDuplicates() + ", elapsed="
+				+ getElapsedMillis() + "ms";
+	}
+}
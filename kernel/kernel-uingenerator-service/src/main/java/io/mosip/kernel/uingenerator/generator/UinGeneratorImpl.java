@@ -1,8 +1,14 @@
 package io.mosip.kernel.uingenerator.generator;
 
-import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.math3.random.RandomDataGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,15 +16,17 @@ import org.springframework.stereotype.Component;
 import io.mosip.kernel.core.idgenerator.spi.UinGenerator;
 import io.mosip.kernel.core.util.ChecksumUtils;
 import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
-import io.mosip.kernel.uingenerator.entity.UinEntity;
-import io.mosip.kernel.uingenerator.util.MetaDataUtil;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
 import io.mosip.kernel.uingenerator.util.UinFilterUtil;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
- * This class generates a list of uins
- * 
+ * This class generates a list of uins. Uins are generated and filtered by
+ * parallel workers, each persisting its uins in batches through
+ * {@link UinWriter}.
+ *
  * @author Dharmesh Khandelwal
  * @since 1.0.0
  *
@@ -31,12 +39,6 @@ public class UinGeneratorImpl implements UinGenerator {
 	@Autowired
 	private UinFilterUtil uinFilterUtils;
 
-	/**
-	 * instance of {@link MetaDataUtil}
-	 */
-	@Autowired
-	private MetaDataUtil metaDataUtil;
-
 	/**
 	 * Field for UinWriter
 	 */
@@ -59,81 +61,143 @@ public class UinGeneratorImpl implements UinGenerator {
 	private final int uinLength;
 
 	/**
-	 * The uin default status
+	 * Number of parallel generator workers
+	 */
+	@Value("${mosip.kernel.uin.generator-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+	private int generatorThreads;
+
+	/**
+	 * Number of uins persisted in a single transaction
+	 */
+	@Value("${mosip.kernel.uin.commit-size:10000}")
+	private int commitSize;
+
+	/**
+	 * Metrics of the last population run
 	 */
-	private final String uinDefaultStatus;
+	private volatile UinGenerationMetrics lastRunMetrics;
 
 	/**
 	 * Constructor to set {@link #uinsCount} and {@link #uinLength}
-	 * 
-	 * @param uinsCount        The number of uins to generate
-	 * @param uinLength        The length of the uin
-	 * @param uinDefaultStatus The Default value of the uin
+	 *
+	 * @param uinsCount The number of uins to generate
+	 * @param uinLength The length of the uin
 	 */
 	public UinGeneratorImpl(@Value("${mosip.kernel.uin.uins-to-generate}") long uinsCount,
 			@Value("${mosip.kernel.uin.length}") int uinLength) {
 		this.uinsCount = uinsCount;
 		this.uinLength = uinLength;
-		this.uinDefaultStatus = UinGeneratorConstant.UNUSED;
 	}
 
-	private static final RandomDataGenerator RANDOM_DATA_GENERATOR = new RandomDataGenerator();
-
 	/*
 	 * (non-Javadoc)
-	 * 
+	 *
 	 * @see io.mosip.kernel.core.spi.idgenerator.IdGenerator#generateId()
 	 */
 	@Override
 	public void generateId() {
+		UinGenerationMetrics metrics = new UinGenerationMetrics();
+		AtomicLong claimed = new AtomicLong();
+		int workers = Math.max(1, generatorThreads);
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try {
+			List<Future<?>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; i++) {
+				futures.add(executor.submit(() -> generateAndPersist(claimed, metrics)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UinGeneratorServiceException(UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					e.getMessage());
+		} catch (ExecutionException e) {
+			throw new UinGeneratorServiceException(UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					e.getCause().getMessage());
+		} finally {
+			executor.shutdownNow();
+			metrics.stop();
+			lastRunMetrics = metrics;
+			LOGGER.info("Uin pool population: " + metrics);
+		}
+	}
+
+	/**
+	 * Function to get metrics of the last population run
+	 *
+	 * @return metrics of the last run, null if no run happened
+	 */
+	public UinGenerationMetrics getLastRunMetrics() {
+		return lastRunMetrics;
+	}
+
+	/**
+	 * Worker loop which claims a chunk of the uins to generate, fills it with
+	 * valid uins and persists it. Uins skipped as duplicates are released back so
+	 * that they are generated again.
+	 *
+	 * @param claimed number of uins claimed by all workers
+	 * @param metrics metrics of the run
+	 */
+	private void generateAndPersist(AtomicLong claimed, UinGenerationMetrics metrics) {
 		int generatedIdLength = uinLength - 1;
-		long uinCount = 0;
-		long upperBound = Long.parseLong(StringUtils.repeat(UinGeneratorConstant.NINE, generatedIdLength));
-		long lowerBound = Long.parseLong(StringUtils.repeat(UinGeneratorConstant.ZERO, generatedIdLength));
-		uinWriter.setSession();
-		while (uinCount < uinsCount) {
-			String generatedUIN = generateSingleId(generatedIdLength, lowerBound, upperBound);
-			if (uinFilterUtils.isValidId(generatedUIN)) {
-				UinEntity uinBean = new UinEntity(generatedUIN, uinDefaultStatus);
-				metaDataUtil.setCreateMetaData(uinBean);
-				// try {
-				uinWriter.persistUin(uinBean);
-				uinCount++;
-				/*
-				 * } catch (Exception e) { //Skinping on PK violation e.printStackTrace(); }
-				 */
+		char[] digits = new char[uinLength];
+		int chunkSize;
+		while ((chunkSize = claim(claimed)) > 0 && !Thread.currentThread().isInterrupted()) {
+			List<String> uins = new ArrayList<>(chunkSize);
+			while (uins.size() < chunkSize) {
+				String generatedUIN = generateSingleId(digits, generatedIdLength);
+				metrics.generated();
+				if (uinFilterUtils.isValidId(generatedUIN)) {
+					uins.add(generatedUIN);
+				} else {
+					metrics.filtered();
+				}
 			}
+			int inserted = uinWriter.persistUins(uins);
+			metrics.persisted(inserted);
+			metrics.duplicates(chunkSize - inserted);
+			claimed.addAndGet(inserted - (long) chunkSize);
 		}
-		uinWriter.closeSession();
-		// LOGGER.info("Generated {} uins ", uinsCount);
 	}
 
 	/**
-	 * Generates a id and then generate checksum
-	 * 
-	 * @param generatedIdLength The length of id to generate
-	 * @param lowerBound        The lowerbound for generating id
-	 * @param upperBound        The upperbound for generating id
-	 * @return the uin with checksum
+	 * Claims the next chunk of uins to generate
+	 *
+	 * @param claimed number of uins claimed by all workers
+	 * @return size of the claimed chunk, 0 if nothing is left to generate
 	 */
-	private String generateSingleId(int generatedIdLength, long lowerBound, long upperBound) {
-		String generatedID = RandomStringUtils.random(generatedIdLength, UinGeneratorConstant.ZERO_TO_NINE);
-		String verhoeffDigit = ChecksumUtils.generateChecksumDigit(String.valueOf(generatedID));
-		return appendChecksum(generatedIdLength, generatedID, verhoeffDigit);
+	private int claim(AtomicLong claimed) {
+		while (true) {
+			long current = claimed.get();
+			long remaining = uinsCount - current;
+			if (remaining <= 0) {
+				return 0;
+			}
+			int chunkSize = (int) Math.min(commitSize, remaining);
+			if (claimed.compareAndSet(current, current + chunkSize)) {
+				return chunkSize;
+			}
+		}
 	}
 
 	/**
-	 * Appends a checksum to generated id
-	 * 
-	 * @param generatedIdLength The length of id
-	 * @param generatedID       The generated id
-	 * @param verhoeffDigit     The checksum to append
-	 * @return uin with checksum
+	 * Generates a id and then appends checksum
+	 *
+	 * @param digits            The buffer to build the uin into
+	 * @param generatedIdLength The length of id to generate
+	 * @return the uin with checksum
 	 */
-	private String appendChecksum(int generatedIdLength, String generatedID, String verhoeffDigit) {
-		StringBuilder uinStringBuilder = new StringBuilder();
-		uinStringBuilder.setLength(uinLength);
-		return uinStringBuilder.insert(0, generatedID).insert(generatedID.length(), verhoeffDigit).toString().trim();
+	private String generateSingleId(char[] digits, int generatedIdLength) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < generatedIdLength; i++) {
+			digits[i] = UinGeneratorConstant.ZERO_TO_NINE.charAt(random.nextInt(10));
+		}
+		String generatedID = new String(digits, 0, generatedIdLength);
+		String verhoeffDigit = ChecksumUtils.generateChecksumDigit(generatedID);
+		digits[generatedIdLength] = verhoeffDigit.charAt(0);
+		return new String(digits);
 	}
 
 }
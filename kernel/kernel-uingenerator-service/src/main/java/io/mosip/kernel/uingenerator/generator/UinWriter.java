@@ -1,17 +1,31 @@
 package io.mosip.kernel.uingenerator.generator;
 
-import javax.persistence.EntityManager;
-import javax.persistence.PersistenceException;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import javax.sql.DataSource;
 
-import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import io.mosip.kernel.uingenerator.entity.UinEntity;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
 
 /**
- * This class have functionality to persists the list of uins in database
- * 
+ * This class have functionality to persists the list of uins in database using
+ * JDBC batch inserts. Duplicate uins are skipped by the database instead of
+ * rolling back the batch.
+ *
  * @author Dharmesh Khandelwal
  * @since 1.0.0
  *
@@ -20,66 +34,193 @@ import io.mosip.kernel.uingenerator.entity.UinEntity;
 public class UinWriter {
 
 	/**
-	 * The Logger instance
+	 * Insert query which skips uins already present in pool
+	 */
+	private static final String INSERT_SKIP_DUPLICATE_QUERY = "INSERT INTO kernel.uin (uin, uin_status, cr_by, cr_dtimes, is_deleted) VALUES (?, ?, ?, ?, ?) ON CONFLICT (uin) DO NOTHING";
+
+	/**
+	 * Plain insert query for databases without ON CONFLICT support
 	 */
-	// private static final Logger LOGGER =
-	// LoggerFactory.getLogger(UinWriter.class);
+	private static final String INSERT_QUERY = "INSERT INTO kernel.uin (uin, uin_status, cr_by, cr_dtimes, is_deleted) VALUES (?, ?, ?, ?, ?)";
 
 	/**
-	 * Interface used to interact with the persistence context.
+	 * SQL state of a unique constraint violation
+	 */
+	private static final String UNIQUE_VIOLATION = "23505";
+
+	/**
+	 * The datasource of uin pool
 	 */
 	@Autowired
-	private EntityManager entityManager;
+	private DataSource dataSource;
+
+	/**
+	 * Number of rows sent to database in a single JDBC batch
+	 */
+	@Value("${mosip.kernel.uin.batch-size:1000}")
+	private int batchSize;
 
 	/**
-	 * The main runtime interface between a Java application and Hibernate.
+	 * If true, duplicates are skipped with ON CONFLICT DO NOTHING. Otherwise a
+	 * failed batch is replayed row by row skipping the duplicates.
 	 */
-	private Session session;
+	@Value("${mosip.kernel.uin.skip-duplicate-on-conflict:true}")
+	private boolean skipDuplicateOnConflict;
 
 	/**
-	 * Persist a uin in database. If that uin already exists than rollback
-	 * 
-	 * @param item the item
+	 * Persist the uins in database in a single transaction. Uins which already
+	 * exists are skipped.
+	 *
+	 * @param uins the uins to persist
+	 * @return the number of uins inserted
 	 */
-	public void persistUin(UinEntity item) {
-		Session currentSession = getSession();
-		if (!currentSession.getTransaction().isActive()) {
-			currentSession.getTransaction().begin();
+	public int persistUins(List<String> uins) {
+		Timestamp createdTime = Timestamp.valueOf(LocalDateTime.now(ZoneId.of(UinGeneratorConstant.UTC)));
+		try (Connection connection = dataSource.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				int inserted = skipDuplicateOnConflict ? insertSkipDuplicates(connection, uins, createdTime)
+						: insertWithReplay(connection, uins, createdTime);
+				connection.commit();
+				return inserted;
+			} catch (SQLException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (SQLException e) {
+			throw new UinGeneratorServiceException(UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					e.getMessage());
 		}
-		currentSession.save(item);
-		try {
-			currentSession.flush();
-			currentSession.getTransaction().commit();
-		} catch (PersistenceException e) {
-			currentSession.getTransaction().rollback();
-		} finally {
-			currentSession.clear();
+	}
+
+	/**
+	 * Inserts uins in batches of {@link #batchSize} with ON CONFLICT DO NOTHING
+	 *
+	 * @param connection  the connection
+	 * @param uins        the uins to persist
+	 * @param createdTime the created time
+	 * @return the number of uins inserted
+	 * @throws SQLException when insert fails
+	 */
+	private int insertSkipDuplicates(Connection connection, List<String> uins, Timestamp createdTime)
+			throws SQLException {
+		int inserted = 0;
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_SKIP_DUPLICATE_QUERY)) {
+			int pending = 0;
+			for (String uin : uins) {
+				bind(statement, uin, createdTime);
+				statement.addBatch();
+				if (++pending == batchSize) {
+					inserted += countInserted(statement.executeBatch(), pending);
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				inserted += countInserted(statement.executeBatch(), pending);
+			}
 		}
+		return inserted;
 	}
 
 	/**
-	 * Function to set {@link #session} from {@link #entityManager}
+	 * Inserts uins in batches of {@link #batchSize}. If a batch fails, it is rolled
+	 * back to a savepoint and replayed row by row skipping the duplicates.
+	 *
+	 * @param connection  the connection
+	 * @param uins        the uins to persist
+	 * @param createdTime the created time
+	 * @return the number of uins inserted
+	 * @throws SQLException when insert fails
 	 */
-	public void setSession() {
-		entityManager = entityManager.getEntityManagerFactory().createEntityManager();
-		this.session = entityManager.unwrap(Session.class);
+	private int insertWithReplay(Connection connection, List<String> uins, Timestamp createdTime)
+			throws SQLException {
+		int inserted = 0;
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_QUERY)) {
+			for (int from = 0; from < uins.size(); from += batchSize) {
+				List<String> batch = uins.subList(from, Math.min(from + batchSize, uins.size()));
+				Savepoint savepoint = connection.setSavepoint();
+				try {
+					for (String uin : batch) {
+						bind(statement, uin, createdTime);
+						statement.addBatch();
+					}
+					inserted += countInserted(statement.executeBatch(), batch.size());
+					connection.releaseSavepoint(savepoint);
+				} catch (BatchUpdateException e) {
+					statement.clearBatch();
+					connection.rollback(savepoint);
+					inserted += replay(connection, statement, batch, createdTime);
+				}
+			}
+		}
+		return inserted;
 	}
 
 	/**
-	 * Function to get session
-	 * 
-	 * @return {@link #session}
+	 * Inserts uins one by one, skipping the uins which violate the primary key
+	 *
+	 * @param connection  the connection
+	 * @param statement   the insert statement
+	 * @param batch       the uins to persist
+	 * @param createdTime the created time
+	 * @return the number of uins inserted
+	 * @throws SQLException when a uin fails to insert for another reason than
+	 *                      being a duplicate, or savepoint handling fails
 	 */
-	private Session getSession() {
-		if (session == null) {
-			setSession();
+	private int replay(Connection connection, PreparedStatement statement, List<String> batch,
+			Timestamp createdTime) throws SQLException {
+		int inserted = 0;
+		for (String uin : batch) {
+			Savepoint savepoint = connection.setSavepoint();
+			try {
+				bind(statement, uin, createdTime);
+				inserted += statement.executeUpdate();
+				connection.releaseSavepoint(savepoint);
+			} catch (SQLException e) {
+				connection.rollback(savepoint);
+				if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+					throw e;
+				}
+			}
 		}
-		return session;
+		return inserted;
 	}
 
-	public void closeSession() {
-		if (session != null) {
-			session.clear();
+	/**
+	 * Binds the uin and create metadata to statement
+	 *
+	 * @param statement   the insert statement
+	 * @param uin         the uin
+	 * @param createdTime the created time
+	 * @throws SQLException when binding fails
+	 */
+	private void bind(PreparedStatement statement, String uin, Timestamp createdTime) throws SQLException {
+		statement.setString(1, uin);
+		statement.setString(2, UinGeneratorConstant.UNUSED);
+		statement.setString(3, UinGeneratorConstant.DEFAULTADMIN_MOSIP_IO);
+		statement.setTimestamp(4, createdTime);
+		statement.setBoolean(5, false);
+	}
+
+	/**
+	 * Counts the inserted rows from batch update counts. Drivers that do not
+	 * report the count of each row are assumed to have inserted the whole batch.
+	 *
+	 * @param updateCounts the update counts
+	 * @param batchSize    size of the executed batch
+	 * @return the number of inserted rows
+	 */
+	private static int countInserted(int[] updateCounts, int batchSize) {
+		int inserted = 0;
+		for (int updateCount : updateCounts) {
+			if (updateCount == Statement.SUCCESS_NO_INFO) {
+				return batchSize;
+			}
+			inserted += updateCount;
 		}
+		return inserted;
 	}
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package io.mosip.kernel.uingenerator.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.uingenerator.entity.UinEntity;
 
@@ -52,4 +55,89 @@ public interface UinRepository extends JpaRepository<UinEntity, String> {
 	@Query(value = "UPDATE kernel.uin SET uin_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where uin=:uin", nativeQuery = true)
 	public void updateStatus(@Param("status") String status, @Param("contextUser") String contextUser,
 			@Param("uptimes") LocalDateTime uptimes, @Param("uin") String uin);
+
+	/**
+	 * Reserves unused uins for an instance, skipping uins locked by concurrent
+	 * reservations
+	 * 
+	 * @param unused   status of free uins
+	 * @param reserved status of reserved uins
+	 * @param owner    id of the reserving instance
+	 * @param uptimes  update time
+	 * @param count    maximum number of uins to reserve
+	 * @return the reserved uins
+	 */
+	@Transactional
+	@Query(value = "UPDATE kernel.uin SET uin_status=:reserved, upd_by=:owner, upd_dtimes=:uptimes where uin IN (select uu.uin from kernel.uin uu where uu.uin_status=:unused limit :count FOR UPDATE SKIP LOCKED) RETURNING uin", nativeQuery = true)
+	public List<String> reserveUins(@Param("unused") String unused, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("uptimes") LocalDateTime uptimes, @Param("count") int count);
+
+	/**
+	 * Makes uins reserved by an instance unused again
+	 * 
+	 * @param unused      status of free uins
+	 * @param reserved    status of reserved uins
+	 * @param owner       id of the reserving instance
+	 * @param contextUser updating user
+	 * @param uptimes     update time
+	 * @param uins        the reserved uins
+	 * @return number of uins released
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:unused, upd_by=:contextUser, upd_dtimes=:uptimes where uin IN :uins and uin_status=:reserved and upd_by=:owner", nativeQuery = true)
+	public int releaseUins(@Param("unused") String unused, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("uins") Collection<String> uins);
+
+	/**
+	 * Marks uins reserved by an instance as still in use
+	 * 
+	 * @param reserved status of reserved uins
+	 * @param owner    id of the reserving instance
+	 * @param uptimes  update time
+	 * @return number of reservations refreshed
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET upd_dtimes=:uptimes where uin_status=:reserved and upd_by=:owner", nativeQuery = true)
+	public int refreshReservedUins(@Param("reserved") String reserved, @Param("owner") String owner,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Makes uins reserved by an instance, or not refreshed by their owner since a
+	 * time, unused again
+	 * 
+	 * @param unused      status of free uins
+	 * @param reserved    status of reserved uins
+	 * @param owner       id of the reserving instance
+	 * @param staleBefore reservations not refreshed since this time are released
+	 * @param contextUser updating user
+	 * @param uptimes     update time
+	 * @return number of uins released
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:unused, upd_by=:contextUser, upd_dtimes=:uptimes where uin_status=:reserved and (upd_by=:owner or upd_dtimes<:staleBefore)", nativeQuery = true)
+	public int releaseStaleUins(@Param("unused") String unused, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("staleBefore") LocalDateTime staleBefore,
+			@Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes);
+
+	/**
+	 * Updates status of a uin only if it is still reserved by an instance
+	 * 
+	 * @param status      new status of the uin
+	 * @param reserved    status of reserved uins
+	 * @param owner       id of the reserving instance
+	 * @param contextUser updating user
+	 * @param uptimes     update time
+	 * @param uin         the reserved uin
+	 * @return 1 if updated, 0 if the uin is no longer reserved by the instance
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE kernel.uin SET uin_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where uin=:uin and uin_status=:reserved and upd_by=:owner", nativeQuery = true)
+	public int updateReservedStatus(@Param("status") String status, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("uin") String uin);
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.IdDispenser;
 import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
 import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
 import io.mosip.kernel.uingenerator.dto.UinResponseDto;
@@ -16,6 +17,7 @@ import io.mosip.kernel.uingenerator.entity.UinEntity;
 import io.mosip.kernel.uingenerator.exception.UinNotFoundException;
 import io.mosip.kernel.uingenerator.exception.UinNotIssuedException;
 import io.mosip.kernel.uingenerator.exception.UinStatusNotFoundException;
+import io.mosip.kernel.uingenerator.generator.UinBlockSource;
 import io.mosip.kernel.uingenerator.repository.UinRepository;
 import io.mosip.kernel.uingenerator.service.UinService;
 import io.mosip.kernel.uingenerator.util.MetaDataUtil;
@@ -46,6 +48,18 @@ public class UinServiceImpl implements UinService {
 	@Autowired
 	private MetaDataUtil metaDataUtil;
 
+	/**
+	 * Dispenser of uins reserved in memory
+	 */
+	@Autowired
+	private IdDispenser uinDispenser;
+
+	/**
+	 * instance of {@link UinBlockSource}
+	 */
+	@Autowired
+	private UinBlockSource uinBlockSource;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -54,6 +68,9 @@ public class UinServiceImpl implements UinService {
 	@Transactional
 	@Override
 	public UinResponseDto getUin() {
+		if (uinDispenser.isRunning()) {
+			return dispenseUin();
+		}
 		UinResponseDto uinResponseDto = new UinResponseDto();
 		UinEntity uinBean = uinRepository.findFirstByStatus(UinGeneratorConstant.UNUSED);
 		if (uinBean != null) {
@@ -67,6 +84,26 @@ public class UinServiceImpl implements UinService {
 		return uinResponseDto;
 	}
 
+	/**
+	 * Issues a uin reserved by the dispenser. A uin whose reservation was released
+	 * meanwhile is skipped.
+	 * 
+	 * @return the uin
+	 */
+	private UinResponseDto dispenseUin() {
+		String uin;
+		while ((uin = uinDispenser.next()) != null) {
+			if (uinBlockSource.issue(uin)) {
+				UinResponseDto uinResponseDto = new UinResponseDto();
+				uinResponseDto.setUin(uin);
+				return uinResponseDto;
+			}
+			LOGGER.warn("reservation of uin lost, skipping");
+		}
+		throw new UinNotFoundException(UinGeneratorErrorCode.UIN_NOT_FOUND.getErrorCode(),
+				UinGeneratorErrorCode.UIN_NOT_FOUND.getErrorMessage());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,121 @@
+package io.mosip.kernel.uingenerator.test.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+import io.mosip.kernel.uingenerator.config.HibernateDaoConfig;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorConstant;
+import io.mosip.kernel.uingenerator.constant.UinGeneratorErrorCode;
+import io.mosip.kernel.uingenerator.exception.UinGeneratorServiceException;
+import io.mosip.kernel.uingenerator.generator.UinWriter;
+
+/**
+ * Tests the batched inserts of {@link UinWriter} on H2, which has no ON
+ * CONFLICT, so failed batches are replayed row by row, skipping duplicate uins
+ * and failing on other errors. The batch size is 2 in the test properties.
+ *
+ * @author Dharmesh Khandelwal
+ * @since 1.0.8
+ *
+ */
+@SpringBootTest
+@TestPropertySource({ "classpath:application-test.properties", "classpath:bootstrap.properties" })
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = HibernateDaoConfig.class, loader = AnnotationConfigContextLoader.class)
+@DirtiesContext(classMode = ClassMode.AFTER_CLASS)
+public class UinWriterTest {
+
+	private static final String UIN_PREFIX = "97000000";
+
+	@Autowired
+	private UinWriter uinWriter;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@After
+	public void cleanup() throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection
+						.prepareStatement("DELETE FROM kernel.uin WHERE uin LIKE '" + UIN_PREFIX + "%'")) {
+			statement.executeUpdate();
+		}
+	}
+
+	@Test
+	public void persistUinsTest() throws SQLException {
+		List<String> uins = Arrays.asList(uin(1), uin(2), uin(3), uin(4), uin(5));
+		assertEquals(5, uinWriter.persistUins(uins));
+		assertEquals(5, countUnused());
+	}
+
+	@Test
+	public void persistUinsDuplicateReplayTest() throws SQLException {
+		assertEquals(1, uinWriter.persistUins(Arrays.asList(uin(2))));
+		// the first batch hits the existing uin, the last one a uin inserted by the
+		// second batch
+		List<String> uins = Arrays.asList(uin(1), uin(2), uin(3), uin(4), uin(3));
+		assertEquals(3, uinWriter.persistUins(uins));
+		assertEquals(4, countUnused());
+	}
+
+	@Test
+	public void persistUinsAllDuplicatesTest() throws SQLException {
+		List<String> uins = Arrays.asList(uin(1), uin(2), uin(3));
+		assertEquals(3, uinWriter.persistUins(uins));
+		assertEquals(0, uinWriter.persistUins(uins));
+		assertEquals(3, countUnused());
+	}
+
+	@Test
+	public void persistUinsReplayNonDuplicateErrorTest() throws SQLException {
+		// longer than the uin column, the batch fails and the replay rejects the row
+		// for another reason than a duplicate
+		String tooLong = UIN_PREFIX + "0123456789012345678901234567";
+		List<String> uins = Arrays.asList(uin(1), uin(2), uin(3), tooLong);
+		try {
+			uinWriter.persistUins(uins);
+			fail();
+		} catch (UinGeneratorServiceException e) {
+			assertEquals(UinGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(), e.getErrorCode());
+		}
+		assertEquals(0, countUnused());
+	}
+
+	private static String uin(int i) {
+		return UIN_PREFIX + String.format("%02d", i);
+	}
+
+	private int countUnused() throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement(
+						"SELECT COUNT(*) FROM kernel.uin WHERE uin LIKE '" + UIN_PREFIX + "%' AND uin_status = ?")) {
+			statement.setString(1, UinGeneratorConstant.UNUSED);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getInt(1);
+			}
+		}
+	}
+}
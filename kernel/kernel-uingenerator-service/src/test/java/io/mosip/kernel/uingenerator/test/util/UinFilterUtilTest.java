@@ -4,8 +4,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
-import java.lang.reflect.Method;
-
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +14,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
 
+import io.mosip.kernel.core.util.IdFilter;
 import io.mosip.kernel.uingenerator.config.HibernateDaoConfig;
 import io.mosip.kernel.uingenerator.util.UinFilterUtil;
 
@@ -157,11 +156,9 @@ public class UinFilterUtilTest {
 	}
 
 	@Test
-	public void restrictedCyclicNumFilterTest() throws Exception {
-		UinFilterUtil myclass3 = new UinFilterUtil();
-		Method method = UinFilterUtil.class.getDeclaredMethod("restrictedCyclicNumFilter", String.class);
-		method.setAccessible(true);
-		assertEquals(true, method.invoke(myclass3, invalidrestrictedCyclicNumFilter));
+	public void restrictedCyclicNumFilterTest() {
+		assertEquals(true, IdFilter.containsCyclicNumber(invalidrestrictedCyclicNumFilter));
+		assertThat(uinFilterUtils.isValidId(invalidrestrictedCyclicNumFilter), is(false));
 	}
 
 }
@@ -0,0 +1,50 @@
+package io.mosip.kernel.vidgenerator.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.mosip.kernel.core.util.IdDispenser;
+import io.mosip.kernel.vidgenerator.generator.VidBlockSource;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Configuration of the in memory vid dispenser used by the fetch endpoint. The
+ * dispenser needs postgres (FOR UPDATE SKIP LOCKED, UPDATE RETURNING) and is
+ * disabled by default.
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Configuration
+public class VidDispenserConfig {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VidDispenserConfig.class);
+
+	@Value("${mosip.kernel.vid.dispenser.enabled:false}")
+	private boolean enabled;
+
+	@Value("${mosip.kernel.vid.dispenser.block-size:500}")
+	private int blockSize;
+
+	@Value("${mosip.kernel.vid.dispenser.low-watermark:100}")
+	private int lowWatermark;
+
+	@Value("${mosip.kernel.vid.dispenser.heartbeat-interval-seconds:60}")
+	private long heartbeatIntervalSeconds;
+
+	@Bean(destroyMethod = "stop")
+	public IdDispenser vidDispenser(VidBlockSource vidBlockSource) {
+		IdDispenser dispenser = new IdDispenser(vidBlockSource, blockSize, lowWatermark,
+				TimeUnit.SECONDS.toMillis(heartbeatIntervalSeconds));
+		if (enabled) {
+			LOGGER.info("released {} stale vid reservations", vidBlockSource.releaseStale());
+			dispenser.start();
+		}
+		return dispenser;
+	}
+}
@@ -9,4 +9,5 @@ public class VidLifecycleStatus {
 	public static final String AVAILABLE = "AVAILABLE";
 	public static final String EXPIRED = "EXPIRED";
 	public static final String ASSIGNED = "ASSIGNED";
+	public static final String RESERVED = "RESERVED";
 }
@@ -0,0 +1,39 @@
+package io.mosip.kernel.vidgenerator.dto;
+
+import lombok.Data;
+
+/**
+ * Counts and durations of a single vid expiry and renewal run
+ * 
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Data
+public class VidExpiryRunDto {
+
+	/**
+	 * Number of assigned vids marked expired
+	 */
+	private long expired;
+
+	/**
+	 * Number of expired vids made available again
+	 */
+	private long renewed;
+
+	/**
+	 * Number of chunks updated
+	 */
+	private int chunks;
+
+	private long expiryMillis;
+
+	private long renewalMillis;
+
+	/**
+	 * False if the run was skipped or stopped by an error. Updated chunks stay
+	 * committed and the next run continues with the remaining vids.
+	 */
+	private boolean completed;
+}
@@ -0,0 +1,101 @@
+package io.mosip.kernel.vidgenerator.generator;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.kernel.core.idgenerator.spi.IdBlockSource;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.vidgenerator.constant.VIDGeneratorConstant;
+import io.mosip.kernel.vidgenerator.constant.VidLifecycleStatus;
+import io.mosip.kernel.vidgenerator.repository.VidRepository;
+
+/**
+ * Reserves blocks of available vids for this instance. Reserved vids are marked
+ * {@link VidLifecycleStatus#RESERVED} with the instance id as updater, so that
+ * concurrent instances skip them and only this instance can assign them.
+ * Reservations commit independently of the request which triggered them.
+ *
+ * @author Urvil Joshi
+ * @since 1.0.8
+ *
+ */
+@Component
+public class VidBlockSource implements IdBlockSource {
+
+	@Autowired
+	private VidRepository vidRepository;
+
+	/**
+	 * Id of this instance, recorded on the vids it reserves
+	 */
+	@Value("${mosip.kernel.vid.dispenser.instance-id:${HOSTNAME:vidgenerator}}")
+	private String instanceId;
+
+	/**
+	 * Reservations not refreshed by the heartbeat of their owner for this long are
+	 * released on startup
+	 */
+	@Value("${mosip.kernel.vid.dispenser.reservation-timeout-minutes:10}")
+	private long reservationTimeoutMinutes;
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<String> reserve(int count) {
+		return vidRepository.reserveVids(VidLifecycleStatus.AVAILABLE, VidLifecycleStatus.RESERVED, instanceId,
+				DateUtils.getUTCCurrentDateTime(), count);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int release(Collection<String> vids) {
+		return vidRepository.releaseVids(VidLifecycleStatus.AVAILABLE, VidLifecycleStatus.RESERVED, instanceId,
+				VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, DateUtils.getUTCCurrentDateTime(), vids);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int heartbeat() {
+		return vidRepository.refreshReservedVids(VidLifecycleStatus.RESERVED, instanceId,
+				DateUtils.getUTCCurrentDateTime());
+	}
+
+	/**
+	 * Releases vids left reserved by a previous run of this instance or by an
+	 * instance which stopped without releasing them. Running instances refresh
+	 * their reservations with {@link #heartbeat()}, so their vids are kept.
+	 *
+	 * @return number of vids released
+	 */
+	@Transactional
+	public int releaseStale() {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		return vidRepository.releaseStaleVids(VidLifecycleStatus.AVAILABLE, VidLifecycleStatus.RESERVED, instanceId,
+				now.minusMinutes(reservationTimeoutMinutes), VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, now);
+	}
+
+	/**
+	 * Assigns a vid reserved by this instance
+	 *
+	 * @param vid       the reserved vid
+	 * @param vidExpiry expiry of the vid, null if not set
+	 * @return true if assigned, false if the vid is no longer reserved by this
+	 *         instance
+	 */
+	@Transactional
+	public boolean assign(String vid, LocalDateTime vidExpiry) {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		int updated = vidExpiry == null
+				? vidRepository.assignReservedVid(VidLifecycleStatus.ASSIGNED, VidLifecycleStatus.RESERVED,
+						instanceId, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, now, vid)
+				: vidRepository.assignReservedVid(VidLifecycleStatus.ASSIGNED, VidLifecycleStatus.RESERVED,
+						instanceId, vidExpiry, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO, now, vid);
+		return updated == 1;
+	}
+}
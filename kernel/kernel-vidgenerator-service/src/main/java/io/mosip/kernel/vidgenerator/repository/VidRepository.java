@@ -1,12 +1,15 @@
 package io.mosip.kernel.vidgenerator.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.vidgenerator.entity.VidEntity;
 
@@ -23,4 +26,61 @@ public interface VidRepository extends JpaRepository<VidEntity, String> {
 	@Query(value = "UPDATE kernel.vid SET vid_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where vid=:vid", nativeQuery = true)
 	void updateVid(@Param("status") String status, @Param("contextUser") String contextUser,
 			@Param("uptimes") LocalDateTime uptimes, @Param("vid") String vid);
+
+	@Query(value = "UPDATE kernel.vid SET vid_status=:reserved, upd_by=:owner, upd_dtimes=:uptimes where vid IN (select v.vid from kernel.vid v where v.vid_status=:available and v.is_deleted=false limit :count FOR UPDATE SKIP LOCKED) RETURNING vid", nativeQuery = true)
+	List<String> reserveVids(@Param("available") String available, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("uptimes") LocalDateTime uptimes, @Param("count") int count);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status=:available, upd_by=:contextUser, upd_dtimes=:uptimes where vid IN :vids and vid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int releaseVids(@Param("available") String available, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("vids") Collection<String> vids);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET upd_dtimes=:uptimes where vid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int refreshReservedVids(@Param("reserved") String reserved, @Param("owner") String owner,
+			@Param("uptimes") LocalDateTime uptimes);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status=:available, upd_by=:contextUser, upd_dtimes=:uptimes where vid_status=:reserved and (upd_by=:owner or upd_dtimes<:staleBefore)", nativeQuery = true)
+	int releaseStaleVids(@Param("available") String available, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("staleBefore") LocalDateTime staleBefore,
+			@Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status=:status, upd_by=:contextUser, upd_dtimes=:uptimes where vid=:vid and vid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int assignReservedVid(@Param("status") String status, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("vid") String vid);
+
+	@Modifying
+	@Query(value = "UPDATE kernel.vid SET vid_status=:status, expiry_dtimes=:expiry, upd_by=:contextUser, upd_dtimes=:uptimes where vid=:vid and vid_status=:reserved and upd_by=:owner", nativeQuery = true)
+	int assignReservedVid(@Param("status") String status, @Param("reserved") String reserved,
+			@Param("owner") String owner, @Param("expiry") LocalDateTime expiry,
+			@Param("contextUser") String contextUser, @Param("uptimes") LocalDateTime uptimes,
+			@Param("vid") String vid);
+
+	@Query("select v from VidEntity v where v.status=:status and v.isDeleted=false and v.vidExpiry<=:cutoff order by v.vidExpiry, v.vid")
+	List<VidEntity> findChunkByStatusAndExpiry(@Param("status") String status,
+			@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+	@Query("select v from VidEntity v where v.status=:status and v.isDeleted=false and v.vidExpiry<=:cutoff and (v.vidExpiry>:lastExpiry or (v.vidExpiry=:lastExpiry and v.vid>:lastVid)) order by v.vidExpiry, v.vid")
+	List<VidEntity> findChunkByStatusAndExpiryAfter(@Param("status") String status,
+			@Param("cutoff") LocalDateTime cutoff, @Param("lastExpiry") LocalDateTime lastExpiry,
+			@Param("lastVid") String lastVid, Pageable pageable);
+
+	@Transactional
+	@Modifying
+	@Query("update VidEntity v set v.status=:newStatus, v.updatedBy=:contextUser, v.updatedtimes=:uptimes where v.vid in :vids and v.status=:status and v.vidExpiry<=:cutoff")
+	int expireVids(@Param("status") String status, @Param("newStatus") String newStatus,
+			@Param("cutoff") LocalDateTime cutoff, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("vids") Collection<String> vids);
+
+	@Transactional
+	@Modifying
+	@Query("update VidEntity v set v.status=:newStatus, v.vidExpiry=null, v.updatedBy=:contextUser, v.updatedtimes=:uptimes where v.vid in :vids and v.status=:status and v.vidExpiry<=:cutoff")
+	int renewVids(@Param("status") String status, @Param("newStatus") String newStatus,
+			@Param("cutoff") LocalDateTime cutoff, @Param("contextUser") String contextUser,
+			@Param("uptimes") LocalDateTime uptimes, @Param("vids") Collection<String> vids);
 }
\ No newline at end of file
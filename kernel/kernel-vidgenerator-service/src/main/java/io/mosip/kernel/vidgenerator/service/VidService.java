@@ -2,6 +2,7 @@ package io.mosip.kernel.vidgenerator.service;
 
 import java.time.LocalDateTime;
 
+import io.mosip.kernel.vidgenerator.dto.VidExpiryRunDto;
 import io.mosip.kernel.vidgenerator.dto.VidFetchResponseDto;
 import io.mosip.kernel.vidgenerator.entity.VidEntity;
 
@@ -11,7 +12,7 @@ public interface VidService {
 
 	long fetchVidCount(String status);
 
-	void expireAndRenew();
+	VidExpiryRunDto expireAndRenew();
 
 	boolean saveVID(VidEntity vid);
 
@@ -2,24 +2,31 @@ package io.mosip.kernel.vidgenerator.service.impl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.core.util.IdDispenser;
 import io.mosip.kernel.vidgenerator.constant.VIDGeneratorConstant;
 import io.mosip.kernel.vidgenerator.constant.VIDGeneratorErrorCode;
 import io.mosip.kernel.vidgenerator.constant.VidLifecycleStatus;
+import io.mosip.kernel.vidgenerator.dto.VidExpiryRunDto;
 import io.mosip.kernel.vidgenerator.dto.VidFetchResponseDto;
 import io.mosip.kernel.vidgenerator.entity.VidEntity;
 import io.mosip.kernel.vidgenerator.exception.VidGeneratorServiceException;
+import io.mosip.kernel.vidgenerator.generator.VidBlockSource;
 import io.mosip.kernel.vidgenerator.repository.VidRepository;
 import io.mosip.kernel.vidgenerator.service.VidService;
 import io.mosip.kernel.vidgenerator.utils.ExceptionUtils;
-import io.mosip.kernel.vidgenerator.utils.MetaDataUtil;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -31,15 +38,26 @@ public class VidServiceImpl implements VidService {
 	@Value("${mosip.kernel.vid.time-to-renew-after-expiry}")
 	private long timeToRenewAfterExpiry;
 
+	@Value("${mosip.kernel.vid.expiry.chunk-size:10000}")
+	private int expiryChunkSize;
+
+	private final AtomicBoolean expiryRunning = new AtomicBoolean();
+
 	@Autowired
 	private VidRepository vidRepository;
 
 	@Autowired
-	private MetaDataUtil metaDataUtil;
+	private IdDispenser vidDispenser;
+
+	@Autowired
+	private VidBlockSource vidBlockSource;
 
 	@Override
 	@Transactional
 	public VidFetchResponseDto fetchVid(LocalDateTime vidExpiry) {
+		if (vidDispenser.isRunning()) {
+			return dispenseVid(vidExpiry);
+		}
 		VidFetchResponseDto vidFetchResponseDto = new VidFetchResponseDto();
 		VidEntity vidEntity = null;
 		try {
@@ -78,6 +96,38 @@ public class VidServiceImpl implements VidService {
 		return vidFetchResponseDto;
 	}
 
+	/**
+	 * Hands out a vid reserved by the dispenser. A vid whose reservation was
+	 * released meanwhile is skipped.
+	 *
+	 * @param vidExpiry expiry of the vid
+	 * @return the vid
+	 */
+	private VidFetchResponseDto dispenseVid(LocalDateTime vidExpiry) {
+		try {
+			String vid;
+			while ((vid = vidDispenser.next()) != null) {
+				if (vidBlockSource.assign(vid, vidExpiry)) {
+					VidFetchResponseDto vidFetchResponseDto = new VidFetchResponseDto();
+					vidFetchResponseDto.setVid(vid);
+					return vidFetchResponseDto;
+				}
+				LOGGER.warn("reservation of vid lost, skipping");
+			}
+		} catch (DataAccessException exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		} catch (Exception exception) {
+			LOGGER.error(ExceptionUtils.parseException(exception));
+			throw new VidGeneratorServiceException(VIDGeneratorErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(),
+					exception.getMessage(), exception.getCause());
+		}
+		LOGGER.info("vid not available");
+		throw new VidGeneratorServiceException(VIDGeneratorErrorCode.VID_NOT_AVAILABLE.getErrorCode(),
+				VIDGeneratorErrorCode.VID_NOT_AVAILABLE.getErrorMessage());
+	}
+
 	@Override
 	public long fetchVidCount(String status) {
 		long vidCount = 0;
@@ -93,44 +143,67 @@ public class VidServiceImpl implements VidService {
 	}
 
 	@Override
-	public void expireAndRenew() {
+	public VidExpiryRunDto expireAndRenew() {
+		VidExpiryRunDto run = new VidExpiryRunDto();
+		if (!expiryRunning.compareAndSet(false, true)) {
+			LOGGER.warn("vid expiry run skipped, previous run still in progress");
+			return run;
+		}
 		try {
-			List<VidEntity> vidAssignedEntities = vidRepository
-					.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED);
-			vidAssignedEntities.forEach(this::expireIfEligible);
-			vidRepository.saveAll(vidAssignedEntities);
-			List<VidEntity> vidExpiredEntities = vidRepository
-					.findByStatusAndIsDeletedFalse(VidLifecycleStatus.EXPIRED);
-			vidExpiredEntities.forEach(this::renewIfEligible);
-			vidRepository.saveAll(vidExpiredEntities);
+			long start = System.currentTimeMillis();
+			LocalDateTime currentTime = DateUtils.getUTCCurrentDateTime();
+			run.setExpired(updateInChunks(VidLifecycleStatus.ASSIGNED, currentTime, run,
+					vids -> vidRepository.expireVids(VidLifecycleStatus.ASSIGNED, VidLifecycleStatus.EXPIRED,
+							currentTime, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+							DateUtils.getUTCCurrentDateTime(), vids)));
+			run.setExpiryMillis(System.currentTimeMillis() - start);
+			start = System.currentTimeMillis();
+			LocalDateTime renewCutoff = DateUtils.getUTCCurrentDateTime().minusDays(timeToRenewAfterExpiry);
+			run.setRenewed(updateInChunks(VidLifecycleStatus.EXPIRED, renewCutoff, run,
+					vids -> vidRepository.renewVids(VidLifecycleStatus.EXPIRED, VidLifecycleStatus.AVAILABLE,
+							renewCutoff, VIDGeneratorConstant.DEFAULTADMIN_MOSIP_IO,
+							DateUtils.getUTCCurrentDateTime(), vids)));
+			run.setRenewalMillis(System.currentTimeMillis() - start);
+			run.setCompleted(true);
 		} catch (DataAccessException exception) {
 			LOGGER.error(ExceptionUtils.parseException(exception));
 		} catch (Exception exception) {
 			LOGGER.error(ExceptionUtils.parseException(exception));
+		} finally {
+			expiryRunning.set(false);
 		}
-
-	}
-
-	private void expireIfEligible(VidEntity entity) {
-		LocalDateTime currentTime = DateUtils.getUTCCurrentDateTime();
-		LOGGER.debug("currenttime {} for checking entity with expiry time {}", currentTime, entity.getVidExpiry());
-		if ((entity.getVidExpiry().isBefore(currentTime) || entity.getVidExpiry().isEqual(currentTime))
-				&& entity.getStatus().equals(VidLifecycleStatus.ASSIGNED)) {
-			metaDataUtil.setUpdateMetaData(entity);
-			entity.setStatus(VidLifecycleStatus.EXPIRED);
-		}
+		LOGGER.info("vid expiry run: {}", run);
+		return run;
 	}
 
-	private void renewIfEligible(VidEntity entity) {
-		LocalDateTime currentTime = DateUtils.getUTCCurrentDateTime();
-		LocalDateTime renewElegibleTime = entity.getVidExpiry().plusDays(timeToRenewAfterExpiry);
-		LOGGER.debug("currenttime {} for checking entity with renew elegible time {}", currentTime, renewElegibleTime);
-		if ((renewElegibleTime.isBefore(currentTime) || renewElegibleTime.isEqual(currentTime))
-				&& entity.getStatus().equals(VidLifecycleStatus.EXPIRED)) {
-			entity.setVidExpiry(null);
-			metaDataUtil.setUpdateMetaData(entity);
-			entity.setStatus(VidLifecycleStatus.AVAILABLE);
+	/**
+	 * Updates vids of a status with expiry up to the cutoff, one chunk per
+	 * transaction, walking the vids in (expiry, vid) order. Vids updated by an
+	 * interrupted run no longer match, so a rerun continues where it stopped.
+	 *
+	 * @param status status of the vids to update
+	 * @param cutoff latest expiry of the vids to update
+	 * @param run    the current run
+	 * @param update updates a chunk of vids and returns the updated count
+	 * @return number of vids updated
+	 */
+	private long updateInChunks(String status, LocalDateTime cutoff, VidExpiryRunDto run,
+			ToIntFunction<List<String>> update) {
+		long updated = 0;
+		Pageable chunk = PageRequest.of(0, expiryChunkSize);
+		List<VidEntity> entities = vidRepository.findChunkByStatusAndExpiry(status, cutoff, chunk);
+		while (!entities.isEmpty()) {
+			List<String> vids = entities.stream().map(VidEntity::getVid).collect(Collectors.toList());
+			updated += update.applyAsInt(vids);
+			run.setChunks(run.getChunks() + 1);
+			if (entities.size() < expiryChunkSize) {
+				break;
+			}
+			VidEntity last = entities.get(entities.size() - 1);
+			entities = vidRepository.findChunkByStatusAndExpiryAfter(status, cutoff, last.getVidExpiry(),
+					last.getVid(), chunk);
 		}
+		return updated;
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 
 import io.mosip.kernel.vidgenerator.constant.VidSchedulerConstants;
+import io.mosip.kernel.vidgenerator.dto.VidExpiryRunDto;
 import io.mosip.kernel.vidgenerator.service.VidService;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
@@ -54,8 +55,14 @@ public class VidExpiryVerticle extends AbstractVerticle {
 
 		MessageConsumer<JsonObject> consumer = eventBus.consumer(VidSchedulerConstants.NAME_VALUE);
 
-		// handle chime event
-		consumer.handler(message -> vidService.expireAndRenew());
+		// handle chime event, the run is chunked but long so keep it off the event
+		// loop
+		consumer.handler(message -> vertx.<VidExpiryRunDto>executeBlocking(
+				future -> future.complete(vidService.expireAndRenew()), false, result -> {
+					if (result.failed()) {
+						LOGGER.error("vid expiry run failed with cause ", result.cause());
+					}
+				}));
 
 		JsonObject timer = new JsonObject()
 				.put(VidSchedulerConstants.TYPE, environment.getProperty(VidSchedulerConstants.TYPE_VALUE))
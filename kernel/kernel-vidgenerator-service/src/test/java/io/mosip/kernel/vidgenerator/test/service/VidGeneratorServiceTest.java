@@ -1,7 +1,6 @@
 package io.mosip.kernel.vidgenerator.test.service;
 
 import static org.hamcrest.CoreMatchers.is;
-import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 import java.time.temporal.ChronoUnit;
@@ -26,6 +25,7 @@ import org.springframework.test.context.support.AnnotationConfigContextLoader;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.vidgenerator.config.HibernateDaoConfig;
 import io.mosip.kernel.vidgenerator.constant.VidLifecycleStatus;
+import io.mosip.kernel.vidgenerator.dto.VidExpiryRunDto;
 import io.mosip.kernel.vidgenerator.entity.VidEntity;
 import io.mosip.kernel.vidgenerator.exception.VidGeneratorServiceException;
 import io.mosip.kernel.vidgenerator.repository.VidRepository;
@@ -144,34 +144,47 @@ public class VidGeneratorServiceTest {
 
 	@Test
 	public void expireOrRenewDataAccessExceptionTest() {
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED))
-				.thenThrow(new DataRetrievalFailureException("DataBase error occur"));
-		vidService.expireAndRenew();
+		Mockito.when(vidRepository.findChunkByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED), Mockito.any(),
+				Mockito.any())).thenThrow(new DataRetrievalFailureException("DataBase error occur"));
+		assertThat(vidService.expireAndRenew().isCompleted(), is(false));
 	}
 
 	@Test
 	public void expireOrRenewExceptionTest() {
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED))
-				.thenThrow(new RuntimeException("DataBase error occur"));
-		vidService.expireAndRenew();
+		Mockito.when(vidRepository.findChunkByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED), Mockito.any(),
+				Mockito.any())).thenThrow(new RuntimeException("DataBase error occur"));
+		assertThat(vidService.expireAndRenew().isCompleted(), is(false));
 	}
 
 	@Test
 	public void expireOrRenewTest() {
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.ASSIGNED))
-				.thenReturn(assignedEntities);
-		Mockito.when(vidRepository.saveAll(assignedEntities)).thenReturn(assignedEntities);
-		Mockito.when(vidRepository.findByStatusAndIsDeletedFalse(VidLifecycleStatus.EXPIRED))
-				.thenReturn(expiredEntities);
-		Mockito.when(vidRepository.saveAll(expiredEntities)).thenReturn(expiredEntities);
-		vidService.expireAndRenew();
-		for (VidEntity vidEntity : assignedEntities) {
-			assertThat(vidEntity.getStatus(), is(VidLifecycleStatus.EXPIRED));
-		}
-		for (VidEntity vidEntity : expiredEntities) {
-			assertThat(vidEntity.getStatus(), is(VidLifecycleStatus.AVAILABLE));
-			assertNull(vidEntity.getVidExpiry());
-		}
+		VidEntity nextAssignedEntity = new VidEntity("3650694284580735", VidLifecycleStatus.ASSIGNED,
+				assignedEntity.getVidExpiry());
+		List<VidEntity> nextAssignedEntities = new ArrayList<>();
+		nextAssignedEntities.add(nextAssignedEntity);
+		Mockito.when(vidRepository.findChunkByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.ASSIGNED), Mockito.any(),
+				Mockito.any())).thenReturn(assignedEntities);
+		Mockito.when(vidRepository.findChunkByStatusAndExpiryAfter(Mockito.eq(VidLifecycleStatus.ASSIGNED),
+				Mockito.any(), Mockito.eq(assignedEntity.getVidExpiry()), Mockito.eq(assignedEntity.getVid()),
+				Mockito.any())).thenReturn(nextAssignedEntities);
+		Mockito.when(vidRepository.findChunkByStatusAndExpiryAfter(Mockito.eq(VidLifecycleStatus.ASSIGNED),
+				Mockito.any(), Mockito.eq(nextAssignedEntity.getVidExpiry()), Mockito.eq(nextAssignedEntity.getVid()),
+				Mockito.any())).thenReturn(new ArrayList<>());
+		Mockito.when(vidRepository.expireVids(Mockito.eq(VidLifecycleStatus.ASSIGNED),
+				Mockito.eq(VidLifecycleStatus.EXPIRED), Mockito.any(), Mockito.anyString(), Mockito.any(),
+				Mockito.any())).thenReturn(1);
+		Mockito.when(vidRepository.findChunkByStatusAndExpiry(Mockito.eq(VidLifecycleStatus.EXPIRED), Mockito.any(),
+				Mockito.any())).thenReturn(expiredEntities);
+		Mockito.when(vidRepository.findChunkByStatusAndExpiryAfter(Mockito.eq(VidLifecycleStatus.EXPIRED),
+				Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.any())).thenReturn(new ArrayList<>());
+		Mockito.when(vidRepository.renewVids(Mockito.eq(VidLifecycleStatus.EXPIRED),
+				Mockito.eq(VidLifecycleStatus.AVAILABLE), Mockito.any(), Mockito.anyString(), Mockito.any(),
+				Mockito.any())).thenReturn(1);
+		VidExpiryRunDto run = vidService.expireAndRenew();
+		assertThat(run.isCompleted(), is(true));
+		assertThat(run.getExpired(), is(2L));
+		assertThat(run.getRenewed(), is(1L));
+		assertThat(run.getChunks(), is(3));
 	}
 
 	@Test